@@ -0,0 +1,193 @@
+package com.guideon.benchmark;
+
+import com.guideon.analyzer.DictionaryRegistry;
+import com.guideon.analyzer.DictionarySnapshot;
+import com.guideon.analyzer.EnhancedKoreanAnalyzer;
+import com.guideon.analyzer.SearchQueryAnalyzer;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.ko.KoreanTokenizer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 한국어 Analyzer 처리량 벤치마크 (JMH)
+ *
+ * 측정 대상:
+ * - analyzerType: index (EnhancedKoreanAnalyzer, 인덱싱용) / query (SearchQueryAnalyzer, 검색용)
+ * - decompoundMode: NONE / DISCARD / MIXED
+ * - synonyms: 동의어 확장 사용 여부
+ *
+ * 결과 해석:
+ * - documents / questions: 말뭉치 1회 분석 처리량 (ops/s)
+ * - tokens: 초당 생성 토큰 수 (AuxCounters)
+ * - gc.alloc.rate.norm: 말뭉치 1회 분석당 할당 바이트 (-prof gc)
+ *
+ * 실행: mvn -Pjmh compile exec:exec
+ * 일부만: mvn -Pjmh compile exec:exec -Djmh.args="AnalyzerBenchmark.questions -p analyzerType=query -prof gc"
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g", "-Dfile.encoding=UTF-8"})
+@State(Scope.Benchmark)
+public class AnalyzerBenchmark {
+
+    private static final String DOCUMENT_CORPUS = "benchmark/regulation-corpus.txt";
+    private static final String QUERY_CORPUS = "benchmark/query-corpus.txt";
+
+    @Param({"index", "query"})
+    public String analyzerType;
+
+    @Param({"NONE", "DISCARD", "MIXED"})
+    public String decompoundMode;
+
+    @Param({"true", "false"})
+    public boolean synonyms;
+
+    private Analyzer analyzer;
+    private List<String> paragraphs;
+    private List<String> questions;
+
+    /**
+     * 분석 토큰 수 집계 (초당 토큰 수로 보고됨)
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class TokenCounter {
+        public long tokens;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            tokens = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        // 사전은 공용 레지스트리에서 한 번만 빌드하고, 동의어 on/off만 조합을 바꿔 Analyzer 구성
+        DictionarySnapshot dictionaries = DictionaryRegistry.getInstance().current();
+        KoreanTokenizer.DecompoundMode mode = KoreanTokenizer.DecompoundMode.valueOf(decompoundMode);
+
+        if ("index".equals(analyzerType)) {
+            analyzer = new EnhancedKoreanAnalyzer(
+                    dictionaries.getUserDictionary(),
+                    dictionaries.getStopWords(),
+                    synonyms ? dictionaries.getSynonymMap() : null,
+                    mode);
+        } else {
+            analyzer = new SearchQueryAnalyzer(
+                    dictionaries.getUserDictionary(),
+                    synonyms ? dictionaries.getSynonymMap() : null,
+                    mode);
+        }
+
+        paragraphs = loadParagraphs(DOCUMENT_CORPUS);
+        questions = loadLines(QUERY_CORPUS);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        analyzer.close();
+    }
+
+    /**
+     * 규정 본문 분석 (인덱싱 경로)
+     */
+    @Benchmark
+    public void documents(TokenCounter counter, Blackhole blackhole) throws IOException {
+        for (String paragraph : paragraphs) {
+            counter.tokens += tokenize(paragraph, blackhole);
+        }
+    }
+
+    /**
+     * 사용자 질문 분석 (검색 경로)
+     */
+    @Benchmark
+    public void questions(TokenCounter counter, Blackhole blackhole) throws IOException {
+        for (String question : questions) {
+            counter.tokens += tokenize(question, blackhole);
+        }
+    }
+
+    private int tokenize(String text, Blackhole blackhole) throws IOException {
+        int count = 0;
+        try (TokenStream stream = analyzer.tokenStream("content", text)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                blackhole.consume(term.length());
+                count++;
+            }
+            stream.end();
+        }
+        return count;
+    }
+
+    /**
+     * 빈 줄로 구분된 문단 목록 로드 (# 주석 제외)
+     */
+    private static List<String> loadParagraphs(String resource) throws IOException {
+        List<String> paragraphs = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+
+        for (String line : readLines(resource)) {
+            if (line.isBlank()) {
+                if (current.length() > 0) {
+                    paragraphs.add(current.toString());
+                    current.setLength(0);
+                }
+            } else {
+                current.append(line).append('\n');
+            }
+        }
+        if (current.length() > 0) {
+            paragraphs.add(current.toString());
+        }
+
+        return paragraphs;
+    }
+
+    /**
+     * 한 줄에 하나씩 적힌 항목 로드 (# 주석, 빈 줄 제외)
+     */
+    private static List<String> loadLines(String resource) throws IOException {
+        List<String> lines = new ArrayList<>();
+        for (String line : readLines(resource)) {
+            if (!line.isBlank()) {
+                lines.add(line.trim());
+            }
+        }
+        return lines;
+    }
+
+    private static List<String> readLines(String resource) throws IOException {
+        InputStream is = AnalyzerBenchmark.class.getClassLoader().getResourceAsStream(resource);
+        if (is == null) {
+            throw new IOException("Resource not found: " + resource);
+        }
+
+        List<String> lines = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.startsWith("#")) {
+                    lines.add(line);
+                }
+            }
+        }
+        return lines;
+    }
+}
@@ -11,6 +11,8 @@ import org.slf4j.LoggerFactory;
 
 import java.io.*;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -22,9 +24,10 @@ import java.util.List;
 public class DictionaryLoader {
     private static final Logger logger = LoggerFactory.getLogger(DictionaryLoader.class);
 
-    private static final String USER_DICT_PATH = "korean-dictionary/user-dict.txt";
-    private static final String STOPWORDS_PATH = "korean-dictionary/stopwords.txt";
-    private static final String SYNONYMS_PATH = "korean-dictionary/synonyms.txt";
+    private static final String DICTIONARY_DIR = "korean-dictionary";
+    private static final String USER_DICT_FILE = "user-dict.txt";
+    private static final String STOPWORDS_FILE = "stopwords.txt";
+    private static final String SYNONYMS_FILE = "synonyms.txt";
 
     /**
      * 사용자 사전 로드
@@ -33,18 +36,28 @@ public class DictionaryLoader {
      * @return UserDictionary 객체, 실패 시 null
      */
     public static UserDictionary loadUserDictionary() {
-        logger.info("Loading user dictionary from: {}", USER_DICT_PATH);
+        try {
+            return readUserDictionary(null);
+        } catch (IOException e) {
+            logger.warn("Failed to load user dictionary, using default Nori dictionary", e);
+            return null;
+        }
+    }
 
-        try (InputStream is = getResourceAsStream(USER_DICT_PATH);
+    /**
+     * 사용자 사전 로드 (오류를 호출자에게 전달 - 사전 재적재용)
+     *
+     * @param directory 외부 사전 디렉토리 (null이거나 파일이 없으면 클래스패스 사용)
+     * @return UserDictionary 객체
+     * @throws IOException 파일이 없거나 읽기/파싱 실패 시
+     */
+    public static UserDictionary readUserDictionary(Path directory) throws IOException {
+        try (InputStream is = openDictionary(directory, USER_DICT_FILE);
              Reader reader = new InputStreamReader(is, StandardCharsets.UTF_8)) {
 
             UserDictionary dict = UserDictionary.open(reader);
             logger.info("✓ User dictionary loaded successfully");
             return dict;
-
-        } catch (IOException e) {
-            logger.warn("Failed to load user dictionary, using default Nori dictionary", e);
-            return null;
         }
     }
 
@@ -55,9 +68,24 @@ public class DictionaryLoader {
      * @return SynonymMap 동의어 맵, 실패 시 null
      */
     public static SynonymMap loadSynonyms() {
-        logger.info("Loading synonyms from: {}", SYNONYMS_PATH);
+        try {
+            return readSynonyms(null);
+        } catch (IOException | java.text.ParseException e) {
+            logger.info("Synonym dictionary not found or failed to load, synonyms disabled", e);
+            return null;
+        }
+    }
 
-        try (InputStream is = getResourceAsStream(SYNONYMS_PATH);
+    /**
+     * 동의어 사전 로드 (오류를 호출자에게 전달 - 사전 재적재용)
+     *
+     * @param directory 외부 사전 디렉토리 (null이거나 파일이 없으면 클래스패스 사용)
+     * @return SynonymMap 동의어 맵
+     * @throws IOException 파일이 없거나 읽기 실패 시
+     * @throws java.text.ParseException 동의어 형식 오류 시
+     */
+    public static SynonymMap readSynonyms(Path directory) throws IOException, java.text.ParseException {
+        try (InputStream is = openDictionary(directory, SYNONYMS_FILE);
              Reader reader = new InputStreamReader(is, StandardCharsets.UTF_8);
              Analyzer analyzer = new WhitespaceAnalyzer()) {
 
@@ -70,10 +98,6 @@ public class DictionaryLoader {
             SynonymMap synonymMap = parser.build();
             logger.info("✓ Synonym dictionary loaded successfully");
             return synonymMap;
-
-        } catch (IOException | java.text.ParseException e) {
-            logger.info("Synonym dictionary not found or failed to load, synonyms disabled", e);
-            return null;
         }
     }
 
@@ -84,15 +108,32 @@ public class DictionaryLoader {
      * @return CharArraySet 불용어 집합
      */
     public static CharArraySet loadStopWords() {
-        logger.info("Loading stop words from: {}", STOPWORDS_PATH);
+        try {
+            return readStopWords(null);
+        } catch (IOException e) {
+            List<String> stopWords = getDefaultStopWords();
+            logger.info("Stop words file not found, using default stop words only ({})",
+                stopWords.size());
+            return new CharArraySet(stopWords, true);
+        }
+    }
 
+    /**
+     * 불용어 사전 로드 (오류를 호출자에게 전달 - 사전 재적재용)
+     * 기본 불용어에 파일의 불용어를 더해서 반환
+     *
+     * @param directory 외부 사전 디렉토리 (null이거나 파일이 없으면 클래스패스 사용)
+     * @return CharArraySet 불용어 집합
+     * @throws IOException 파일이 없거나 읽기 실패 시
+     */
+    public static CharArraySet readStopWords(Path directory) throws IOException {
         List<String> stopWords = new ArrayList<>();
 
         // 기본 불용어 (파일이 없어도 기본 제공)
         stopWords.addAll(getDefaultStopWords());
 
         // 파일에서 추가 불용어 로드
-        try (InputStream is = getResourceAsStream(STOPWORDS_PATH);
+        try (InputStream is = openDictionary(directory, STOPWORDS_FILE);
              BufferedReader reader = new BufferedReader(
                  new InputStreamReader(is, StandardCharsets.UTF_8))) {
 
@@ -110,10 +151,6 @@ public class DictionaryLoader {
             }
 
             logger.info("✓ Loaded {} stop words from file (total: {})", count, stopWords.size());
-
-        } catch (IOException e) {
-            logger.info("Stop words file not found, using default stop words only ({})",
-                stopWords.size());
         }
 
         // CharArraySet 생성 (대소문자 무시)
@@ -160,6 +197,27 @@ public class DictionaryLoader {
         return defaults;
     }
 
+    /**
+     * 사전 파일 열기 (외부 디렉토리 우선, 없으면 클래스패스)
+     *
+     * @param directory 외부 사전 디렉토리 (null 가능)
+     * @param fileName 사전 파일 이름
+     * @return InputStream
+     * @throws IOException 파일을 찾을 수 없을 때
+     */
+    private static InputStream openDictionary(Path directory, String fileName) throws IOException {
+        if (directory != null) {
+            Path file = directory.resolve(fileName);
+            if (Files.isRegularFile(file)) {
+                logger.info("Loading {} from: {}", fileName, file);
+                return Files.newInputStream(file);
+            }
+        }
+
+        logger.info("Loading {} from: {}", fileName, DICTIONARY_DIR + "/" + fileName);
+        return getResourceAsStream(DICTIONARY_DIR + "/" + fileName);
+    }
+
     /**
      * 리소스 파일을 InputStream으로 로드
      *
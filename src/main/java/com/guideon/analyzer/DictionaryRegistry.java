@@ -0,0 +1,177 @@
+package com.guideon.analyzer;
+
+import org.apache.lucene.analysis.CharArraySet;
+import org.apache.lucene.analysis.ko.dict.UserDictionary;
+import org.apache.lucene.analysis.synonym.SynonymMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.LongConsumer;
+
+/**
+ * 한국어 분석기 공용 사전 레지스트리 (싱글톤)
+ *
+ * - 사용자 사전 / 동의어 FST / 불용어를 프로세스당 한 번만, 병렬로 빌드
+ * - 버전이 붙은 불변 스냅샷({@link DictionarySnapshot})으로 제공
+ * - reload() 시 새 스냅샷을 모두 빌드한 뒤 한 번에 교체 (빌드 실패 시 기존 스냅샷 유지)
+ * - 버전 변경 리스너로 BM25 쿼리 캐시 등 파생 캐시를 무효화
+ */
+public final class DictionaryRegistry {
+    private static final Logger logger = LoggerFactory.getLogger(DictionaryRegistry.class);
+
+    private static final DictionaryRegistry INSTANCE = new DictionaryRegistry();
+
+    private volatile DictionarySnapshot current;
+    private volatile Path dictionaryDirectory; // null이면 클래스패스 사전만 사용
+    private final List<LongConsumer> reloadListeners = new CopyOnWriteArrayList<>();
+
+    private DictionaryRegistry() {
+    }
+
+    public static DictionaryRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * 외부 사전 디렉토리 설정 (파일이 있으면 클래스패스 사전보다 우선)
+     * 재시작 없이 사전을 교체하려면 이 디렉토리의 파일을 수정한 뒤 reload()를 호출합니다.
+     */
+    public void setDictionaryDirectory(Path dictionaryDirectory) {
+        this.dictionaryDirectory = dictionaryDirectory;
+        logger.info("Dictionary directory set: {}", dictionaryDirectory);
+    }
+
+    public Path getDictionaryDirectory() {
+        return dictionaryDirectory;
+    }
+
+    /**
+     * 현재 사전 스냅샷 (최초 호출 시 적재)
+     * 최초 적재는 기존 DictionaryLoader와 같이 실패한 사전만 비활성화하고 계속 진행합니다.
+     */
+    public DictionarySnapshot current() {
+        DictionarySnapshot snapshot = current;
+        if (snapshot == null) {
+            synchronized (this) {
+                snapshot = current;
+                if (snapshot == null) {
+                    snapshot = build(1, false);
+                    current = snapshot;
+                    logger.info("Dictionaries loaded: {}", snapshot);
+                }
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * 현재 사전 버전
+     */
+    public long getVersion() {
+        return current().getVersion();
+    }
+
+    /**
+     * 사전 재적재 (원자적 교체)
+     * 세 사전을 모두 성공적으로 빌드한 경우에만 새 버전으로 교체합니다.
+     *
+     * @return 새 스냅샷
+     * @throws IOException 사전 파일 읽기 또는 파싱 실패 시 (기존 스냅샷 유지)
+     */
+    public synchronized DictionarySnapshot reload() throws IOException {
+        long nextVersion = current().getVersion() + 1;
+
+        DictionarySnapshot snapshot;
+        try {
+            snapshot = build(nextVersion, true);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        current = snapshot;
+        logger.info("Dictionaries reloaded: {}", snapshot);
+
+        for (LongConsumer listener : reloadListeners) {
+            try {
+                listener.accept(snapshot.getVersion());
+            } catch (Exception e) {
+                logger.warn("Dictionary reload listener failed", e);
+            }
+        }
+
+        return snapshot;
+    }
+
+    /**
+     * 버전 변경 리스너 등록
+     */
+    public void addReloadListener(LongConsumer listener) {
+        reloadListeners.add(listener);
+    }
+
+    public void removeReloadListener(LongConsumer listener) {
+        reloadListeners.remove(listener);
+    }
+
+    /**
+     * 사용자 사전 / 동의어 / 불용어를 병렬로 빌드
+     *
+     * @param strict true면 하나라도 실패 시 예외, false면 실패한 사전만 비활성화
+     */
+    private DictionarySnapshot build(long version, boolean strict) {
+        long start = System.currentTimeMillis();
+        Path directory = dictionaryDirectory;
+
+        CompletableFuture<UserDictionary> userDictFuture = CompletableFuture.supplyAsync(() -> {
+            try {
+                return DictionaryLoader.readUserDictionary(directory);
+            } catch (IOException e) {
+                return failOrNull(strict, "user dictionary", e);
+            }
+        });
+        CompletableFuture<SynonymMap> synonymFuture = CompletableFuture.supplyAsync(() -> {
+            try {
+                return DictionaryLoader.readSynonyms(directory);
+            } catch (IOException | java.text.ParseException e) {
+                return failOrNull(strict, "synonyms", e);
+            }
+        });
+        CompletableFuture<CharArraySet> stopWordsFuture = CompletableFuture.supplyAsync(() -> {
+            try {
+                return DictionaryLoader.readStopWords(directory);
+            } catch (IOException e) {
+                if (strict) {
+                    throw new UncheckedIOException(e);
+                }
+                return DictionaryLoader.loadStopWords();
+            }
+        });
+
+        try {
+            DictionarySnapshot snapshot = new DictionarySnapshot(
+                    version, userDictFuture.join(), synonymFuture.join(), stopWordsFuture.join());
+            logger.info("Dictionary snapshot v{} built in {}ms", version, System.currentTimeMillis() - start);
+            return snapshot;
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException uncheckedIOException) {
+                throw uncheckedIOException;
+            }
+            throw e;
+        }
+    }
+
+    private static <T> T failOrNull(boolean strict, String name, Exception e) {
+        if (strict) {
+            throw new UncheckedIOException(new IOException("Failed to load " + name + ": " + e.getMessage(), e));
+        }
+        logger.warn("Failed to load {}, disabled", name, e);
+        return null;
+    }
+}
@@ -0,0 +1,57 @@
+package com.guideon.analyzer;
+
+import org.apache.lucene.analysis.Analyzer;
+
+/**
+ * 사전 버전을 인식하는 TokenStreamComponents 재사용 전략
+ *
+ * Lucene Analyzer는 스레드별로 TokenStreamComponents(토크나이저 + 필터 체인)를 재사용하므로,
+ * 사전이 재적재되어도 기존 컴포넌트는 예전 사전을 계속 사용합니다.
+ * 이 전략은 컴포넌트를 만든 시점의 사전 버전을 함께 저장해 두고,
+ * 레지스트리 버전이 바뀌면 재사용하지 않고 새로 만들게 합니다.
+ */
+final class DictionaryReuseStrategy extends Analyzer.ReuseStrategy {
+    private final DictionaryRegistry registry;
+
+    // createComponents()와 setReusableComponents()는 같은 스레드에서 연달아 호출됨
+    private final ThreadLocal<DictionarySnapshot> building = new ThreadLocal<>();
+
+    DictionaryReuseStrategy(DictionaryRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * 컴포넌트 생성에 사용할 스냅샷 획득 (createComponents에서 호출)
+     */
+    DictionarySnapshot beginComponents() {
+        DictionarySnapshot snapshot = registry.current();
+        building.set(snapshot);
+        return snapshot;
+    }
+
+    DictionaryRegistry getRegistry() {
+        return registry;
+    }
+
+    @Override
+    public Analyzer.TokenStreamComponents getReusableComponents(Analyzer analyzer, String fieldName) {
+        Object stored = getStoredValue(analyzer);
+        if (stored instanceof VersionedComponents versioned && versioned.version() == registry.getVersion()) {
+            return versioned.components();
+        }
+        return null;
+    }
+
+    @Override
+    public void setReusableComponents(Analyzer analyzer, String fieldName,
+                                      Analyzer.TokenStreamComponents components) {
+        DictionarySnapshot snapshot = building.get();
+        building.remove();
+
+        long version = snapshot != null ? snapshot.getVersion() : -1;
+        setStoredValue(analyzer, new VersionedComponents(version, components));
+    }
+
+    private record VersionedComponents(long version, Analyzer.TokenStreamComponents components) {
+    }
+}
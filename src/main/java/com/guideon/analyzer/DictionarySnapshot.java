@@ -0,0 +1,59 @@
+package com.guideon.analyzer;
+
+import org.apache.lucene.analysis.CharArraySet;
+import org.apache.lucene.analysis.ko.dict.UserDictionary;
+import org.apache.lucene.analysis.synonym.SynonymMap;
+
+import java.time.Instant;
+
+/**
+ * 한 시점에 적재된 사전 묶음 (불변)
+ * 사용자 사전, 동의어 맵, 불용어를 한 버전으로 묶어 원자적으로 교체합니다.
+ */
+public final class DictionarySnapshot {
+    private final long version;
+    private final UserDictionary userDictionary; // 로드 실패 시 null
+    private final SynonymMap synonymMap;         // 로드 실패 시 null
+    private final CharArraySet stopWords;
+    private final Instant loadedAt;
+
+    DictionarySnapshot(long version, UserDictionary userDictionary, SynonymMap synonymMap,
+                       CharArraySet stopWords) {
+        this.version = version;
+        this.userDictionary = userDictionary;
+        this.synonymMap = synonymMap;
+        this.stopWords = stopWords;
+        this.loadedAt = Instant.now();
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public UserDictionary getUserDictionary() {
+        return userDictionary;
+    }
+
+    public SynonymMap getSynonymMap() {
+        return synonymMap;
+    }
+
+    public CharArraySet getStopWords() {
+        return stopWords;
+    }
+
+    public Instant getLoadedAt() {
+        return loadedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "DictionarySnapshot{" +
+                "version=" + version +
+                ", userDictionary=" + (userDictionary != null ? "loaded" : "none") +
+                ", synonyms=" + (synonymMap != null ? "loaded" : "none") +
+                ", stopWords=" + (stopWords != null ? stopWords.size() : 0) +
+                ", loadedAt=" + loadedAt +
+                '}';
+    }
+}
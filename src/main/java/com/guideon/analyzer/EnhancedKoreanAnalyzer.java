@@ -33,17 +33,37 @@ public class EnhancedKoreanAnalyzer extends Analyzer {
     private final CharArraySet stopWords;
     private final SynonymMap synonymMap;  // Phase 4.2
     private final KoreanTokenizer.DecompoundMode decompoundMode;
+    private final DictionaryReuseStrategy dictionaryStrategy;  // 공용 레지스트리 사용 시 (아니면 null)
 
     /**
-     * 기본 생성자 - DictionaryLoader로부터 사전 자동 로드
+     * 기본 생성자 - DictionaryRegistry의 공용 사전 사용 (재적재 시 자동 반영)
      */
     public EnhancedKoreanAnalyzer() {
-        this(
-            DictionaryLoader.loadUserDictionary(),
-            DictionaryLoader.loadStopWords(),
-            DictionaryLoader.loadSynonyms(),  // Phase 4.2
-            KoreanTokenizer.DecompoundMode.MIXED
-        );
+        this(KoreanTokenizer.DecompoundMode.MIXED);
+    }
+
+    /**
+     * 공용 사전 + 복합어 분해 모드 지정 생성자
+     *
+     * @param decompoundMode 복합어 분해 모드
+     */
+    public EnhancedKoreanAnalyzer(KoreanTokenizer.DecompoundMode decompoundMode) {
+        this(new DictionaryReuseStrategy(DictionaryRegistry.getInstance()), decompoundMode);
+    }
+
+    private EnhancedKoreanAnalyzer(DictionaryReuseStrategy dictionaryStrategy,
+                                   KoreanTokenizer.DecompoundMode decompoundMode) {
+        super(dictionaryStrategy);
+
+        this.userDictionary = null;
+        this.stopWords = null;
+        this.synonymMap = null;
+        this.decompoundMode = decompoundMode;
+        this.dictionaryStrategy = dictionaryStrategy;
+
+        logger.info("EnhancedKoreanAnalyzer initialized (Phase 4.1 + 4.2):");
+        logger.info("  - Dictionaries: shared registry (v{})", dictionaryStrategy.getRegistry().getVersion());
+        logger.info("  - Decompound Mode: {}", decompoundMode);
     }
 
     /**
@@ -65,6 +85,7 @@ public class EnhancedKoreanAnalyzer extends Analyzer {
         this.stopWords = stopWords;
         this.synonymMap = synonymMap;  // Phase 4.2
         this.decompoundMode = decompoundMode;
+        this.dictionaryStrategy = null;
 
         logger.info("EnhancedKoreanAnalyzer initialized (Phase 4.1 + 4.2):");
         logger.info("  - User Dictionary: {}", userDictionary != null ? "Loaded" : "Not loaded");
@@ -75,6 +96,17 @@ public class EnhancedKoreanAnalyzer extends Analyzer {
 
     @Override
     protected TokenStreamComponents createComponents(String fieldName) {
+        // 0. 사전 결정 (공용 레지스트리 사용 시 현재 버전의 스냅샷)
+        UserDictionary userDictionary = this.userDictionary;
+        CharArraySet stopWords = this.stopWords;
+        SynonymMap synonymMap = this.synonymMap;
+        if (dictionaryStrategy != null) {
+            DictionarySnapshot snapshot = dictionaryStrategy.beginComponents();
+            userDictionary = snapshot.getUserDictionary();
+            stopWords = snapshot.getStopWords();
+            synonymMap = snapshot.getSynonymMap();
+        }
+
         // 1. Tokenizer: 한국어 형태소 분석
         // AttributeFactory.DEFAULT_ATTRIBUTE_FACTORY 사용
         KoreanTokenizer tokenizer = new KoreanTokenizer(
@@ -143,6 +175,17 @@ public class EnhancedKoreanAnalyzer extends Analyzer {
      * Analyzer 정보 출력 (디버깅용)
      */
     public String getInfo() {
+        if (dictionaryStrategy != null) {
+            DictionarySnapshot snapshot = dictionaryStrategy.getRegistry().current();
+            return String.format(
+                "EnhancedKoreanAnalyzer[userDict=%s, stopWords=%d, mode=%s, dictVersion=%d]",
+                snapshot.getUserDictionary() != null ? "enabled" : "disabled",
+                snapshot.getStopWords() != null ? snapshot.getStopWords().size() : 0,
+                decompoundMode,
+                snapshot.getVersion()
+            );
+        }
+
         return String.format(
             "EnhancedKoreanAnalyzer[userDict=%s, stopWords=%d, mode=%s]",
             userDictionary != null ? "enabled" : "disabled",
@@ -1,6 +1,5 @@
 package com.guideon.analyzer;
 
-import com.guideon.analyzer.DictionaryLoader;
 import org.apache.lucene.analysis.*;
 import org.apache.lucene.analysis.ko.KoreanTokenizer;
 import org.apache.lucene.analysis.ko.KoreanPartOfSpeechStopFilter;
@@ -30,16 +29,35 @@ public class SearchQueryAnalyzer extends Analyzer {
     private final UserDictionary userDictionary;
     private final SynonymMap synonymMap;  // Phase 4.2
     private final KoreanTokenizer.DecompoundMode decompoundMode;
+    private final DictionaryReuseStrategy dictionaryStrategy;  // 공용 레지스트리 사용 시 (아니면 null)
 
     /**
-     * 기본 생성자
+     * 기본 생성자 - DictionaryRegistry의 공용 사전 사용 (재적재 시 자동 반영)
      */
     public SearchQueryAnalyzer() {
-        this(
-            DictionaryLoader.loadUserDictionary(),
-            DictionaryLoader.loadSynonyms(),  // Phase 4.2
-            KoreanTokenizer.DecompoundMode.MIXED
-        );
+        this(KoreanTokenizer.DecompoundMode.MIXED);
+    }
+
+    /**
+     * 공용 사전 + 복합어 분해 모드 지정 생성자
+     */
+    public SearchQueryAnalyzer(KoreanTokenizer.DecompoundMode decompoundMode) {
+        this(new DictionaryReuseStrategy(DictionaryRegistry.getInstance()), decompoundMode);
+    }
+
+    private SearchQueryAnalyzer(DictionaryReuseStrategy dictionaryStrategy,
+                                KoreanTokenizer.DecompoundMode decompoundMode) {
+        super(dictionaryStrategy);
+
+        this.userDictionary = null;
+        this.synonymMap = null;
+        this.decompoundMode = decompoundMode;
+        this.dictionaryStrategy = dictionaryStrategy;
+
+        logger.info("SearchQueryAnalyzer initialized (Phase 4.1 + 4.2):");
+        logger.info("  - Dictionaries: shared registry (v{})", dictionaryStrategy.getRegistry().getVersion());
+        logger.info("  - Decompound Mode: {}", decompoundMode);
+        logger.info("  - Stop Words: Minimal (only POS-based)");
     }
 
     /**
@@ -54,6 +72,7 @@ public class SearchQueryAnalyzer extends Analyzer {
         this.userDictionary = userDictionary;
         this.synonymMap = synonymMap;  // Phase 4.2
         this.decompoundMode = decompoundMode;
+        this.dictionaryStrategy = null;
 
         logger.info("SearchQueryAnalyzer initialized (Phase 4.1 + 4.2):");
         logger.info("  - User Dictionary: {}", userDictionary != null ? "Loaded" : "Not loaded");
@@ -64,6 +83,15 @@ public class SearchQueryAnalyzer extends Analyzer {
 
     @Override
     protected TokenStreamComponents createComponents(String fieldName) {
+        // 0. 사전 결정 (공용 레지스트리 사용 시 현재 버전의 스냅샷)
+        UserDictionary userDictionary = this.userDictionary;
+        SynonymMap synonymMap = this.synonymMap;
+        if (dictionaryStrategy != null) {
+            DictionarySnapshot snapshot = dictionaryStrategy.beginComponents();
+            userDictionary = snapshot.getUserDictionary();
+            synonymMap = snapshot.getSynonymMap();
+        }
+
         // 1. Tokenizer: 한국어 형태소 분석 (인덱싱과 동일)
         KoreanTokenizer tokenizer = new KoreanTokenizer(
             org.apache.lucene.util.AttributeFactory.DEFAULT_ATTRIBUTE_FACTORY,
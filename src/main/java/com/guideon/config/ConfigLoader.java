@@ -6,7 +6,9 @@ import org.slf4j.LoggerFactory;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.LinkedHashSet;
 import java.util.Properties;
+import java.util.Set;
 
 /**
  * application.properties 파일을 로드하는 유틸리티 클래스
@@ -191,6 +193,43 @@ public class ConfigLoader {
         return getIntProperty("rag.chunk.overlap", 100);
     }
 
+    /**
+     * 답변 생성 컨텍스트 토큰 예산 (0이면 제한 없음)
+     * 시스템 프롬프트/가이드/Few-shot 예제를 제외한 검색 결과 부분의 최대 추정 토큰 수
+     */
+    public int getRagContextMaxTokens() {
+        return getIntProperty("rag.context.max.tokens", 6000);
+    }
+
+    /**
+     * 질문별 Few-shot 예제 선택 사용 여부 (false이면 사용 빈도순 고정 예제)
+     */
+    public boolean isDynamicFewShotEnabled() {
+        String enabled = getProperty("fewshot.dynamic.enabled", "true");
+        return Boolean.parseBoolean(enabled);
+    }
+
+    /**
+     * 질문별 Few-shot 최소 예제 수
+     */
+    public int getDynamicFewShotMinExamples() {
+        return getIntProperty("fewshot.dynamic.min.examples", 2);
+    }
+
+    /**
+     * 질문별 Few-shot 최대 예제 수
+     */
+    public int getDynamicFewShotMaxExamples() {
+        return getIntProperty("fewshot.dynamic.max.examples", 7);
+    }
+
+    /**
+     * 질문별 Few-shot 예제 블록 토큰 예산 (한국어 추정 토큰 기준)
+     */
+    public int getDynamicFewShotTokenBudget() {
+        return getIntProperty("fewshot.dynamic.token.budget", 600);
+    }
+
     /**
      * 임베딩 모델 이름
      */
@@ -235,12 +274,47 @@ public class ConfigLoader {
     }
 
     /**
-     * ReRanking 모델 이름
+     * ReRanking 모델 이름 ("onnx:"로 시작하면 로컬 ONNX Cross-Encoder, 그 외에는 Cohere 모델)
      */
     public String getReRankingModelName() {
         return getProperty("reranking.model.name", "rerank-multilingual-v3.0");
     }
 
+    /**
+     * 로컬 ReRanking ONNX 모델 파일 경로
+     */
+    public String getReRankingOnnxModelPath() {
+        return getProperty("reranking.onnx.model.path", "./models/reranker/model.onnx");
+    }
+
+    /**
+     * 로컬 ReRanking 토크나이저 파일 경로 (HuggingFace tokenizer.json)
+     */
+    public String getReRankingOnnxTokenizerPath() {
+        return getProperty("reranking.onnx.tokenizer.path", "./models/reranker/tokenizer.json");
+    }
+
+    /**
+     * 로컬 ReRanking 최대 토큰 수 (질문 + 후보)
+     */
+    public int getReRankingOnnxMaxLength() {
+        return getIntProperty("reranking.onnx.max.length", 512);
+    }
+
+    /**
+     * 로컬 ReRanking 배치 크기 (한 번의 추론에 넣을 후보 수)
+     */
+    public int getReRankingOnnxBatchSize() {
+        return getIntProperty("reranking.onnx.batch.size", 8);
+    }
+
+    /**
+     * 로컬 ReRanking 추론 스레드 수 (0이면 CPU 코어 수)
+     */
+    public int getReRankingOnnxThreads() {
+        return getIntProperty("reranking.onnx.threads", 0);
+    }
+
     /**
      * ReRanking 초기 검색 결과 수
      */
@@ -262,6 +336,35 @@ public class ConfigLoader {
         return getDoubleProperty("reranking.min.score", 0.8);
     }
 
+    /**
+     * ReRanking 전 후보 중복 제거 활성화 여부
+     */
+    public boolean isReRankingDedupEnabled() {
+        String enabled = getProperty("reranking.dedup.enabled", "true");
+        return Boolean.parseBoolean(enabled);
+    }
+
+    /**
+     * 중복 후보로 볼 문자 shingle 포함도 (짧은 후보 기준, 0.0 ~ 1.0)
+     */
+    public double getReRankingDedupSimilarity() {
+        return getDoubleProperty("reranking.dedup.similarity", 0.8);
+    }
+
+    /**
+     * 겹치는 인접 세그먼트를 이어 붙인 후보의 최대 길이 (문자, 0이면 병합하지 않음)
+     */
+    public int getReRankingDedupMaxMergedChars() {
+        return getIntProperty("reranking.dedup.max.merged.chars", 1200);
+    }
+
+    /**
+     * ReRanking 점수 캐시 크기 ((쿼리, 세그먼트) 조합 수, 0이면 비활성화)
+     */
+    public int getReRankingCacheSize() {
+        return getIntProperty("reranking.cache.size", 10000);
+    }
+
     /**
      * Hybrid Search 활성화 여부
      */
@@ -291,6 +394,416 @@ public class ConfigLoader {
         return getIntProperty("hybrid.search.initial.results", 40);
     }
 
+    /**
+     * Hybrid Search 순위 융합 함수 (rrf, combsum, linear)
+     */
+    public String getHybridFusionMethod() {
+        return getProperty("hybrid.search.fusion.method", "rrf");
+    }
+
+    /**
+     * Hybrid Search RRF 상수 k (클수록 하위 순위와의 점수 차이가 줄어듦)
+     */
+    public int getHybridRrfK() {
+        return getIntProperty("hybrid.search.rrf.k", 60);
+    }
+
+    /**
+     * Hybrid Search Vector 경로 기한 (밀리초, 임베딩 API 호출 포함)
+     */
+    public long getHybridVectorTimeoutMs() {
+        return getIntProperty("hybrid.search.vector.timeout.ms", 3000);
+    }
+
+    /**
+     * Hybrid Search BM25 경로 기한 (밀리초)
+     */
+    public long getHybridBM25TimeoutMs() {
+        return getIntProperty("hybrid.search.bm25.timeout.ms", 1000);
+    }
+
+    /**
+     * Hybrid Search 적응형 경로 정책 (off, cancel, skip)
+     * - cancel: 두 경로를 병렬 시작하고 BM25가 확실하면 Vector 경로 취소
+     * - skip: BM25를 먼저 실행하고 확실하지 않을 때만 Vector 경로 실행 (임베딩 API 호출 절감)
+     */
+    public String getHybridAdaptiveMode() {
+        return getProperty("hybrid.search.adaptive.mode", "off");
+    }
+
+    /**
+     * 적응형 정책: BM25 1위 최소 점수
+     */
+    public double getHybridAdaptiveMinScore() {
+        return getDoubleProperty("hybrid.search.adaptive.min.score", 0.0);
+    }
+
+    /**
+     * 적응형 정책: BM25 1위와 2위의 최소 점수 차이 비율 ((1위 - 2위) / 1위)
+     */
+    public double getHybridAdaptiveMinGap() {
+        return getDoubleProperty("hybrid.search.adaptive.min.gap", 0.3);
+    }
+
+    /**
+     * 적응형 정책: BM25 1위 세그먼트의 최소 검색어 커버리지 (0.0 ~ 1.0)
+     */
+    public double getHybridAdaptiveMinCoverage() {
+        return getDoubleProperty("hybrid.search.adaptive.min.coverage", 1.0);
+    }
+
+    /**
+     * Hybrid Search 전용 스레드 풀 크기 (Java 21 미만에서만 사용, 21 이상은 가상 스레드)
+     */
+    public int getHybridExecutorThreads() {
+        return getIntProperty("hybrid.search.executor.threads", 32);
+    }
+
+    /**
+     * Hybrid Search 전용 스레드 풀 대기열 크기 (초과 시 해당 경로 생략)
+     */
+    public int getHybridExecutorQueueCapacity() {
+        return getIntProperty("hybrid.search.executor.queue.capacity", 200);
+    }
+
+    /**
+     * 최종 답변 캐시 최대 항목 수 (0이면 비활성화)
+     */
+    public int getAnswerCacheSize() {
+        return getIntProperty("qa.answer.cache.size", 1000);
+    }
+
+    /**
+     * 최종 답변 캐시 유효 시간 (분, 0이면 만료 없음)
+     */
+    public int getAnswerCacheTtlMinutes() {
+        return getIntProperty("qa.answer.cache.ttl.minutes", 360);
+    }
+
+    /**
+     * 유사 질문 캐시 사용 여부 (질문 임베딩이 가까운 이전 질문의 캐시 답변 재사용)
+     */
+    public boolean isSemanticCacheEnabled() {
+        String enabled = getProperty("qa.semantic.cache.enabled", "true");
+        return Boolean.parseBoolean(enabled);
+    }
+
+    /**
+     * 유사 질문 색인 최대 질문 수
+     */
+    public int getSemanticCacheSize() {
+        return getIntProperty("qa.semantic.cache.size", 2000);
+    }
+
+    /**
+     * 같은 질문으로 볼 최소 코사인 유사도
+     */
+    public double getSemanticCacheSimilarityThreshold() {
+        return getDoubleProperty("qa.semantic.cache.similarity.threshold", 0.92);
+    }
+
+    /**
+     * 유사 질문 적중 감사 로그 보관 수
+     */
+    public int getSemanticCacheAuditSize() {
+        return getIntProperty("qa.semantic.cache.audit.size", 200);
+    }
+
+    /**
+     * 같은 질문의 동시 요청 병합 사용 여부 (POST /api/qa/ask)
+     */
+    public boolean isQuestionCoalescingEnabled() {
+        String enabled = getProperty("qa.coalescing.enabled", "true");
+        return Boolean.parseBoolean(enabled);
+    }
+
+    /**
+     * 질문 응답 대기 최대 시간 (밀리초)
+     */
+    public long getAskTimeoutMs() {
+        return getIntProperty("qa.ask.timeout.ms", 120000);
+    }
+
+    /**
+     * 질문 처리 스레드 풀 크기 (Java 21 미만에서만 사용)
+     */
+    public int getAskExecutorThreads() {
+        return getIntProperty("qa.ask.executor.threads", 64);
+    }
+
+    /**
+     * 질문 처리 스레드 풀 대기열 크기
+     */
+    public int getAskExecutorQueueCapacity() {
+        return getIntProperty("qa.ask.executor.queue.capacity", 128);
+    }
+
+    /**
+     * 스트리밍 답변(SSE) 연결 최대 유지 시간 (밀리초)
+     */
+    public long getStreamTimeoutMs() {
+        return getIntProperty("qa.stream.timeout.ms", 120000);
+    }
+
+    /**
+     * 스트리밍 답변 처리 스레드 풀 크기 (Java 21 미만에서만 사용)
+     */
+    public int getStreamExecutorThreads() {
+        return getIntProperty("qa.stream.executor.threads", 32);
+    }
+
+    /**
+     * 스트리밍 답변 처리 스레드 풀 대기열 크기
+     */
+    public int getStreamExecutorQueueCapacity() {
+        return getIntProperty("qa.stream.executor.queue.capacity", 64);
+    }
+
+    /**
+     * 질의 분석과 병렬로 원문 질문 검색을 미리 시작할지 여부
+     */
+    public boolean isSpeculativeRetrievalEnabled() {
+        String enabled = getProperty("qa.speculative.retrieval.enabled", "true");
+        return Boolean.parseBoolean(enabled);
+    }
+
+    /**
+     * 미리 조회한 후보를 그대로 사용할 검색 쿼리 유사도 (분석된 검색 쿼리 문자 bigram이 원문 질문에 포함된 비율)
+     */
+    public double getSpeculativeReuseSimilarity() {
+        return getDoubleProperty("qa.speculative.reuse.similarity", 0.8);
+    }
+
+    /**
+     * 미리 조회 전용 스레드 풀 크기 (Java 21 미만에서만 사용)
+     */
+    public int getSpeculativeExecutorThreads() {
+        return getIntProperty("qa.speculative.executor.threads", 16);
+    }
+
+    /**
+     * 미리 조회 전용 스레드 풀 대기열 크기
+     */
+    public int getSpeculativeExecutorQueueCapacity() {
+        return getIntProperty("qa.speculative.executor.queue.capacity", 64);
+    }
+
+    /**
+     * 단일 호출 모드를 적용할 의도 목록 (규칙 기반 분석의 의도 기준, 비어 있으면 비활성화)
+     * 규칙 기반 분석으로 검색하고, 질문 분석 필드와 답변을 한 번의 LLM 호출로 생성합니다.
+     * 기본값은 비활성화 (SingleCallComparisonTest로 품질을 확인한 뒤 켬)
+     */
+    public Set<String> getSingleCallIntents() {
+        String intents = getProperty("qa.single.call.intents", "");
+        Set<String> result = new LinkedHashSet<>();
+        for (String intent : intents.split(",")) {
+            if (!intent.isBlank()) {
+                result.add(intent.trim());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 규칙 기반 질의 분석 신뢰도 임계값 (이상이면 LLM 분석 생략, 1.0 초과 값이면 항상 LLM 분석)
+     */
+    public double getQueryAnalysisRuleConfidenceThreshold() {
+        return getDoubleProperty("query.analysis.rule.confidence.threshold", 0.75);
+    }
+
+    /**
+     * 질의 분석 결과 캐시 최대 항목 수 (0이면 비활성화)
+     */
+    public int getQueryAnalysisCacheSize() {
+        return getIntProperty("query.analysis.cache.size", 2000);
+    }
+
+    /**
+     * 질의 분석 결과 캐시 유효 시간 (분, 0이면 만료 없음)
+     */
+    public int getQueryAnalysisCacheTtlMinutes() {
+        return getIntProperty("query.analysis.cache.ttl.minutes", 1440);
+    }
+
+    /**
+     * 질의 분석 결과 캐시 저장 파일 (재시작 후에도 유지)
+     *
+     * @return 파일 경로 (미설정 시 null = 메모리에만 보관)
+     */
+    public String getQueryAnalysisCacheFile() {
+        String path = getProperty("query.analysis.cache.file", "");
+        if (path.isEmpty()) {
+            return null;
+        }
+
+        // ${user.home} 변수 해석
+        if (path.contains("${user.home}")) {
+            path = path.replace("${user.home}", System.getProperty("user.home"));
+        }
+
+        return path;
+    }
+
+    /**
+     * 질의 분석 LLM 호출 기한 (밀리초, 0이면 기한 없음)
+     */
+    public long getAnalysisCallTimeoutMs() {
+        return getIntProperty("model.call.analysis.timeout.ms", 8000);
+    }
+
+    /**
+     * 질의 분석 LLM 헤지 요청 사용 여부
+     */
+    public boolean isAnalysisCallHedgeEnabled() {
+        String enabled = getProperty("model.call.analysis.hedge.enabled", "true");
+        return Boolean.parseBoolean(enabled);
+    }
+
+    /**
+     * ReRanking 호출 기한 (밀리초, 0이면 기한 없음)
+     */
+    public long getRerankCallTimeoutMs() {
+        return getIntProperty("model.call.rerank.timeout.ms", 3000);
+    }
+
+    /**
+     * ReRanking 헤지 요청 사용 여부
+     */
+    public boolean isRerankCallHedgeEnabled() {
+        String enabled = getProperty("model.call.rerank.hedge.enabled", "true");
+        return Boolean.parseBoolean(enabled);
+    }
+
+    /**
+     * 답변 생성 LLM 호출 기한 (밀리초, 0이면 기한 없음)
+     */
+    public long getAnswerCallTimeoutMs() {
+        return getIntProperty("model.call.answer.timeout.ms", 30000);
+    }
+
+    /**
+     * 답변 생성 LLM 헤지 요청 사용 여부 (긴 생성 호출은 비용이 두 배가 되므로 기본 비활성화)
+     */
+    public boolean isAnswerCallHedgeEnabled() {
+        String enabled = getProperty("model.call.answer.hedge.enabled", "false");
+        return Boolean.parseBoolean(enabled);
+    }
+
+    /**
+     * 헤지 요청 최소 대기 시간 (밀리초, 최근 p95가 이보다 짧아도 이만큼은 기다림)
+     */
+    public long getModelCallHedgeMinDelayMs() {
+        return getIntProperty("model.call.hedge.min.delay.ms", 200);
+    }
+
+    /**
+     * 모델 호출 전용 스레드 풀 크기 (Java 21 미만에서만 사용, 21 이상은 가상 스레드)
+     */
+    public int getModelCallExecutorThreads() {
+        return getIntProperty("model.call.executor.threads", 64);
+    }
+
+    /**
+     * 모델 호출 전용 스레드 풀 대기열 크기
+     */
+    public int getModelCallExecutorQueueCapacity() {
+        return getIntProperty("model.call.executor.queue.capacity", 256);
+    }
+
+    /**
+     * 모델별 동시 호출 제한(bulkhead) 활성화 여부
+     */
+    public boolean isModelBulkheadEnabled() {
+        String enabled = getProperty("model.bulkhead.enabled", "true");
+        return Boolean.parseBoolean(enabled);
+    }
+
+    /**
+     * 모델별 최대 동시 호출 수 (model: gemini-chat, gemini-embedding, rerank)
+     */
+    public int getModelBulkheadMaxConcurrent(String model) {
+        return getIntProperty("model.bulkhead." + model + ".max.concurrent", 16);
+    }
+
+    /**
+     * 동시 호출 한도 초과 시 레인별 대기열 크기 (가득 차면 즉시 거절)
+     */
+    public int getModelBulkheadQueueCapacity() {
+        return getIntProperty("model.bulkhead.queue.capacity", 32);
+    }
+
+    /**
+     * 대기열 최대 대기 시간 (초과 시 거절)
+     */
+    public long getModelBulkheadMaxWaitMs() {
+        return getIntProperty("model.bulkhead.max.wait.ms", 5000);
+    }
+
+    /**
+     * 일괄 작업(문서 색인 등)이 사용할 수 있는 최대 동시 호출 비율
+     */
+    public double getModelBulkheadBatchMaxShare() {
+        return getDoubleProperty("model.bulkhead.batch.max.share", 0.5);
+    }
+
+    /**
+     * 거절 응답(503)의 Retry-After 값 (초)
+     */
+    public int getModelBulkheadRetryAfterSeconds() {
+        return getIntProperty("model.bulkhead.retry.after.seconds", 2);
+    }
+
+    /**
+     * 모델별 차단기(circuit breaker) 활성화 여부 (false이면 통계만 집계)
+     */
+    public boolean isModelCircuitEnabled() {
+        String enabled = getProperty("model.circuit.enabled", "true");
+        return Boolean.parseBoolean(enabled);
+    }
+
+    /**
+     * 차단기 실패 비율 계산에 쓰는 최근 호출 수
+     */
+    public int getModelCircuitWindowSize() {
+        return getIntProperty("model.circuit.window.size", 20);
+    }
+
+    /**
+     * 차단기 실패 비율 판단에 필요한 최소 호출 수
+     */
+    public int getModelCircuitMinimumCalls() {
+        return getIntProperty("model.circuit.minimum.calls", 10);
+    }
+
+    /**
+     * 차단기를 여는 실패 비율 (0.0 ~ 1.0)
+     */
+    public double getModelCircuitFailureRateThreshold() {
+        return getDoubleProperty("model.circuit.failure.rate.threshold", 0.5);
+    }
+
+    /**
+     * 모델별 지연 호출 기준 (이 시간 이상 걸린 호출은 실패로 간주, model: gemini-chat, gemini-embedding, rerank)
+     */
+    public long getModelCircuitSlowCallMs(String model) {
+        return getIntProperty("model.circuit." + model + ".slow.call.ms", 10000);
+    }
+
+    /**
+     * 차단기를 연 뒤 시험 호출까지 대기 시간
+     */
+    public long getModelCircuitOpenMs() {
+        return getIntProperty("model.circuit.open.ms", 30000);
+    }
+
+    /**
+     * 조항 번호 직접 조회 활성화 여부 ("취업규칙 제23조" 같은 질문은 검색 단계를 생략)
+     */
+    public boolean isArticleLookupEnabled() {
+        String enabled = getProperty("article.lookup.enabled", "true");
+        return Boolean.parseBoolean(enabled);
+    }
+
     /**
      * BM25 인덱스 디렉토리
      */
@@ -318,4 +831,45 @@ public class ConfigLoader {
     public double getBM25B() {
         return getDoubleProperty("bm25.b", 0.75);
     }
+
+    /**
+     * BM25 그룹 커밋 배치 크기 (대기 변경 건수가 이 값 이상이면 즉시 커밋)
+     */
+    public int getBM25CommitBatchSize() {
+        return getIntProperty("bm25.commit.batch.size", 1000);
+    }
+
+    /**
+     * BM25 파싱 쿼리 캐시 크기 (0이면 비활성화)
+     */
+    public int getBM25QueryCacheSize() {
+        return getIntProperty("bm25.query.cache.size", 1000);
+    }
+
+    /**
+     * 한국어 사전 외부 디렉토리 (user-dict.txt, synonyms.txt, stopwords.txt)
+     * 설정 시 클래스패스 사전보다 우선하며, 재시작 없이 재적재 가능
+     *
+     * @return 디렉토리 경로 (미설정 시 null)
+     */
+    public String getDictionaryDirectory() {
+        String path = getProperty("analyzer.dictionary.directory", "");
+        if (path.isEmpty()) {
+            return null;
+        }
+
+        // ${user.home} 변수 해석
+        if (path.contains("${user.home}")) {
+            path = path.replace("${user.home}", System.getProperty("user.home"));
+        }
+
+        return path;
+    }
+
+    /**
+     * BM25 그룹 커밋 주기 (밀리초)
+     */
+    public long getBM25CommitIntervalMs() {
+        return getIntProperty("bm25.commit.interval.ms", 5000);
+    }
 }
@@ -1,6 +1,10 @@
 package com.guideon.config;
 
 import com.guideon.service.*;
+import com.guideon.util.AnswerCache;
+import com.guideon.util.PromptTemplate;
+import com.guideon.util.SemanticQuestionIndex;
+import com.guideon.util.prompt.FewShotExampleSelector;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore;
 import org.springframework.context.annotation.Bean;
@@ -28,8 +32,51 @@ public class GuideonConfig {
      * 질문 분석 서비스 Bean
      */
     @Bean
-    public QueryAnalysisService queryAnalysisService(ConfigLoader configLoader) {
-        return new QueryAnalysisService(configLoader);
+    public QueryAnalysisService queryAnalysisService(ConfigLoader configLoader,
+                                                     FewShotExampleSelector fewShotExampleSelector) {
+        QueryAnalysisService service = new QueryAnalysisService(configLoader);
+        service.setExampleSelector(fewShotExampleSelector);
+        return service;
+    }
+
+    /**
+     * 질문별 Few-shot 예제 선택 Bean (질의 분석/답변 생성 프롬프트 공용)
+     */
+    @Bean
+    public FewShotExampleSelector fewShotExampleSelector(ConfigLoader configLoader, EmbeddingService embeddingService) {
+        FewShotExampleSelector selector = new FewShotExampleSelector(
+                embeddingService.getEmbeddingModel(),
+                configLoader.getDynamicFewShotMinExamples(),
+                configLoader.getDynamicFewShotMaxExamples(),
+                configLoader.getDynamicFewShotTokenBudget());
+
+        // 비활성화되었거나 예제 임베딩에 실패하면 isReady() == false -> 고정 예제 사용
+        if (configLoader.isDynamicFewShotEnabled()) {
+            selector.initialize();
+        }
+        PromptTemplate.setExampleSelector(selector);
+        return selector;
+    }
+
+    /**
+     * 최종 답변 캐시 Bean (QAService 조회/저장, DocumentService 무효화)
+     */
+    @Bean
+    public AnswerCache answerCache(ConfigLoader configLoader) {
+        return new AnswerCache(
+                configLoader.getAnswerCacheSize(),
+                configLoader.getAnswerCacheTtlMinutes() * 60_000L);
+    }
+
+    /**
+     * 유사 질문 색인 Bean (표현만 다른 질문에 답변 캐시 적용)
+     */
+    @Bean
+    public SemanticQuestionIndex semanticQuestionIndex(ConfigLoader configLoader) {
+        return new SemanticQuestionIndex(
+                configLoader.isSemanticCacheEnabled() ? configLoader.getSemanticCacheSize() : 0,
+                configLoader.getSemanticCacheSimilarityThreshold(),
+                configLoader.getSemanticCacheAuditSize());
     }
 
     /**
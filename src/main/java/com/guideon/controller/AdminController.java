@@ -0,0 +1,230 @@
+package com.guideon.controller;
+
+import com.guideon.analyzer.DictionaryRegistry;
+import com.guideon.analyzer.DictionarySnapshot;
+import com.guideon.dto.ApiResponse;
+import com.guideon.resilience.CircuitBreaker;
+import com.guideon.resilience.ModelBulkhead;
+import com.guideon.resilience.ModelCallPolicy;
+import com.guideon.service.HybridSearchService;
+import com.guideon.service.QAService;
+import com.guideon.service.QueryAnalysisService;
+import com.guideon.service.RegulationSearchService;
+import com.guideon.util.AnswerCache;
+import com.guideon.util.SemanticQuestionIndex;
+import com.guideon.util.prompt.FewShotExampleSelector;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 관리자 API Controller (ADMIN 권한 필요)
+ *
+ * 엔드포인트:
+ * - GET /api/admin/dictionary - 현재 한국어 사전 버전 조회
+ * - POST /api/admin/dictionary/reload - 한국어 사전 재적재 (재시작 없이 반영)
+ * - GET /api/admin/search/paths - 하이브리드 검색 경로별 통계 (적응형 정책 효과 측정)
+ * - GET /api/admin/model-calls - 외부 모델 호출 단계별 기한 초과/헤지 통계
+ * - GET /api/admin/bulkheads - 모델별 동시 호출 제한 상태 (사용 중인 자리, 우선순위 레인별 대기/거절 수)
+ * - GET /api/admin/circuit-breakers - 모델별 차단기 상태 (최근 실패 비율, 열림/거절 횟수)
+ * - GET /api/admin/query-analysis/cache - 질의 분석 결과 캐시 적중률
+ * - GET /api/admin/query-analysis/tiers - 질의 분석 단계별(캐시/규칙/LLM/단일 호출/폴백) 처리 비율
+ * - GET /api/admin/answer-cache - 최종 답변 캐시 상태 (적중률, 세대, 규정 유형별 항목 수)
+ * - DELETE /api/admin/answer-cache - 최종 답변 캐시 비우기 (regulationType 지정 시 해당 규정만)
+ * - GET /api/admin/prompt-tokens - 답변 생성 프롬프트 토큰 사용량 (컨텍스트 예산 효과)
+ * - GET /api/admin/rerank-cache - ReRanking 점수 캐시 적중률 (Scoring Model 호출 절감 효과)
+ * - GET /api/admin/few-shot - 질문별 Few-shot 예제 선택 통계 (요청당 평균 예제 수, 고정 예제 대체 수)
+ * - GET /api/admin/semantic-cache - 유사 질문 캐시 적중률, 오적중 방지 장치 통계, 최근 적중 기록
+ * - POST /api/admin/semantic-cache/audit/{auditId}/false-hit - 유사 질문 오적중 신고 (해당 질문을 색인에서 제거)
+ * - GET /api/admin/coalescing - 같은 질문의 동시 요청 병합 통계 (처리 중인 질문 수, 병합 비율)
+ */
+@RestController
+@RequestMapping("/api/admin")
+@CrossOrigin(origins = "http://localhost:5173")
+@Tag(name = "관리자 API", description = "운영 관리 API")
+public class AdminController {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdminController.class);
+
+    private final HybridSearchService hybridSearchService;
+    private final QueryAnalysisService queryAnalysisService;
+    private final RegulationSearchService regulationSearchService;
+    private final AnswerCache answerCache;
+    private final SemanticQuestionIndex semanticQuestionIndex;
+    private final FewShotExampleSelector fewShotExampleSelector;
+    private final QAService qaService;
+
+    public AdminController(HybridSearchService hybridSearchService,
+            QueryAnalysisService queryAnalysisService,
+            RegulationSearchService regulationSearchService,
+            AnswerCache answerCache,
+            SemanticQuestionIndex semanticQuestionIndex,
+            FewShotExampleSelector fewShotExampleSelector,
+            QAService qaService) {
+        this.hybridSearchService = hybridSearchService;
+        this.queryAnalysisService = queryAnalysisService;
+        this.regulationSearchService = regulationSearchService;
+        this.answerCache = answerCache;
+        this.semanticQuestionIndex = semanticQuestionIndex;
+        this.fewShotExampleSelector = fewShotExampleSelector;
+        this.qaService = qaService;
+    }
+
+    @Operation(summary = "사전 상태 조회", description = "현재 적용 중인 한국어 사전 스냅샷 버전을 조회합니다.")
+    @GetMapping("/dictionary")
+    public ApiResponse<Map<String, Object>> getDictionaryStatus() {
+        DictionaryRegistry registry = DictionaryRegistry.getInstance();
+        return ApiResponse.success(toStatus(registry, registry.current()));
+    }
+
+    @Operation(summary = "사전 재적재",
+            description = "user-dict.txt, synonyms.txt, stopwords.txt를 다시 읽어 원자적으로 교체합니다. 실패 시 기존 사전을 유지합니다.")
+    @PostMapping("/dictionary/reload")
+    public ApiResponse<Map<String, Object>> reloadDictionary() {
+        logger.info("사전 재적재 요청");
+
+        DictionaryRegistry registry = DictionaryRegistry.getInstance();
+        try {
+            DictionarySnapshot snapshot = registry.reload();
+            logger.info("사전 재적재 완료: v{}", snapshot.getVersion());
+            return ApiResponse.success(toStatus(registry, snapshot), "사전이 재적재되었습니다.");
+
+        } catch (Exception e) {
+            logger.error("사전 재적재 실패 - 기존 사전 유지", e);
+            return ApiResponse.error("사전 재적재에 실패했습니다 (기존 사전 유지): " + e.getMessage(),
+                    toStatus(registry, registry.current()));
+        }
+    }
+
+    @Operation(summary = "검색 경로 통계",
+            description = "하이브리드 검색이 어떤 경로(병렬 / BM25만 / BM25 후 Vector)로 처리되었는지 횟수와 평균 소요 시간을 조회합니다.")
+    @GetMapping("/search/paths")
+    public ApiResponse<Map<String, Object>> getSearchPathStats() {
+        return ApiResponse.success(hybridSearchService.getPathStats());
+    }
+
+    @Operation(summary = "모델 호출 통계",
+            description = "질의 분석 / ReRanking / 답변 생성 단계별 호출 수, 기한 초과 수, 헤지 요청 수와 지연 시간(p50, p95)을 조회합니다.")
+    @GetMapping("/model-calls")
+    public ApiResponse<Map<String, Object>> getModelCallStats() {
+        return ApiResponse.success(ModelCallPolicy.getAllStats());
+    }
+
+    @Operation(summary = "모델별 동시 호출 제한 통계",
+            description = "Gemini Chat / Gemini Embedding / ReRanking 모델별 사용 중인 호출 자리와 대화형/일괄 작업 레인별 대기, 거절, 대기 시간 초과 수를 조회합니다.")
+    @GetMapping("/bulkheads")
+    public ApiResponse<Map<String, Object>> getBulkheadStats() {
+        return ApiResponse.success(ModelBulkhead.getAllStats());
+    }
+
+    @Operation(summary = "모델별 차단기 상태",
+            description = "Gemini Chat / Gemini Embedding / ReRanking 모델별 차단기 상태(CLOSED/OPEN/HALF_OPEN), 최근 실패 비율, 지연/거절/열림 횟수를 조회합니다.")
+    @GetMapping("/circuit-breakers")
+    public ApiResponse<Map<String, Object>> getCircuitBreakerStats() {
+        return ApiResponse.success(CircuitBreaker.getAllStats());
+    }
+
+    @Operation(summary = "질의 분석 캐시 통계",
+            description = "질의 분석 결과 캐시의 크기, 적중/미스/만료 수와 적중률을 조회합니다.")
+    @GetMapping("/query-analysis/cache")
+    public ApiResponse<Map<String, Object>> getQueryAnalysisCacheStats() {
+        return ApiResponse.success(queryAnalysisService.getCacheStats());
+    }
+
+    @Operation(summary = "질의 분석 단계 통계",
+            description = "질문이 캐시 / 규칙 기반 분석 / LLM 분석 / 단일 호출(답변과 함께 분석) / 폴백 중 어느 단계에서 분석되었는지 횟수와 비율을 조회합니다.")
+    @GetMapping("/query-analysis/tiers")
+    public ApiResponse<Map<String, Object>> getQueryAnalysisTierStats() {
+        return ApiResponse.success(queryAnalysisService.getTierStats());
+    }
+
+    @Operation(summary = "답변 캐시 통계",
+            description = "최종 답변 캐시의 크기, 적중률, 인덱스 세대와 규정 유형별 항목 수를 조회합니다.")
+    @GetMapping("/answer-cache")
+    public ApiResponse<Map<String, Object>> getAnswerCacheStats() {
+        return ApiResponse.success(answerCache.getStats());
+    }
+
+    @Operation(summary = "답변 캐시 비우기",
+            description = "최종 답변 캐시를 비웁니다. regulationType을 지정하면 해당 규정 유형을 참조한 답변만 제거합니다.")
+    @DeleteMapping("/answer-cache")
+    public ApiResponse<Map<String, Object>> flushAnswerCache(@RequestParam(required = false) String regulationType) {
+        int removed = regulationType != null && !regulationType.isBlank()
+                ? answerCache.invalidate(regulationType)
+                : answerCache.clear();
+        logger.info("답변 캐시 비우기: regulationType={}, removed={}", regulationType, removed);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("removed", removed);
+        result.put("stats", answerCache.getStats());
+        return ApiResponse.success(result, removed + "개의 캐시된 답변을 제거했습니다.");
+    }
+
+    @Operation(summary = "프롬프트 토큰 통계",
+            description = "답변 생성 프롬프트의 요청당 평균/최대 추정 토큰 수와 컨텍스트 예산으로 요약/제외된 세그먼트 수를 조회합니다.")
+    @GetMapping("/prompt-tokens")
+    public ApiResponse<Map<String, Object>> getPromptTokenStats() {
+        return ApiResponse.success(regulationSearchService.getPromptTokenStats());
+    }
+
+    @Operation(summary = "ReRanking 점수 캐시 통계",
+            description = "ReRanking 점수 캐시의 크기, 인덱스 세대, 적중/미스 수와 적중률을 조회합니다.")
+    @GetMapping("/rerank-cache")
+    public ApiResponse<Map<String, Object>> getRerankCacheStats() {
+        return ApiResponse.success(regulationSearchService.getRerankCacheStats());
+    }
+
+    @Operation(summary = "Few-shot 예제 선택 통계",
+            description = "질문과 비슷한 Few-shot 예제 선택의 요청당 평균 예제 수와 임베딩 실패로 고정 예제를 사용한 횟수를 조회합니다.")
+    @GetMapping("/few-shot")
+    public ApiResponse<Map<String, Object>> getFewShotStats() {
+        return ApiResponse.success(fewShotExampleSelector.getStats());
+    }
+
+    @Operation(summary = "유사 질문 캐시 통계",
+            description = "유사 질문 캐시의 적중률, 방지 장치(유사도/숫자/부정 표현)별 제외 수, 신고된 오적중 수와 최근 적중 기록을 조회합니다.")
+    @GetMapping("/semantic-cache")
+    public ApiResponse<Map<String, Object>> getSemanticCacheStats() {
+        Map<String, Object> result = new LinkedHashMap<>(semanticQuestionIndex.getStats());
+        result.put("recentHits", semanticQuestionIndex.getAuditLog());
+        return ApiResponse.success(result);
+    }
+
+    @Operation(summary = "유사 질문 오적중 신고",
+            description = "최근 적중 기록 중 다른 질문에 잘못 답한 기록을 신고합니다. 해당 이전 질문은 유사 질문 색인에서 제거됩니다.")
+    @PostMapping("/semantic-cache/audit/{auditId}/false-hit")
+    public ApiResponse<SemanticQuestionIndex.AuditRecord> reportSemanticFalseHit(@PathVariable long auditId) {
+        SemanticQuestionIndex.AuditRecord record = semanticQuestionIndex.reportFalseHit(auditId);
+        if (record == null) {
+            return ApiResponse.error("적중 기록을 찾을 수 없거나 이미 신고되었습니다: " + auditId);
+        }
+
+        logger.info("유사 질문 오적중 신고: '{}' ~ '{}' (유사도 {})",
+                record.getQuestion(), record.getMatchedQuestion(), String.format("%.3f", record.getSimilarity()));
+        return ApiResponse.success(record, "오적중으로 기록하고 해당 질문을 유사 질문 색인에서 제거했습니다.");
+    }
+
+    @Operation(summary = "동시 요청 병합 통계",
+            description = "같은 질문이 처리 중일 때 합류한 요청 수와 비율, 모든 요청이 연결을 끊어 중단된 처리 수를 조회합니다.")
+    @GetMapping("/coalescing")
+    public ApiResponse<Map<String, Object>> getCoalescingStats() {
+        return ApiResponse.success(qaService.getCoalescingStats());
+    }
+
+    private Map<String, Object> toStatus(DictionaryRegistry registry, DictionarySnapshot snapshot) {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("version", snapshot.getVersion());
+        status.put("loadedAt", snapshot.getLoadedAt().toString());
+        status.put("directory", registry.getDictionaryDirectory() != null
+                ? registry.getDictionaryDirectory().toString() : "classpath");
+        status.put("userDictionary", snapshot.getUserDictionary() != null);
+        status.put("synonyms", snapshot.getSynonymMap() != null);
+        status.put("stopWords", snapshot.getStopWords() != null ? snapshot.getStopWords().size() : 0);
+        return status;
+    }
+}
@@ -1,28 +1,49 @@
 package com.guideon.controller;
 
+import com.guideon.config.ConfigLoader;
 import com.guideon.dto.AnalysisResponse;
 import com.guideon.dto.ApiResponse;
 import com.guideon.dto.QuestionAnswerDTO;
 import com.guideon.dto.QuestionRequest;
 import com.guideon.dto.SearchResponse;
+import com.guideon.exception.BulkheadFullException;
 import com.guideon.model.QueryAnalysisResult;
+import com.guideon.model.RegulationReference;
 import com.guideon.model.RegulationSearchResult;
+import com.guideon.service.AnswerStreamHandler;
 import com.guideon.service.QAService;
 import com.guideon.service.QueryAnalysisService;
 import com.guideon.service.RegulationSearchService;
+import com.guideon.util.SingleFlight;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Q&A REST API Controller
  *
  * 엔드포인트:
- * - POST /api/qa/ask - 질문하기 (프론트엔드용)
+ * - POST /api/qa/ask - 질문하기 (프론트엔드용, 같은 질문의 동시 요청은 하나로 병합, 모델 호출 한도 초과 시 503 + Retry-After)
+ * - POST /api/qa/ask/stream - 질문하기 (Server-Sent Events 스트리밍)
  * - POST /api/qa/analyze - 질문 분석
  * - POST /api/qa/search - 규정 검색 (분석 + 검색 통합)
  */
@@ -37,34 +58,215 @@ public class QAController {
     private final QueryAnalysisService queryAnalysisService;
     private final RegulationSearchService regulationSearchService;
     private final QAService qaService;
+    private final long streamTimeoutMs;
+    private final int retryAfterSeconds;
+    private final long askTimeoutMs;
 
     public QAController(QueryAnalysisService queryAnalysisService,
             RegulationSearchService regulationSearchService,
-            QAService qaService) {
+            QAService qaService,
+            ConfigLoader configLoader) {
         this.queryAnalysisService = queryAnalysisService;
         this.regulationSearchService = regulationSearchService;
         this.qaService = qaService;
+        this.streamTimeoutMs = configLoader.getStreamTimeoutMs();
+        this.askTimeoutMs = configLoader.getAskTimeoutMs();
+        this.retryAfterSeconds = configLoader.getModelBulkheadRetryAfterSeconds();
     }
 
     /**
      * 질문하기 API (프론트엔드용 통합 엔드포인트)
      *
+     * 같은 질문이 이미 처리 중이면 그 결과를 함께 받습니다.
+     * 클라이언트 연결이 끊기거나 시간이 초과되면 이 요청의 대기만 취소되며,
+     * 같은 질문을 기다리는 다른 요청이 없을 때만 처리가 중단됩니다.
+     * 모델 동시 호출 한도나 처리 대기열이 가득 차면 오류 답변을 만들지 않고 바로 503 + Retry-After로 응답합니다.
+     *
      * @param request 사용자 질문
      * @return 질문 분석 + 답변 + 참조 규정
      */
     @Operation(summary = "질문하기", description = "규정에 대한 질문을 입력하면 AI가 답변과 함께 관련 규정을 제공합니다.")
     @PostMapping("/ask")
-    public ApiResponse<QuestionAnswerDTO> askQuestion(@Valid @RequestBody QuestionRequest request) {
+    public DeferredResult<ApiResponse<QuestionAnswerDTO>> askQuestion(@Valid @RequestBody QuestionRequest request) {
         logger.info("질문 요청: {}", request.getQuestion());
 
-        try {
-            QuestionAnswerDTO answer = qaService.askQuestion(request.getQuestion());
-            logger.info("질문 처리 완료");
-            return ApiResponse.success(answer);
-        } catch (Exception e) {
-            logger.error("질문 처리 중 오류 발생", e);
-            return ApiResponse.error("질문 처리 중 오류가 발생했습니다: " + e.getMessage());
+        DeferredResult<ApiResponse<QuestionAnswerDTO>> response = new DeferredResult<>(askTimeoutMs);
+        SingleFlight.Call<QuestionAnswerDTO> call = qaService.askQuestionShared(request.getQuestion());
+
+        response.onTimeout(() -> {
+            logger.warn("질문 처리 시간 초과 ({}ms)", askTimeoutMs);
+            call.cancel();
+            response.setResult(ApiResponse.error("질문 처리 시간이 초과되었습니다. 잠시 후 다시 시도해주세요."));
+        });
+        response.onError(error -> call.cancel());
+        response.onCompletion(call::cancel);
+
+        call.result().whenComplete((answer, error) -> {
+            if (error == null) {
+                logger.info("질문 처리 완료{}", call.isShared() ? " (진행 중인 요청과 병합)" : "");
+                response.setResult(ApiResponse.success(answer));
+            } else if (!(error instanceof CancellationException)) {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause() : error;
+                if (cause instanceof BulkheadFullException) {
+                    response.setErrorResult(cause);
+                    return;
+                }
+                if (cause instanceof RejectedExecutionException) {
+                    response.setErrorResult(new BulkheadFullException("qa-ask", retryAfterSeconds));
+                    return;
+                }
+                logger.error("질문 처리 중 오류 발생", cause);
+                response.setResult(ApiResponse.error("질문 처리 중 오류가 발생했습니다: " + cause.getMessage()));
+            }
+        });
+        return response;
+    }
+
+    /**
+     * 질문하기 API (스트리밍)
+     *
+     * 이벤트 순서:
+     * - analysis: 질문 분석 결과 (QuestionAnalysisDTO)
+     * - references: 근거 조항 (답변 생성 전에 전달)
+     * - token: 답변 조각 {"text": "..."} (LLM 원본, 후처리 전)
+     * - done: 후처리된 최종 답변, 신뢰도, 품질 점수 (답변 생성 모델 장애 시 근거 조항만 안내, "degraded": true)
+     * - error: 처리 실패 {"message": "..."} (한도 초과로 거절되면 "retryAfterSeconds" 포함)
+     *
+     * @param request 사용자 질문
+     * @return SSE 스트림
+     */
+    @Operation(summary = "질문하기 (스트리밍)",
+            description = "근거 조항을 먼저 보내고 답변을 생성되는 대로 Server-Sent Events로 전달합니다.")
+    @PostMapping(value = "/ask/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter askQuestionStream(@Valid @RequestBody QuestionRequest request) {
+        logger.info("스트리밍 질문 요청: {}", request.getQuestion());
+
+        SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+        AtomicBoolean closed = new AtomicBoolean(false);
+        AtomicReference<Future<?>> task = new AtomicReference<>();
+        AtomicBoolean cancelled = new AtomicBoolean(false);
+        List<Runnable> cancelActions = new CopyOnWriteArrayList<>();
+
+        // 클라이언트 연결 종료/시간 초과 시 진행 중인 작업 취소
+        // (모델 응답 스트림은 중단할 수 없으므로 남은 조각 전달만 멈춤)
+        Runnable cancel = () -> {
+            if (closed.compareAndSet(false, true)) {
+                cancelled.set(true);
+                Future<?> running = task.get();
+                if (running != null) {
+                    running.cancel(true);
+                }
+                cancelActions.forEach(Runnable::run);
+            }
+        };
+        emitter.onTimeout(() -> {
+            logger.warn("스트리밍 응답 시간 초과 ({}ms)", streamTimeoutMs);
+            cancel.run();
+            emitter.complete();
+        });
+        emitter.onCompletion(cancel);
+        emitter.onError(error -> cancel.run());
+
+        task.set(qaService.askQuestionStreaming(request.getQuestion(), new AnswerStreamHandler() {
+            @Override
+            public void onAnalysis(QueryAnalysisResult analysis) {
+                send("analysis", qaService.convertToAnalysisDTO(analysis));
+            }
+
+            @Override
+            public void onReferences(List<RegulationReference> references) {
+                send("references", qaService.convertToReferenceDTOs(references));
+            }
+
+            @Override
+            public void onToken(String token) {
+                send("token", Map.of("text", token));
+            }
+
+            @Override
+            public void onComplete(RegulationSearchResult result, double qualityScore,
+                                   List<String> referencedArticles) {
+                Map<String, Object> done = new LinkedHashMap<>();
+                done.put("answer", result.getAnswer());
+                done.put("confidenceScore", result.getConfidenceScore());
+                done.put("qualityScore", qualityScore);
+                done.put("referencedArticles", referencedArticles);
+                done.put("degraded", result.isDegraded());
+                done.put("success", true);
+                if (send("done", done)) {
+                    logger.info("스트리밍 질문 처리 완료");
+                    finish(null);
+                }
+            }
+
+            @Override
+            public void onError(Throwable error) {
+                if (error instanceof BulkheadFullException || error instanceof RejectedExecutionException) {
+                    // 한도 초과: 재시도 대기 시간을 함께 전달
+                    logger.warn("스트리밍 질문 거절: {}", error.getMessage());
+                    int retryAfter = error instanceof BulkheadFullException full
+                            ? full.getRetryAfterSeconds() : retryAfterSeconds;
+                    if (send("error", Map.of("message", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.",
+                            "retryAfterSeconds", retryAfter))) {
+                        finish(null);
+                    }
+                    return;
+                }
+                logger.error("스트리밍 질문 처리 중 오류 발생", error);
+                if (send("error", Map.of("message", "질문 처리 중 오류가 발생했습니다: " + error.getMessage()))) {
+                    finish(null);
+                }
+            }
+
+            @Override
+            public boolean isCancelled() {
+                return cancelled.get();
+            }
+
+            @Override
+            public void onCancel(Runnable action) {
+                cancelActions.add(action);
+                if (cancelled.get()) {
+                    // 등록 전에 이미 취소된 경우 (동작은 여러 번 실행되어도 안전해야 함)
+                    action.run();
+                }
+            }
+
+            // 토큰 콜백은 모델 응답 스레드에서 오므로 전송을 직렬화
+            private boolean send(String event, Object data) {
+                synchronized (emitter) {
+                    if (closed.get()) {
+                        return false;
+                    }
+                    try {
+                        emitter.send(SseEmitter.event().name(event).data(data, MediaType.APPLICATION_JSON));
+                        return true;
+                    } catch (IOException | IllegalStateException e) {
+                        logger.info("스트리밍 연결 종료됨: {}", e.getMessage());
+                        finish(e);
+                        return false;
+                    }
+                }
+            }
+
+            private void finish(Throwable error) {
+                if (error == null) {
+                    // 정상 완료: 작업은 이미 끝났으므로 취소하지 않음
+                    closed.set(true);
+                    emitter.complete();
+                } else {
+                    cancel.run();
+                    emitter.completeWithError(error);
+                }
+            }
+        }));
+
+        if (closed.get()) {
+            // 작업 등록 전에 연결이 끝난 경우
+            task.get().cancel(true);
         }
+        return emitter;
     }
 
     /**
@@ -10,6 +10,7 @@ public class QuestionAnswerDTO {
     private QuestionAnalysisDTO analysis;
     private List<QuestionReferenceDTO> references;
     private double confidenceScore;
+    private boolean degraded; // 답변 생성 모델 장애로 근거 조항만 안내한 응답
 
     public QuestionAnswerDTO() {
     }
@@ -53,4 +54,12 @@ public class QuestionAnswerDTO {
     public void setConfidenceScore(double confidenceScore) {
         this.confidenceScore = confidenceScore;
     }
+
+    public boolean isDegraded() {
+        return degraded;
+    }
+
+    public void setDegraded(boolean degraded) {
+        this.degraded = degraded;
+    }
 }
@@ -0,0 +1,27 @@
+package com.guideon.exception;
+
+/**
+ * 모델별 동시 호출 한도와 대기열이 모두 찬 상태에서 호출을 즉시 거절할 때 발생
+ * (API 응답은 503 + Retry-After)
+ */
+public class BulkheadFullException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String model;
+    private final int retryAfterSeconds;
+
+    public BulkheadFullException(String model, int retryAfterSeconds) {
+        super(model + " is at its concurrency limit, retry after " + retryAfterSeconds + "s");
+        this.model = model;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public String getModel() {
+        return model;
+    }
+
+    public int getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
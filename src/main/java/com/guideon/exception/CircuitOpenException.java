@@ -0,0 +1,26 @@
+package com.guideon.exception;
+
+/**
+ * 외부 모델의 차단기가 열려 있어(최근 실패/지연 비율 초과) 호출을 보내지 않고 즉시 거절할 때 발생
+ */
+public class CircuitOpenException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String model;
+    private final int retryAfterSeconds;
+
+    public CircuitOpenException(String model, int retryAfterSeconds) {
+        super(model + " circuit is open, retry after " + retryAfterSeconds + "s");
+        this.model = model;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public String getModel() {
+        return model;
+    }
+
+    public int getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,26 @@
+package com.guideon.exception;
+
+/**
+ * 외부 모델 호출(Gemini, Cohere 등)이 단계별 기한 내에 끝나지 않았을 때 발생
+ */
+public class ModelCallTimeoutException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String stage;
+    private final long timeoutMs;
+
+    public ModelCallTimeoutException(String stage, long timeoutMs) {
+        super(stage + " model call exceeded its " + timeoutMs + "ms deadline");
+        this.stage = stage;
+        this.timeoutMs = timeoutMs;
+    }
+
+    public String getStage() {
+        return stage;
+    }
+
+    public long getTimeoutMs() {
+        return timeoutMs;
+    }
+}
@@ -0,0 +1,35 @@
+package com.guideon.model;
+
+/**
+ * 질문에 명시된 조항 참조 ("취업규칙 제23조" 등)
+ * 조항 번호 직접 조회(fast path)에 사용
+ */
+public class ArticleReference {
+    private final String regulationType; // 질문에서 규정 유형을 찾지 못하면 null
+    private final String articleNumber;  // "제23조" 형식
+
+    public ArticleReference(String regulationType, String articleNumber) {
+        this.regulationType = regulationType;
+        this.articleNumber = articleNumber;
+    }
+
+    public String getRegulationType() {
+        return regulationType;
+    }
+
+    public String getArticleNumber() {
+        return articleNumber;
+    }
+
+    public boolean hasRegulationType() {
+        return regulationType != null;
+    }
+
+    @Override
+    public String toString() {
+        return "ArticleReference{" +
+                "regulationType='" + regulationType + '\'' +
+                ", articleNumber='" + articleNumber + '\'' +
+                '}';
+    }
+}
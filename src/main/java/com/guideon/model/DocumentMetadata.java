@@ -22,6 +22,7 @@ public class DocumentMetadata {
     public static final String DOCUMENT_ID = "document_id";
     public static final String FILENAME = "file_name";
     public static final String REGULATION_TYPE = "regulation_type";
+    public static final String ARTICLE_NUMBERS = "article_numbers"; // 세그먼트가 속한 조항 번호 (쉼표 구분)
 
     @Id
     @Column(length = 36, nullable = false, updatable = false)
@@ -12,6 +12,7 @@ public class HybridSearchResult {
     private final int bm25ResultCount;
     private final int fusedResultCount;
     private final long searchTimeMs;
+    private final List<String> missingLegs; // 기한 초과/실패로 결과에 반영되지 않은 검색 경로 ("VECTOR", "BM25")
 
     public HybridSearchResult(
             List<ScoredSegment> segments,
@@ -19,11 +20,22 @@ public class HybridSearchResult {
             int bm25ResultCount,
             int fusedResultCount,
             long searchTimeMs) {
+        this(segments, vectorResultCount, bm25ResultCount, fusedResultCount, searchTimeMs, List.of());
+    }
+
+    public HybridSearchResult(
+            List<ScoredSegment> segments,
+            int vectorResultCount,
+            int bm25ResultCount,
+            int fusedResultCount,
+            long searchTimeMs,
+            List<String> missingLegs) {
         this.segments = segments;
         this.vectorResultCount = vectorResultCount;
         this.bm25ResultCount = bm25ResultCount;
         this.fusedResultCount = fusedResultCount;
         this.searchTimeMs = searchTimeMs;
+        this.missingLegs = missingLegs;
     }
 
     public List<ScoredSegment> getSegments() {
@@ -46,6 +58,17 @@ public class HybridSearchResult {
         return searchTimeMs;
     }
 
+    public List<String> getMissingLegs() {
+        return missingLegs;
+    }
+
+    /**
+     * 일부 검색 경로만 반영된 부분 결과인지 여부
+     */
+    public boolean isPartial() {
+        return !missingLegs.isEmpty();
+    }
+
     @Override
     public String toString() {
         return "HybridSearchResult{" +
@@ -54,6 +77,7 @@ public class HybridSearchResult {
                 ", bm25ResultCount=" + bm25ResultCount +
                 ", fusedResultCount=" + fusedResultCount +
                 ", searchTimeMs=" + searchTimeMs +
+                ", missingLegs=" + missingLegs +
                 '}';
     }
 }
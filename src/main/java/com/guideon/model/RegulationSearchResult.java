@@ -10,6 +10,7 @@ public class RegulationSearchResult {
     private List<RegulationReference> references; // 근거 규정 목록
     private double confidenceScore;             // 신뢰도 점수 (0.0 ~ 1.0)
     private boolean foundRelevantRegulation;    // 관련 규정 발견 여부
+    private boolean degraded;                   // LLM 답변 없이 근거 조항만 안내한 응답 여부
 
     public RegulationSearchResult() {}
 
@@ -54,6 +55,14 @@ public class RegulationSearchResult {
         this.foundRelevantRegulation = foundRelevantRegulation;
     }
 
+    public boolean isDegraded() {
+        return degraded;
+    }
+
+    public void setDegraded(boolean degraded) {
+        this.degraded = degraded;
+    }
+
     @Override
     public String toString() {
         return "RegulationSearchResult{" +
@@ -61,6 +70,7 @@ public class RegulationSearchResult {
                 ", references=" + references +
                 ", confidenceScore=" + confidenceScore +
                 ", foundRelevantRegulation=" + foundRelevantRegulation +
+                ", degraded=" + degraded +
                 '}';
     }
 }
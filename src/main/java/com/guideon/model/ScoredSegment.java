@@ -10,7 +10,7 @@ public class ScoredSegment {
     private final String id;
     private final TextSegment segment;
     private final double score;
-    private final String source; // "VECTOR", "BM25", "HYBRID"
+    private final String source; // "VECTOR", "BM25", "HYBRID", "ARTICLE"
 
     public ScoredSegment(String id, TextSegment segment, double score, String source) {
         this.id = id;
@@ -0,0 +1,212 @@
+package com.guideon.rerank;
+
+import ai.djl.huggingface.tokenizers.Encoding;
+import ai.djl.huggingface.tokenizers.HuggingFaceTokenizer;
+import ai.djl.util.PairList;
+import ai.onnxruntime.OnnxTensor;
+import ai.onnxruntime.OrtEnvironment;
+import ai.onnxruntime.OrtException;
+import ai.onnxruntime.OrtSession;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.scoring.ScoringModel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 로컬 ONNX Cross-Encoder 기반 ScoringModel
+ * (질문, 후보) 쌍을 함께 인코딩하여 관련도를 계산합니다. 외부 API 호출이 없으므로
+ * 네트워크 지연/장애의 영향을 받지 않습니다.
+ *
+ * - 토크나이저: HuggingFace tokenizer.json (DJL)
+ * - 모델: 출력이 [batch, 1] (sigmoid) 또는 [batch, 2] (softmax의 관련 클래스)인 Cross-Encoder
+ *   (예: bge-reranker-v2-m3, mmarco-mMiniLMv2-L12-H384 ONNX 변환본)
+ * - 후보를 batchSize 단위로 나누어 CPU 코어 수 크기의 스레드 풀에서 병렬 추론
+ *   (배치 간 병렬화를 하므로 세션 내부 스레드는 1개로 제한)
+ */
+public class OnnxCrossEncoderScoringModel implements ScoringModel, AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(OnnxCrossEncoderScoringModel.class);
+
+    private static final String INPUT_IDS = "input_ids";
+    private static final String ATTENTION_MASK = "attention_mask";
+    private static final String TOKEN_TYPE_IDS = "token_type_ids";
+
+    private final OrtEnvironment environment;
+    private final OrtSession session;
+    private final HuggingFaceTokenizer tokenizer;
+    private final boolean usesTokenTypeIds;
+    private final int batchSize;
+    private final ExecutorService inferenceExecutor;
+
+    /**
+     * @param modelPath ONNX 모델 파일 경로
+     * @param tokenizerPath tokenizer.json 경로
+     * @param maxLength 최대 토큰 수 (초과 시 후보 텍스트를 자름)
+     * @param batchSize 한 번의 추론에 넣을 후보 수
+     * @param threads 추론 스레드 수 (0 이하이면 CPU 코어 수)
+     */
+    public OnnxCrossEncoderScoringModel(Path modelPath, Path tokenizerPath, int maxLength, int batchSize, int threads)
+            throws OrtException, IOException {
+
+        this.environment = OrtEnvironment.getEnvironment();
+
+        try (OrtSession.SessionOptions options = new OrtSession.SessionOptions()) {
+            options.setIntraOpNumThreads(1);
+            options.setInterOpNumThreads(1);
+            options.setOptimizationLevel(OrtSession.SessionOptions.OptLevel.ALL_OPT);
+            this.session = environment.createSession(modelPath.toString(), options);
+        }
+
+        this.tokenizer = HuggingFaceTokenizer.builder()
+                .optTokenizerPath(tokenizerPath)
+                .optMaxLength(maxLength)
+                .optTruncateSecondOnly()
+                .optPadding(false)
+                .build();
+
+        this.usesTokenTypeIds = session.getInputNames().contains(TOKEN_TYPE_IDS);
+        this.batchSize = Math.max(1, batchSize);
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.inferenceExecutor = Executors.newFixedThreadPool(poolSize, runnable -> {
+            Thread thread = new Thread(runnable, "onnx-rerank-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        logger.info("ONNX cross-encoder loaded: model={}, inputs={}, maxLength={}, batchSize={}, threads={}",
+                modelPath, session.getInputNames(), maxLength, this.batchSize, poolSize);
+    }
+
+    @Override
+    public Response<List<Double>> scoreAll(List<TextSegment> segments, String query) {
+        if (segments.isEmpty()) {
+            return Response.from(List.of());
+        }
+
+        try {
+            // 배치가 하나면 호출 스레드에서 바로 추론
+            if (segments.size() <= batchSize) {
+                return Response.from(toList(scoreBatch(query, segments)));
+            }
+
+            List<Future<double[]>> futures = new ArrayList<>();
+            for (int from = 0; from < segments.size(); from += batchSize) {
+                List<TextSegment> batch = segments.subList(from, Math.min(from + batchSize, segments.size()));
+                futures.add(inferenceExecutor.submit(() -> scoreBatch(query, batch)));
+            }
+
+            List<Double> scores = new ArrayList<>(segments.size());
+            for (Future<double[]> future : futures) {
+                for (double score : future.get()) {
+                    scores.add(score);
+                }
+            }
+            return Response.from(scores);
+
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("ONNX cross-encoder inference failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("ONNX cross-encoder inference interrupted", e);
+        } catch (OrtException e) {
+            throw new IllegalStateException("ONNX cross-encoder inference failed", e);
+        }
+    }
+
+    /**
+     * 한 배치 추론 (배치 내 최장 길이로 패딩)
+     */
+    private double[] scoreBatch(String query, List<TextSegment> batch) throws OrtException {
+        PairList<String, String> pairs = new PairList<>(batch.size());
+        for (TextSegment segment : batch) {
+            pairs.add(query, segment.text());
+        }
+        Encoding[] encodings = tokenizer.batchEncode(pairs);
+
+        int sequenceLength = 0;
+        for (Encoding encoding : encodings) {
+            sequenceLength = Math.max(sequenceLength, encoding.getIds().length);
+        }
+
+        long[][] inputIds = new long[encodings.length][sequenceLength];
+        long[][] attentionMask = new long[encodings.length][sequenceLength];
+        long[][] tokenTypeIds = usesTokenTypeIds ? new long[encodings.length][sequenceLength] : null;
+
+        for (int i = 0; i < encodings.length; i++) {
+            long[] ids = encodings[i].getIds();
+            System.arraycopy(ids, 0, inputIds[i], 0, ids.length);
+            System.arraycopy(encodings[i].getAttentionMask(), 0, attentionMask[i], 0, ids.length);
+            if (tokenTypeIds != null) {
+                System.arraycopy(encodings[i].getTypeIds(), 0, tokenTypeIds[i], 0, ids.length);
+            }
+        }
+
+        Map<String, OnnxTensor> inputs = new HashMap<>();
+        try {
+            inputs.put(INPUT_IDS, OnnxTensor.createTensor(environment, inputIds));
+            inputs.put(ATTENTION_MASK, OnnxTensor.createTensor(environment, attentionMask));
+            if (tokenTypeIds != null) {
+                inputs.put(TOKEN_TYPE_IDS, OnnxTensor.createTensor(environment, tokenTypeIds));
+            }
+
+            try (OrtSession.Result result = session.run(inputs)) {
+                Object output = result.get(0).getValue();
+                if (!(output instanceof float[][] logits)) {
+                    throw new IllegalStateException("Cross-encoder output must be [batch, 1] or [batch, 2] logits");
+                }
+                return toRelevanceScores(logits);
+            }
+        } finally {
+            for (OnnxTensor tensor : inputs.values()) {
+                tensor.close();
+            }
+        }
+    }
+
+    /**
+     * logits -> 0~1 관련도 (Cohere 점수와 같은 범위로 맞춰 reranking.min.score를 그대로 사용)
+     */
+    private static double[] toRelevanceScores(float[][] logits) {
+        double[] scores = new double[logits.length];
+        for (int i = 0; i < logits.length; i++) {
+            float[] row = logits[i];
+            if (row.length == 1) {
+                scores[i] = 1.0 / (1.0 + Math.exp(-row[0]));
+            } else if (row.length == 2) {
+                scores[i] = 1.0 / (1.0 + Math.exp(row[0] - row[1]));
+            } else {
+                throw new IllegalStateException("Unexpected cross-encoder output width: " + row.length);
+            }
+        }
+        return scores;
+    }
+
+    private static List<Double> toList(double[] values) {
+        List<Double> list = new ArrayList<>(values.length);
+        for (double value : values) {
+            list.add(value);
+        }
+        return list;
+    }
+
+    @Override
+    public void close() throws OrtException {
+        inferenceExecutor.shutdownNow();
+        tokenizer.close();
+        session.close();
+    }
+}
@@ -0,0 +1,83 @@
+package com.guideon.rerank;
+
+import com.guideon.config.ConfigLoader;
+import dev.langchain4j.model.cohere.CohereScoringModel;
+import dev.langchain4j.model.scoring.ScoringModel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Paths;
+
+/**
+ * ReRanking용 ScoringModel 생성
+ * reranking.model.name이 "onnx:"로 시작하면 로컬 ONNX Cross-Encoder, 그 외에는 Cohere 모델 이름으로 사용합니다.
+ */
+public class ScoringModelFactory {
+    private static final Logger logger = LoggerFactory.getLogger(ScoringModelFactory.class);
+
+    public static final String ONNX_PREFIX = "onnx:";
+
+    /**
+     * 로컬 모델 여부
+     */
+    public static boolean isLocalModel(String modelName) {
+        return modelName != null && modelName.startsWith(ONNX_PREFIX);
+    }
+
+    /**
+     * 설정된 ScoringModel 생성
+     *
+     * @return ScoringModel (설정/모델 파일이 없으면 null - ReRanking 비활성화)
+     */
+    public static ScoringModel create(ConfigLoader config) {
+        String modelName = config.getReRankingModelName();
+        return isLocalModel(modelName) ? createOnnx(config) : createCohere(config, modelName);
+    }
+
+    /**
+     * Cohere ScoringModel 생성
+     *
+     * @return CohereScoringModel (API 키가 없으면 null)
+     */
+    public static ScoringModel createCohere(ConfigLoader config, String modelName) {
+        String cohereApiKey = config.getCohereApiKey();
+        logger.info("Cohere API key configured: {}", cohereApiKey != null && !cohereApiKey.isEmpty() ? "YES" : "NO");
+
+        if (cohereApiKey == null || cohereApiKey.isEmpty()) {
+            logger.warn("ReRanking is enabled but Cohere API key is not configured. ReRanking will be disabled.");
+            return null;
+        }
+
+        logger.info("ReRanking enabled with Cohere model: {}", modelName);
+        return CohereScoringModel.builder()
+                .apiKey(cohereApiKey)
+                .modelName(modelName)
+                .build();
+    }
+
+    /**
+     * 로컬 ONNX Cross-Encoder 생성
+     *
+     * @return OnnxCrossEncoderScoringModel (모델/토크나이저 로드 실패 시 null)
+     */
+    public static OnnxCrossEncoderScoringModel createOnnx(ConfigLoader config) {
+        String modelPath = config.getReRankingOnnxModelPath();
+        String tokenizerPath = config.getReRankingOnnxTokenizerPath();
+
+        try {
+            OnnxCrossEncoderScoringModel model = new OnnxCrossEncoderScoringModel(
+                    Paths.get(modelPath),
+                    Paths.get(tokenizerPath),
+                    config.getReRankingOnnxMaxLength(),
+                    config.getReRankingOnnxBatchSize(),
+                    config.getReRankingOnnxThreads());
+            logger.info("ReRanking enabled with local ONNX cross-encoder: {}", config.getReRankingModelName());
+            return model;
+
+        } catch (Exception e) {
+            logger.error("Failed to load ONNX cross-encoder (model={}, tokenizer={}). ReRanking will be disabled.",
+                    modelPath, tokenizerPath, e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.guideon.resilience;
+
+import dev.langchain4j.model.StreamingResponseHandler;
+
+/**
+ * 호출한 쪽이 도중에 취소할 수 있는 스트리밍 응답 수신자
+ *
+ * langchain4j 스트리밍 모델은 시작한 응답을 중단할 수 없으므로, 취소되면 {@link GuardedModels}는 남은 조각을
+ * 전달하지 않고, 호출 자리(차단기/동시 호출 제한)는 공급자 응답이 실제로 끝날 때 반납합니다.
+ *
+ * @param <T> 응답 타입
+ */
+public interface CancellableStreamingResponseHandler<T> extends StreamingResponseHandler<T> {
+
+    /**
+     * 호출한 쪽이 더 이상 응답을 받지 않는지 여부
+     */
+    boolean isCancelled();
+
+    /**
+     * 취소될 때 실행할 동작 등록 (이미 취소되었으면 바로 실행)
+     */
+    void onCancel(Runnable action);
+}
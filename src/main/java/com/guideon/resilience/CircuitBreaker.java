@@ -0,0 +1,319 @@
+package com.guideon.resilience;
+
+import com.guideon.config.ConfigLoader;
+import com.guideon.exception.BulkheadFullException;
+import com.guideon.exception.CircuitOpenException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 외부 모델별 차단기 (circuit breaker)
+ *
+ * - CLOSED: 최근 windowSize개 호출 결과를 기록하고, minimumCalls개 이상에서 실패 비율이 임계값을 넘으면 OPEN
+ * - OPEN: openMs 동안 공급자에 요청을 보내지 않고 CircuitOpenException으로 즉시 거절
+ *   (호출하는 쪽은 LLM 답변 대신 근거 조항만, Vector 대신 BM25만 사용하는 등 대체 경로로 전환)
+ * - HALF_OPEN: openMs가 지나면 시험 호출 하나만 보내서 성공하면 CLOSED, 실패하면 다시 OPEN
+ *
+ * 실패로 보는 호출: 예외로 끝난 호출, slowCallMs 이상 걸린 호출 (응답이 와도 공급자 장애로 간주, 동시 호출 제한 대기열에서 기다린 시간 제외).
+ * 동시 호출 제한 거절(BulkheadFullException)은 공급자 상태와 무관하므로 세지 않고,
+ * 호출한 쪽의 취소(헤지 패배 등 인터럽트, 스트리밍 수신자 취소)는 slowCallMs를 넘긴 경우에만 실패로 세고,
+ * 단계 기한 초과({@link ModelCallPolicy})로 취소된 호출은 실패로 셉니다.
+ */
+public class CircuitBreaker implements ModelCallGuard {
+    private static final Logger logger = LoggerFactory.getLogger(CircuitBreaker.class);
+
+    /**
+     * 차단기 상태
+     */
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    // 모델 이름 -> 차단기 (같은 모델을 쓰는 서비스끼리 공유, 관리자 API 통계 조회용)
+    private static final Map<String, CircuitBreaker> BREAKERS = new ConcurrentHashMap<>();
+
+    private final String model;
+    private final boolean enabled;
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long slowCallMs;
+    private final long openMs;
+    private final LongSupplier clockMs;
+
+    // 최근 호출 결과 (원형 버퍼, true = 실패) - this 잠금
+    private final boolean[] window;
+    private int windowCount;
+    private int windowNext;
+    private int windowFailures;
+
+    private State state = State.CLOSED;     // guarded by this
+    private long openedAtMs;                // guarded by this
+    private boolean probeInFlight;          // guarded by this
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder slowCalls = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder opened = new LongAdder();
+
+    /**
+     * @param model 모델 이름
+     * @param enabled false이면 결과만 집계하고 거절하지 않음
+     * @param windowSize 실패 비율 계산에 쓰는 최근 호출 수
+     * @param minimumCalls 실패 비율을 판단하기 위한 최소 호출 수
+     * @param failureRateThreshold 차단기를 여는 실패 비율 (0.0 ~ 1.0)
+     * @param slowCallMs 이 시간 이상 걸린 호출은 실패로 간주 (0 이하이면 지연은 보지 않음)
+     * @param openMs 차단기를 연 뒤 시험 호출까지 대기 시간
+     */
+    public CircuitBreaker(String model, boolean enabled, int windowSize, int minimumCalls,
+                          double failureRateThreshold, long slowCallMs, long openMs) {
+        this(model, enabled, windowSize, minimumCalls, failureRateThreshold, slowCallMs, openMs,
+                System::currentTimeMillis);
+    }
+
+    CircuitBreaker(String model, boolean enabled, int windowSize, int minimumCalls,
+                   double failureRateThreshold, long slowCallMs, long openMs, LongSupplier clockMs) {
+        this.model = model;
+        this.enabled = enabled;
+        this.windowSize = Math.max(1, windowSize);
+        this.minimumCalls = Math.max(1, Math.min(minimumCalls, this.windowSize));
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallMs = slowCallMs;
+        this.openMs = openMs;
+        this.clockMs = clockMs;
+        this.window = new boolean[this.windowSize];
+
+        logger.info("Circuit breaker '{}': enabled={}, window={}, minimumCalls={}, failureRate>={}, slowCall>={}ms, open={}ms",
+                model, enabled, this.windowSize, this.minimumCalls, failureRateThreshold, slowCallMs, openMs);
+    }
+
+    /**
+     * 설정 기반 모델별 공유 차단기 (최초 호출 시 생성)
+     */
+    public static CircuitBreaker forModel(String model, ConfigLoader config) {
+        return BREAKERS.computeIfAbsent(model, name -> new CircuitBreaker(
+                name,
+                config.isModelCircuitEnabled(),
+                config.getModelCircuitWindowSize(),
+                config.getModelCircuitMinimumCalls(),
+                config.getModelCircuitFailureRateThreshold(),
+                config.getModelCircuitSlowCallMs(name),
+                config.getModelCircuitOpenMs()));
+    }
+
+    /**
+     * 차단기가 열려 있어 호출이 즉시 거절되는 상태인지 확인
+     * (대기 시간이 지나 시험 호출을 보낼 수 있으면 false - 대체 경로 대신 실제 호출로 회복 여부 확인)
+     */
+    public synchronized boolean isOpen() {
+        if (!enabled) {
+            return false;
+        }
+        return (state == State.OPEN && clockMs.getAsLong() - openedAtMs < openMs)
+                || (state == State.HALF_OPEN && probeInFlight);
+    }
+
+    @Override
+    public ModelCallGuard.Ticket enter() {
+        boolean probe;
+        synchronized (this) {
+            if (enabled && state == State.OPEN && clockMs.getAsLong() - openedAtMs >= openMs) {
+                state = State.HALF_OPEN;
+                probeInFlight = false;
+                logger.info("{} circuit half-open, sending a probe call", model);
+            }
+
+            if (enabled && (state == State.OPEN || (state == State.HALF_OPEN && probeInFlight))) {
+                rejected.increment();
+                throw new CircuitOpenException(model, retryAfterSeconds());
+            }
+
+            probe = state == State.HALF_OPEN;
+            if (probe) {
+                probeInFlight = true;
+            }
+        }
+
+        calls.increment();
+        return new CallTicket(probe, System.nanoTime());
+    }
+
+    /**
+     * 호출 하나의 결과 기록 (여러 번 통지해도 처음 한 번만 반영)
+     */
+    private final class CallTicket implements ModelCallGuard.Ticket {
+        private final boolean probe;
+        private volatile long startNanos;
+        private final AtomicBoolean done = new AtomicBoolean(false);
+
+        private CallTicket(boolean probe, long startNanos) {
+            this.probe = probe;
+            this.startNanos = startNanos;
+        }
+
+        @Override
+        public void started() {
+            // 안쪽 보호 장치(동시 호출 제한 대기열)에서 기다린 시간은 느린 호출 판단에서 제외
+            startNanos = System.nanoTime();
+        }
+
+        @Override
+        public void success() {
+            if (done.compareAndSet(false, true)) {
+                boolean slow = isSlow();
+                if (slow) {
+                    slowCalls.increment();
+                }
+                record(probe, slow);
+            }
+        }
+
+        @Override
+        public void failure(Throwable error) {
+            if (!done.compareAndSet(false, true)) {
+                return;
+            }
+
+            // 공급자와 무관한 거절, 호출한 쪽의 빠른 취소는 기록하지 않음 (시험 호출 자리만 반납)
+            // 단계 기한 초과로 인한 인터럽트는 응답이 없는 공급자 장애이므로 실패로 기록
+            boolean cancelled = !ModelCallPolicy.isDeadlineExpired()
+                    && (Thread.currentThread().isInterrupted() || error instanceof InterruptedException
+                    || error.getCause() instanceof InterruptedException || error instanceof CancellationException);
+            if (error instanceof BulkheadFullException || error instanceof CircuitOpenException
+                    || (cancelled && !isSlow())) {
+                releaseProbe(probe);
+                return;
+            }
+
+            failures.increment();
+            record(probe, true);
+        }
+
+        private boolean isSlow() {
+            return slowCallMs > 0
+                    && TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos) >= slowCallMs;
+        }
+    }
+
+    private synchronized void releaseProbe(boolean probe) {
+        if (probe && state == State.HALF_OPEN) {
+            probeInFlight = false;
+        }
+    }
+
+    private synchronized void record(boolean probe, boolean failed) {
+        if (probe) {
+            if (state != State.HALF_OPEN) {
+                return;
+            }
+            probeInFlight = false;
+            if (failed) {
+                open("probe call failed");
+            } else {
+                state = State.CLOSED;
+                resetWindow();
+                logger.info("{} circuit closed: probe call succeeded", model);
+            }
+            return;
+        }
+
+        // 차단기가 열리기 전에 시작된 호출의 결과는 새 상태에 반영하지 않음
+        if (state != State.CLOSED) {
+            return;
+        }
+
+        if (windowCount == windowSize && window[windowNext]) {
+            windowFailures--;
+        }
+        window[windowNext] = failed;
+        if (failed) {
+            windowFailures++;
+        }
+        windowNext = (windowNext + 1) % windowSize;
+        windowCount = Math.min(windowCount + 1, windowSize);
+
+        if (windowCount >= minimumCalls && (double) windowFailures / windowCount >= failureRateThreshold) {
+            open(String.format("failure rate %.2f over last %d calls", (double) windowFailures / windowCount, windowCount));
+        }
+    }
+
+    // this 잠금 상태에서 호출
+    private void open(String reason) {
+        boolean wasOpen = state != State.CLOSED;
+        state = State.OPEN;
+        openedAtMs = clockMs.getAsLong();
+        probeInFlight = false;
+        resetWindow();
+        opened.increment();
+        if (enabled) {
+            logger.warn("{} circuit {}: {} (calls rejected for {}ms)", model, wasOpen ? "re-opened" : "opened", reason, openMs);
+        } else {
+            logger.warn("{} circuit would open: {} (disabled, calls still allowed)", model, reason);
+            state = State.CLOSED;
+        }
+    }
+
+    // this 잠금 상태에서 호출
+    private void resetWindow() {
+        windowCount = 0;
+        windowNext = 0;
+        windowFailures = 0;
+    }
+
+    // this 잠금 상태에서 호출
+    private int retryAfterSeconds() {
+        long remainingMs = state == State.OPEN ? openMs - (clockMs.getAsLong() - openedAtMs) : 0;
+        return (int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(remainingMs + 999));
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public String getModel() {
+        return model;
+    }
+
+    /**
+     * 차단기 통계 (상태, 최근 실패 비율, 호출/실패/지연/거절/열림 횟수)
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        synchronized (this) {
+            stats.put("state", state.name());
+            stats.put("recentCalls", windowCount);
+            stats.put("recentFailureRate", windowCount > 0 ? (double) windowFailures / windowCount : 0.0);
+            if (state == State.OPEN) {
+                stats.put("retryAfterSeconds", retryAfterSeconds());
+            }
+        }
+        stats.put("failureRateThreshold", failureRateThreshold);
+        stats.put("slowCallMs", slowCallMs);
+        stats.put("calls", calls.sum());
+        stats.put("failures", failures.sum());
+        stats.put("slowCalls", slowCalls.sum());
+        stats.put("rejected", rejected.sum());
+        stats.put("opened", opened.sum());
+        return stats;
+    }
+
+    /**
+     * 모든 모델의 차단기 통계 (모델 이름 -> 통계)
+     */
+    public static Map<String, Object> getAllStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        BREAKERS.keySet().stream().sorted().forEach(model -> stats.put(model, BREAKERS.get(model).getStats()));
+        return stats;
+    }
+}
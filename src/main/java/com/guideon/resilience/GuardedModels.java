@@ -0,0 +1,132 @@
+package com.guideon.resilience;
+
+import com.guideon.config.ConfigLoader;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.StreamingResponseHandler;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.chat.StreamingChatLanguageModel;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.scoring.ScoringModel;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * langchain4j 모델을 보호 장치({@link ModelCallGuard})로 감싸는 유틸리티
+ *
+ * 모델별 기본 보호 장치는 차단기(CircuitBreaker) 다음 동시 호출 제한(ModelBulkhead) 순서입니다.
+ * 차단기가 열려 있으면 호출 자리를 차지하지 않고 바로 거절합니다.
+ */
+public final class GuardedModels {
+
+    private GuardedModels() {
+    }
+
+    /**
+     * 설정 기반 모델별 기본 보호 장치 (같은 모델 이름끼리 차단기/호출 자리 공유)
+     *
+     * @param model 모델 이름 (예: "gemini-chat", "gemini-embedding", "rerank")
+     */
+    public static ModelCallGuard forModel(String model, ConfigLoader config) {
+        return ModelCallGuard.chain(CircuitBreaker.forModel(model, config), ModelBulkhead.forModel(model, config));
+    }
+
+    /**
+     * 보호 장치 안에서 동기 호출 실행
+     */
+    public static <T> T call(ModelCallGuard guard, Supplier<T> call) {
+        ModelCallGuard.Ticket ticket = guard.enter();
+        T result;
+        try {
+            result = call.get();
+        } catch (RuntimeException | Error e) {
+            ticket.failure(e);
+            throw e;
+        }
+        ticket.success();
+        return result;
+    }
+
+    public static ChatLanguageModel wrapChat(ChatLanguageModel delegate, ModelCallGuard guard) {
+        return new ChatLanguageModel() {
+            @Override
+            public Response<AiMessage> generate(List<ChatMessage> messages) {
+                return call(guard, () -> delegate.generate(messages));
+            }
+        };
+    }
+
+    /**
+     * 스트리밍 응답이 끝날 때(완료/오류) 결과를 통지하는 Streaming Chat Model
+     * 수신자가 {@link CancellableStreamingResponseHandler}이면 취소된 뒤의 조각/완료/오류는 전달하지 않습니다.
+     * 공급자는 취소 후에도 응답을 계속 생성하므로 호출 자리는 공급자 응답이 끝날 때 반납합니다.
+     */
+    public static StreamingChatLanguageModel wrapStreamingChat(StreamingChatLanguageModel delegate, ModelCallGuard guard) {
+        return new StreamingChatLanguageModel() {
+            @Override
+            public void generate(List<ChatMessage> messages, StreamingResponseHandler<AiMessage> handler) {
+                ModelCallGuard.Ticket ticket = guard.enter();
+                try {
+                    delegate.generate(messages, new StreamingResponseHandler<AiMessage>() {
+                        @Override
+                        public void onNext(String token) {
+                            if (!isCancelled(handler)) {
+                                handler.onNext(token);
+                            }
+                        }
+
+                        @Override
+                        public void onComplete(Response<AiMessage> response) {
+                            ticket.success();
+                            if (!isCancelled(handler)) {
+                                handler.onComplete(response);
+                            }
+                        }
+
+                        @Override
+                        public void onError(Throwable error) {
+                            ticket.failure(error);
+                            if (!isCancelled(handler)) {
+                                handler.onError(error);
+                            }
+                        }
+                    });
+                } catch (RuntimeException e) {
+                    ticket.failure(e);
+                    throw e;
+                }
+            }
+        };
+    }
+
+    private static boolean isCancelled(StreamingResponseHandler<?> handler) {
+        return handler instanceof CancellableStreamingResponseHandler<?> cancellable && cancellable.isCancelled();
+    }
+
+    public static EmbeddingModel wrapEmbedding(EmbeddingModel delegate, ModelCallGuard guard) {
+        return new EmbeddingModel() {
+            @Override
+            public Response<List<Embedding>> embedAll(List<TextSegment> segments) {
+                return call(guard, () -> delegate.embedAll(segments));
+            }
+
+            @Override
+            public int dimension() {
+                return delegate.dimension();
+            }
+        };
+    }
+
+    public static ScoringModel wrapScoring(ScoringModel delegate, ModelCallGuard guard) {
+        return new ScoringModel() {
+            @Override
+            public Response<List<Double>> scoreAll(List<TextSegment> segments, String query) {
+                return call(guard, () -> delegate.scoreAll(segments, query));
+            }
+        };
+    }
+}
@@ -0,0 +1,361 @@
+package com.guideon.resilience;
+
+import com.guideon.config.ConfigLoader;
+import com.guideon.exception.BulkheadFullException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 외부 모델별 동시 호출 제한 (bulkhead)
+ *
+ * - 모델마다 동시 호출 수를 maxConcurrent로 제한하고, 넘치는 호출은 우선순위 대기열에서 최대 maxWaitMs 기다립니다.
+ * - 대기열이 가득 찼거나 대기 시간을 넘기면 공급자에 요청을 보내지 않고 BulkheadFullException으로 즉시 거절합니다.
+ *   (트래픽이 몰릴 때 공급자 429 오류와 느린 오류 응답 대신 빠른 503 + Retry-After)
+ * - 우선순위: 호출 자리가 나면 대화형(INTERACTIVE) 대기열을 먼저 처리하고,
+ *   일괄 작업(BATCH, 문서 색인 등)은 전체 자리의 일부(batchMaxShare)까지만 사용하여 대화형 요청의 자리를 남겨 둡니다.
+ *
+ * 호출의 우선순위는 스레드별 레인({@link #runAsBatch}, {@link #callAsBatch})으로 정하며 기본값은 INTERACTIVE입니다.
+ * 다른 스레드에서 모델을 호출할 때는 {@link #inCurrentLane}으로 감싸 호출한 스레드의 레인을 이어 받습니다.
+ */
+public class ModelBulkhead implements ModelCallGuard {
+    private static final Logger logger = LoggerFactory.getLogger(ModelBulkhead.class);
+
+    /**
+     * 호출 우선순위 레인
+     */
+    public enum Lane {
+        INTERACTIVE, BATCH
+    }
+
+    private static final ThreadLocal<Lane> CURRENT_LANE = ThreadLocal.withInitial(() -> Lane.INTERACTIVE);
+
+    // 모델 이름 -> bulkhead (같은 모델을 쓰는 서비스끼리 공유, 관리자 API 통계 조회용)
+    private static final Map<String, ModelBulkhead> BULKHEADS = new ConcurrentHashMap<>();
+
+    private final String model;
+    private final int maxConcurrent;
+    private final int batchMaxConcurrent;
+    private final int queueCapacity;
+    private final long maxWaitMs;
+    private final int retryAfterSeconds;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<Lane, ArrayDeque<Waiter>> queues = new EnumMap<>(Lane.class);
+    private int inUse;          // guarded by lock
+    private int batchInUse;     // guarded by lock
+
+    private final Map<Lane, LaneCounters> counters = new EnumMap<>(Lane.class);
+
+    private static final class Waiter {
+        private final Lane lane;
+        private final Condition granted;
+        private boolean acquired;   // guarded by lock
+
+        private Waiter(Lane lane, Condition granted) {
+            this.lane = lane;
+            this.granted = granted;
+        }
+    }
+
+    private static final class LaneCounters {
+        private final LongAdder acquired = new LongAdder();
+        private final LongAdder queued = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder timedOut = new LongAdder();
+    }
+
+    /**
+     * 획득한 호출 자리 (여러 번 release 해도 한 번만 반납, 호출 결과와 무관하게 반납)
+     */
+    public final class Permit implements ModelCallGuard.Ticket {
+        private final Lane lane;
+        private final AtomicBoolean released = new AtomicBoolean(false);
+
+        private Permit(Lane lane) {
+            this.lane = lane;
+        }
+
+        public void release() {
+            if (released.compareAndSet(false, true)) {
+                ModelBulkhead.this.release(lane);
+            }
+        }
+
+        @Override
+        public void success() {
+            release();
+        }
+
+        @Override
+        public void failure(Throwable error) {
+            release();
+        }
+    }
+
+    /**
+     * @param model 모델 이름 (예: "gemini-chat", "gemini-embedding", "rerank")
+     * @param maxConcurrent 최대 동시 호출 수 (0 이하이면 제한 없음)
+     * @param queueCapacity 레인별 대기열 크기 (0이면 자리가 없을 때 바로 거절)
+     * @param maxWaitMs 대기열 최대 대기 시간
+     * @param batchMaxShare BATCH 레인이 사용할 수 있는 최대 자리 비율 (최소 1자리)
+     * @param retryAfterSeconds 거절 시 클라이언트에 알려줄 재시도 대기 시간
+     */
+    public ModelBulkhead(String model, int maxConcurrent, int queueCapacity, long maxWaitMs,
+                         double batchMaxShare, int retryAfterSeconds) {
+        this.model = model;
+        this.maxConcurrent = maxConcurrent;
+        this.batchMaxConcurrent = Math.max(1, (int) Math.floor(maxConcurrent * batchMaxShare));
+        this.queueCapacity = Math.max(0, queueCapacity);
+        this.maxWaitMs = maxWaitMs;
+        this.retryAfterSeconds = retryAfterSeconds;
+
+        for (Lane lane : Lane.values()) {
+            queues.put(lane, new ArrayDeque<>());
+            counters.put(lane, new LaneCounters());
+        }
+
+        logger.info("Model bulkhead '{}': maxConcurrent={} (batch {}), queueCapacity={}, maxWait={}ms",
+                model, maxConcurrent, batchMaxConcurrent, queueCapacity, maxWaitMs);
+    }
+
+    /**
+     * 설정 기반 모델별 공유 bulkhead (최초 호출 시 생성)
+     */
+    public static ModelBulkhead forModel(String model, ConfigLoader config) {
+        return BULKHEADS.computeIfAbsent(model, name -> new ModelBulkhead(
+                name,
+                config.isModelBulkheadEnabled() ? config.getModelBulkheadMaxConcurrent(name) : 0,
+                config.getModelBulkheadQueueCapacity(),
+                config.getModelBulkheadMaxWaitMs(),
+                config.getModelBulkheadBatchMaxShare(),
+                config.getModelBulkheadRetryAfterSeconds()));
+    }
+
+    // ===== 우선순위 레인 =====
+
+    /**
+     * 현재 스레드의 레인
+     */
+    public static Lane currentLane() {
+        return CURRENT_LANE.get();
+    }
+
+    /**
+     * 작업 안의 모델 호출을 BATCH 레인으로 실행 (문서 색인 등 사용자가 기다리지 않는 작업)
+     */
+    public static void runAsBatch(Runnable task) {
+        callAsBatch(() -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * 작업 안의 모델 호출을 BATCH 레인으로 실행하고 결과 반환
+     */
+    public static <T> T callAsBatch(Supplier<T> task) {
+        Lane previous = CURRENT_LANE.get();
+        CURRENT_LANE.set(Lane.BATCH);
+        try {
+            return task.get();
+        } finally {
+            CURRENT_LANE.set(previous);
+        }
+    }
+
+    /**
+     * 호출한 스레드의 레인을 다른 스레드(Executor)에서도 유지하도록 작업을 감쌈
+     */
+    public static <T> Callable<T> inCurrentLane(Callable<T> task) {
+        Lane lane = CURRENT_LANE.get();
+        if (lane == Lane.INTERACTIVE) {
+            return task;
+        }
+        return () -> {
+            Lane previous = CURRENT_LANE.get();
+            CURRENT_LANE.set(lane);
+            try {
+                return task.call();
+            } finally {
+                CURRENT_LANE.set(previous);
+            }
+        };
+    }
+
+    // ===== 호출 자리 획득/반납 =====
+
+    /**
+     * 현재 스레드의 레인으로 호출 자리 획득 (자리가 없으면 대기열에서 기다림)
+     *
+     * @return 호출이 끝나면 반납할 자리
+     * @throws BulkheadFullException 대기열이 가득 찼거나 최대 대기 시간 초과
+     */
+    public Permit acquire() {
+        Lane lane = CURRENT_LANE.get();
+        LaneCounters laneCounters = counters.get(lane);
+        Permit permit = new Permit(lane);
+
+        if (maxConcurrent <= 0) {
+            laneCounters.acquired.increment();
+            return permit;
+        }
+
+        lock.lock();
+        try {
+            if (canStart(lane)) {
+                take(lane);
+                laneCounters.acquired.increment();
+                return permit;
+            }
+
+            ArrayDeque<Waiter> queue = queues.get(lane);
+            if (queue.size() >= queueCapacity) {
+                laneCounters.rejected.increment();
+                logger.warn("{} bulkhead full ({} in use, {} {} waiting), rejecting call",
+                        model, inUse, queue.size(), lane);
+                throw new BulkheadFullException(model, retryAfterSeconds);
+            }
+
+            Waiter waiter = new Waiter(lane, lock.newCondition());
+            queue.addLast(waiter);
+            laneCounters.queued.increment();
+
+            long remainingNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+            try {
+                while (!waiter.acquired) {
+                    if (remainingNanos <= 0) {
+                        queue.remove(waiter);
+                        laneCounters.timedOut.increment();
+                        logger.warn("{} bulkhead wait exceeded {}ms ({} lane), rejecting call", model, maxWaitMs, lane);
+                        throw new BulkheadFullException(model, retryAfterSeconds);
+                    }
+                    remainingNanos = waiter.granted.awaitNanos(remainingNanos);
+                }
+            } catch (InterruptedException e) {
+                if (waiter.acquired) {
+                    // 자리를 넘겨받은 직후 인터럽트 -> 다음 대기자에게 반납
+                    release(lane);
+                } else {
+                    queue.remove(waiter);
+                }
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(model + " bulkhead wait interrupted", e);
+            }
+
+            laneCounters.acquired.increment();
+            return permit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Permit enter() {
+        return acquire();
+    }
+
+    // lock 상태에서 호출: 앞선 대기자가 없고 자리가 있으면 바로 시작
+    private boolean canStart(Lane lane) {
+        if (inUse >= maxConcurrent || !queues.get(Lane.INTERACTIVE).isEmpty()) {
+            return false;
+        }
+        return lane == Lane.INTERACTIVE
+                || (queues.get(Lane.BATCH).isEmpty() && batchInUse < batchMaxConcurrent);
+    }
+
+    // lock 상태에서 호출
+    private void take(Lane lane) {
+        inUse++;
+        if (lane == Lane.BATCH) {
+            batchInUse++;
+        }
+    }
+
+    private void release(Lane lane) {
+        if (maxConcurrent <= 0) {
+            return;
+        }
+
+        lock.lock();
+        try {
+            inUse--;
+            if (lane == Lane.BATCH) {
+                batchInUse--;
+            }
+
+            // 빈 자리를 대화형 대기자부터 넘겨줌
+            while (inUse < maxConcurrent) {
+                Waiter next = queues.get(Lane.INTERACTIVE).pollFirst();
+                if (next == null && batchInUse < batchMaxConcurrent) {
+                    next = queues.get(Lane.BATCH).pollFirst();
+                }
+                if (next == null) {
+                    break;
+                }
+                take(next.lane);
+                next.acquired = true;
+                next.granted.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // ===== 통계 =====
+
+    /**
+     * 모델별 통계 (사용 중인 자리, 레인별 대기/획득/거절/대기 시간 초과 수)
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("maxConcurrent", maxConcurrent);
+        stats.put("batchMaxConcurrent", batchMaxConcurrent);
+        stats.put("queueCapacity", queueCapacity);
+        stats.put("maxWaitMs", maxWaitMs);
+
+        lock.lock();
+        try {
+            stats.put("inUse", inUse);
+            stats.put("batchInUse", batchInUse);
+            for (Lane lane : Lane.values()) {
+                LaneCounters laneCounters = counters.get(lane);
+                Map<String, Object> laneStats = new LinkedHashMap<>();
+                laneStats.put("waiting", queues.get(lane).size());
+                laneStats.put("acquired", laneCounters.acquired.sum());
+                laneStats.put("queued", laneCounters.queued.sum());
+                laneStats.put("rejected", laneCounters.rejected.sum());
+                laneStats.put("timedOut", laneCounters.timedOut.sum());
+                stats.put(lane.name().toLowerCase(), laneStats);
+            }
+        } finally {
+            lock.unlock();
+        }
+        return stats;
+    }
+
+    /**
+     * 모든 모델의 통계 (모델 이름 -> 통계)
+     */
+    public static Map<String, Object> getAllStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        BULKHEADS.keySet().stream().sorted().forEach(model -> stats.put(model, BULKHEADS.get(model).getStats()));
+        return stats;
+    }
+
+    public String getModel() {
+        return model;
+    }
+}
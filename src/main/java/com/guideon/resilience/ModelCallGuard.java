@@ -0,0 +1,69 @@
+package com.guideon.resilience;
+
+/**
+ * 외부 모델 호출 전후에 끼어드는 보호 장치 (동시 호출 제한, 차단기 등)
+ *
+ * 호출 전에 {@link #enter()}로 진입 허가를 받고, 호출이 끝나면 받은 {@link Ticket}에 결과를 알립니다.
+ * 스트리밍 호출은 응답이 끝날 때(완료/오류) 결과를 알립니다.
+ */
+public interface ModelCallGuard {
+
+    /**
+     * 호출 진입 (허용되지 않으면 예외로 즉시 거절)
+     *
+     * @return 호출이 끝나면 결과를 알릴 티켓 (success/failure 중 한 번만 호출)
+     */
+    Ticket enter();
+
+    /**
+     * 진입한 호출 하나의 결과 통지
+     */
+    interface Ticket {
+        void success();
+
+        void failure(Throwable error);
+
+        /**
+         * 안쪽 보호 장치까지 모두 통과해 실제 호출이 시작된 시점 통지 (대기열 대기 시간을 호출 시간에서 제외)
+         */
+        default void started() {
+        }
+    }
+
+    /**
+     * 두 보호 장치를 순서대로 적용 (outer 진입 후 inner 진입, inner에서 거절되면 outer에 실패로 통지)
+     * inner 진입을 기다린 시간은 outer의 호출 시간에 넣지 않습니다.
+     */
+    static ModelCallGuard chain(ModelCallGuard outer, ModelCallGuard inner) {
+        return () -> {
+            Ticket outerTicket = outer.enter();
+            Ticket innerTicket;
+            try {
+                innerTicket = inner.enter();
+            } catch (RuntimeException e) {
+                outerTicket.failure(e);
+                throw e;
+            }
+            outerTicket.started();
+            return new Ticket() {
+                @Override
+                public void success() {
+                    innerTicket.success();
+                    outerTicket.success();
+                }
+
+                @Override
+                public void failure(Throwable error) {
+                    innerTicket.failure(error);
+                    outerTicket.failure(error);
+                }
+
+                @Override
+                public void started() {
+                    innerTicket.started();
+                    outerTicket.started();
+                }
+            };
+        };
+    }
+}
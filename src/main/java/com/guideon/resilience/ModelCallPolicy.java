@@ -0,0 +1,296 @@
+package com.guideon.resilience;
+
+import com.guideon.config.ConfigLoader;
+import com.guideon.exception.ModelCallTimeoutException;
+import com.guideon.util.IoExecutors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 외부 모델 호출 정책 (단계별 기한 + 선택적 헤지 요청)
+ *
+ * - 기한: 호출 시작부터 timeoutMs 안에 응답이 없으면 진행 중인 요청을 취소하고 ModelCallTimeoutException
+ * - 헤지: 최근 성공 지연 시간의 p95가 지나도 응답이 없으면 같은 요청을 한 번 더 보내고,
+ *   먼저 끝난 응답을 사용한 뒤 나머지는 취소합니다 (조회성 호출에만 사용)
+ * - 단계별 호출/기한 초과/실패/헤지 횟수를 집계하여 꼬리 지연의 출처를 확인할 수 있습니다.
+ *
+ * 취소는 스레드 인터럽트로 전달되므로, 인터럽트에 반응하지 않는 HTTP 클라이언트는
+ * 응답이 올 때까지 스레드를 점유하지만 결과는 버려집니다.
+ * 기한 초과로 취소된 요청은 {@link #isDeadlineExpired()}로 구분하여 차단기가 공급자 실패로 기록합니다
+ * (헤지에 진 요청의 취소는 기록하지 않음).
+ */
+public class ModelCallPolicy {
+    private static final Logger logger = LoggerFactory.getLogger(ModelCallPolicy.class);
+
+    private static final int LATENCY_WINDOW = 128;
+    private static final int MIN_SAMPLES_FOR_HEDGE = 20;
+
+    // 단계 이름 -> 정책 (관리자 API 통계 조회용)
+    private static final Map<String, ModelCallPolicy> POLICIES = new ConcurrentHashMap<>();
+
+    // 요청을 실행 중인 스레드 -> 그 요청이 속한 호출의 기한 초과 여부
+    private static final ThreadLocal<AtomicBoolean> CURRENT_DEADLINE = new ThreadLocal<>();
+
+    // 모든 단계가 공유하는 모델 호출 전용 Executor
+    private static ExecutorService sharedExecutor;
+
+    private final String stage;
+    private final long timeoutMs;
+    private final boolean hedgeEnabled;
+    private final long minHedgeDelayMs;
+    private final ExecutorService executor;
+
+    // 최근 성공 호출 지연 시간 (원형 버퍼)
+    private final long[] latencyWindowMs = new long[LATENCY_WINDOW];
+    private int latencyCount;
+    private int latencyNext;
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder hedges = new LongAdder();
+    private final LongAdder hedgeWins = new LongAdder();
+
+    /**
+     * @param stage 단계 이름 (예: "query-analysis", "rerank", "answer")
+     * @param timeoutMs 단계 기한 (0 이하이면 기한 없이 호출 스레드에서 바로 실행)
+     * @param hedgeEnabled 헤지 요청 사용 여부
+     * @param minHedgeDelayMs 헤지 요청 최소 대기 시간 (p95가 이보다 짧아도 이만큼은 기다림)
+     * @param executor 호출을 실행할 Executor
+     */
+    public ModelCallPolicy(String stage, long timeoutMs, boolean hedgeEnabled, long minHedgeDelayMs,
+                           ExecutorService executor) {
+        this.stage = stage;
+        this.timeoutMs = timeoutMs;
+        this.hedgeEnabled = hedgeEnabled;
+        this.minHedgeDelayMs = minHedgeDelayMs;
+        this.executor = executor;
+
+        POLICIES.put(stage, this);
+        logger.info("Model call policy '{}': timeout={}ms, hedge={} (min delay {}ms)",
+                stage, timeoutMs, hedgeEnabled, minHedgeDelayMs);
+    }
+
+    /**
+     * 기한/헤지 없이 호출 스레드에서 바로 실행하는 정책 (통계만 집계)
+     */
+    public static ModelCallPolicy direct(String stage) {
+        return new ModelCallPolicy(stage, 0, false, 0, null);
+    }
+
+    /**
+     * 정책에 따라 모델 호출
+     *
+     * @param call 모델 호출 (여러 번 실행되어도 안전한 조회성 호출)
+     * @return 먼저 성공한 응답
+     * @throws ModelCallTimeoutException 기한 초과
+     */
+    public <T> T call(Callable<T> call) {
+        calls.increment();
+        long startNanos = System.nanoTime();
+
+        if (timeoutMs <= 0 || executor == null) {
+            try {
+                T result = call.call();
+                recordLatency(startNanos);
+                return result;
+            } catch (Exception e) {
+                failures.increment();
+                throw propagate(e);
+            }
+        }
+
+        long deadlineNanos = startNanos + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        long hedgeDelayNanos = hedgeEnabled ? hedgeDelayNanos() : -1;
+
+        // Executor 스레드에서도 호출한 스레드의 우선순위 레인 유지, 기한 초과 여부를 요청 스레드에 전달
+        AtomicBoolean deadlineExpired = new AtomicBoolean(false);
+        Callable<T> laneTask = ModelBulkhead.inCurrentLane(call);
+        Callable<T> task = () -> {
+            CURRENT_DEADLINE.set(deadlineExpired);
+            try {
+                return laneTask.call();
+            } finally {
+                CURRENT_DEADLINE.remove();
+            }
+        };
+        ExecutorCompletionService<T> completion = new ExecutorCompletionService<>(executor);
+        List<Future<T>> attempts = new ArrayList<>(2);
+        Throwable lastFailure = null;
+        boolean hedged = hedgeDelayNanos < 0;
+
+        try {
+            attempts.add(completion.submit(task));
+            int pending = 1;
+
+            while (pending > 0) {
+                long waitUntil = hedged ? deadlineNanos : Math.min(deadlineNanos, startNanos + hedgeDelayNanos);
+                Future<T> done = completion.poll(waitUntil - System.nanoTime(), TimeUnit.NANOSECONDS);
+
+                if (done == null) {
+                    if (System.nanoTime() - deadlineNanos >= 0) {
+                        timeouts.increment();
+                        deadlineExpired.set(true);
+                        logger.warn("{} model call timed out after {}ms", stage, timeoutMs);
+                        throw new ModelCallTimeoutException(stage, timeoutMs);
+                    }
+
+                    // 헤지 시점 도달: 같은 요청을 한 번 더 보냄
+                    hedged = true;
+                    try {
+                        attempts.add(completion.submit(task));
+                        pending++;
+                        hedges.increment();
+                        logger.debug("{} model call hedged after {}ms", stage,
+                                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+                    } catch (RejectedExecutionException e) {
+                        logger.debug("{} hedge skipped: executor saturated", stage);
+                    }
+                    continue;
+                }
+
+                pending--;
+                try {
+                    T result = done.get();
+                    recordLatency(startNanos);
+                    if (attempts.size() > 1 && done == attempts.get(1)) {
+                        hedgeWins.increment();
+                    }
+                    return result;
+                } catch (ExecutionException e) {
+                    // 다른 요청이 진행 중이면 그 결과를 기다림
+                    lastFailure = e.getCause();
+                }
+            }
+
+            failures.increment();
+            throw propagate(lastFailure);
+
+        } catch (RejectedExecutionException e) {
+            failures.increment();
+            throw e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(stage + " model call interrupted", e);
+        } finally {
+            // 진 요청(또는 기한 초과 요청) 취소 - 이미 끝난 요청에는 영향 없음
+            for (Future<T> attempt : attempts) {
+                attempt.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * 현재 스레드에서 실행 중인 요청이 단계 기한 초과로 취소되었는지 확인
+     * (호출한 쪽의 취소나 헤지에 진 요청의 취소와 구분, 정책 밖에서 실행 중이면 false)
+     */
+    static boolean isDeadlineExpired() {
+        AtomicBoolean deadlineExpired = CURRENT_DEADLINE.get();
+        return deadlineExpired != null && deadlineExpired.get();
+    }
+
+    private static RuntimeException propagate(Throwable failure) {
+        if (failure instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (failure instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(failure);
+    }
+
+    /**
+     * 헤지 대기 시간 (표본이 충분하지 않으면 -1 = 헤지하지 않음)
+     */
+    private long hedgeDelayNanos() {
+        long p95;
+        synchronized (latencyWindowMs) {
+            if (latencyCount < MIN_SAMPLES_FOR_HEDGE) {
+                return -1;
+            }
+            p95 = percentile(0.95);
+        }
+        return TimeUnit.MILLISECONDS.toNanos(Math.max(minHedgeDelayMs, p95));
+    }
+
+    private void recordLatency(long startNanos) {
+        long latencyMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        synchronized (latencyWindowMs) {
+            latencyWindowMs[latencyNext] = latencyMs;
+            latencyNext = (latencyNext + 1) % LATENCY_WINDOW;
+            latencyCount = Math.min(latencyCount + 1, LATENCY_WINDOW);
+        }
+    }
+
+    // latencyWindowMs 잠금 상태에서 호출
+    private long percentile(double p) {
+        long[] sorted = Arrays.copyOf(latencyWindowMs, latencyCount);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, index)];
+    }
+
+    /**
+     * 단계별 통계
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("timeoutMs", timeoutMs);
+        stats.put("hedgeEnabled", hedgeEnabled);
+        stats.put("calls", calls.sum());
+        stats.put("timeouts", timeouts.sum());
+        stats.put("failures", failures.sum());
+        stats.put("hedges", hedges.sum());
+        stats.put("hedgeWins", hedgeWins.sum());
+
+        synchronized (latencyWindowMs) {
+            if (latencyCount > 0) {
+                stats.put("p50Ms", percentile(0.50));
+                stats.put("p95Ms", percentile(0.95));
+            }
+        }
+        return stats;
+    }
+
+    /**
+     * 모든 단계의 통계 (단계 이름 -> 통계)
+     */
+    public static Map<String, Object> getAllStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        POLICIES.keySet().stream().sorted().forEach(stage -> stats.put(stage, POLICIES.get(stage).getStats()));
+        return stats;
+    }
+
+    public String getStage() {
+        return stage;
+    }
+
+    /**
+     * 모델 호출 전용 공유 Executor (최초 호출 시 생성, Java 21+는 가상 스레드)
+     */
+    public static synchronized ExecutorService sharedExecutor(ConfigLoader config) {
+        if (sharedExecutor == null) {
+            sharedExecutor = IoExecutors.newExecutor(
+                    "model-call",
+                    config.getModelCallExecutorThreads(),
+                    config.getModelCallExecutorQueueCapacity());
+        }
+        return sharedExecutor;
+    }
+}
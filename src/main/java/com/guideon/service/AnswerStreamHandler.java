@@ -0,0 +1,63 @@
+package com.guideon.service;
+
+import com.guideon.model.QueryAnalysisResult;
+import com.guideon.model.RegulationReference;
+import com.guideon.model.RegulationSearchResult;
+
+import java.util.List;
+
+/**
+ * 스트리밍 답변 생성 이벤트 수신자
+ *
+ * 호출 순서: onAnalysis -> onReferences -> onToken (0회 이상) -> onComplete
+ * 도중에 실패하면 onError가 한 번 호출되고 이후 이벤트는 없습니다.
+ * onToken/onComplete/onError는 모델 응답 스레드에서 호출될 수 있습니다.
+ * 수신자가 취소되면(클라이언트 연결 종료 등) 남은 답변 조각은 전달하지 않습니다
+ * (모델 호출 자리는 공급자 응답이 끝날 때 반납).
+ */
+public interface AnswerStreamHandler {
+
+    /**
+     * 질문 분석 완료
+     */
+    default void onAnalysis(QueryAnalysisResult analysis) {
+    }
+
+    /**
+     * 검색 완료 - 답변 생성 전에 근거 조항 전달
+     */
+    void onReferences(List<RegulationReference> references);
+
+    /**
+     * LLM 원본 답변 조각 (후처리 전)
+     */
+    void onToken(String token);
+
+    /**
+     * 답변 생성 완료
+     *
+     * @param result 후처리된 최종 답변, 참조, 신뢰도
+     * @param qualityScore 답변 품질 점수
+     * @param referencedArticles 답변에서 인용한 조항 번호
+     */
+    void onComplete(RegulationSearchResult result, double qualityScore, List<String> referencedArticles);
+
+    /**
+     * 처리 실패
+     */
+    void onError(Throwable error);
+
+    /**
+     * 수신자가 더 이상 이벤트를 받지 않는지 여부 (true이면 진행 중인 답변 생성 중단)
+     */
+    default boolean isCancelled() {
+        return false;
+    }
+
+    /**
+     * 취소될 때 실행할 동작 등록 (이미 취소되었으면 바로 실행)
+     * 진행 중인 작업에 취소를 알릴 때 사용합니다.
+     */
+    default void onCancel(Runnable action) {
+    }
+}
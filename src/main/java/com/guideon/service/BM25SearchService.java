@@ -1,12 +1,16 @@
 package com.guideon.service;
 
+import com.guideon.analyzer.DictionaryRegistry;
 import com.guideon.config.ConfigLoader;
 import com.guideon.model.DocumentMetadata;
 import com.guideon.model.ScoredSegment;
 import com.guideon.util.LuceneAnalyzerFactory;
+import com.guideon.util.RegulationArticleExtractor;
 import com.guideon.util.SearchResultConverter;
 import dev.langchain4j.data.segment.TextSegment;
 import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
 import org.apache.lucene.document.*;
 import org.apache.lucene.index.*;
 import org.apache.lucene.queryparser.classic.ParseException;
@@ -22,8 +26,19 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
 
 /**
  * BM25 기반 키워드 검색 서비스
@@ -32,6 +47,11 @@ import java.util.List;
 public class BM25SearchService {
     private static final Logger logger = LoggerFactory.getLogger(BM25SearchService.class);
 
+    /**
+     * 재구축 도구가 인덱스 교체 중 기존 인덱스를 잠시 옮겨 두는 디렉토리 접미사 (&lt;index&gt;.old)
+     */
+    public static final String PREVIOUS_INDEX_SUFFIX = ".old";
+
     private final Directory directory;
     private final Analyzer indexingAnalyzer;  // 인덱싱용
     private final Analyzer searchAnalyzer;    // 검색용
@@ -43,20 +63,58 @@ public class BM25SearchService {
     private final float k1;
     private final float b;
 
+    // 그룹 커밋 설정: 문서마다 fsync 하지 않고 건수/주기 기준으로 모아서 커밋
+    private final int commitBatchSize;
+    private final long commitIntervalMs;
+    private final AtomicInteger pendingChanges = new AtomicInteger();
+    private final AtomicLong lastCommittedSeqNo = new AtomicLong(-1);
+    private final ScheduledExecutorService commitScheduler;
+
+    // 파싱된 쿼리 캐시 (Nori 분석 + QueryParser 결과 재사용, 사전 버전이 바뀌면 무효화)
+    private final int queryCacheSize;
+    private final Map<String, CachedQuery> queryCache;
+    private final LongConsumer dictionaryReloadListener = this::onDictionaryReload;
+
     /**
      * ConfigLoader 기반 생성자
      */
     public BM25SearchService(ConfigLoader config) throws IOException {
-        this.indexPath = config.getBM25IndexDirectory();
+        this(config, config.getBM25IndexDirectory());
+    }
+
+    /**
+     * 인덱스 경로 지정 생성자 (재구축 도구에서 별도 디렉토리에 빌드할 때 사용)
+     *
+     * @param config 설정
+     * @param indexPath 인덱스 디렉토리 경로
+     */
+    public BM25SearchService(ConfigLoader config, String indexPath) throws IOException {
+        this.indexPath = indexPath;
         this.k1 = (float) config.getBM25K1();
         this.b = (float) config.getBM25B();
+        this.commitBatchSize = config.getBM25CommitBatchSize();
+        this.commitIntervalMs = config.getBM25CommitIntervalMs();
+        this.queryCacheSize = config.getBM25QueryCacheSize();
+        this.queryCache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedQuery> eldest) {
+                return size() > queryCacheSize;
+            }
+        };
 
-        // 인덱스 디렉토리 생성
+        // 인덱스 교체 도중 중단되어 기존 인덱스만 .old에 남아 있으면 복구 후 인덱스 디렉토리 생성
         Path path = Paths.get(indexPath);
+        restoreInterruptedSwap(path);
         Files.createDirectories(path);
 
         this.directory = FSDirectory.open(path);
 
+        // 외부 사전 디렉토리 설정 (공용 사전 레지스트리, 서버와 재색인 도구가 같은 사전을 쓰도록)
+        String dictionaryDirectory = config.getDictionaryDirectory();
+        if (dictionaryDirectory != null) {
+            DictionaryRegistry.getInstance().setDictionaryDirectory(Paths.get(dictionaryDirectory));
+        }
+
         // Phase 4.1: 인덱싱과 검색에 서로 다른 Analyzer 사용
         this.indexingAnalyzer = LuceneAnalyzerFactory.createKoreanAnalyzer();  // 강력한 필터링 (불용어 제거)
         this.searchAnalyzer = LuceneAnalyzerFactory.createSearchQueryAnalyzer(); // 완화된 필터링 (재현율 향상)
@@ -64,11 +122,44 @@ public class BM25SearchService {
         // IndexWriter 초기화
         initializeIndexWriter();
 
+        // 주기적 그룹 커밋 스케줄러
+        this.commitScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "bm25-group-commit");
+            t.setDaemon(true);
+            return t;
+        });
+        this.commitScheduler.scheduleWithFixedDelay(
+                this::commitIfPending, commitIntervalMs, commitIntervalMs, TimeUnit.MILLISECONDS);
+
+        DictionaryRegistry.getInstance().addReloadListener(dictionaryReloadListener);
+
         logger.info("BM25SearchService initialized: path={}, k1={}, b={}", indexPath, k1, b);
+        logger.info("  - Group Commit: batchSize={}, intervalMs={}", commitBatchSize, commitIntervalMs);
+        logger.info("  - Query Cache: size={}", queryCacheSize);
         logger.info("  - Indexing Analyzer: EnhancedKoreanAnalyzer (with stopwords)");
         logger.info("  - Search Analyzer: SearchQueryAnalyzer (minimal filtering)");
     }
 
+    /**
+     * 중단된 인덱스 교체 복구
+     * 재구축 도구는 기존 인덱스를 .old로 옮긴 뒤 새 인덱스를 옮겨 놓으므로, 두 이동 사이에 중단되면
+     * 인덱스 디렉토리가 없고 .old만 남습니다. 이 경우 .old를 원래 위치로 되돌립니다
+     * (빌드 디렉토리와 체크포인트는 남아 있으므로 재구축 도구를 다시 실행하면 바로 교체 단계로 진행).
+     *
+     * @param indexPath 인덱스 디렉토리 경로
+     * @return 복구 여부
+     */
+    public static boolean restoreInterruptedSwap(Path indexPath) throws IOException {
+        Path previousPath = Paths.get(indexPath + PREVIOUS_INDEX_SUFFIX);
+        if (Files.exists(indexPath) || !Files.isDirectory(previousPath)) {
+            return false;
+        }
+
+        Files.move(previousPath, indexPath, StandardCopyOption.ATOMIC_MOVE);
+        logger.warn("BM25 index was missing after an interrupted swap, restored previous index: {}", indexPath);
+        return true;
+    }
+
     /**
      * IndexWriter 초기화
      */
@@ -83,13 +174,87 @@ public class BM25SearchService {
     }
 
     /**
-     * 문서 인덱싱
+     * 문서 인덱싱 (segment ID 기준 upsert)
+     * 동일한 ID로 재시도하거나 재색인해도 중복 문서가 생기지 않습니다.
      *
      * @param segment TextSegment
      * @param regulationType 규정 유형
      * @param segmentId 세그먼트 ID
      */
     public void indexSegment(TextSegment segment, String regulationType, String segmentId) throws IOException {
+        upsertSegments(List.of(segment), regulationType, List.of(segmentId));
+    }
+
+    /**
+     * 여러 세그먼트를 일괄 upsert
+     * 기존 "id" 필드가 같은 문서는 교체되고, 커밋은 그룹 커밋 정책에 따라 지연됩니다.
+     *
+     * @param segments TextSegment 목록
+     * @param regulationType 규정 유형
+     * @param segmentIds 세그먼트 ID 목록 (segments와 같은 순서)
+     * @return 마지막 변경의 sequence number ({@link #isDurable(long)}로 영속화 여부 확인)
+     */
+    public long upsertSegments(List<TextSegment> segments, String regulationType, List<String> segmentIds)
+            throws IOException {
+        if (segments.size() != segmentIds.size()) {
+            throw new IllegalArgumentException("세그먼트 수와 ID 수가 일치하지 않습니다");
+        }
+
+        long seqNo = -1;
+        for (int i = 0; i < segments.size(); i++) {
+            TextSegment segment = segments.get(i);
+            String segmentId = segmentIds.get(i);
+
+            seqNo = indexWriter.updateDocuments(
+                    new Term("id", segmentId),
+                    List.of(createDocument(segment, regulationType, segmentId)));
+
+            logger.debug("Upserted segment: id={}, type={}, contentLength={}",
+                    segmentId, regulationType, segment.text().length());
+        }
+
+        recordChanges(segments.size());
+        return seqNo;
+    }
+
+    /**
+     * 문서의 세그먼트 전체를 한 번에 교체
+     * 같은 document_id를 가진 기존 세그먼트 삭제와 새 세그먼트 추가를 하나의 변경으로 처리하므로,
+     * 중간에 그룹 커밋이 끼어들어도 문서가 빠지거나 이전/새 세그먼트가 섞인 상태는 커밋되지 않습니다.
+     *
+     * @param documentId 문서 ID (모든 세그먼트의 document_id 메타데이터와 같아야 함)
+     * @param segments TextSegment 목록
+     * @param regulationType 규정 유형
+     * @param segmentIds 세그먼트 ID 목록 (segments와 같은 순서)
+     * @return 변경의 sequence number ({@link #isDurable(long)}로 영속화 여부 확인)
+     */
+    public long replaceDocumentSegments(String documentId, List<TextSegment> segments, String regulationType,
+                                        List<String> segmentIds) throws IOException {
+        if (segments.size() != segmentIds.size()) {
+            throw new IllegalArgumentException("세그먼트 수와 ID 수가 일치하지 않습니다");
+        }
+
+        List<Document> docs = new ArrayList<>(segments.size());
+        for (int i = 0; i < segments.size(); i++) {
+            TextSegment segment = segments.get(i);
+            if (!documentId.equals(segment.metadata().getString(DocumentMetadata.DOCUMENT_ID))) {
+                throw new IllegalArgumentException("세그먼트의 문서 ID가 일치하지 않습니다: " + segmentIds.get(i));
+            }
+            docs.add(createDocument(segment, regulationType, segmentIds.get(i)));
+        }
+
+        long seqNo = indexWriter.updateDocuments(new Term(DocumentMetadata.DOCUMENT_ID, documentId), docs);
+        logger.debug("Replaced segments for document: id={}, type={}, segments={}",
+                documentId, regulationType, segments.size());
+
+        recordChanges(Math.max(1, segments.size()));
+        return seqNo;
+    }
+
+    /**
+     * Lucene Document 생성
+     */
+    private Document createDocument(TextSegment segment, String regulationType, String segmentId) {
         Document doc = new Document();
 
         // ID 필드 (저장 + 검색 불가)
@@ -112,10 +277,69 @@ public class BM25SearchService {
             doc.add(new StringField(DocumentMetadata.FILENAME, filename, Field.Store.YES));
         }
 
-        indexWriter.addDocument(doc);
+        // 조항 번호 필드 (조항 번호 직접 조회용, 다중 값)
+        for (String articleNumber : resolveArticleNumbers(segment)) {
+            doc.add(new StringField(DocumentMetadata.ARTICLE_NUMBERS, articleNumber, Field.Store.YES));
+        }
+
+        return doc;
+    }
+
+    /**
+     * 세그먼트가 속한 조항 번호 결정
+     * 인덱싱 시 메타데이터에 기록된 값(이전 세그먼트에서 이어지는 조항 포함)을 우선 사용하고,
+     * 없으면 본문의 조항 제목에서 추출합니다.
+     */
+    private List<String> resolveArticleNumbers(TextSegment segment) {
+        String articleNumbers = segment.metadata().getString(DocumentMetadata.ARTICLE_NUMBERS);
+        if (articleNumbers == null) {
+            return RegulationArticleExtractor.extractArticleHeadings(segment.text());
+        }
+
+        List<String> numbers = new ArrayList<>();
+        for (String number : articleNumbers.split(",")) {
+            if (!number.isBlank()) {
+                numbers.add(number.trim());
+            }
+        }
+        return numbers;
+    }
+
+    /**
+     * 조항 번호로 세그먼트 직접 조회 (점수 계산 없이 색인 순서대로 반환)
+     *
+     * @param regulationType 규정 유형 (null이면 전체 규정에서 조회)
+     * @param articleNumber 조항 번호 ("제23조" 형식)
+     * @param maxResults 최대 결과 수
+     * @return 조회 결과 리스트
+     */
+    public List<ScoredSegment> findByArticle(String regulationType, String articleNumber, int maxResults)
+            throws IOException {
+        refreshIndexReader();
 
-        logger.debug("Indexed segment: id={}, type={}, documentId={}, contentLength={}",
-                segmentId, regulationType, documentId, segment.text().length());
+        BooleanQuery.Builder builder = new BooleanQuery.Builder()
+                .add(new TermQuery(new Term(DocumentMetadata.ARTICLE_NUMBERS, articleNumber)), BooleanClause.Occur.FILTER);
+        if (regulationType != null) {
+            builder.add(new TermQuery(new Term(DocumentMetadata.REGULATION_TYPE, regulationType)),
+                    BooleanClause.Occur.FILTER);
+        }
+
+        TopDocs topDocs = indexSearcher.search(builder.build(), maxResults, Sort.INDEXORDER);
+
+        List<ScoredSegment> results = new ArrayList<>();
+        for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+            Document doc = indexReader.storedFields().document(scoreDoc.doc);
+            results.add(new ScoredSegment(
+                    SearchResultConverter.extractId(doc),
+                    SearchResultConverter.toTextSegment(doc),
+                    1.0,
+                    "ARTICLE"
+            ));
+        }
+
+        logger.debug("Article lookup completed: regulationType={}, article={}, results={}",
+                regulationType, articleNumber, results.size());
+        return results;
     }
 
     /**
@@ -129,9 +353,8 @@ public class BM25SearchService {
         // IndexReader 갱신
         refreshIndexReader();
 
-        // QueryParser로 쿼리 파싱 (검색에는 searchAnalyzer 사용 - 완화된 필터링)
-        QueryParser parser = new QueryParser("content", searchAnalyzer);
-        Query luceneQuery = parser.parse(query);
+        // 쿼리 파싱 (캐시 사용)
+        Query luceneQuery = parseQuery(query);
 
         // 검색 수행
         TopDocs topDocs = indexSearcher.search(luceneQuery, maxResults);
@@ -157,6 +380,107 @@ public class BM25SearchService {
         return results;
     }
 
+    /**
+     * 검색어 커버리지 계산: 파싱된 쿼리의 검색어 중 세그먼트 본문에 포함된 비율
+     * 동의어로 확장된 검색어는 하나라도 포함되면 일치로 봅니다.
+     * 본문은 인덱싱 Analyzer로 분석하므로 색인된 토큰과 같은 기준으로 비교됩니다.
+     *
+     * @param query 검색 쿼리
+     * @param segment 비교할 세그먼트 (보통 BM25 1위 결과)
+     * @return 0.0 ~ 1.0 (검색어가 없으면 0.0)
+     */
+    public double queryTermCoverage(String query, TextSegment segment) throws IOException, ParseException {
+        List<Set<String>> termGroups = new ArrayList<>();
+        parseQuery(query).visit(new QueryVisitor() {
+            @Override
+            public void consumeTerms(Query leaf, Term... terms) {
+                Set<String> group = new HashSet<>();
+                for (Term term : terms) {
+                    group.add(term.text());
+                }
+                termGroups.add(group);
+            }
+
+            @Override
+            public QueryVisitor getSubVisitor(BooleanClause.Occur occur, Query parent) {
+                return occur == BooleanClause.Occur.MUST_NOT ? QueryVisitor.EMPTY_VISITOR : this;
+            }
+        });
+
+        if (termGroups.isEmpty()) {
+            return 0.0;
+        }
+
+        Set<String> segmentTokens = new HashSet<>();
+        try (TokenStream tokenStream = indexingAnalyzer.tokenStream("content", segment.text())) {
+            CharTermAttribute termAttr = tokenStream.addAttribute(CharTermAttribute.class);
+            tokenStream.reset();
+            while (tokenStream.incrementToken()) {
+                segmentTokens.add(termAttr.toString());
+            }
+            tokenStream.end();
+        }
+
+        int matched = 0;
+        for (Set<String> group : termGroups) {
+            for (String term : group) {
+                if (segmentTokens.contains(term)) {
+                    matched++;
+                    break;
+                }
+            }
+        }
+        return (double) matched / termGroups.size();
+    }
+
+    /**
+     * 쿼리 파싱 (검색에는 searchAnalyzer 사용 - 완화된 필터링)
+     * 같은 사전 버전에서 파싱한 결과가 있으면 재사용합니다.
+     * 파싱 전에 버전을 읽어 두므로, 파싱 도중 사전이 교체되면 그 결과는 다시 쓰이지 않습니다.
+     */
+    private Query parseQuery(String query) throws ParseException {
+        long dictionaryVersion = DictionaryRegistry.getInstance().getVersion();
+
+        if (queryCacheSize > 0) {
+            CachedQuery cached;
+            synchronized (queryCache) {
+                cached = queryCache.get(query);
+            }
+            if (cached != null && cached.dictionaryVersion() == dictionaryVersion) {
+                return cached.query();
+            }
+        }
+
+        // QueryParser는 스레드 안전하지 않으므로 매번 생성
+        QueryParser parser = new QueryParser("content", searchAnalyzer);
+        Query luceneQuery = parser.parse(query);
+
+        if (queryCacheSize > 0) {
+            synchronized (queryCache) {
+                queryCache.put(query, new CachedQuery(dictionaryVersion, luceneQuery));
+            }
+        }
+        return luceneQuery;
+    }
+
+    /**
+     * 사전 재적재 시 호출 - 쿼리 캐시 무효화
+     * 인덱스에 저장된 토큰은 이전 사전으로 분석된 것이므로 재색인을 안내합니다.
+     */
+    private void onDictionaryReload(long dictionaryVersion) {
+        int cleared;
+        synchronized (queryCache) {
+            cleared = queryCache.size();
+            queryCache.clear();
+        }
+        logger.info("Dictionary v{} loaded: BM25 query cache cleared ({} entries)", dictionaryVersion, cleared);
+        logger.warn("Existing BM25 index was analyzed with the previous dictionary. "
+                + "Run ReindexBM25Tool to apply the new dictionary to indexed documents.");
+    }
+
+    private record CachedQuery(long dictionaryVersion, Query query) {
+    }
+
     /**
      * IndexReader 갱신 (검색 전 필수)
      */
@@ -177,15 +501,83 @@ public class BM25SearchService {
     }
 
     /**
-     * 인덱스 커밋
+     * 인덱스 커밋 (즉시 fsync)
      */
-    public void commit() throws IOException {
-        if (indexWriter != null) {
-            indexWriter.commit();
-            logger.info("BM25 index committed");
+    public synchronized void commit() throws IOException {
+        if (indexWriter != null && indexWriter.isOpen()) {
+            int committedChanges = pendingChanges.getAndSet(0);
+            long seqNo;
+            try {
+                seqNo = indexWriter.commit();
+            } catch (IOException | RuntimeException e) {
+                // 커밋 실패 시 대기 건수를 되돌려 다음 그룹 커밋에서 다시 시도
+                pendingChanges.addAndGet(committedChanges);
+                throw e;
+            }
+            if (seqNo >= 0) {
+                lastCommittedSeqNo.accumulateAndGet(seqNo, Math::max);
+            }
+            logger.info("BM25 index committed (changes={}, seqNo={})", committedChanges, seqNo);
         }
     }
 
+    /**
+     * 그룹 커밋 요청
+     * 대기 중인 변경이 배치 크기 이상이면 즉시 커밋하고, 아니면 다음 주기 커밋에 맡깁니다.
+     */
+    public void requestCommit() throws IOException {
+        if (pendingChanges.get() >= commitBatchSize) {
+            commit();
+        }
+    }
+
+    /**
+     * 변경 건수 기록 후 배치 크기 도달 시 커밋
+     */
+    private void recordChanges(int count) throws IOException {
+        if (pendingChanges.addAndGet(count) >= commitBatchSize) {
+            commit();
+        }
+    }
+
+    /**
+     * 주기 커밋 (스케줄러에서 호출)
+     */
+    private void commitIfPending() {
+        if (pendingChanges.get() == 0) {
+            return;
+        }
+        try {
+            commit();
+        } catch (Exception e) {
+            logger.error("Scheduled BM25 group commit failed", e);
+        }
+    }
+
+    /**
+     * 주어진 sequence number의 변경이 커밋되어 디스크에 영속화되었는지 확인
+     *
+     * @param seqNo upsert/delete가 반환한 sequence number
+     * @return 커밋 완료 여부
+     */
+    public boolean isDurable(long seqNo) {
+        return lastCommittedSeqNo.get() >= seqNo;
+    }
+
+    /**
+     * 마지막으로 커밋된 sequence number
+     */
+    public long getLastCommittedSeqNo() {
+        return lastCommittedSeqNo.get();
+    }
+
+    /**
+     * 커밋 대기 중인 변경 건수
+     */
+    public int getPendingChanges() {
+        return pendingChanges.get();
+    }
+
     /**
      * 인덱스 초기화 (모든 문서 삭제)
      */
@@ -217,6 +609,7 @@ public class BM25SearchService {
             Term term = new Term("document_id", documentId);
             long deletedLong = indexWriter.deleteDocuments(term);
             deletedCount = (int) deletedLong;
+            pendingChanges.incrementAndGet();
 
             logger.info("Deleted {} BM25 segments for document: {}", deletedCount, documentId);
 
@@ -240,7 +633,10 @@ public class BM25SearchService {
      * 리소스 정리
      */
     public void close() throws IOException {
+        commitScheduler.shutdownNow();
+        DictionaryRegistry.getInstance().removeReloadListener(dictionaryReloadListener);
         if (indexWriter != null) {
+            commit();
             indexWriter.close();
         }
         if (indexReader != null) {
@@ -4,6 +4,8 @@ import com.guideon.model.DocumentMetadata;
 import com.guideon.model.UserAccount;
 import com.guideon.repository.DocumentRepository;
 import com.guideon.repository.UserAccountRepository;
+import com.guideon.resilience.ModelBulkhead;
+import com.guideon.util.AnswerCache;
 import dev.langchain4j.data.document.Document;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -23,17 +25,20 @@ public class DocumentService {
     private final DocumentRepository documentRepository;
     private final UserAccountRepository userAccountRepository;
     private final HybridSearchService hybridSearchService;
+    private final AnswerCache answerCache;
 
     public DocumentService(RegulationSearchService regulationSearchService,
             VectorStoreService vectorStoreService,
             DocumentRepository documentRepository,
             UserAccountRepository userAccountRepository,
-            HybridSearchService hybridSearchService) {
+            HybridSearchService hybridSearchService,
+            AnswerCache answerCache) {
         this.regulationSearchService = regulationSearchService;
         this.vectorStoreService = vectorStoreService;
         this.documentRepository = documentRepository;
         this.userAccountRepository = userAccountRepository;
         this.hybridSearchService = hybridSearchService;
+        this.answerCache = answerCache;
     }
 
     /**
@@ -64,9 +69,15 @@ public class DocumentService {
         doc.metadata().put(DocumentMetadata.FILENAME, entity.getFileName());
         doc.metadata().put(DocumentMetadata.REGULATION_TYPE, entity.getRegulationType());
         doc.metadata().put(DocumentMetadata.DOCUMENT_ID, entity.getId());
-        regulationSearchService.indexDocument(doc, entity.getRegulationType());
+        // 문서 임베딩은 일괄 작업 레인으로 호출 (대화형 질문의 모델 호출 자리를 먼저 보장)
+        String indexedRegulationType = entity.getRegulationType();
+        ModelBulkhead.runAsBatch(() -> regulationSearchService.indexDocument(doc, indexedRegulationType));
         vectorStoreService.saveEmbeddingStore(regulationSearchService.getEmbeddingStore());
 
+        // 같은 규정 유형을 참조한 캐시 답변 무효화
+        int invalidated = answerCache.invalidate(entity.getRegulationType());
+        logger.debug("Invalidated {} cached answers for regulation type: {}", invalidated, entity.getRegulationType());
+
         logger.info("Document saved and indexed: id={}, file={}", entity.getId(), entity.getFileName());
         return entity;
     }
@@ -91,7 +102,8 @@ public class DocumentService {
 
         // 임베딩 삭제: Vector Store에서 삭제
         try {
-            int deletedEmbeddings = regulationSearchService.deleteDocumentEmbeddings(documentId);
+            int deletedEmbeddings = ModelBulkhead.callAsBatch(
+                    () -> regulationSearchService.deleteDocumentEmbeddings(documentId));
             logger.info("Deleted {} embeddings from Vector Store for document: {}", deletedEmbeddings, documentId);
 
             // Vector Store 영속화
@@ -115,6 +127,10 @@ public class DocumentService {
             }
         }
 
+        // 같은 규정 유형을 참조한 캐시 답변 무효화
+        int invalidated = answerCache.invalidate(doc.getRegulationType());
+        logger.debug("Invalidated {} cached answers for regulation type: {}", invalidated, doc.getRegulationType());
+
         // DB에서 문서 삭제
         documentRepository.delete(doc);
         logger.info("Document deleted: id={}, file={}", documentId, storageFileName);
@@ -1,6 +1,7 @@
 package com.guideon.service;
 
 import com.guideon.config.ConfigLoader;
+import com.guideon.resilience.GuardedModels;
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.model.googleai.GoogleAiEmbeddingModel;
@@ -20,11 +21,12 @@ public class EmbeddingService {
     public EmbeddingService(ConfigLoader config) {
         String apiKey = config.getGeminiApiKey();
 
-        this.embeddingModel = GoogleAiEmbeddingModel.builder()
+        // 검색 서비스의 임베딩 모델과 차단기/동시 호출 제한을 공유
+        this.embeddingModel = GuardedModels.wrapEmbedding(GoogleAiEmbeddingModel.builder()
                 .apiKey(apiKey)
                 .modelName("text-embedding-004")
                 .maxRetries(3)
-                .build();
+                .build(), GuardedModels.forModel("gemini-embedding", config));
 
         logger.info("EmbeddingService initialized with Google AI Embedding Model");
     }
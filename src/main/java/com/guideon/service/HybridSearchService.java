@@ -3,19 +3,32 @@ package com.guideon.service;
 import com.guideon.config.ConfigLoader;
 import com.guideon.model.HybridSearchResult;
 import com.guideon.model.ScoredSegment;
-import com.guideon.util.RRFCalculator;
+import com.guideon.resilience.CircuitBreaker;
+import com.guideon.resilience.ModelBulkhead;
+import com.guideon.util.IoExecutors;
 import com.guideon.util.SearchResultConverter;
+import com.guideon.util.fusion.FusionFunction;
+import com.guideon.util.fusion.RankFusion;
+import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.store.embedding.EmbeddingMatch;
 import dev.langchain4j.store.embedding.EmbeddingStore;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 
 /**
@@ -35,6 +48,61 @@ public class HybridSearchService {
     private final double keywordWeight;
     private final int initialResults;
 
+    // 순위 융합 함수 (rrf / combsum / linear)
+    private final String fusionMethod;
+    private final FusionFunction fusionFunction;
+
+    // 검색 경로별 기한 (기한 초과 시 다른 경로 결과만으로 부분 결과 반환)
+    private final long vectorTimeoutMs;
+    private final long bm25TimeoutMs;
+
+    // 하이브리드 검색 전용 Executor (공용 ForkJoinPool에서 블로킹 I/O를 하지 않도록)
+    private final ExecutorService searchExecutor;
+
+    // 임베딩 모델 차단기 (열려 있으면 Vector 경로를 시작하지 않음)
+    private final CircuitBreaker embeddingCircuit;
+
+    // 적응형 경로 정책: BM25 1위가 확실하면 Vector 경로 생략
+    private final AdaptiveMode adaptiveMode;
+    private final double adaptiveMinScore;
+    private final double adaptiveMinGap;
+    private final double adaptiveMinCoverage;
+
+    // 경로별 실행 횟수 / 누적 시간 (정책의 지연 절감 효과 측정용)
+    private final Map<SearchPath, PathCounter> pathCounters = new EnumMap<>(SearchPath.class);
+
+    /**
+     * 적응형 경로 정책
+     */
+    private enum AdaptiveMode {
+        OFF,    // 항상 두 경로를 병렬 실행
+        CANCEL, // 병렬 시작 후 BM25가 확실하면 Vector 경로 취소
+        SKIP;   // BM25 먼저 실행, 확실하지 않을 때만 Vector 경로 실행
+
+        static AdaptiveMode fromName(String name) {
+            try {
+                return valueOf(name.trim().toUpperCase());
+            } catch (IllegalArgumentException | NullPointerException e) {
+                return OFF;
+            }
+        }
+    }
+
+    /**
+     * 실제로 실행된 검색 경로
+     */
+    private enum SearchPath {
+        PARALLEL,       // 정책 비활성화: Vector + BM25 병렬
+        BM25_CONFIDENT, // BM25 결과만으로 충분하여 Vector 경로 생략/취소
+        BM25_THEN_VECTOR, // BM25가 확실하지 않아 Vector 결과까지 통합
+        BM25_ONLY       // 임베딩 모델 차단기가 열려 BM25 경로만 실행
+    }
+
+    private static final class PathCounter {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalTimeMs = new LongAdder();
+    }
+
     public HybridSearchService(
             BM25SearchService bm25SearchService,
             EmbeddingStore<TextSegment> embeddingStore,
@@ -50,97 +118,321 @@ public class HybridSearchService {
         this.vectorWeight = config.getHybridVectorWeight();
         this.keywordWeight = config.getHybridKeywordWeight();
         this.initialResults = config.getHybridInitialResults();
+        this.fusionMethod = config.getHybridFusionMethod();
+        this.fusionFunction = FusionFunction.fromName(fusionMethod, config.getHybridRrfK());
+        this.vectorTimeoutMs = config.getHybridVectorTimeoutMs();
+        this.bm25TimeoutMs = config.getHybridBM25TimeoutMs();
+
+        this.searchExecutor = IoExecutors.newExecutor(
+                "hybrid-search",
+                config.getHybridExecutorThreads(),
+                config.getHybridExecutorQueueCapacity());
+
+        this.embeddingCircuit = CircuitBreaker.forModel("gemini-embedding", config);
+
+        this.adaptiveMode = AdaptiveMode.fromName(config.getHybridAdaptiveMode());
+        this.adaptiveMinScore = config.getHybridAdaptiveMinScore();
+        this.adaptiveMinGap = config.getHybridAdaptiveMinGap();
+        this.adaptiveMinCoverage = config.getHybridAdaptiveMinCoverage();
+        for (SearchPath path : SearchPath.values()) {
+            pathCounters.put(path, new PathCounter());
+        }
 
         logger.info("HybridSearchService initialized");
         logger.info("Hybrid Search Enabled: {}", enabled);
         logger.info("Vector Weight: {}, Keyword Weight: {}", vectorWeight, keywordWeight);
+        logger.info("Fusion Method: {} (rrf k={})", fusionMethod, config.getHybridRrfK());
         logger.info("Initial Results: {}", initialResults);
+        logger.info("Leg Deadlines: vector={}ms, bm25={}ms", vectorTimeoutMs, bm25TimeoutMs);
+        logger.info("Adaptive Mode: {} (minScore={}, minGap={}, minCoverage={})",
+                adaptiveMode, adaptiveMinScore, adaptiveMinGap, adaptiveMinCoverage);
     }
 
     /**
      * 하이브리드 검색 실행
-     * Vector Search와 BM25 Search를 병렬로 실행하고 RRF로 통합
+     * Vector Search와 BM25 Search를 전용 Executor에서 실행하고 설정된 융합 함수로 통합
+     * 한 경로가 기한을 넘기거나 실패하면 기다리지 않고 나머지 경로의 결과만으로 통합합니다.
+     * 적응형 정책이 켜져 있으면 BM25 결과를 먼저 평가하여 불필요한 Vector 경로를 생략합니다.
+     * 임베딩 모델 차단기가 열려 있으면 Vector 경로 없이 BM25 결과만 사용합니다.
      *
      * @param query 검색 쿼리
      * @param maxResults 최종 결과 수
      * @return 하이브리드 검색 결과
      */
     public HybridSearchResult search(String query, int maxResults) {
+        return search(query, null, maxResults);
+    }
+
+    /**
+     * 하이브리드 검색 실행 (이미 계산한 쿼리 임베딩 사용)
+     *
+     * @param query 검색 쿼리
+     * @param queryEmbedding 쿼리 임베딩 (null이면 Vector 경로에서 생성)
+     * @param maxResults 최종 결과 수
+     * @return 하이브리드 검색 결과
+     */
+    public HybridSearchResult search(String query, float[] queryEmbedding, int maxResults) {
+        if (embeddingCircuit.isOpen()) {
+            logger.warn("Embedding model circuit open, using BM25-only search");
+            return searchBM25Only(query, maxResults);
+        }
+
         if (!enabled) {
             logger.warn("Hybrid Search is disabled. Falling back to Vector Search only.");
-            return performVectorSearchOnly(query, maxResults);
+            return performVectorSearchOnly(query, queryEmbedding, maxResults);
         }
 
         long startTime = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
 
-        try {
+        List<String> missingLegs = new ArrayList<>(2);
+        List<ScoredSegment> vectorResults;
+        List<ScoredSegment> bm25Results;
+        SearchPath path;
+
+        if (adaptiveMode == AdaptiveMode.OFF) {
             // 병렬로 Vector Search와 BM25 Search 실행
-            CompletableFuture<List<ScoredSegment>> vectorFuture = CompletableFuture.supplyAsync(() -> {
-                try {
-                    return performVectorSearch(query, initialResults);
-                } catch (Exception e) {
-                    logger.error("Vector search failed", e);
-                    return List.of();
+            Future<List<ScoredSegment>> vectorFuture = submitLeg("VECTOR",
+                    () -> performVectorSearch(query, queryEmbedding, initialResults));
+            Future<List<ScoredSegment>> bm25Future = submitLeg("BM25",
+                    () -> performBM25Search(query, initialResults));
+
+            // 각 경로를 자신의 기한까지만 기다림 (기한은 검색 시작 시점 기준)
+            vectorResults = awaitLeg("VECTOR", vectorFuture, startNanos, vectorTimeoutMs, missingLegs);
+            bm25Results = awaitLeg("BM25", bm25Future, startNanos, bm25TimeoutMs, missingLegs);
+            path = SearchPath.PARALLEL;
+
+        } else {
+            // CANCEL은 Vector 경로를 미리 시작, SKIP은 BM25 평가 후에만 시작
+            Future<List<ScoredSegment>> vectorFuture = adaptiveMode == AdaptiveMode.CANCEL
+                    ? submitLeg("VECTOR", () -> performVectorSearch(query, queryEmbedding, initialResults))
+                    : null;
+            long vectorStartNanos = startNanos;
+
+            Future<List<ScoredSegment>> bm25Future = submitLeg("BM25",
+                    () -> performBM25Search(query, initialResults));
+            bm25Results = awaitLeg("BM25", bm25Future, startNanos, bm25TimeoutMs, missingLegs);
+
+            if (isBM25Confident(query, bm25Results)) {
+                // 이미 끝난 Vector 결과는 추가 비용이 없으므로 그대로 사용
+                if (vectorFuture != null && vectorFuture.isDone() && !vectorFuture.isCancelled()) {
+                    vectorResults = awaitLeg("VECTOR", vectorFuture, startNanos, vectorTimeoutMs, missingLegs);
+                } else {
+                    if (vectorFuture != null) {
+                        vectorFuture.cancel(true);
+                    }
+                    vectorResults = List.of();
                 }
-            });
-
-            CompletableFuture<List<ScoredSegment>> bm25Future = CompletableFuture.supplyAsync(() -> {
-                try {
-                    return performBM25Search(query, initialResults);
-                } catch (Exception e) {
-                    logger.error("BM25 search failed", e);
-                    return List.of();
+                path = SearchPath.BM25_CONFIDENT;
+
+            } else {
+                if (vectorFuture == null) {
+                    vectorStartNanos = System.nanoTime();
+                    vectorFuture = submitLeg("VECTOR", () -> performVectorSearch(query, queryEmbedding, initialResults));
                 }
-            });
+                vectorResults = awaitLeg("VECTOR", vectorFuture, vectorStartNanos, vectorTimeoutMs, missingLegs);
+                path = SearchPath.BM25_THEN_VECTOR;
+            }
+        }
+
+        logger.info("Vector Search returned {} results", vectorResults.size());
+        logger.info("BM25 Search returned {} results", bm25Results.size());
+
+        // 결과 통합 (한쪽이 비어 있으면 나머지 경로의 순위가 그대로 반영됨)
+        List<ScoredSegment> fusedResults = fuseResults(vectorResults, bm25Results, maxResults);
+
+        long searchTime = System.currentTimeMillis() - startTime;
+        recordPath(path, searchTime);
+
+        if (missingLegs.isEmpty()) {
+            logger.info("Hybrid Search completed in {}ms via {}, returned {} results",
+                    searchTime, path, fusedResults.size());
+        } else {
+            logger.warn("Hybrid Search returned partial results in {}ms without {} ({} results)",
+                    searchTime, missingLegs, fusedResults.size());
+        }
 
-            // 두 검색 결과를 기다림
-            List<ScoredSegment> vectorResults = vectorFuture.get();
-            List<ScoredSegment> bm25Results = bm25Future.get();
+        return new HybridSearchResult(
+                fusedResults,
+                vectorResults.size(),
+                bm25Results.size(),
+                fusedResults.size(),
+                searchTime,
+                missingLegs
+        );
+    }
+
+    /**
+     * BM25 경로만으로 검색 (임베딩 모델 장애 시 Vector 경로 대체, 임베딩 호출 없음)
+     *
+     * @param query 검색 쿼리
+     * @param maxResults 최종 결과 수
+     * @return BM25 결과 (missingLegs에 VECTOR 포함)
+     */
+    public HybridSearchResult searchBM25Only(String query, int maxResults) {
+        long startTime = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
+
+        List<String> missingLegs = new ArrayList<>(2);
+        missingLegs.add("VECTOR");
+        List<ScoredSegment> bm25Results = awaitLeg("BM25",
+                submitLeg("BM25", () -> performBM25Search(query, initialResults)),
+                startNanos, bm25TimeoutMs, missingLegs);
+
+        List<ScoredSegment> fusedResults = fuseResults(List.of(), bm25Results, maxResults);
+
+        long searchTime = System.currentTimeMillis() - startTime;
+        recordPath(SearchPath.BM25_ONLY, searchTime);
+        logger.info("BM25-only search completed in {}ms, returned {} results", searchTime, fusedResults.size());
+
+        return new HybridSearchResult(
+                fusedResults,
+                0,
+                bm25Results.size(),
+                fusedResults.size(),
+                searchTime,
+                missingLegs
+        );
+    }
+
+    /**
+     * BM25 결과만으로 충분한지 판단
+     * 1위 점수가 최소 점수 이상이고, 2위와의 점수 차이 비율이 충분하며,
+     * 1위 세그먼트가 검색어를 충분히 포함하면 Vector 경로가 순위를 바꿀 가능성이 낮다고 봅니다.
+     *
+     * @param query 검색 쿼리
+     * @param bm25Results BM25 결과 (점수 내림차순)
+     * @return true if Vector 경로 생략 가능
+     */
+    private boolean isBM25Confident(String query, List<ScoredSegment> bm25Results) {
+        if (bm25Results.isEmpty()) {
+            return false;
+        }
+
+        double topScore = bm25Results.get(0).getScore();
+        if (topScore <= 0 || topScore < adaptiveMinScore) {
+            return false;
+        }
+
+        if (bm25Results.size() > 1) {
+            double gap = (topScore - bm25Results.get(1).getScore()) / topScore;
+            if (gap < adaptiveMinGap) {
+                logger.debug("BM25 not confident: gap {} < {}", gap, adaptiveMinGap);
+                return false;
+            }
+        }
+
+        try {
+            double coverage = bm25SearchService.queryTermCoverage(query, bm25Results.get(0).getSegment());
+            logger.debug("BM25 top hit coverage: {}", coverage);
+            return coverage >= adaptiveMinCoverage;
+        } catch (Exception e) {
+            logger.debug("Failed to compute query term coverage: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void recordPath(SearchPath path, long searchTimeMs) {
+        PathCounter counter = pathCounters.get(path);
+        counter.count.increment();
+        counter.totalTimeMs.add(searchTimeMs);
+    }
+
+    /**
+     * 검색 경로별 통계 (적응형 정책의 지연 절감 효과 측정용)
+     *
+     * @return 정책 설정과 경로별 실행 횟수 / 평균 소요 시간
+     */
+    public Map<String, Object> getPathStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("adaptiveMode", adaptiveMode.name().toLowerCase());
+
+        for (SearchPath path : SearchPath.values()) {
+            PathCounter counter = pathCounters.get(path);
+            long count = counter.count.sum();
+            long totalTimeMs = counter.totalTimeMs.sum();
+
+            Map<String, Object> pathStats = new LinkedHashMap<>();
+            pathStats.put("count", count);
+            pathStats.put("avgTimeMs", count > 0 ? (double) totalTimeMs / count : 0.0);
+            stats.put(path.name(), pathStats);
+        }
+        return stats;
+    }
 
-            logger.info("Vector Search returned {} results", vectorResults.size());
-            logger.info("BM25 Search returned {} results", bm25Results.size());
+    /**
+     * 검색 경로를 전용 Executor에 제출
+     *
+     * @return Future (Executor 포화로 거부되면 null)
+     */
+    private Future<List<ScoredSegment>> submitLeg(String leg, Callable<List<ScoredSegment>> task) {
+        try {
+            // 호출한 스레드의 모델 호출 우선순위 레인 유지
+            return searchExecutor.submit(ModelBulkhead.inCurrentLane(task));
+        } catch (RejectedExecutionException e) {
+            logger.warn("{} search rejected: hybrid search executor is saturated", leg);
+            return null;
+        }
+    }
 
-            // RRF를 사용하여 결과 통합
-            List<ScoredSegment> fusedResults = fuseResults(vectorResults, bm25Results, maxResults);
+    /**
+     * 검색 경로 결과 대기 (기한 초과 시 작업을 취소하고 빈 결과 반환)
+     *
+     * @param leg 경로 이름
+     * @param future 검색 작업
+     * @param startNanos 검색 시작 시각 (System.nanoTime)
+     * @param timeoutMs 경로 기한
+     * @param missingLegs 결과에 반영되지 못한 경로 목록 (기한 초과/실패 시 추가)
+     * @return 검색 결과 (기한 초과/실패 시 빈 리스트)
+     */
+    private List<ScoredSegment> awaitLeg(String leg, Future<List<ScoredSegment>> future,
+                                         long startNanos, long timeoutMs, List<String> missingLegs) {
+        if (future == null) {
+            missingLegs.add(leg);
+            return List.of();
+        }
 
-            long searchTime = System.currentTimeMillis() - startTime;
+        long remainingNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMs) - (System.nanoTime() - startNanos);
 
-            logger.info("Hybrid Search completed in {}ms, returned {} results", searchTime, fusedResults.size());
+        try {
+            return future.get(Math.max(0L, remainingNanos), TimeUnit.NANOSECONDS);
 
-            return new HybridSearchResult(
-                    fusedResults,
-                    vectorResults.size(),
-                    bm25Results.size(),
-                    fusedResults.size(),
-                    searchTime
-            );
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            logger.warn("{} search missed its {}ms deadline, continuing with partial results", leg, timeoutMs);
 
-        } catch (InterruptedException | ExecutionException e) {
-            logger.error("Hybrid search execution failed", e);
-            long searchTime = System.currentTimeMillis() - startTime;
+        } catch (ExecutionException e) {
+            logger.error("{} search failed", leg, e.getCause());
 
-            // 실패 시 Vector Search로 폴백
-            logger.warn("Falling back to Vector Search only");
-            return performVectorSearchOnly(query, maxResults);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            logger.warn("{} search interrupted", leg);
         }
+
+        missingLegs.add(leg);
+        return List.of();
     }
 
     /**
      * Vector Search 수행
      *
      * @param query 검색 쿼리
+     * @param queryEmbedding 쿼리 임베딩 (null이면 새로 생성)
      * @param maxResults 최대 결과 수
      * @return Vector Search 결과
      */
-    private List<ScoredSegment> performVectorSearch(String query, int maxResults) {
+    private List<ScoredSegment> performVectorSearch(String query, float[] queryEmbedding, int maxResults) {
         logger.debug("Performing Vector Search for: {}", query);
 
-        // 쿼리 임베딩 생성
-        var queryEmbedding = embeddingService.embed(query);
+        // 쿼리 임베딩 생성 (이미 계산한 임베딩이 있으면 재사용)
+        Embedding embedding = queryEmbedding != null
+                ? Embedding.from(queryEmbedding)
+                : embeddingService.embed(query).content();
 
         // Vector Store에서 검색
         List<EmbeddingMatch<TextSegment>> matches = embeddingStore.findRelevant(
-                queryEmbedding.content(),
+                embedding,
                 maxResults
         );
 
@@ -157,19 +449,14 @@ public class HybridSearchService {
      * @param maxResults 최대 결과 수
      * @return BM25 Search 결과
      */
-    private List<ScoredSegment> performBM25Search(String query, int maxResults) {
+    private List<ScoredSegment> performBM25Search(String query, int maxResults) throws Exception {
         logger.debug("Performing BM25 Search for: {}", query);
 
-        try {
-            return bm25SearchService.search(query, maxResults);
-        } catch (Exception e) {
-            logger.error("BM25 search failed", e);
-            return List.of();
-        }
+        return bm25SearchService.search(query, maxResults);
     }
 
     /**
-     * RRF를 사용하여 Vector Search와 BM25 Search 결과 통합
+     * 설정된 융합 함수로 Vector Search와 BM25 Search 결과 통합
      *
      * @param vectorResults Vector Search 결과
      * @param bm25Results BM25 Search 결과
@@ -181,31 +468,14 @@ public class HybridSearchService {
             List<ScoredSegment> bm25Results,
             int maxResults) {
 
-        logger.debug("Fusing results with RRF (vectorWeight: {}, keywordWeight: {})", vectorWeight, keywordWeight);
+        logger.debug("Fusing results with {} (vectorWeight: {}, keywordWeight: {})",
+                fusionMethod, vectorWeight, keywordWeight);
 
-        // RRF 점수 계산
-        Map<String, Double> fusionScores = RRFCalculator.fuseTwoResults(
-                vectorResults,
-                bm25Results,
-                vectorWeight,
-                keywordWeight
-        );
-
-        // ID -> ScoredSegment 매핑 생성 (원본 데이터 보존)
-        Map<String, ScoredSegment> segmentMap = new HashMap<>();
-
-        for (ScoredSegment segment : vectorResults) {
-            segmentMap.put(segment.getId(), segment);
-        }
-
-        for (ScoredSegment segment : bm25Results) {
-            segmentMap.putIfAbsent(segment.getId(), segment);
-        }
-
-        // RRF 점수로 정렬하고 최종 결과 반환
-        List<ScoredSegment> fusedResults = RRFCalculator.sortAndLimitResults(
-                fusionScores,
-                segmentMap,
+        // 동일 ID는 Vector 결과의 세그먼트를 보존 (앞 리스트 우선)
+        List<ScoredSegment> fusedResults = RankFusion.fuse(
+                List.of(vectorResults, bm25Results),
+                new double[]{vectorWeight, keywordWeight},
+                fusionFunction,
                 maxResults
         );
 
@@ -221,10 +491,10 @@ public class HybridSearchService {
      * @param maxResults 최대 결과 수
      * @return Vector Search 결과
      */
-    private HybridSearchResult performVectorSearchOnly(String query, int maxResults) {
+    private HybridSearchResult performVectorSearchOnly(String query, float[] queryEmbedding, int maxResults) {
         long startTime = System.currentTimeMillis();
 
-        List<ScoredSegment> vectorResults = performVectorSearch(query, maxResults);
+        List<ScoredSegment> vectorResults = performVectorSearch(query, queryEmbedding, maxResults);
 
         long searchTime = System.currentTimeMillis() - startTime;
 
@@ -246,6 +516,27 @@ public class HybridSearchService {
         return enabled;
     }
 
+    /**
+     * 조항 번호로 세그먼트 직접 조회 (Vector/BM25 검색 및 RRF 생략)
+     *
+     * @param regulationType 규정 유형 (null이면 전체 규정)
+     * @param articleNumber 조항 번호 ("제23조" 형식)
+     * @param maxResults 최대 결과 수
+     * @return 조회 결과 (비활성화 또는 오류 시 빈 리스트)
+     */
+    public List<ScoredSegment> findByArticle(String regulationType, String articleNumber, int maxResults) {
+        if (!enabled) {
+            return List.of();
+        }
+
+        try {
+            return bm25SearchService.findByArticle(regulationType, articleNumber, maxResults);
+        } catch (Exception e) {
+            logger.error("Article lookup failed: {} {}", regulationType, articleNumber, e);
+            return List.of();
+        }
+    }
+
     /**
      * BM25 인덱스에 세그먼트 추가
      *
@@ -267,6 +558,71 @@ public class HybridSearchService {
         }
     }
 
+    /**
+     * BM25 인덱스에 여러 세그먼트를 일괄 upsert (segment ID 기준, 중복 없음)
+     * 커밋은 BM25SearchService의 그룹 커밋 정책에 따라 지연됩니다.
+     *
+     * @param segments 텍스트 세그먼트 목록
+     * @param regulationType 규정 유형
+     * @param segmentIds 세그먼트 ID 목록
+     * @throws RuntimeException BM25 인덱싱 실패 (호출한 쪽에서 처리)
+     */
+    public void indexSegments(List<TextSegment> segments, String regulationType, List<String> segmentIds) {
+        if (!enabled) {
+            logger.debug("Hybrid Search disabled, skipping BM25 indexing");
+            return;
+        }
+
+        try {
+            bm25SearchService.upsertSegments(segments, regulationType, segmentIds);
+            logger.debug("{} segments upserted ({})", segments.size(), regulationType);
+        } catch (Exception e) {
+            logger.error("Failed to index {} segments ({})", segments.size(), regulationType, e);
+            throw new RuntimeException("BM25 세그먼트 인덱싱 중 오류가 발생했습니다: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * BM25 인덱스에서 문서의 세그먼트 전체를 한 번에 교체 (이전 세그먼트 삭제 + 새 세그먼트 추가)
+     * 커밋은 BM25SearchService의 그룹 커밋 정책에 따라 지연됩니다.
+     *
+     * @param documentId 문서 ID
+     * @param segments 텍스트 세그먼트 목록
+     * @param regulationType 규정 유형
+     * @param segmentIds 세그먼트 ID 목록
+     * @throws RuntimeException BM25 인덱싱 실패 (호출한 쪽에서 처리)
+     */
+    public void replaceDocumentSegments(String documentId, List<TextSegment> segments, String regulationType,
+                                        List<String> segmentIds) {
+        if (!enabled) {
+            logger.debug("Hybrid Search disabled, skipping BM25 indexing");
+            return;
+        }
+
+        try {
+            bm25SearchService.replaceDocumentSegments(documentId, segments, regulationType, segmentIds);
+            logger.debug("{} segments replaced for document: {} ({})", segments.size(), documentId, regulationType);
+        } catch (Exception e) {
+            logger.error("Failed to replace BM25 segments for document: {}", documentId, e);
+            throw new RuntimeException("BM25 세그먼트 교체 중 오류가 발생했습니다: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * BM25 그룹 커밋 요청 (배치 크기 도달 시에만 즉시 커밋)
+     */
+    public void requestCommit() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            bm25SearchService.requestCommit();
+        } catch (Exception e) {
+            logger.error("Failed to request BM25 commit", e);
+        }
+    }
+
     /**
      * BM25 인덱스 커밋 (변경사항 디스크에 저장)
      */
@@ -320,6 +676,8 @@ public class HybridSearchService {
      * 서비스 종료 시 리소스 정리
      */
     public void close() {
+        searchExecutor.shutdownNow();
+
         if (bm25SearchService != null) {
             try {
                 bm25SearchService.close();
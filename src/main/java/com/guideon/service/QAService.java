@@ -1,16 +1,35 @@
 package com.guideon.service;
 
+import com.guideon.config.ConfigLoader;
 import com.guideon.dto.QuestionAnalysisDTO;
 import com.guideon.dto.QuestionAnswerDTO;
 import com.guideon.dto.QuestionReferenceDTO;
+import com.guideon.exception.BulkheadFullException;
+import com.guideon.model.ArticleReference;
 import com.guideon.model.QueryAnalysisResult;
 import com.guideon.model.RegulationReference;
 import com.guideon.model.RegulationSearchResult;
+import com.guideon.util.AnswerCache;
+import com.guideon.util.IoExecutors;
+import com.guideon.util.SemanticQuestionIndex;
+import com.guideon.util.SingleFlight;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
 /**
@@ -20,13 +39,83 @@ import java.util.stream.Collectors;
 public class QAService {
     private static final Logger logger = LoggerFactory.getLogger(QAService.class);
 
+    // 근거 세그먼트에 규정 유형 메타데이터가 없을 때의 표시 (RegulationSearchService.convertToReferences)
+    private static final String UNKNOWN_REGULATION_TYPE = "알 수 없음";
+
     private final QueryAnalysisService queryAnalysisService;
     private final RegulationSearchService regulationSearchService;
+    private final AnswerCache answerCache;
+    private final SemanticQuestionIndex semanticIndex;
+
+    // 질의 분석과 병렬로 원문 질문 1단계 검색 (null이면 비활성화)
+    private final ExecutorService speculativeExecutor;
+    private final double speculativeReuseSimilarity;
+
+    // 스트리밍 답변 처리 (분석/검색은 요청 스레드가 아닌 전용 Executor에서 실행)
+    private final ExecutorService streamExecutor;
+
+    // 같은 질문의 동시 요청 병합 (질문 처리는 전용 Executor에서 실행)
+    private final SingleFlight<QuestionAnswerDTO> questionFlights;
+
+    // 질문 분석과 답변을 한 번의 LLM 호출로 처리할 의도 (규칙 기반 분석의 의도 기준, 비어 있으면 비활성화)
+    private volatile Set<String> singleCallIntents;
 
     public QAService(QueryAnalysisService queryAnalysisService,
-                     RegulationSearchService regulationSearchService) {
+                     RegulationSearchService regulationSearchService,
+                     AnswerCache answerCache,
+                     SemanticQuestionIndex semanticIndex,
+                     ConfigLoader config) {
         this.queryAnalysisService = queryAnalysisService;
         this.regulationSearchService = regulationSearchService;
+        this.answerCache = answerCache;
+        this.semanticIndex = semanticIndex;
+        this.speculativeExecutor = config.isSpeculativeRetrievalEnabled()
+                ? IoExecutors.newExecutor(
+                        "speculative-retrieval",
+                        config.getSpeculativeExecutorThreads(),
+                        config.getSpeculativeExecutorQueueCapacity())
+                : null;
+        this.speculativeReuseSimilarity = config.getSpeculativeReuseSimilarity();
+        this.streamExecutor = IoExecutors.newExecutor(
+                "qa-stream",
+                config.getStreamExecutorThreads(),
+                config.getStreamExecutorQueueCapacity());
+        this.questionFlights = new SingleFlight<>(
+                IoExecutors.newExecutor(
+                        "qa-ask",
+                        config.getAskExecutorThreads(),
+                        config.getAskExecutorQueueCapacity()),
+                config.isQuestionCoalescingEnabled());
+        this.singleCallIntents = Set.copyOf(config.getSingleCallIntents());
+
+        logger.info("QAService initialized: speculativeRetrieval={}, reuseSimilarity={}, answerCache={}, semanticCache={}, singleCallIntents={}, coalescing={}",
+                speculativeExecutor != null, speculativeReuseSimilarity, answerCache.isEnabled(), semanticIndex.isEnabled(),
+                singleCallIntents, config.isQuestionCoalescingEnabled());
+    }
+
+    /**
+     * 테스트용: 단일 호출 모드 적용 의도 설정 (빈 집합이면 항상 분석/답변 2회 호출, A/B 비교용)
+     */
+    public void setSingleCallIntents(Set<String> singleCallIntents) {
+        this.singleCallIntents = Set.copyOf(singleCallIntents);
+    }
+
+    /**
+     * 사용자 질문에 대한 답변 생성 (비동기, 같은 질문이 처리 중이면 그 결과를 함께 받음)
+     * 클라이언트 연결이 끊기면 반환된 핸들의 cancel()을 호출해야 합니다.
+     * 같은 질문을 기다리는 다른 요청이 없을 때만 처리가 중단됩니다.
+     *
+     * @return 결과 핸들
+     */
+    public SingleFlight.Call<QuestionAnswerDTO> askQuestionShared(String question) {
+        return questionFlights.submit(question, () -> askQuestion(question));
+    }
+
+    /**
+     * 같은 질문의 동시 요청 병합 통계
+     */
+    public Map<String, Object> getCoalescingStats() {
+        return questionFlights.getStats();
     }
 
     /**
@@ -35,13 +124,87 @@ public class QAService {
     public QuestionAnswerDTO askQuestion(String question) {
         logger.info("Processing question: {}", question);
 
+        // 같은 질문의 최종 답변이 캐시에 있으면 그대로 반환
+        QuestionAnswerDTO cached = answerCache.get(question);
+        if (cached != null) {
+            logger.info("Answer cache hit");
+            return cached;
+        }
+        long generation = answerCache.currentGeneration();
+
         try {
-            // 1. 질문 분석
-            QueryAnalysisResult analysisResult = queryAnalysisService.analyzeQuery(question);
-            logger.debug("Question analysis completed: {}", analysisResult);
+            QueryAnalysisResult analysisResult = null;
+            RegulationSearchResult searchResult = null;
+            float[] questionEmbedding = null;
+
+            // 0. 조항 번호를 명시한 질문은 조항 색인에서 바로 조회 (LLM 분석/임베딩/검색 생략)
+            ArticleReference articleReference = queryAnalysisService.detectArticleReference(question);
+            if (articleReference != null) {
+                analysisResult = queryAnalysisService.createArticleLookupAnalysis(question, articleReference);
+                searchResult = regulationSearchService.searchByArticle(articleReference, analysisResult);
+            } else if (semanticIndex.isEnabled() && answerCache.isEnabled()) {
+                // 표현만 다른 이전 질문의 캐시 답변 재사용
+                questionEmbedding = embedQuestion(question);
+                QuestionAnswerDTO similar = findSimilarAnswer(question, questionEmbedding);
+                if (similar != null) {
+                    return similar;
+                }
+            }
 
-            // 2. 규정 검색 및 답변 생성
-            RegulationSearchResult searchResult = regulationSearchService.search(analysisResult);
+            // 단일 호출 모드: LLM 분석 없이 규칙 기반 분석으로 검색하고, 분석 필드와 답변을 한 번에 생성
+            QueryAnalysisService.QuickAnalysis quick = null;
+            if (searchResult == null && !singleCallIntents.isEmpty()) {
+                quick = queryAnalysisService.analyzeWithoutLlm(question);
+                if (quick.complete()) {
+                    analysisResult = quick.analysis();
+                } else if (singleCallIntents.contains(quick.analysis().getIntent())) {
+                    QueryAnalysisResult ruleAnalysis = quick.analysis();
+                    RegulationSearchService.SingleCallResult single = regulationSearchService.searchSingleCall(
+                            ruleAnalysis,
+                            section -> queryAnalysisService.completeSingleCallAnalysis(question, section, ruleAnalysis));
+                    analysisResult = single.analysis();
+                    searchResult = single.result();
+                }
+            }
+
+            if (searchResult == null) {
+                // 1. 원문 질문으로 1단계 검색을 미리 시작 (질문 분석과 병렬, 분석이 이미 끝났으면 생략)
+                Future<List<EmbeddingMatch<TextSegment>>> speculative = null;
+                if (analysisResult == null) {
+                    if (questionEmbedding == null && speculativeExecutor != null) {
+                        questionEmbedding = embedQuestion(question);
+                    }
+                    speculative = startSpeculativeRetrieval(question, questionEmbedding);
+                }
+
+                try {
+                    // 2. 질문 분석 (Few-shot 예제 선택도 같은 질문 임베딩 사용, 단일 호출 판단에 쓴 분석은 재사용)
+                    if (analysisResult == null) {
+                        analysisResult = quick != null
+                                ? queryAnalysisService.analyzeQuery(question, quick, questionEmbedding)
+                                : queryAnalysisService.analyzeQuery(question, questionEmbedding);
+                        logger.debug("Question analysis completed: {}", analysisResult);
+                    }
+
+                    // 3. 규정 검색 및 답변 생성
+                    List<EmbeddingMatch<TextSegment>> candidates = null;
+                    if (speculative != null) {
+                        try {
+                            candidates = resolveCandidates(analysisResult, speculative);
+                        } catch (Exception e) {
+                            logger.warn("Retrieval with speculative candidates failed: {}", e.getMessage());
+                        }
+                    }
+                    // (답변 생성 Few-shot 예제 선택도 같은 질문 임베딩 사용)
+                    searchResult = candidates != null
+                            ? regulationSearchService.search(analysisResult, candidates, questionEmbedding)
+                            : regulationSearchService.search(analysisResult, questionEmbedding);
+                } finally {
+                    if (speculative != null) {
+                        speculative.cancel(true);
+                    }
+                }
+            }
             logger.debug("Search completed with confidence: {}", searchResult.getConfidenceScore());
 
             // 3. DTO로 변환
@@ -54,20 +217,303 @@ public class QAService {
                 referenceDTOs,
                 searchResult.getConfidenceScore()
             );
+            answerDTO.setDegraded(searchResult.isDegraded());
+
+            // 관련 규정을 찾은 답변만 캐시 (오류/Fallback/근거 조항만 안내한 응답 제외)
+            if (searchResult.isFoundRelevantRegulation() && !searchResult.getReferences().isEmpty()
+                    && !searchResult.isDegraded()) {
+                answerCache.put(question, answerDTO, referencedRegulationTypes(analysisResult, searchResult), generation);
+                semanticIndex.add(question, questionEmbedding);
+            }
 
             logger.info("Question processed successfully");
             return answerDTO;
 
+        } catch (BulkheadFullException e) {
+            // 모델 동시 호출 한도 초과는 감싸지 않고 전달 (API는 503 + Retry-After)
+            throw e;
         } catch (Exception e) {
             logger.error("Error processing question", e);
             throw new RuntimeException("질문 처리 중 오류가 발생했습니다: " + e.getMessage(), e);
         }
     }
 
+    /**
+     * 요청당 한 번만 원문 질문 임베딩 (유사 질문 캐시, 미리 시작하는 검색, Few-shot 예제 선택 공용)
+     *
+     * @return 질문 임베딩 (실패하면 null, 각 단계가 필요할 때 새로 생성)
+     */
+    private float[] embedQuestion(String question) {
+        try {
+            return regulationSearchService.embedQuery(question);
+        } catch (Exception e) {
+            logger.warn("Question embedding failed: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 유사 질문 색인에서 가장 가까운 이전 질문을 찾아 그 캐시 답변 반환
+     *
+     * @return 캐시 답변 (유사 질문이 없거나 답변이 무효화/만료되었으면 null)
+     */
+    private QuestionAnswerDTO findSimilarAnswer(String question, float[] questionEmbedding) {
+        SemanticQuestionIndex.Match match = semanticIndex.find(question, questionEmbedding);
+        if (match == null) {
+            return null;
+        }
+
+        // 답변 캐시가 세대/무효화를 판단 (문서가 바뀐 규정의 답변은 여기서 걸러짐)
+        QuestionAnswerDTO answer = answerCache.peek(match.question());
+        if (answer == null) {
+            semanticIndex.recordStale(match);
+            return null;
+        }
+
+        long auditId = semanticIndex.recordHit(question, match);
+        logger.info("Semantic answer cache hit (audit={}, similarity={}): '{}' ~ '{}'",
+                auditId, String.format("%.3f", match.similarity()), question, match.question());
+        return answer;
+    }
+
+    /**
+     * 답변이 의존하는 규정 유형 (근거 조항의 규정 + 질의 분석의 규정)
+     * 규정 유형을 알 수 없는 근거가 있으면 빈 집합을 반환하여 모든 문서 변경에 무효화되게 합니다.
+     */
+    private static Set<String> referencedRegulationTypes(QueryAnalysisResult analysis, RegulationSearchResult result) {
+        Set<String> types = new LinkedHashSet<>();
+        for (RegulationReference reference : result.getReferences()) {
+            String type = reference.getDocumentName();
+            if (type == null || type.isBlank() || UNKNOWN_REGULATION_TYPE.equals(type)) {
+                return Set.of();
+            }
+            types.add(type);
+        }
+        if (analysis != null && analysis.getRegulationTypes() != null) {
+            types.addAll(analysis.getRegulationTypes());
+        }
+        return types;
+    }
+
+    /**
+     * 사용자 질문에 대한 스트리밍 답변 생성 (비동기)
+     * 분석 -> 근거 조항 -> 답변 조각 -> 완료 순서로 handler에 전달합니다.
+     *
+     * @return 진행 중인 작업 (클라이언트 연결 종료 시 취소용)
+     */
+    public Future<?> askQuestionStreaming(String question, AnswerStreamHandler handler) {
+        try {
+            return streamExecutor.submit(() -> streamQuestion(question, handler));
+        } catch (RejectedExecutionException e) {
+            logger.warn("Streaming question rejected: executor saturated");
+            handler.onError(e);
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    private void streamQuestion(String question, AnswerStreamHandler handler) {
+        logger.info("Processing streaming question: {}", question);
+
+        try {
+            // 0. 조항 번호를 명시한 질문은 조항 색인에서 바로 조회
+            ArticleReference articleReference = queryAnalysisService.detectArticleReference(question);
+            if (articleReference != null) {
+                QueryAnalysisResult articleAnalysis =
+                        queryAnalysisService.createArticleLookupAnalysis(question, articleReference);
+                if (regulationSearchService.searchByArticleStreaming(articleReference, articleAnalysis,
+                        withAnalysis(articleAnalysis, handler))) {
+                    return;
+                }
+            }
+
+            // 1. 원문 질문으로 1단계 검색을 미리 시작 (질문 분석과 병렬)
+            float[] questionEmbedding = speculativeExecutor != null ? embedQuestion(question) : null;
+            Future<List<EmbeddingMatch<TextSegment>>> speculative =
+                    startSpeculativeRetrieval(question, questionEmbedding);
+            try {
+                // 2. 질문 분석 (Few-shot 예제 선택도 같은 질문 임베딩 사용)
+                QueryAnalysisResult analysisResult = queryAnalysisService.analyzeQuery(question, questionEmbedding);
+                if (handler.isCancelled()) {
+                    logger.info("Stream cancelled after question analysis");
+                    return;
+                }
+                handler.onAnalysis(analysisResult);
+
+                // 3. 후보 결정 후 스트리밍 답변 생성
+                List<EmbeddingMatch<TextSegment>> candidates = resolveCandidates(analysisResult, speculative);
+                regulationSearchService.searchStreaming(analysisResult, candidates, questionEmbedding, handler);
+            } finally {
+                if (speculative != null) {
+                    speculative.cancel(true);
+                }
+            }
+
+        } catch (Exception e) {
+            logger.error("Error processing streaming question", e);
+            handler.onError(e);
+        }
+    }
+
+    /**
+     * 조항 조회가 성공했을 때만 분석 결과를 먼저 전달 (실패하면 일반 분석 결과를 전달)
+     */
+    private static AnswerStreamHandler withAnalysis(QueryAnalysisResult analysis, AnswerStreamHandler handler) {
+        return new AnswerStreamHandler() {
+            @Override
+            public void onReferences(List<RegulationReference> references) {
+                handler.onAnalysis(analysis);
+                handler.onReferences(references);
+            }
+
+            @Override
+            public void onToken(String token) {
+                handler.onToken(token);
+            }
+
+            @Override
+            public void onComplete(RegulationSearchResult result, double qualityScore, List<String> referencedArticles) {
+                handler.onComplete(result, qualityScore, referencedArticles);
+            }
+
+            @Override
+            public void onError(Throwable error) {
+                handler.onError(error);
+            }
+
+            @Override
+            public boolean isCancelled() {
+                return handler.isCancelled();
+            }
+
+            @Override
+            public void onCancel(Runnable action) {
+                handler.onCancel(action);
+            }
+        };
+    }
+
+    /**
+     * 원문 질문으로 1단계 검색(ReRanking 전 후보 조회) 시작
+     *
+     * @param questionEmbedding 원문 질문 임베딩 (null이면 검색에서 새로 생성)
+     * @return 진행 중인 검색 (비활성화되었거나 Executor가 포화 상태면 null)
+     */
+    private Future<List<EmbeddingMatch<TextSegment>>> startSpeculativeRetrieval(String question,
+                                                                               float[] questionEmbedding) {
+        if (speculativeExecutor == null) {
+            return null;
+        }
+        try {
+            return speculativeExecutor.submit(
+                    () -> regulationSearchService.retrieveCandidates(question, questionEmbedding));
+        } catch (RejectedExecutionException e) {
+            logger.warn("Speculative retrieval skipped: executor saturated");
+            return null;
+        }
+    }
+
+    /**
+     * 검색 후보 결정
+     * - 미리 조회하지 않았으면 분석된 검색 쿼리로 조회
+     * - 분석된 검색 쿼리가 원문 질문과 충분히 비슷하면 미리 조회한 후보를 그대로 사용
+     * - 아니면 검색 쿼리로 다시 조회하고 미리 조회한 후보와 병합
+     *
+     * @param speculative 원문 질문으로 미리 시작한 검색 (없으면 null)
+     */
+    List<EmbeddingMatch<TextSegment>> resolveCandidates(
+            QueryAnalysisResult analysis,
+            Future<List<EmbeddingMatch<TextSegment>>> speculative) {
+
+        String searchQuery = analysis.getSearchQuery();
+        if (speculative == null) {
+            return regulationSearchService.retrieveCandidates(searchQuery);
+        }
+
+        double similarity = searchQuery == null || searchQuery.isBlank()
+                ? 1.0
+                : bigramContainment(searchQuery, analysis.getOriginalQuery());
+
+        if (similarity >= speculativeReuseSimilarity) {
+            List<EmbeddingMatch<TextSegment>> candidates = awaitSpeculative(speculative);
+            if (candidates != null) {
+                logger.info("Speculative retrieval reused (similarity={}, {} candidates)",
+                        String.format("%.2f", similarity), candidates.size());
+                return candidates;
+            }
+            return regulationSearchService.retrieveCandidates(searchQuery);
+        }
+
+        // 검색 쿼리로 다시 조회 (미리 조회한 검색은 계속 진행)
+        List<EmbeddingMatch<TextSegment>> refined = null;
+        RuntimeException refinedFailure = null;
+        try {
+            refined = regulationSearchService.retrieveCandidates(searchQuery);
+        } catch (RuntimeException e) {
+            logger.warn("Refined retrieval failed, using speculative candidates only: {}", e.getMessage());
+            refinedFailure = e;
+        }
+        List<EmbeddingMatch<TextSegment>> candidates = awaitSpeculative(speculative);
+
+        if (refined == null && candidates == null) {
+            throw refinedFailure;
+        }
+        if (refined != null && candidates != null) {
+            candidates = regulationSearchService.mergeCandidates(refined, candidates);
+        } else if (refined != null) {
+            candidates = refined;
+        }
+
+        logger.info("Speculative retrieval merged with refined retrieval (similarity={}, {} candidates)",
+                String.format("%.2f", similarity), candidates.size());
+        return candidates;
+    }
+
+    private List<EmbeddingMatch<TextSegment>> awaitSpeculative(Future<List<EmbeddingMatch<TextSegment>>> speculative) {
+        try {
+            return speculative.get();
+        } catch (ExecutionException e) {
+            logger.warn("Speculative retrieval failed: {}", e.getCause() != null ? e.getCause().getMessage() : e);
+            return null;
+        } catch (CancellationException e) {
+            logger.warn("Speculative retrieval was cancelled");
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    /**
+     * 검색 쿼리의 문자 bigram 중 원문 질문에도 있는 비율 (공백 무시)
+     * 분석이 조사/어미만 정리했으면 1.0에 가깝고, 새로운 용어를 추가했으면 낮아집니다.
+     */
+    static double bigramContainment(String searchQuery, String question) {
+        String query = searchQuery.replaceAll("\\s+", "");
+        String original = question.replaceAll("\\s+", "");
+        if (query.length() < 2) {
+            return original.contains(query) ? 1.0 : 0.0;
+        }
+
+        Set<String> originalBigrams = new HashSet<>();
+        for (int i = 0; i + 2 <= original.length(); i++) {
+            originalBigrams.add(original.substring(i, i + 2));
+        }
+
+        int total = 0;
+        int shared = 0;
+        for (int i = 0; i + 2 <= query.length(); i++) {
+            total++;
+            if (originalBigrams.contains(query.substring(i, i + 2))) {
+                shared++;
+            }
+        }
+        return (double) shared / total;
+    }
+
     /**
      * QueryAnalysisResult를 QuestionAnalysisDTO로 변환
      */
-    private QuestionAnalysisDTO convertToAnalysisDTO(QueryAnalysisResult analysisResult) {
+    public QuestionAnalysisDTO convertToAnalysisDTO(QueryAnalysisResult analysisResult) {
         return new QuestionAnalysisDTO(
             analysisResult.getKeywords(),
             analysisResult.getRegulationTypes(),
@@ -78,7 +524,7 @@ public class QAService {
     /**
      * RegulationReference 리스트를 QuestionReferenceDTO 리스트로 변환
      */
-    private List<QuestionReferenceDTO> convertToReferenceDTOs(List<RegulationReference> references) {
+    public List<QuestionReferenceDTO> convertToReferenceDTOs(List<RegulationReference> references) {
         return references.stream()
             .map(ref -> new QuestionReferenceDTO(
                 ref.getDocumentName(),
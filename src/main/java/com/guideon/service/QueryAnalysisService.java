@@ -1,18 +1,28 @@
 package com.guideon.service;
 
 import com.guideon.config.ConfigLoader;
-import com.guideon.config.RegulationInferenceConfigLoader;
+import com.guideon.model.ArticleReference;
 import com.guideon.model.QueryAnalysisResult;
-import com.guideon.model.prompt.FewShotExample;
+import com.guideon.resilience.GuardedModels;
+import com.guideon.resilience.ModelCallPolicy;
+import com.guideon.util.QueryAnalysisCache;
+import com.guideon.util.RuleBasedQueryAnalyzer;
+import com.guideon.util.RegulationArticleExtractor;
 import com.guideon.util.prompt.FewShotExampleManager;
+import com.guideon.util.prompt.FewShotExampleSelector;
 import dev.langchain4j.model.chat.ChatLanguageModel;
 import dev.langchain4j.model.googleai.GoogleAiGeminiChatModel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -23,8 +33,36 @@ public class QueryAnalysisService {
     private static final Logger logger = LoggerFactory.getLogger(QueryAnalysisService.class);
 
     private final ChatLanguageModel chatModel;
+    private final ModelCallPolicy analysisCallPolicy;
+    private final QueryAnalysisCache analysisCache;
     private final List<String> regulationTypes;
+    private final RuleBasedQueryAnalyzer ruleBasedAnalyzer;
+    private final double ruleConfidenceThreshold;
     private boolean useFewShotExamples = true; // Few-shot 예제 사용 여부 (테스트용)
+    private FewShotExampleSelector exampleSelector; // 질문별 Few-shot 예제 선택 (null이면 고정 예제)
+    private boolean llmAnalysisOnly = false; // 캐시/규칙 단계 생략 여부 (테스트용)
+
+    /**
+     * 질의 분석 단계 (어느 단계에서 결과가 결정되었는지)
+     */
+    private enum Tier {
+        CACHE,    // 분석 결과 캐시 적중
+        RULE,     // 규칙 기반 분석 (신뢰도 임계값 이상)
+        LLM,         // LLM 분석
+        SINGLE_CALL, // 규칙 기반 분석으로 검색, 분석 필드는 답변 생성 호출에서 함께 생성
+        FALLBACK     // LLM 분석 실패 -> 규칙 기반 분석
+    }
+
+    /**
+     * LLM 호출 없는 분석 결과
+     *
+     * @param analysis 분석 결과 (분석 결과 캐시 또는 규칙 기반 분석)
+     * @param complete true이면 LLM 분석이 필요 없음 (캐시 적중 또는 규칙 신뢰도가 임계값 이상)
+     */
+    public record QuickAnalysis(QueryAnalysisResult analysis, boolean complete) {
+    }
+
+    private final Map<Tier, LongAdder> tierCounts = new EnumMap<>(Tier.class);
 
     /**
      * application.properties 기반 생성자
@@ -32,11 +70,28 @@ public class QueryAnalysisService {
     public QueryAnalysisService(ConfigLoader config) {
         String apiKey = config.getGeminiApiKey();
 
-        this.chatModel = GoogleAiGeminiChatModel.builder()
+        // 답변 생성과 같은 Gemini 모델의 차단기/동시 호출 제한을 공유 (차단기가 열려 있으면 키워드 기반 분석으로 대체)
+        this.chatModel = GuardedModels.wrapChat(GoogleAiGeminiChatModel.builder()
                 .apiKey(apiKey)
                 .modelName("gemini-2.5-flash")
                 .temperature(0.3) // 일관된 분석을 위해 낮은 temperature
-                .build();
+                .build(), GuardedModels.forModel("gemini-chat", config));
+
+        // 분석 호출 기한/헤지 (기한 초과 시 키워드 기반 분석으로 대체)
+        this.analysisCallPolicy = new ModelCallPolicy(
+                "query-analysis",
+                config.getAnalysisCallTimeoutMs(),
+                config.isAnalysisCallHedgeEnabled(),
+                config.getModelCallHedgeMinDelayMs(),
+                ModelCallPolicy.sharedExecutor(config));
+
+        // 분석 결과 캐시 (같은 질문은 LLM 호출 생략, 저장 파일이 있으면 이전 실행의 결과 적재)
+        String cacheFile = config.getQueryAnalysisCacheFile();
+        this.analysisCache = new QueryAnalysisCache(
+                config.getQueryAnalysisCacheSize(),
+                config.getQueryAnalysisCacheTtlMinutes() * 60_000L,
+                cacheFile != null ? Paths.get(cacheFile) : null);
+        this.analysisCache.load();
 
         // Properties 파일에서 규정 유형 로드
         String typesStr = config.getProperty("regulation.types", "");
@@ -46,6 +101,11 @@ public class QueryAnalysisService {
             this.regulationTypes = Arrays.asList(typesStr.split(","));
         }
 
+        // 규칙 기반 분석 단계 (신뢰도가 임계값 이상이면 LLM 호출 생략)
+        this.ruleBasedAnalyzer = new RuleBasedQueryAnalyzer(regulationTypes);
+        this.ruleConfidenceThreshold = config.getQueryAnalysisRuleConfidenceThreshold();
+        initTierCounts();
+
         logger.info("QueryAnalysisService initialized with {} regulation types", regulationTypes.size());
     }
 
@@ -59,7 +119,12 @@ public class QueryAnalysisService {
                 .modelName("gemini-2.5-flash")
                 .temperature(0.3)
                 .build();
+        this.analysisCallPolicy = ModelCallPolicy.direct("query-analysis");
+        this.analysisCache = new QueryAnalysisCache(0, 0, null);
         this.regulationTypes = getDefaultRegulationTypes();
+        this.ruleBasedAnalyzer = new RuleBasedQueryAnalyzer(regulationTypes);
+        this.ruleConfidenceThreshold = Double.MAX_VALUE; // 규칙 단계 비활성화 (폴백 전용)
+        initTierCounts();
     }
 
     /**
@@ -69,6 +134,26 @@ public class QueryAnalysisService {
         this.useFewShotExamples = useFewShotExamples;
     }
 
+    /**
+     * 질문별 Few-shot 예제 선택기 설정 (null이면 사용 빈도순 고정 예제 사용)
+     */
+    public void setExampleSelector(FewShotExampleSelector exampleSelector) {
+        this.exampleSelector = exampleSelector;
+    }
+
+    /**
+     * 테스트용: 캐시/규칙 기반 단계를 생략하고 항상 LLM으로 분석 (프롬프트 비교 실험용)
+     */
+    public void setLlmAnalysisOnly(boolean llmAnalysisOnly) {
+        this.llmAnalysisOnly = llmAnalysisOnly;
+    }
+
+    private void initTierCounts() {
+        for (Tier tier : Tier.values()) {
+            tierCounts.put(tier, new LongAdder());
+        }
+    }
+
     // 사규 유형 목록 (CLUADE.md 기반)
     private static List<String> getDefaultRegulationTypes() {
         return Arrays.asList(
@@ -84,37 +169,236 @@ public class QueryAnalysisService {
 
     /**
      * 자연어 질문을 분석하여 구조화된 검색 쿼리로 변환
+     *
+     * 1. 분석 결과 캐시 (같은 질문)
+     * 2. 규칙 기반 분석 (신뢰도가 임계값 이상이면 여기서 종료)
+     * 3. LLM 분석 (실패 시 규칙 기반 분석 결과 사용)
      */
     public QueryAnalysisResult analyzeQuery(String userQuery) {
+        return analyzeQuery(userQuery, null);
+    }
+
+    /**
+     * 자연어 질문 분석 (요청에서 이미 계산한 질문 임베딩을 Few-shot 예제 선택에 사용)
+     *
+     * @param questionEmbedding 질문 임베딩 (null이면 예제 선택기가 새로 생성)
+     */
+    public QueryAnalysisResult analyzeQuery(String userQuery, float[] questionEmbedding) {
         logger.info("Analyzing query: {}", userQuery);
 
+        if (llmAnalysisOnly) {
+            return analyzeWithLlm(userQuery, null, questionEmbedding);
+        }
+        return analyzeQuery(userQuery, analyzeWithoutLlm(userQuery), questionEmbedding);
+    }
+
+    /**
+     * 이미 계산한 LLM 없는 분석 결과({@link #analyzeWithoutLlm})로 질문 분석 완료
+     * 단일 호출 모드를 적용하지 않은 질문에서 캐시 조회/규칙 기반 분석을 다시 하지 않도록 사용합니다.
+     *
+     * @param quick {@link #analyzeWithoutLlm} 결과 (complete이면 그대로 반환, 아니면 LLM 분석 실패 시 Fallback으로 사용)
+     * @param questionEmbedding 질문 임베딩 (null이면 예제 선택기가 새로 생성)
+     */
+    public QueryAnalysisResult analyzeQuery(String userQuery, QuickAnalysis quick, float[] questionEmbedding) {
+        if (quick.complete()) {
+            return quick.analysis();
+        }
+        return analyzeWithLlm(userQuery, quick.analysis(), questionEmbedding);
+    }
+
+    /**
+     * LLM 분석 (실패 시 규칙 기반 분석 결과 사용)
+     *
+     * @param ruleAnalysis 이미 계산한 규칙 기반 분석 결과 (없으면 null, 실패 시에만 새로 계산)
+     */
+    private QueryAnalysisResult analyzeWithLlm(String userQuery, QueryAnalysisResult ruleAnalysis,
+                                               float[] questionEmbedding) {
         try {
             // AI를 통한 질문 분석
-            String analysisPrompt = buildAnalysisPrompt(userQuery);
-            String aiResponse = chatModel.generate(analysisPrompt);
+            String analysisPrompt = buildAnalysisPrompt(userQuery, questionEmbedding);
+            String aiResponse = analysisCallPolicy.call(() -> chatModel.generate(analysisPrompt));
 
             // 분석 결과 파싱
             QueryAnalysisResult result = parseAnalysisResponse(userQuery, aiResponse);
 
+            // 형식이 어긋난 응답(검색 쿼리 누락)은 다음 질문에서 다시 분석하도록 캐시하지 않음
+            if (!llmAnalysisOnly && !result.getSearchQuery().isEmpty()) {
+                analysisCache.put(userQuery, result);
+            }
+
             logger.info("Query analysis completed: {}", result);
-            return result;
+            return record(Tier.LLM, result);
 
         } catch (Exception e) {
             logger.error("Error analyzing query", e);
-            // Fallback: 간단한 키워드 추출
-            return createFallbackAnalysis(userQuery);
+            // Fallback: 규칙 기반 분석 (신뢰도와 무관하게 사용)
+            logger.warn("Using fallback analysis for query: {}", userQuery);
+            if (ruleAnalysis == null) {
+                ruleAnalysis = ruleBasedAnalyzer.analyze(userQuery).analysis();
+            }
+            return record(Tier.FALLBACK, ruleAnalysis);
+        }
+    }
+
+    /**
+     * LLM 호출 없는 분석 (분석 결과 캐시 -> 규칙 기반 분석, 신뢰도와 무관하게 결과 반환)
+     * 단일 호출 모드에서 검색에 사용할 분석으로 사용합니다.
+     * complete가 true인 결과만 분석 단계 통계에 기록되며, 나머지는 {@link #completeSingleCallAnalysis}에서 기록됩니다.
+     */
+    public QuickAnalysis analyzeWithoutLlm(String userQuery) {
+        QueryAnalysisResult cached = analysisCache.get(userQuery);
+        if (cached != null) {
+            logger.info("Query analysis cache hit: {}", cached);
+            return new QuickAnalysis(record(Tier.CACHE, cached), true);
+        }
+
+        RuleBasedQueryAnalyzer.Result ruleResult = ruleBasedAnalyzer.analyze(userQuery);
+        if (ruleResult.confidence() >= ruleConfidenceThreshold) {
+            logger.info("Rule-based analysis accepted (confidence={}): {}",
+                    String.format("%.2f", ruleResult.confidence()), ruleResult.analysis());
+            return new QuickAnalysis(record(Tier.RULE, ruleResult.analysis()), true);
         }
+        return new QuickAnalysis(ruleResult.analysis(), false);
+    }
+
+    /**
+     * 단일 호출 응답의 분석 필드로 분석 결과 완성
+     * 응답에 없는 필드는 검색에 사용한 규칙 기반 분석 값으로 채우며, 검색 쿼리는 실제 검색에 사용한 쿼리를 유지합니다.
+     * 분석 필드가 모두 있으면 다음 질문을 위해 분석 결과 캐시에 저장합니다.
+     *
+     * @param userQuery 사용자 질문
+     * @param analysisSection 단일 호출 응답의 분석 부분 (없으면 빈 문자열)
+     * @param ruleAnalysis 검색에 사용한 규칙 기반 분석 결과
+     */
+    public QueryAnalysisResult completeSingleCallAnalysis(String userQuery, String analysisSection,
+                                                          QueryAnalysisResult ruleAnalysis) {
+        if (analysisSection == null || analysisSection.isBlank()) {
+            logger.warn("Single-call response has no analysis fields, using rule-based analysis: {}", userQuery);
+            return record(Tier.FALLBACK, ruleAnalysis);
+        }
+
+        QueryAnalysisResult parsed = parseAnalysisResponse(userQuery, analysisSection);
+        boolean completeFields = !parsed.getKeywords().isEmpty()
+                && !parsed.getIntent().isEmpty()
+                && !parsed.getSearchQuery().isEmpty();
+        if (completeFields) {
+            analysisCache.put(userQuery, parsed);
+        }
+
+        QueryAnalysisResult result = new QueryAnalysisResult(
+                userQuery,
+                parsed.getKeywords().isEmpty() ? ruleAnalysis.getKeywords() : parsed.getKeywords(),
+                parsed.getRegulationTypes(),
+                parsed.getIntent().isEmpty() ? ruleAnalysis.getIntent() : parsed.getIntent(),
+                ruleAnalysis.getSearchQuery());
+
+        logger.info("Single-call analysis completed: {}", result);
+        return record(Tier.SINGLE_CALL, result);
+    }
+
+    private QueryAnalysisResult record(Tier tier, QueryAnalysisResult result) {
+        tierCounts.get(tier).increment();
+        return result;
+    }
+
+    /**
+     * 분석 단계별 처리 비율 (캐시 / 규칙 / LLM / 단일 호출 / 폴백)
+     */
+    public Map<String, Object> getTierStats() {
+        long total = tierCounts.values().stream().mapToLong(LongAdder::sum).sum();
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("total", total);
+        stats.put("ruleConfidenceThreshold", ruleConfidenceThreshold);
+        for (Tier tier : Tier.values()) {
+            long count = tierCounts.get(tier).sum();
+            Map<String, Object> tierStats = new LinkedHashMap<>();
+            tierStats.put("count", count);
+            tierStats.put("share", total > 0 ? (double) count / total : 0.0);
+            stats.put(tier.name().toLowerCase(), tierStats);
+        }
+        return stats;
+    }
+
+    /**
+     * 질의 분석 결과 캐시 통계 (적중률 포함)
+     */
+    public Map<String, Object> getCacheStats() {
+        return analysisCache.getStats();
+    }
+
+    /**
+     * 종료 시 분석 결과 캐시 저장
+     */
+    public void close() {
+        analysisCache.save();
+    }
+
+    /**
+     * 조항 번호를 명시한 질문인지 판별 (LLM 호출 없음)
+     * "취업규칙 제23조 내용"처럼 조항 번호가 하나만 등장하는 질문을 조항 참조로 분류합니다.
+     *
+     * @param userQuery 사용자 질문
+     * @return 조항 참조 (조항 번호가 없거나 여러 개면 null)
+     */
+    public ArticleReference detectArticleReference(String userQuery) {
+        List<String> articleNumbers = new ArrayList<>();
+        for (String number : RegulationArticleExtractor.extractArticleNumbers(userQuery)) {
+            if (!articleNumbers.contains(number)) {
+                articleNumbers.add(number);
+            }
+        }
+
+        if (articleNumbers.size() != 1) {
+            return null;
+        }
+
+        // 규정 유형 매칭 (띄어쓰기 무시, 가장 긴 이름 우선)
+        String compactQuery = userQuery.replaceAll("\\s+", "");
+        String matchedType = null;
+        for (String regType : regulationTypes) {
+            String compactType = regType.replaceAll("\\s+", "");
+            if (compactQuery.contains(compactType)
+                    && (matchedType == null || compactType.length() > matchedType.replaceAll("\\s+", "").length())) {
+                matchedType = regType;
+            }
+        }
+
+        ArticleReference reference = new ArticleReference(matchedType, articleNumbers.get(0));
+        logger.debug("Article reference detected: {}", reference);
+        return reference;
+    }
+
+    /**
+     * 조항 참조로부터 분석 결과 구성 (LLM 분석 생략)
+     */
+    public QueryAnalysisResult createArticleLookupAnalysis(String userQuery, ArticleReference reference) {
+        List<String> keywords = new ArrayList<>();
+        if (reference.hasRegulationType()) {
+            keywords.add(reference.getRegulationType());
+        }
+        keywords.add(reference.getArticleNumber());
+
+        return new QueryAnalysisResult(
+                userQuery,
+                keywords,
+                reference.hasRegulationType() ? List.of(reference.getRegulationType()) : List.of("일반"),
+                "정보조회",
+                String.join(" ", keywords));
     }
 
     /**
      * AI 분석을 위한 프롬프트 생성 (Few-shot 예제 포함)
      */
-    private String buildAnalysisPrompt(String userQuery) {
-        // Few-shot 예제 가져오기 (5-7개)
-        List<FewShotExample> examples = useFewShotExamples 
-            ? FewShotExampleManager.getQueryAnalysisExamples(7)
-            : FewShotExampleManager.getEmptyQueryAnalysisExamples();
-        String examplesText = FewShotExampleManager.formatQueryAnalysisExamples(examples);
+    private String buildAnalysisPrompt(String userQuery, float[] questionEmbedding) {
+        // Few-shot 예제 블록 (질문과 비슷한 예제, 선택할 수 없으면 고정 상위 7개)
+        String examplesText = "";
+        if (useFewShotExamples) {
+            examplesText = exampleSelector != null ? exampleSelector.selectQueryAnalysisExamples(userQuery, questionEmbedding) : null;
+            if (examplesText == null) {
+                examplesText = FewShotExampleManager.getQueryAnalysisExamplesBlock();
+            }
+        }
 
         // 의도 목록 가져오기
         List<String> intents = Arrays.asList(
@@ -236,76 +520,4 @@ public class QueryAnalysisService {
 
         return "";
     }
-
-    /**
-     * AI 분석 실패 시 폴백 분석 (개선된 버전)
-     */
-    private QueryAnalysisResult createFallbackAnalysis(String userQuery) {
-        logger.warn("Using fallback analysis for query: {}", userQuery);
-
-        QueryAnalysisResult result = new QueryAnalysisResult();
-        result.setOriginalQuery(userQuery);
-
-        // 간단한 키워드 추출 (공백 기준)
-        List<String> keywords = Arrays.asList(userQuery.split("\\s+"));
-        result.setKeywords(keywords);
-
-        // 규정 유형 매칭
-        List<String> matchedTypes = new ArrayList<>();
-        for (String regType : regulationTypes) {
-            if (userQuery.contains(regType) || userQuery.contains(regType.replace("규정", ""))) {
-                matchedTypes.add(regType);
-            }
-        }
-
-        // 특정 키워드에 대한 규정 유형 추론
-        if (matchedTypes.isEmpty()) {
-            matchedTypes = inferRegulationTypes(userQuery);
-        }
-
-        result.setRegulationTypes(matchedTypes.isEmpty() ? List.of("일반") : matchedTypes);
-
-        result.setIntent("정보조회");
-
-        // 검색 쿼리 최적화
-        String optimizedQuery = optimizeSearchQuery(userQuery);
-        result.setSearchQuery(optimizedQuery);
-
-        logger.info("Fallback analysis: regulationTypes={}, searchQuery={}",
-                matchedTypes, optimizedQuery);
-
-        return result;
-    }
-
-    /**
-     * 쿼리 내용으로부터 관련 규정 유형 추론 (설정 기반)
-     */
-    private List<String> inferRegulationTypes(String query) {
-        // 설정 파일 기반 추론 사용
-        List<String> inferred = RegulationInferenceConfigLoader.inferRegulationTypes(query);
-
-        logger.debug("Inferred regulation types for '{}': {}", query, inferred);
-        return inferred;
-    }
-
-    /**
-     * 검색 쿼리 최적화 (불필요한 조사/어미 제거)
-     */
-    private String optimizeSearchQuery(String query) {
-        // "~에 대한", "~를 알려줘" 등 패턴 제거
-        String optimized = query
-                .replaceAll("에\\s+대한\\s+", " ")
-                .replaceAll("를\\s+알려줘", "")
-                .replaceAll("을\\s+알려줘", "")
-                .replaceAll("를\\s+알려주세요", "")
-                .replaceAll("을\\s+알려주세요", "")
-                .replaceAll("가\\s+어떻게\\s+되나요", "")
-                .replaceAll("는\\s+얼마인가요", "")
-                .replaceAll("\\?", "")
-                .trim()
-                .replaceAll("\\s+", " ");
-
-        logger.debug("Optimized query: '{}' -> '{}'", query, optimized);
-        return optimized;
-    }
 }
@@ -1,31 +1,57 @@
 package com.guideon.service;
 
 import com.guideon.config.ConfigLoader;
+import com.guideon.exception.BulkheadFullException;
+import com.guideon.model.ArticleReference;
+import com.guideon.model.DocumentMetadata;
 import com.guideon.model.HybridSearchResult;
 import com.guideon.model.QueryAnalysisResult;
 import com.guideon.model.RegulationReference;
 import com.guideon.model.RegulationSearchResult;
 import com.guideon.model.ScoredSegment;
+import com.guideon.rerank.ScoringModelFactory;
+import com.guideon.resilience.CancellableStreamingResponseHandler;
+import com.guideon.resilience.CircuitBreaker;
+import com.guideon.resilience.GuardedModels;
+import com.guideon.resilience.ModelCallGuard;
+import com.guideon.resilience.ModelCallPolicy;
+import com.guideon.util.CandidateDeduplicator;
 import com.guideon.util.EnhancedContextBuilder;
+import com.guideon.util.KoreanTokenEstimator;
+import com.guideon.util.PromptTokenStats;
+import com.guideon.util.ReferencesOnlyAnswer;
+import com.guideon.util.RegulationArticleExtractor;
+import com.guideon.util.RerankScoreCache;
 import com.guideon.util.SearchResultConverter;
+import com.guideon.util.SingleCallResponse;
+import com.guideon.util.fusion.FusionFunction;
+import com.guideon.util.fusion.RankFusion;
 import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.DocumentSplitter;
 import dev.langchain4j.data.document.splitter.DocumentSplitters;
 import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.message.AiMessage;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.chat.ChatLanguageModel;
-import dev.langchain4j.model.cohere.CohereScoringModel;
+import dev.langchain4j.model.chat.StreamingChatLanguageModel;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.model.googleai.GoogleAiEmbeddingModel;
 import dev.langchain4j.model.googleai.GoogleAiGeminiChatModel;
+import dev.langchain4j.model.googleai.GoogleAiGeminiStreamingChatModel;
+import dev.langchain4j.model.output.Response;
 import dev.langchain4j.model.scoring.ScoringModel;
 import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.filter.MetadataFilterBuilder;
 import dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -34,12 +60,28 @@ import java.util.stream.Collectors;
 public class RegulationSearchService {
     private static final Logger logger = LoggerFactory.getLogger(RegulationSearchService.class);
 
+    // 미리 조회한 후보와 다시 조회한 후보 병합 시 RRF 상수
+    private static final int MERGE_RRF_K = 60;
+
     private final ChatLanguageModel chatModel;
+    private final StreamingChatLanguageModel streamingChatModel;
     private final EmbeddingModel embeddingModel;
     private InMemoryEmbeddingStore<TextSegment> embeddingStore;
     private final ScoringModel scoringModel;
     private final HybridSearchService hybridSearchService;
 
+    // 모델 차단기 (열려 있으면 답변 생성 대신 근거 조항만 안내, Vector 대신 BM25만 검색 / 설정 없는 생성자에서는 null)
+    private final CircuitBreaker chatCircuit;
+    private final CircuitBreaker embeddingCircuit;
+
+    // 외부 모델 호출 기한/헤지 정책 (ReRanking, 답변 생성)
+    private final ModelCallPolicy rerankCallPolicy;
+    private final ModelCallPolicy answerCallPolicy;
+
+    // 답변 생성 컨텍스트 토큰 예산 (0이면 제한 없음) 및 요청별 토큰 사용량
+    private final int contextTokenBudget;
+    private final PromptTokenStats promptTokenStats = new PromptTokenStats();
+
     private final int maxResults;
     private final double minScore;
     private final int chunkSize;
@@ -51,28 +93,62 @@ public class RegulationSearchService {
     private final int reRankingFinalResults;
     private final double reRankingMinScore;
 
+    // ReRanking 점수 캐시 (같은 쿼리/후보 조합은 Scoring Model에 다시 보내지 않음)
+    private final RerankScoreCache rerankScoreCache;
+
+    // ReRanking 전 후보 중복 제거 (null이면 비활성화)
+    private final CandidateDeduplicator candidateDeduplicator;
+
     // Hybrid Search 설정
     private final boolean hybridSearchEnabled;
 
+    // 조항 번호 직접 조회 설정 (BM25 인덱스의 조항 번호 필드 사용)
+    private final boolean articleLookupEnabled;
+
     /**
      * application.properties 기반 생성자
      */
     public RegulationSearchService(ConfigLoader config, HybridSearchService hybridSearchService) {
-        String apiKey = config.getGeminiApiKey();
-
-        // Gemini Chat Model 초기화
-        this.chatModel = GoogleAiGeminiChatModel.builder()
-                .apiKey(apiKey)
-                .modelName("gemini-2.5-flash")
-                .temperature(0.2)
-                .build();
+        this(config, hybridSearchService,
+                // 모델별 차단기 + 동시 호출 제한 (차단기가 열렸거나 한도/대기열 초과 시 즉시 거절)
+                GuardedModels.wrapChat(GoogleAiGeminiChatModel.builder()
+                        .apiKey(config.getGeminiApiKey())
+                        .modelName("gemini-2.5-flash")
+                        .temperature(0.2)
+                        .build(), GuardedModels.forModel("gemini-chat", config)),
+                // 스트리밍 답변용 (동일 모델/설정, 같은 차단기/동시 호출 제한 공유)
+                GuardedModels.wrapStreamingChat(GoogleAiGeminiStreamingChatModel.builder()
+                        .apiKey(config.getGeminiApiKey())
+                        .modelName("gemini-2.5-flash")
+                        .temperature(0.2)
+                        .build(), GuardedModels.forModel("gemini-chat", config)),
+                // Google AI Gemini Embedding Model (한국어 지원)
+                GuardedModels.wrapEmbedding(GoogleAiEmbeddingModel.builder()
+                        .apiKey(config.getGeminiApiKey())
+                        .modelName("text-embedding-004")
+                        .maxRetries(3)
+                        .build(), GuardedModels.forModel("gemini-embedding", config)),
+                // ReRanking용 Scoring Model (Cohere 또는 로컬 ONNX Cross-Encoder)
+                createScoringModel(config),
+                CircuitBreaker.forModel("gemini-chat", config),
+                CircuitBreaker.forModel("gemini-embedding", config));
+    }
 
-        // Google AI Gemini Embedding Model 초기화 (한국어 지원)
-        this.embeddingModel = GoogleAiEmbeddingModel.builder()
-                .apiKey(apiKey)
-                .modelName("text-embedding-004")
-                .maxRetries(3)
-                .build();
+    /**
+     * 모델 직접 전달 생성자 (테스트에서 가짜 모델 주입용)
+     *
+     * @param chatCircuit 답변 생성 모델 차단기 (null이면 대체 답변 전환 안 함)
+     * @param embeddingCircuit 임베딩 모델 차단기 (null이면 BM25 전용 검색 전환 안 함)
+     */
+    RegulationSearchService(ConfigLoader config, HybridSearchService hybridSearchService,
+                            ChatLanguageModel chatModel, StreamingChatLanguageModel streamingChatModel,
+                            EmbeddingModel embeddingModel, ScoringModel scoringModel,
+                            CircuitBreaker chatCircuit, CircuitBreaker embeddingCircuit) {
+        this.chatModel = chatModel;
+        this.streamingChatModel = streamingChatModel;
+        this.embeddingModel = embeddingModel;
+        this.chatCircuit = chatCircuit;
+        this.embeddingCircuit = embeddingCircuit;
 
         // In-Memory Embedding Store (실제 운영시 Qdrant로 교체)
         this.embeddingStore = new InMemoryEmbeddingStore<>();
@@ -80,6 +156,7 @@ public class RegulationSearchService {
         // Hybrid Search Service
         this.hybridSearchService = hybridSearchService;
         this.hybridSearchEnabled = config.isHybridSearchEnabled();
+        this.articleLookupEnabled = config.isArticleLookupEnabled();
 
         // Properties에서 설정값 로드
         this.maxResults = config.getVectorSearchMaxResults();
@@ -92,25 +169,34 @@ public class RegulationSearchService {
         this.reRankingInitialResults = config.getReRankingInitialResults();
         this.reRankingFinalResults = config.getReRankingFinalResults();
         this.reRankingMinScore = config.getReRankingMinScore();
-
-        logger.info("ReRanking configuration loaded: enabled={}, initialResults={}, finalResults={}, minScore={}",
-                reRankingEnabled, reRankingInitialResults, reRankingFinalResults, reRankingMinScore);
-
-        // Cohere Scoring Model 초기화 (ReRanking용)
-        String cohereApiKey = config.getCohereApiKey();
-        logger.info("Cohere API key configured: {}", cohereApiKey != null && !cohereApiKey.isEmpty() ? "YES" : "NO");
-        if (reRankingEnabled && cohereApiKey != null && !cohereApiKey.isEmpty()) {
-            this.scoringModel = CohereScoringModel.builder()
-                    .apiKey(cohereApiKey)
-                    .modelName(config.getReRankingModelName())
-                    .build();
-            logger.info("ReRanking enabled with Cohere model: {}", config.getReRankingModelName());
-        } else {
-            this.scoringModel = null;
-            if (reRankingEnabled) {
-                logger.warn("ReRanking is enabled but Cohere API key is not configured. ReRanking will be disabled.");
-            }
-        }
+        this.rerankScoreCache = new RerankScoreCache(config.getReRankingCacheSize());
+        this.candidateDeduplicator = config.isReRankingDedupEnabled()
+                ? new CandidateDeduplicator(config.getReRankingDedupSimilarity(), config.getReRankingDedupMaxMergedChars())
+                : null;
+
+        logger.info("ReRanking configuration loaded: enabled={}, initialResults={}, finalResults={}, minScore={}, cacheSize={}",
+                reRankingEnabled, reRankingInitialResults, reRankingFinalResults, reRankingMinScore,
+                config.getReRankingCacheSize());
+
+        this.scoringModel = reRankingEnabled ? scoringModel : null;
+
+        // 모델 호출 기한/헤지 (ReRanking 기한 초과 시 원래 순위 사용)
+        this.rerankCallPolicy = new ModelCallPolicy(
+                "rerank",
+                config.getRerankCallTimeoutMs(),
+                config.isRerankCallHedgeEnabled(),
+                config.getModelCallHedgeMinDelayMs(),
+                ModelCallPolicy.sharedExecutor(config));
+        this.answerCallPolicy = new ModelCallPolicy(
+                "answer",
+                config.getAnswerCallTimeoutMs(),
+                config.isAnswerCallHedgeEnabled(),
+                config.getModelCallHedgeMinDelayMs(),
+                ModelCallPolicy.sharedExecutor(config));
+        this.contextTokenBudget = config.getRagContextMaxTokens();
+
+        // 의도별 답변 프롬프트 앞부분을 미리 생성 (첫 요청에서 생성 비용 제거)
+        com.guideon.util.PromptTemplate.precompilePrefixes();
 
         logger.info(
                 "RegulationSearchService initialized with maxResults={}, minScore={}, chunkSize={}, chunkOverlap={}, reRankingEnabled={}, hybridSearchEnabled={}",
@@ -118,6 +204,16 @@ public class RegulationSearchService {
                 hybridSearchEnabled);
     }
 
+    /**
+     * ReRanking Scoring Model 생성 (비활성화되었거나 생성할 수 없으면 null)
+     */
+    private static ScoringModel createScoringModel(ConfigLoader config) {
+        ScoringModel rerankModel = config.isReRankingEnabled() ? ScoringModelFactory.create(config) : null;
+        return rerankModel != null
+                ? GuardedModels.wrapScoring(rerankModel, GuardedModels.forModel("rerank", config))
+                : null;
+    }
+
     /**
      * API 키 직접 전달 생성자 (하위 호환성)
      */
@@ -130,6 +226,13 @@ public class RegulationSearchService {
                 .temperature(0.2)
                 .build();
 
+        // Gemini Streaming Chat Model 초기화 (스트리밍 답변용, 동일 모델/설정)
+        this.streamingChatModel = GoogleAiGeminiStreamingChatModel.builder()
+                .apiKey(geminiApiKey)
+                .modelName("gemini-2.5-flash")
+                .temperature(0.2)
+                .build();
+
         // Google AI Gemini Embedding Model 초기화 (한국어 지원)
         this.embeddingModel = GoogleAiEmbeddingModel.builder()
                 .apiKey(geminiApiKey)
@@ -143,6 +246,7 @@ public class RegulationSearchService {
         // Hybrid Search (비활성화)
         this.hybridSearchService = null;
         this.hybridSearchEnabled = false;
+        this.articleLookupEnabled = false;
 
         // 기본값 사용
         this.maxResults = 5;
@@ -156,6 +260,13 @@ public class RegulationSearchService {
         this.reRankingFinalResults = 5;
         this.reRankingMinScore = 0.8;
         this.scoringModel = null;
+        this.chatCircuit = null;
+        this.embeddingCircuit = null;
+        this.rerankScoreCache = new RerankScoreCache(0);
+        this.candidateDeduplicator = null;
+        this.rerankCallPolicy = ModelCallPolicy.direct("rerank");
+        this.answerCallPolicy = ModelCallPolicy.direct("answer");
+        this.contextTokenBudget = 0;
 
         logger.info(
                 "RegulationSearchService initialized with default values (ReRanking disabled, Hybrid Search disabled)");
@@ -163,10 +274,17 @@ public class RegulationSearchService {
 
     /**
      * 규정 문서 인덱싱
+     * 세그먼트 ID는 문서 ID + 세그먼트 순번으로 정해지므로, 같은 문서를 다시 인덱싱하면
+     * 이전 벡터/BM25 문서를 교체합니다 (문서 ID가 없으면 규정 유형 + 파일명, 파일명도 없으면 본문 기준).
      */
     public void indexDocument(Document document, String regulationType) {
         logger.info("Indexing document for regulation type: {}", regulationType);
 
+        String documentId = resolveDocumentId(document, regulationType);
+        if (document.metadata().getString(DocumentMetadata.DOCUMENT_ID) == null) {
+            document.metadata().put(DocumentMetadata.DOCUMENT_ID, documentId);
+        }
+
         // 문서를 청크로 분할
         DocumentSplitter splitter = DocumentSplitters.recursive(
                 chunkSize, // maxSegmentSize
@@ -174,52 +292,240 @@ public class RegulationSearchService {
         );
 
         List<TextSegment> segments = splitter.split(document);
+        tagArticleNumbers(segments);
 
-        // 임베딩 생성 및 Vector Store에 저장
+        // 임베딩을 모두 만든 뒤 교체 (임베딩 중 실패하면 기존 벡터 유지)
+        List<Embedding> embeddings = new ArrayList<>(segments.size());
+        List<String> segmentIds = new ArrayList<>(segments.size());
         for (int segmentIndex = 0; segmentIndex < segments.size(); segmentIndex++) {
-            TextSegment segment = segments.get(segmentIndex);
-            Embedding embedding = embeddingModel.embed(segment).content();
-            String embeddingId = embeddingStore.add(embedding, segment);
+            embeddings.add(embeddingModel.embed(segments.get(segmentIndex)).content());
+            segmentIds.add(segmentId(documentId, segmentIndex));
+        }
 
-            // Hybrid Search가 활성화된 경우 BM25 인덱스에도 추가
-            if (hybridSearchEnabled && hybridSearchService != null) {
-                hybridSearchService.indexSegment(segment, regulationType, embeddingId);
-            }
+        // 이전 인덱싱의 벡터 제거 후 저장 (세그먼트 수가 줄어도 남는 벡터가 없도록 문서 단위로 제거)
+        embeddingStore.removeAll(MetadataFilterBuilder.metadataKey(DocumentMetadata.DOCUMENT_ID).isEqualTo(documentId));
+        for (int segmentIndex = 0; segmentIndex < segments.size(); segmentIndex++) {
+            embeddingStore.add(segmentIds.get(segmentIndex), embeddings.get(segmentIndex), segments.get(segmentIndex));
         }
 
-        // BM25 인덱스 커밋 (변경사항 저장)
+        // Hybrid Search가 활성화된 경우 BM25 인덱스에서 문서 단위로 한 번에 교체 후 그룹 커밋 요청
+        // (삭제와 추가 사이에 커밋이 끼어들지 않음, 문서마다 fsync 하지 않음 - 주기/건수 기준으로 BM25SearchService가 커밋)
+        // 실패는 호출한 쪽으로 전달 (BM25 인덱스만 빠진 채 성공으로 처리하지 않음)
         if (hybridSearchEnabled && hybridSearchService != null) {
-            hybridSearchService.commit();
+            hybridSearchService.replaceDocumentSegments(documentId, segments, regulationType, segmentIds);
+            hybridSearchService.requestCommit();
         }
 
+        // 후보 구성이 바뀌었으므로 이전 ReRanking 점수는 사용하지 않음
+        rerankScoreCache.nextGeneration();
+
         logger.info("Indexed {} segments for {} (Vector: YES, BM25: {})",
                 segments.size(), regulationType, hybridSearchEnabled ? "YES" : "NO");
     }
 
+    /**
+     * 재인덱싱 시 같은 값이 나오는 문서 ID 결정
+     */
+    private static String resolveDocumentId(Document document, String regulationType) {
+        String documentId = document.metadata().getString(DocumentMetadata.DOCUMENT_ID);
+        if (documentId != null) {
+            return documentId;
+        }
+
+        String fileName = document.metadata().getString(DocumentMetadata.FILENAME);
+        String source = regulationType + "/" + (fileName != null ? fileName : document.text());
+        return UUID.nameUUIDFromBytes(source.getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
+    /**
+     * 문서 ID + 세그먼트 순번 기반 세그먼트 ID (Vector Store / BM25 인덱스 공통)
+     */
+    static String segmentId(String documentId, int segmentIndex) {
+        return UUID.nameUUIDFromBytes((documentId + "#" + segmentIndex).getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
+    /**
+     * 세그먼트 메타데이터에 소속 조항 번호 기록
+     * 조항 제목으로 시작하지 않는 세그먼트는 직전 세그먼트의 마지막 조항에 이어지는 것으로 봅니다.
+     */
+    private void tagArticleNumbers(List<TextSegment> segments) {
+        String currentArticle = null;
+
+        for (TextSegment segment : segments) {
+            String text = segment.text();
+            List<String> headings = RegulationArticleExtractor.extractArticleHeadings(text);
+            boolean startsWithArticle = RegulationArticleExtractor.ARTICLE_PATTERN
+                    .matcher(text.stripLeading())
+                    .lookingAt();
+
+            List<String> articleNumbers = new ArrayList<>();
+            if (currentArticle != null && !startsWithArticle) {
+                articleNumbers.add(currentArticle);
+            }
+            for (String heading : headings) {
+                if (!articleNumbers.contains(heading)) {
+                    articleNumbers.add(heading);
+                }
+            }
+
+            if (!headings.isEmpty()) {
+                currentArticle = headings.get(headings.size() - 1);
+            }
+
+            if (!articleNumbers.isEmpty()) {
+                segment.metadata().put(DocumentMetadata.ARTICLE_NUMBERS, String.join(",", articleNumbers));
+            }
+        }
+    }
+
+    /**
+     * 조항 번호 직접 조회로 답변 생성 (fast path)
+     * 질의 분석 LLM, 임베딩, BM25 검색, RRF, ReRanking을 모두 생략하고
+     * 조항 번호 색인에서 세그먼트를 바로 가져와 답변만 생성합니다.
+     *
+     * @param reference 질문에 명시된 조항 참조
+     * @param analysis 조항 참조로 구성한 분석 결과
+     * @return 검색 결과 (조회 불가 또는 규정 유형이 모호하면 null - 일반 검색으로 진행)
+     */
+    public RegulationSearchResult searchByArticle(ArticleReference reference, QueryAnalysisResult analysis) {
+        List<EmbeddingMatch<TextSegment>> relevantSegments = findArticleSegments(reference);
+        if (relevantSegments == null) {
+            return null;
+        }
+
+        try {
+            List<RegulationReference> references = toArticleReferences(relevantSegments, reference);
+            double confidenceScore = calculateConfidenceScore(relevantSegments);
+
+            String answer = generateAnswerOrNull(analysis.getOriginalQuery(), relevantSegments, analysis, null);
+            if (answer == null) {
+                return createDegradedResponse(references, confidenceScore);
+            }
+
+            logger.info("Article lookup completed: {} -> {} segments, confidence: {}",
+                    reference, relevantSegments.size(), confidenceScore);
+
+            return new RegulationSearchResult(answer, references, confidenceScore, true);
+
+        } catch (BulkheadFullException e) {
+            // 모델 동시 호출 한도 초과: 오류 답변 대신 호출자에게 그대로 전달 (API는 503 + Retry-After)
+            throw e;
+        } catch (Exception e) {
+            logger.error("Error during article lookup answer generation", e);
+            return createErrorResponse();
+        }
+    }
+
+    /**
+     * 조항 번호 직접 조회 (스트리밍 답변)
+     *
+     * @return 조회 불가 또는 규정 유형이 모호하면 false (이벤트 없음 - 일반 검색으로 진행)
+     */
+    public boolean searchByArticleStreaming(ArticleReference reference, QueryAnalysisResult analysis,
+                                            AnswerStreamHandler handler) {
+        List<EmbeddingMatch<TextSegment>> relevantSegments = findArticleSegments(reference);
+        if (relevantSegments == null) {
+            return false;
+        }
+
+        streamAnswer(analysis, relevantSegments, toArticleReferences(relevantSegments, reference), null, handler);
+        return true;
+    }
+
+    /**
+     * 조항 번호 색인에서 세그먼트 조회
+     *
+     * @return 세그먼트 (조회 불가 또는 규정 유형이 모호하면 null)
+     */
+    private List<EmbeddingMatch<TextSegment>> findArticleSegments(ArticleReference reference) {
+        if (!articleLookupEnabled || !hybridSearchEnabled || hybridSearchService == null) {
+            return null;
+        }
+
+        List<ScoredSegment> hits = hybridSearchService.findByArticle(
+                reference.getRegulationType(), reference.getArticleNumber(), maxResults);
+
+        if (hits.isEmpty()) {
+            logger.info("Article lookup miss: {}", reference);
+            return null;
+        }
+
+        // 규정 유형 없이 조회했는데 여러 규정에서 같은 조항 번호가 나오면 일반 검색으로 넘김
+        if (!reference.hasRegulationType()) {
+            long typeCount = hits.stream()
+                    .map(hit -> hit.getSegment().metadata().getString(DocumentMetadata.REGULATION_TYPE))
+                    .distinct()
+                    .count();
+            if (typeCount > 1) {
+                logger.info("Article lookup ambiguous across {} regulation types: {}", typeCount, reference);
+                return null;
+            }
+        }
+
+        return hits.stream()
+                .map(SearchResultConverter::toEmbeddingMatch)
+                .collect(Collectors.toList());
+    }
+
+    private List<RegulationReference> toArticleReferences(List<EmbeddingMatch<TextSegment>> segments,
+                                                          ArticleReference reference) {
+        List<RegulationReference> references = convertToReferences(segments);
+        for (RegulationReference ref : references) {
+            ref.setArticleNumber(reference.getArticleNumber());
+        }
+        return references;
+    }
+
     /**
      * 분석된 쿼리를 기반으로 규정 검색 및 답변 생성
      */
     public RegulationSearchResult search(QueryAnalysisResult analysis) {
+        return search(analysis, (float[]) null);
+    }
+
+    /**
+     * 분석된 쿼리를 기반으로 규정 검색 및 답변 생성 (요청에서 이미 계산한 원문 질문 임베딩 사용)
+     *
+     * @param questionEmbedding 원문 질문 임베딩 (답변 생성 Few-shot 예제 선택용, null이면 예제 선택기가 새로 생성)
+     */
+    public RegulationSearchResult search(QueryAnalysisResult analysis, float[] questionEmbedding) {
         logger.info("Searching regulations for query: {}", analysis.getOriginalQuery());
 
+        List<EmbeddingMatch<TextSegment>> candidates;
         try {
-            List<EmbeddingMatch<TextSegment>> relevantSegments;
-
-            // Hybrid Search 활성화 여부에 따라 검색 방식 선택
-            if (hybridSearchEnabled && hybridSearchService != null) {
-                // Hybrid Search 수행 (Vector + BM25 + RRF)
-                relevantSegments = performHybridSearch(analysis.getSearchQuery());
-            } else if (reRankingEnabled && scoringModel != null) {
-                // ReRanking 수행 (Vector + ReRanking)
-                relevantSegments = performVectorSearchWithReRanking(analysis.getSearchQuery());
-            } else {
-                // 기본 Vector Search만 수행
-                relevantSegments = performVectorSearch(
-                        analysis.getSearchQuery(),
-                        maxResults,
-                        minScore);
-                logger.info("Vector Search: Found {} results", relevantSegments.size());
-            }
+            candidates = retrieveCandidates(analysis.getSearchQuery());
+        } catch (BulkheadFullException e) {
+            throw e;
+        } catch (Exception e) {
+            logger.error("Error during regulation search", e);
+            return createErrorResponse();
+        }
+        return search(analysis, candidates, questionEmbedding);
+    }
+
+    /**
+     * 미리 조회한 후보로 ReRanking 및 답변 생성
+     *
+     * @param analysis 질의 분석 결과
+     * @param candidates {@link #retrieveCandidates(String)}로 조회한 후보
+     */
+    public RegulationSearchResult search(QueryAnalysisResult analysis,
+                                         List<EmbeddingMatch<TextSegment>> candidates) {
+        return search(analysis, candidates, null);
+    }
+
+    /**
+     * 미리 조회한 후보로 ReRanking 및 답변 생성 (요청에서 이미 계산한 원문 질문 임베딩 사용)
+     *
+     * @param analysis 질의 분석 결과
+     * @param candidates {@link #retrieveCandidates(String)}로 조회한 후보
+     * @param questionEmbedding 원문 질문 임베딩 (답변 생성 Few-shot 예제 선택용, null이면 예제 선택기가 새로 생성)
+     */
+    public RegulationSearchResult search(QueryAnalysisResult analysis,
+                                         List<EmbeddingMatch<TextSegment>> candidates,
+                                         float[] questionEmbedding) {
+        try {
+            List<EmbeddingMatch<TextSegment>> relevantSegments = rankCandidates(analysis.getSearchQuery(), candidates);
 
             // 2. 검색 결과가 없으면 Fallback 응답
             if (relevantSegments.isEmpty()) {
@@ -229,14 +535,18 @@ public class RegulationSearchService {
             // 3. 검색된 세그먼트를 참조 정보로 변환
             List<RegulationReference> references = convertToReferences(relevantSegments);
 
-            // 4. RAG 기반 답변 생성 (구조화된 컨텍스트 사용)
-            String answer = generateAnswer(
+            // 4. 신뢰도 점수 계산
+            double confidenceScore = calculateConfidenceScore(relevantSegments);
+
+            // 5. RAG 기반 답변 생성 (구조화된 컨텍스트 사용, 답변 생성 불가 시 근거 조항만 안내)
+            String answer = generateAnswerOrNull(
                     analysis.getOriginalQuery(),
                     relevantSegments,
-                    analysis);
-
-            // 5. 신뢰도 점수 계산
-            double confidenceScore = calculateConfidenceScore(relevantSegments);
+                    analysis,
+                    questionEmbedding);
+            if (answer == null) {
+                return createDegradedResponse(references, confidenceScore);
+            }
 
             RegulationSearchResult result = new RegulationSearchResult(
                     answer,
@@ -249,6 +559,8 @@ public class RegulationSearchService {
 
             return result;
 
+        } catch (BulkheadFullException e) {
+            throw e;
         } catch (Exception e) {
             logger.error("Error during regulation search", e);
             return createErrorResponse();
@@ -256,14 +568,325 @@ public class RegulationSearchService {
     }
 
     /**
-     * Hybrid Search 수행 (Vector + BM25 + RRF)
+     * 단일 호출 검색 결과 (답변 + 답변 호출에서 함께 생성된 분석 결과)
+     */
+    public record SingleCallResult(RegulationSearchResult result, QueryAnalysisResult analysis) {
+    }
+
+    /**
+     * 규칙 기반 분석의 검색 쿼리로 검색한 뒤, 질문 분석과 답변을 한 번의 LLM 호출로 생성
+     *
+     * @param ruleAnalysis 검색에 사용할 규칙 기반 분석 결과
+     * @param analysisCompleter 응답의 분석 부분(없으면 빈 문자열) -> 최종 분석 결과
+     *                          (LLM을 호출하지 않은 경우(검색 결과 없음/오류)에는 호출되지 않음)
+     */
+    public SingleCallResult searchSingleCall(QueryAnalysisResult ruleAnalysis,
+                                             Function<String, QueryAnalysisResult> analysisCompleter) {
+        logger.info("Single-call search for query: {}", ruleAnalysis.getOriginalQuery());
+
+        try {
+            List<EmbeddingMatch<TextSegment>> candidates = retrieveCandidates(ruleAnalysis.getSearchQuery());
+            List<EmbeddingMatch<TextSegment>> relevantSegments = rankCandidates(ruleAnalysis.getSearchQuery(), candidates);
+            if (relevantSegments.isEmpty()) {
+                return new SingleCallResult(createFallbackResponse(), ruleAnalysis);
+            }
+
+            List<RegulationReference> references = convertToReferences(relevantSegments);
+            double confidenceScore = calculateConfidenceScore(relevantSegments);
+            if (isChatUnavailable()) {
+                logger.warn("Chat model circuit open, returning references only");
+                return new SingleCallResult(createDegradedResponse(references, confidenceScore), ruleAnalysis);
+            }
+
+            // 분석 필드 + 답변을 한 번에 생성
+            EnhancedContextBuilder.BudgetedContext context =
+                    EnhancedContextBuilder.buildBudgetedContext(relevantSegments, ruleAnalysis, contextTokenBudget);
+            String prompt = com.guideon.util.PromptTemplate.buildSingleCallPrompt(
+                    ruleAnalysis.getOriginalQuery(), context.context(), ruleAnalysis);
+            int promptTokens = KoreanTokenEstimator.estimate(prompt);
+            promptTokenStats.record(promptTokens, context);
+            logger.info("Single-call prompt built (~{} tokens, context ~{} tokens)", promptTokens, context.tokens());
+
+            String response;
+            try {
+                response = answerCallPolicy.call(() -> chatModel.generate(prompt));
+            } catch (BulkheadFullException e) {
+                throw e;
+            } catch (Exception e) {
+                logger.warn("Single-call generation failed, returning references only: {}", e.getMessage());
+                return new SingleCallResult(createDegradedResponse(references, confidenceScore), ruleAnalysis);
+            }
+            SingleCallResponse parts = SingleCallResponse.split(response);
+            QueryAnalysisResult analysis = analysisCompleter.apply(parts.analysisSection());
+
+            String answer = enhanceAnswer(parts.answer(), relevantSegments, analysis).answer();
+
+            logger.info("Single-call search completed with {} references, confidence: {}",
+                    references.size(), confidenceScore);
+            return new SingleCallResult(new RegulationSearchResult(answer, references, confidenceScore, true), analysis);
+
+        } catch (BulkheadFullException e) {
+            throw e;
+        } catch (Exception e) {
+            logger.error("Error during single-call regulation search", e);
+            return new SingleCallResult(createErrorResponse(), ruleAnalysis);
+        }
+    }
+
+    /**
+     * 미리 조회한 후보로 스트리밍 답변 생성
+     * ReRanking이 끝나면 근거 조항을 먼저 전달하고, 이후 LLM 답변 조각을 도착하는 대로 전달합니다.
+     *
+     * @param analysis 질의 분석 결과
+     * @param candidates {@link #retrieveCandidates(String)}로 조회한 후보
+     * @param handler 이벤트 수신자
      */
-    private List<EmbeddingMatch<TextSegment>> performHybridSearch(String query) {
+    public void searchStreaming(QueryAnalysisResult analysis,
+                                List<EmbeddingMatch<TextSegment>> candidates,
+                                AnswerStreamHandler handler) {
+        searchStreaming(analysis, candidates, null, handler);
+    }
+
+    /**
+     * 미리 조회한 후보로 스트리밍 답변 생성 (요청에서 이미 계산한 원문 질문 임베딩 사용)
+     *
+     * @param questionEmbedding 원문 질문 임베딩 (답변 생성 Few-shot 예제 선택용, null이면 예제 선택기가 새로 생성)
+     */
+    public void searchStreaming(QueryAnalysisResult analysis,
+                                List<EmbeddingMatch<TextSegment>> candidates,
+                                float[] questionEmbedding,
+                                AnswerStreamHandler handler) {
+        List<EmbeddingMatch<TextSegment>> relevantSegments;
+        try {
+            relevantSegments = rankCandidates(analysis.getSearchQuery(), candidates);
+        } catch (Exception e) {
+            logger.error("Error during regulation search", e);
+            handler.onError(e);
+            return;
+        }
+
+        if (relevantSegments.isEmpty()) {
+            handler.onReferences(List.of());
+            handler.onComplete(createFallbackResponse(), 0.0, List.of());
+            return;
+        }
+
+        streamAnswer(analysis, relevantSegments, convertToReferences(relevantSegments), questionEmbedding, handler);
+    }
+
+    /**
+     * 근거 조항 전달 후 LLM 스트리밍 답변 생성 (완료 시 일반 답변과 같은 후처리 적용)
+     */
+    private void streamAnswer(QueryAnalysisResult analysis,
+                              List<EmbeddingMatch<TextSegment>> segments,
+                              List<RegulationReference> references,
+                              float[] questionEmbedding,
+                              AnswerStreamHandler handler) {
+        handler.onReferences(references);
+
+        if (isChatUnavailable()) {
+            logger.warn("Chat model circuit open, streaming references only");
+            completeDegraded(segments, references, handler);
+            return;
+        }
+
+        if (handler.isCancelled()) {
+            logger.info("Stream cancelled before answer generation");
+            return;
+        }
+
+        try {
+            String prompt = buildAnswerPrompt(analysis.getOriginalQuery(), segments, analysis, questionEmbedding);
+            StringBuilder rawAnswer = new StringBuilder();
+            long startTime = System.currentTimeMillis();
+
+            // 수신자가 취소되면 남은 조각/완료 이벤트를 버림 (호출 자리는 공급자 응답이 끝날 때 GuardedModels가 반납)
+            streamingChatModel.generate(prompt, new CancellableStreamingResponseHandler<AiMessage>() {
+                @Override
+                public boolean isCancelled() {
+                    return handler.isCancelled();
+                }
+
+                @Override
+                public void onCancel(Runnable action) {
+                    handler.onCancel(action);
+                }
+
+                @Override
+                public void onNext(String token) {
+                    if (handler.isCancelled()) {
+                        return;
+                    }
+                    rawAnswer.append(token);
+                    handler.onToken(token);
+                }
+
+                @Override
+                public void onComplete(Response<AiMessage> response) {
+                    if (handler.isCancelled()) {
+                        logger.info("Streamed answer finished after the stream was cancelled, discarded");
+                        return;
+                    }
+                    try {
+                        String text = response != null && response.content() != null && response.content().text() != null
+                                ? response.content().text()
+                                : rawAnswer.toString();
+                        logger.info("Streamed answer generated (length: {} chars) in {}ms",
+                                text.length(), System.currentTimeMillis() - startTime);
+
+                        EnhancedAnswer enhanced = enhanceAnswer(text, segments, analysis);
+                        RegulationSearchResult result = new RegulationSearchResult(
+                                enhanced.answer(),
+                                references,
+                                calculateConfidenceScore(segments),
+                                true);
+                        handler.onComplete(result, enhanced.qualityScore(), enhanced.referencedArticles());
+                    } catch (Exception e) {
+                        logger.error("Error during streamed answer post-processing", e);
+                        handler.onError(e);
+                    }
+                }
+
+                @Override
+                public void onError(Throwable error) {
+                    if (handler.isCancelled()) {
+                        logger.debug("Streamed answer failed after the stream was cancelled: {}", error.getMessage());
+                        return;
+                    }
+                    // 답변 조각을 보내기 전에 실패하면 근거 조항만 안내
+                    if (rawAnswer.isEmpty() && !(error instanceof BulkheadFullException)) {
+                        logger.warn("Streamed answer generation failed, returning references only: {}", error.getMessage());
+                        completeDegraded(segments, references, handler);
+                        return;
+                    }
+                    logger.error("Error during streamed answer generation", error);
+                    handler.onError(error);
+                }
+            });
+        } catch (BulkheadFullException e) {
+            handler.onError(e);
+        } catch (Exception e) {
+            logger.warn("Error starting streamed answer generation, returning references only: {}", e.getMessage());
+            completeDegraded(segments, references, handler);
+        }
+    }
+
+    private void completeDegraded(List<EmbeddingMatch<TextSegment>> segments,
+                                  List<RegulationReference> references,
+                                  AnswerStreamHandler handler) {
+        RegulationSearchResult result = createDegradedResponse(references, calculateConfidenceScore(segments));
+        handler.onComplete(result, 0.0,
+                com.guideon.util.AnswerQualityEnhancer.extractReferencedArticles(result.getAnswer()));
+    }
+
+    /**
+     * 1단계 검색: ReRanking 전 후보 조회 (중복 제거 포함)
+     * 질의 분석과 무관하므로 분석이 끝나기 전에 원문 질문으로 미리 실행할 수 있습니다.
+     *
+     * @param query 검색 쿼리
+     * @return 후보 목록 (순위 순)
+     */
+    public List<EmbeddingMatch<TextSegment>> retrieveCandidates(String query) {
+        return retrieveCandidates(query, null);
+    }
+
+    /**
+     * 1단계 검색 (이미 계산한 쿼리 임베딩 사용)
+     * 같은 요청에서 유사 질문 캐시 조회용으로 만든 질문 임베딩을 Vector 검색에 다시 쓸 때 사용합니다.
+     *
+     * @param query 검색 쿼리
+     * @param queryEmbedding query의 임베딩 ({@link #embedQuery(String)} 결과, null이면 새로 생성)
+     * @return 후보 목록 (순위 순)
+     */
+    public List<EmbeddingMatch<TextSegment>> retrieveCandidates(String query, float[] queryEmbedding) {
+        // Hybrid Search 활성화 여부에 따라 검색 방식 선택
+        if (hybridSearchEnabled && hybridSearchService != null) {
+            // Hybrid Search 수행 (Vector + BM25 + RRF, 임베딩 모델 장애 시 BM25만)
+            return performHybridSearch(query, queryEmbedding);
+        }
+
+        if (isEmbeddingUnavailable() && hybridSearchService != null) {
+            // 임베딩 모델 장애: Vector Search 대신 BM25 Search만 수행
+            logger.warn("Embedding model circuit open, falling back to BM25-only retrieval");
+            int searchMaxResults = reRankingEnabled && scoringModel != null ? reRankingInitialResults : maxResults;
+            HybridSearchResult bm25Result = hybridSearchService.searchBM25Only(query, searchMaxResults);
+            return deduplicateCandidates(bm25Result.getSegments().stream()
+                    .map(SearchResultConverter::toEmbeddingMatch)
+                    .collect(Collectors.toList()));
+        }
+
+        if (reRankingEnabled && scoringModel != null) {
+            // Stage 1: 넓게 검색 (초기 후보, 낮은 threshold)
+            logger.info("Performing Vector Search with ReRanking");
+            List<EmbeddingMatch<TextSegment>> candidates = performVectorSearch(
+                    query,
+                    queryEmbedding,
+                    reRankingInitialResults,
+                    minScore);
+            logger.info("Stage 1 (Vector Search): Retrieved {} candidates", candidates.size());
+            return deduplicateCandidates(candidates);
+        }
+
+        // 기본 Vector Search만 수행
+        List<EmbeddingMatch<TextSegment>> matches = performVectorSearch(query, queryEmbedding, maxResults, minScore);
+        logger.info("Vector Search: Found {} results", matches.size());
+        return matches;
+    }
+
+    /**
+     * 두 번의 1단계 검색 결과 병합 (RRF 융합 후 중복 제거)
+     * 원문 질문으로 미리 조회한 후보와 분석된 검색 쿼리로 다시 조회한 후보를 합칠 때 사용합니다.
+     *
+     * @param primary 우선 후보 (동점 시 우선)
+     * @param secondary 보조 후보
+     * @return 병합된 후보 (두 목록 중 긴 쪽의 길이까지)
+     */
+    public List<EmbeddingMatch<TextSegment>> mergeCandidates(
+            List<EmbeddingMatch<TextSegment>> primary,
+            List<EmbeddingMatch<TextSegment>> secondary) {
+
+        List<ScoredSegment> fused = RankFusion.fuse(
+                List.of(toScoredSegments(primary), toScoredSegments(secondary)),
+                new double[]{1.0, 1.0},
+                FusionFunction.rrf(MERGE_RRF_K),
+                Math.max(primary.size(), secondary.size()));
+
+        List<EmbeddingMatch<TextSegment>> merged = fused.stream()
+                .map(SearchResultConverter::toEmbeddingMatch)
+                .collect(Collectors.toList());
+        return deduplicateCandidates(merged);
+    }
+
+    private static List<ScoredSegment> toScoredSegments(List<EmbeddingMatch<TextSegment>> matches) {
+        return matches.stream()
+                .map(SearchResultConverter::toScoredSegment)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 2단계: 후보 재정렬 (ReRanking 활성화 시) 또는 상위 N개 선택
+     */
+    private List<EmbeddingMatch<TextSegment>> rankCandidates(String query,
+                                                             List<EmbeddingMatch<TextSegment>> candidates) {
+        if (reRankingEnabled && scoringModel != null && !candidates.isEmpty()) {
+            logger.info("Applying ReRanking ({} candidates)", candidates.size());
+            List<EmbeddingMatch<TextSegment>> reRanked = performReRanking(query, candidates);
+            logger.info("Stage 2 (ReRanking): Refined to {} results", reRanked.size());
+            return reRanked;
+        }
+
+        return candidates.size() > maxResults ? candidates.subList(0, maxResults) : candidates;
+    }
+
+    /**
+     * Hybrid Search 수행 (Vector + BM25 + RRF, ReRanking 전 후보)
+     */
+    private List<EmbeddingMatch<TextSegment>> performHybridSearch(String query, float[] queryEmbedding) {
         logger.info("Performing Hybrid Search (Vector + BM25 + RRF)");
 
         // Hybrid Search 수행
         int searchMaxResults = reRankingEnabled ? reRankingInitialResults : maxResults;
-        HybridSearchResult hybridResult = hybridSearchService.search(query, searchMaxResults);
+        HybridSearchResult hybridResult = hybridSearchService.search(query, queryEmbedding, searchMaxResults);
 
         logger.info("Hybrid Search completed: {} results (Vector: {}, BM25: {}, Fused: {}) in {}ms",
                 hybridResult.getFusedResultCount(),
@@ -279,55 +902,64 @@ public class RegulationSearchService {
 
         logger.info("Converted {} ScoredSegments to EmbeddingMatches", matches.size());
 
-        // ReRanking 적용 (선택적)
-        if (reRankingEnabled && scoringModel != null && !matches.isEmpty()) {
-            logger.info("Applying ReRanking on Hybrid Search results ({} candidates)", matches.size());
-            matches = performReRanking(query, matches);
-            logger.info("ReRanking completed: {} results", matches.size());
-        }
-
-        return matches;
+        // 겹치는 인접 세그먼트 병합 / 중복 후보 제거
+        return deduplicateCandidates(matches);
     }
 
     /**
-     * Vector Search + ReRanking 수행
+     * ReRanking 전 후보 중복 제거 (겹치는 인접 세그먼트는 병합, 거의 같은 세그먼트는 하위 순위 제거)
      */
-    private List<EmbeddingMatch<TextSegment>> performVectorSearchWithReRanking(String query) {
-        logger.info("Performing Vector Search with ReRanking");
+    private List<EmbeddingMatch<TextSegment>> deduplicateCandidates(List<EmbeddingMatch<TextSegment>> candidates) {
+        if (candidateDeduplicator == null || candidates.size() < 2) {
+            return candidates;
+        }
 
-        // Stage 1: 넓게 검색 (초기 후보)
-        List<EmbeddingMatch<TextSegment>> relevantSegments = performVectorSearch(
-                query,
-                reRankingInitialResults,
-                minScore // 낮은 threshold로 넓게 검색
-        );
+        List<EmbeddingMatch<TextSegment>> deduplicated = candidateDeduplicator.deduplicate(candidates);
+        if (deduplicated.size() < candidates.size()) {
+            logger.info("Candidate deduplication: {} -> {} candidates", candidates.size(), deduplicated.size());
+        }
+        return deduplicated;
+    }
 
-        logger.info("Stage 1 (Vector Search): Retrieved {} candidates", relevantSegments.size());
+    /**
+     * 답변 생성 프롬프트 토큰 사용량 통계
+     */
+    public Map<String, Object> getPromptTokenStats() {
+        return promptTokenStats.getStats(contextTokenBudget);
+    }
 
-        // Stage 2: ReRanking으로 정교하게 필터링
-        if (!relevantSegments.isEmpty()) {
-            relevantSegments = performReRanking(query, relevantSegments);
-            logger.info("Stage 2 (ReRanking): Refined to {} results", relevantSegments.size());
-        }
+    /**
+     * ReRanking 점수 캐시 통계
+     */
+    public Map<String, Object> getRerankCacheStats() {
+        return rerankScoreCache.getStats();
+    }
 
-        return relevantSegments;
+    /**
+     * 질문 임베딩 (유사 질문 캐시 조회, Few-shot 예제 선택, Vector 검색 공용)
+     */
+    public float[] embedQuery(String query) {
+        return embeddingModel.embed(query).content().vector();
     }
 
     /**
      * 벡터 검색 수행 (기본 설정 사용)
      */
     private List<EmbeddingMatch<TextSegment>> performVectorSearch(String query) {
-        return performVectorSearch(query, maxResults, minScore);
+        return performVectorSearch(query, null, maxResults, minScore);
     }
 
     /**
-     * 벡터 검색 수행 (파라미터 커스터마이징)
+     * 벡터 검색 수행 (파라미터 커스터마이징, queryEmbedding이 null이면 새로 생성)
      */
-    private List<EmbeddingMatch<TextSegment>> performVectorSearch(String query, int maxResults, double minScore) {
-        Embedding queryEmbedding = embeddingModel.embed(query).content();
+    private List<EmbeddingMatch<TextSegment>> performVectorSearch(String query, float[] queryEmbedding,
+                                                                  int maxResults, double minScore) {
+        Embedding embedding = queryEmbedding != null
+                ? Embedding.from(queryEmbedding)
+                : embeddingModel.embed(query).content();
 
         List<EmbeddingMatch<TextSegment>> matches = embeddingStore.findRelevant(
-                queryEmbedding,
+                embedding,
                 maxResults);
 
         // 최소 점수 필터링
@@ -340,7 +972,7 @@ public class RegulationSearchService {
     }
 
     /**
-     * ReRanking 수행 - Cohere Scoring Model을 사용하여 정교한 재정렬
+     * ReRanking 수행 - Scoring Model(Cohere 또는 로컬 Cross-Encoder)을 사용하여 정교한 재정렬
      */
     private List<EmbeddingMatch<TextSegment>> performReRanking(
             String query,
@@ -351,21 +983,14 @@ public class RegulationSearchService {
         }
 
         try {
-            // 후보 세그먼트 추출
-            List<TextSegment> segments = candidates.stream()
-                    .map(EmbeddingMatch::embedded)
-                    .collect(Collectors.toList());
-
-            // Cohere Scoring Model로 재평가
-            var scoringResponse = scoringModel.scoreAll(segments, query);
-            List<Double> scores = scoringResponse.content();
+            List<Double> scores = scoreCandidates(query, candidates);
 
-            logger.info("Cohere ReRanking received {} scores for {} candidates", scores.size(), candidates.size());
+            logger.info("ReRanking received {} scores for {} candidates", scores.size(), candidates.size());
 
             // 모든 점수 로그 (디버깅용)
             if (logger.isInfoEnabled() && !scores.isEmpty()) {
                 String allScoresStr = scores.stream()
-                        .map(s -> String.format("%.3f", s))
+                        .map(s -> s != null ? String.format("%.3f", s) : "-")
                         .collect(Collectors.joining(", "));
                 logger.info("All ReRanking scores: [{}]", allScoresStr);
             }
@@ -375,6 +1000,9 @@ public class RegulationSearchService {
             int filteredCount = 0;
 
             for (int i = 0; i < candidates.size() && i < scores.size(); i++) {
+                if (scores.get(i) == null) {
+                    continue;
+                }
                 double reRankScore = scores.get(i);
                 EmbeddingMatch<TextSegment> original = candidates.get(i);
 
@@ -426,31 +1054,142 @@ public class RegulationSearchService {
         }
     }
 
+    /**
+     * 후보별 ReRanking 점수 계산 (캐시에 없는 후보만 Scoring Model로 전송)
+     *
+     * @param query 검색 쿼리
+     * @param candidates 후보 목록
+     * @return 후보 순서대로의 점수 (Scoring Model이 점수를 돌려주지 않은 후보는 null)
+     */
+    private List<Double> scoreCandidates(String query, List<EmbeddingMatch<TextSegment>> candidates) {
+        long queryHash = RerankScoreCache.queryHash(query);
+        long generation = rerankScoreCache.currentGeneration();
+
+        List<Double> scores = new ArrayList<>(candidates.size());
+        List<Integer> missIndexes = new ArrayList<>();
+        List<TextSegment> missSegments = new ArrayList<>();
+
+        for (int i = 0; i < candidates.size(); i++) {
+            EmbeddingMatch<TextSegment> candidate = candidates.get(i);
+            Double cached = rerankScoreCache.get(queryHash, candidate.embeddingId(), generation);
+            scores.add(cached);
+            if (cached == null) {
+                missIndexes.add(i);
+                missSegments.add(candidate.embedded());
+            }
+        }
+
+        if (rerankScoreCache.isEnabled()) {
+            logger.info("ReRanking cache: {} hits, {} misses", candidates.size() - missSegments.size(),
+                    missSegments.size());
+        }
+
+        if (missSegments.isEmpty()) {
+            return scores;
+        }
+
+        // Scoring Model로 재평가 (캐시 미스만)
+        List<Double> missScores = rerankCallPolicy.call(() -> scoringModel.scoreAll(missSegments, query).content());
+
+        for (int j = 0; j < missIndexes.size() && j < missScores.size(); j++) {
+            int index = missIndexes.get(j);
+            double score = missScores.get(j);
+            scores.set(index, score);
+            rerankScoreCache.put(queryHash, candidates.get(index).embeddingId(), generation, score);
+        }
+
+        return scores;
+    }
+
     /**
      * RAG 기반 답변 생성 (구조화된 컨텍스트 사용 + 품질 개선)
      */
     private String generateAnswer(
             String question,
             List<EmbeddingMatch<TextSegment>> segments,
-            QueryAnalysisResult analysis) {
+            QueryAnalysisResult analysis,
+            float[] questionEmbedding) {
 
         logger.info("========================================");
         logger.info("Generating Answer with Quality Enhancement");
         logger.info("========================================");
 
-        // 1. 구조화된 컨텍스트 생성
-        String context = EnhancedContextBuilder.buildStructuredContext(segments, analysis);
-        logger.debug("Generated structured context (length: {} chars)", context.length());
-
-        // 2. 의도별 최적화된 프롬프트 생성
-        String prompt = com.guideon.util.PromptTemplate.buildPrompt(question, context, analysis);
-        logger.debug("Prompt built with intent-specific guidelines");
+        String prompt = buildAnswerPrompt(question, segments, analysis, questionEmbedding);
 
         // 3. LLM으로 답변 생성
         logger.debug("Generating answer with LLM...");
-        String rawAnswer = chatModel.generate(prompt);
+        String rawAnswer = answerCallPolicy.call(() -> chatModel.generate(prompt));
         logger.info("Raw answer generated (length: {} chars)", rawAnswer.length());
 
+        return enhanceAnswer(rawAnswer, segments, analysis).answer();
+    }
+
+    /**
+     * 답변 생성 (답변 생성 모델의 차단기가 열렸거나 생성에 실패하면 null - 근거 조항만 안내)
+     * 동시 호출 한도 초과(BulkheadFullException)는 그대로 전달합니다 (API는 503 + Retry-After).
+     */
+    private String generateAnswerOrNull(
+            String question,
+            List<EmbeddingMatch<TextSegment>> segments,
+            QueryAnalysisResult analysis,
+            float[] questionEmbedding) {
+
+        if (isChatUnavailable()) {
+            logger.warn("Chat model circuit open, returning references only");
+            return null;
+        }
+
+        try {
+            return generateAnswer(question, segments, analysis, questionEmbedding);
+        } catch (BulkheadFullException e) {
+            throw e;
+        } catch (Exception e) {
+            logger.warn("Answer generation failed, returning references only: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private boolean isChatUnavailable() {
+        return chatCircuit != null && chatCircuit.isOpen();
+    }
+
+    private boolean isEmbeddingUnavailable() {
+        return embeddingCircuit != null && embeddingCircuit.isOpen();
+    }
+
+    /**
+     * 답변 생성 프롬프트 구성 (1. 구조화된 컨텍스트, 2. 의도별 프롬프트)
+     *
+     * @param questionEmbedding 원문 질문 임베딩 (Few-shot 예제 선택용, null이면 예제 선택기가 새로 생성)
+     */
+    private String buildAnswerPrompt(
+            String question,
+            List<EmbeddingMatch<TextSegment>> segments,
+            QueryAnalysisResult analysis,
+            float[] questionEmbedding) {
+
+        // 1. 구조화된 컨텍스트 생성 (토큰 예산 안에서 관련도/중복도 순으로 채움)
+        EnhancedContextBuilder.BudgetedContext context =
+                EnhancedContextBuilder.buildBudgetedContext(segments, analysis, contextTokenBudget);
+        logger.debug("Generated structured context (length: {} chars)", context.context().length());
+
+        // 2. 의도별 최적화된 프롬프트 생성
+        String prompt = com.guideon.util.PromptTemplate.buildPrompt(question, context.context(), analysis, questionEmbedding);
+        int promptTokens = KoreanTokenEstimator.estimate(prompt);
+        promptTokenStats.record(promptTokens, context);
+        logger.info("Prompt built with intent-specific guidelines (~{} tokens, context ~{} tokens)",
+                promptTokens, context.tokens());
+        return prompt;
+    }
+
+    /**
+     * LLM 원본 답변 후처리 (검증, 품질 점수, 참조 조항 추출, 포맷팅, 신뢰도 안내)
+     */
+    private EnhancedAnswer enhanceAnswer(
+            String rawAnswer,
+            List<EmbeddingMatch<TextSegment>> segments,
+            QueryAnalysisResult analysis) {
+
         // 4. 답변 검증
         boolean isValid = com.guideon.util.AnswerQualityEnhancer.validateAnswer(rawAnswer);
         if (!isValid) {
@@ -483,7 +1222,13 @@ public class RegulationSearchService {
         logger.info("  Final Length: {} chars", finalAnswer.length());
         logger.info("========================================");
 
-        return finalAnswer;
+        return new EnhancedAnswer(finalAnswer, qualityScore, referencedArticles);
+    }
+
+    /**
+     * 후처리된 답변과 품질 메타데이터
+     */
+    private record EnhancedAnswer(String answer, double qualityScore, List<String> referencedArticles) {
     }
 
     /**
@@ -735,6 +1480,20 @@ public class RegulationSearchService {
                 false);
     }
 
+    /**
+     * 근거 조항만 안내하는 대체 응답 생성 (답변 생성 모델 장애 시, 검색 결과는 그대로 사용)
+     */
+    private RegulationSearchResult createDegradedResponse(List<RegulationReference> references,
+                                                          double confidenceScore) {
+        RegulationSearchResult result = new RegulationSearchResult(
+                ReferencesOnlyAnswer.build(references),
+                references,
+                confidenceScore,
+                true);
+        result.setDegraded(true);
+        return result;
+    }
+
     /**
      * 에러 응답 생성
      */
@@ -766,6 +1525,7 @@ public class RegulationSearchService {
      */
     public void setEmbeddingStore(InMemoryEmbeddingStore<TextSegment> embeddingStore) {
         this.embeddingStore = embeddingStore;
+        rerankScoreCache.nextGeneration();
         logger.info("Embedding store has been updated");
     }
 
@@ -816,6 +1576,9 @@ public class RegulationSearchService {
                 }
             }
 
+            if (deletedCount > 0) {
+                rerankScoreCache.nextGeneration();
+            }
             logger.info("Deleted {} embeddings for document: {}", deletedCount, documentId);
 
         } catch (Exception e) {
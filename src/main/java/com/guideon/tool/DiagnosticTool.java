@@ -1,6 +1,7 @@
 package com.guideon.tool;
 
-import com.guideon.analyzer.DictionaryLoader;
+import com.guideon.analyzer.DictionaryRegistry;
+import com.guideon.analyzer.DictionarySnapshot;
 import com.guideon.analyzer.EnhancedKoreanAnalyzer;
 import com.guideon.analyzer.SearchQueryAnalyzer;
 import org.apache.lucene.analysis.Analyzer;
@@ -39,8 +40,9 @@ public class DiagnosticTool {
         try {
             // 사전 로드
             System.out.println("📚 Loading dictionaries...");
-            UserDictionary userDict = DictionaryLoader.loadUserDictionary();
-            SynonymMap synonymMap = DictionaryLoader.loadSynonyms();
+            DictionarySnapshot dictionaries = DictionaryRegistry.getInstance().current();
+            UserDictionary userDict = dictionaries.getUserDictionary();
+            SynonymMap synonymMap = dictionaries.getSynonymMap();
 
             System.out.println("✓ User dictionary: " + (userDict != null ? "Loaded" : "Not loaded"));
             System.out.println("✓ Synonym map: " + (synonymMap != null ? "Loaded" : "Not loaded"));
@@ -49,7 +51,7 @@ public class DiagnosticTool {
             // Analyzer 생성
             EnhancedKoreanAnalyzer indexAnalyzer = new EnhancedKoreanAnalyzer(
                 userDict,
-                DictionaryLoader.loadStopWords(),
+                dictionaries.getStopWords(),
                 synonymMap,
                 KoreanTokenizer.DecompoundMode.MIXED
             );
@@ -1,6 +1,7 @@
 package com.guideon.tool;
 
-import com.guideon.analyzer.DictionaryLoader;
+import com.guideon.analyzer.DictionaryRegistry;
+import com.guideon.analyzer.DictionarySnapshot;
 import com.guideon.analyzer.EnhancedKoreanAnalyzer;
 import com.guideon.analyzer.SearchQueryAnalyzer;
 import org.apache.lucene.analysis.Analyzer;
@@ -36,8 +37,9 @@ public class Phase42IssueAnalyzer {
 
         try {
             // 사전 로드
-            UserDictionary userDict = DictionaryLoader.loadUserDictionary();
-            SynonymMap synonymMap = DictionaryLoader.loadSynonyms();
+            DictionarySnapshot dictionaries = DictionaryRegistry.getInstance().current();
+            UserDictionary userDict = dictionaries.getUserDictionary();
+            SynonymMap synonymMap = dictionaries.getSynonymMap();
 
             System.out.println("📚 Dictionary Status:");
             System.out.println("  User Dictionary: " + (userDict != null ? "✓ Loaded" : "✗ Not loaded"));
@@ -47,7 +49,7 @@ public class Phase42IssueAnalyzer {
             // Phase 4.1 Analyzer (동의어 없음)
             EnhancedKoreanAnalyzer phase41Analyzer = new EnhancedKoreanAnalyzer(
                 userDict,
-                DictionaryLoader.loadStopWords(),
+                dictionaries.getStopWords(),
                 null,  // 동의어 없음
                 KoreanTokenizer.DecompoundMode.MIXED
             );
@@ -55,7 +57,7 @@ public class Phase42IssueAnalyzer {
             // Phase 4.2 Analyzer (동의어 있음)
             EnhancedKoreanAnalyzer phase42Analyzer = new EnhancedKoreanAnalyzer(
                 userDict,
-                DictionaryLoader.loadStopWords(),
+                dictionaries.getStopWords(),
                 synonymMap,  // 동의어 있음
                 KoreanTokenizer.DecompoundMode.MIXED
             );
@@ -1,121 +1,420 @@
 package com.guideon.tool;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import com.guideon.service.BM25SearchService;
 import com.guideon.config.ConfigLoader;
 import dev.langchain4j.data.segment.TextSegment;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 /**
  * BM25 인덱스 재구축 도구
  * Embedding Store의 모든 세그먼트를 BM25 인덱스에 재색인
+ *
+ * - embedding_store.json을 JsonReader로 스트리밍 파싱 (임베딩 벡터는 읽지 않고 건너뜀)
+ * - 배치 단위로 멀티스레드 풀에서 하나의 IndexWriter에 병렬 색인
+ * - 별도 디렉토리(&lt;index&gt;.rebuild)에 빌드한 뒤 완료 시 기존 인덱스와 교체
+ * - 배치마다 체크포인트를 기록하여 중단 후 재실행 시 이어서 진행
+ *   (빌드 디렉토리에 커밋된 인덱스가 없으면 체크포인트를 무시하고 처음부터 빌드)
+ * - 빌드가 끝나면 체크포인트를 먼저 삭제한 뒤 교체하므로, 교체 중에 중단되어도 빈 인덱스로 교체되지 않음
+ * - 교체(기존 인덱스 -&gt; .old, 빌드 -&gt; 인덱스) 중간에 중단되어 인덱스 디렉토리가 없으면
+ *   서버 시작 또는 도구 재실행 시 .old를 되돌리고, 재실행하면 처음부터 다시 빌드하여 교체
+ *
+ * 사용법: ReindexBM25Tool [--threads=N] [--batch=N] [--restart]
+ * 주의: 인덱스 교체 단계에서 디렉토리를 이동하므로 서버를 중지한 상태에서 실행하세요.
  */
 public class ReindexBM25Tool {
     private static final Logger logger = LoggerFactory.getLogger(ReindexBM25Tool.class);
 
+    private static final String REBUILD_SUFFIX = ".rebuild";
+    private static final String CHECKPOINT_SUFFIX = ".rebuild.checkpoint";
+
+    private static final int DEFAULT_BATCH_SIZE = 500;
+
     public static void main(String[] args) {
         logger.info("=".repeat(80));
         logger.info("BM25 Index Rebuild Tool - Phase 4.1");
         logger.info("=".repeat(80));
 
+        int threads = Runtime.getRuntime().availableProcessors();
+        int batchSize = DEFAULT_BATCH_SIZE;
+        boolean restart = false;
+
+        for (String arg : args) {
+            if (arg.startsWith("--threads=")) {
+                threads = Integer.parseInt(arg.substring("--threads=".length()));
+            } else if (arg.startsWith("--batch=")) {
+                batchSize = Integer.parseInt(arg.substring("--batch=".length()));
+            } else if (arg.equals("--restart")) {
+                restart = true;
+            } else {
+                logger.warn("Unknown argument ignored: {}", arg);
+            }
+        }
+
         try {
             // ConfigLoader 초기화
             ConfigLoader config = new ConfigLoader();
 
-            // BM25SearchService 초기화
-            BM25SearchService bm25Service = new BM25SearchService(config);
-            logger.info("✓ BM25SearchService initialized");
-
             // Embedding Store 경로
             String embeddingStorePath = System.getProperty("user.home") + "/guideon/data/embedding_store.json";
-            Path path = Paths.get(embeddingStorePath);
+            Path storePath = Paths.get(embeddingStorePath);
 
-            if (!Files.exists(path)) {
+            if (!Files.exists(storePath)) {
                 logger.error("✗ Embedding store not found: {}", embeddingStorePath);
                 return;
             }
 
-            // Embedding Store 읽기
-            logger.info("Reading embedding store from: {}", embeddingStorePath);
-            String jsonContent = Files.readString(path);
-
-            Gson gson = new Gson();
-            JsonObject embeddingStore = gson.fromJson(jsonContent, JsonObject.class);
-            JsonArray entries = embeddingStore.getAsJsonArray("entries");
-
-            logger.info("Found {} segments in embedding store", entries.size());
-            logger.info("-".repeat(80));
-
-            // 각 세그먼트를 BM25에 색인
-            int indexedCount = 0;
-            int errorCount = 0;
-
-            for (JsonElement entryElement : entries) {
-                try {
-                    JsonObject entry = entryElement.getAsJsonObject();
-                    String id = entry.get("id").getAsString();
-
-                    // TextSegment 복원
-                    JsonObject embeddedObject = entry.getAsJsonObject("embedded");
-                    String text = embeddedObject.get("text").getAsString();
-
-                    // Metadata 복원
-                    JsonObject metadata = embeddedObject.getAsJsonObject("metadata");
-                    String regulationType = metadata != null && metadata.has("regulation_type")
-                        ? metadata.get("regulation_type").getAsString()
-                        : "unknown";
-
-                    // TextSegment 생성
-                    TextSegment segment = TextSegment.from(text);
-                    if (metadata != null) {
-                        for (Map.Entry<String, JsonElement> metaEntry : metadata.entrySet()) {
-                            segment.metadata().put(
-                                metaEntry.getKey(),
-                                metaEntry.getValue().getAsString()
-                            );
-                        }
+            RebuildStats stats = reindex(storePath, Paths.get(config.getBM25IndexDirectory()), config,
+                    threads, batchSize, restart);
+
+            logger.info("=".repeat(80));
+            logger.info("✓ Reindexing completed!");
+            logger.info("  - Successfully indexed: {} segments", stats.indexed);
+            logger.info("  - Skipped (checkpoint): {} segments", stats.skipped);
+            logger.info("  - Errors: {}", stats.errors);
+            logger.info("=".repeat(80));
+
+        } catch (Exception e) {
+            logger.error("Reindexing failed (re-run to resume from the last checkpoint)", e);
+            System.exit(1);
+        }
+    }
+
+    /**
+     * 별도 디렉토리에 인덱스를 빌드(체크포인트가 있으면 이어서)한 뒤 livePath의 인덱스와 교체
+     */
+    static RebuildStats reindex(Path storePath, Path livePath, ConfigLoader config,
+                                int threads, int batchSize, boolean restart) throws Exception {
+        Path buildPath = Paths.get(livePath + REBUILD_SUFFIX);
+        Path checkpointPath = Paths.get(livePath + CHECKPOINT_SUFFIX);
+
+        if (BM25SearchService.restoreInterruptedSwap(livePath)) {
+            logger.info("✓ Restored live index left in {} by an interrupted swap",
+                    livePath + BM25SearchService.PREVIOUS_INDEX_SUFFIX);
+        }
+
+        if (restart) {
+            logger.info("--restart: discarding previous rebuild state");
+            deleteRecursively(buildPath);
+            Files.deleteIfExists(checkpointPath);
+        }
+
+        long resumeFrom = readCheckpoint(checkpointPath);
+        if (resumeFrom > 0 && !hasCommittedIndex(buildPath)) {
+            // 체크포인트만 남고 빌드 결과가 없으면 이어서 빌드하면 빈 인덱스가 됨
+            logger.warn("Checkpoint found but {} has no committed index, rebuilding from the beginning", buildPath);
+            Files.deleteIfExists(checkpointPath);
+            resumeFrom = 0;
+        }
+        if (resumeFrom > 0) {
+            logger.info("✓ Resuming from checkpoint: {} entries already indexed", resumeFrom);
+        }
+
+        logger.info("Reading embedding store from: {}", storePath);
+        logger.info("Building into: {} (threads={}, batch={})", buildPath, threads, batchSize);
+        logger.info("-".repeat(80));
+
+        // 새 디렉토리에 빌드 (upsert이므로 체크포인트 이후 일부 중복 처리도 안전)
+        BM25SearchService bm25Service = new BM25SearchService(config, buildPath.toString());
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+
+        RebuildStats stats;
+        try {
+            stats = rebuild(storePath, bm25Service, pool, threads, batchSize, resumeFrom, checkpointPath);
+        } finally {
+            pool.shutdown();
+            bm25Service.close();
+        }
+        stats.skipped = resumeFrom;
+
+        // 빌드 완료: 체크포인트를 먼저 지우고 교체 (교체 중 중단되면 다음 실행은 처음부터 빌드)
+        Files.deleteIfExists(checkpointPath);
+
+        logger.info("-".repeat(80));
+        logger.info("Swapping rebuilt index into place: {}", livePath);
+        swapIndex(buildPath, livePath);
+        return stats;
+    }
+
+    /**
+     * 디렉토리에 커밋된 Lucene 인덱스가 있는지 확인
+     */
+    private static boolean hasCommittedIndex(Path indexPath) throws IOException {
+        if (!Files.isDirectory(indexPath)) {
+            return false;
+        }
+        try (Directory directory = FSDirectory.open(indexPath)) {
+            return DirectoryReader.indexExists(directory);
+        }
+    }
+
+    /**
+     * embedding_store.json을 스트리밍으로 읽으며 배치 단위로 병렬 색인
+     */
+    private static RebuildStats rebuild(Path storePath,
+                                        BM25SearchService bm25Service,
+                                        ExecutorService pool,
+                                        int threads,
+                                        int batchSize,
+                                        long resumeFrom,
+                                        Path checkpointPath) throws Exception {
+        RebuildStats stats = new RebuildStats();
+
+        try (JsonReader reader = new JsonReader(Files.newBufferedReader(storePath, StandardCharsets.UTF_8))) {
+            reader.beginObject();
+
+            while (reader.hasNext()) {
+                if (!"entries".equals(reader.nextName())) {
+                    reader.skipValue();
+                    continue;
+                }
+
+                reader.beginArray();
+                List<SegmentEntry> batch = new ArrayList<>(batchSize);
+                long position = 0;
+
+                while (reader.hasNext()) {
+                    if (position < resumeFrom) {
+                        reader.skipValue();
+                        position++;
+                        continue;
                     }
 
-                    // BM25 인덱싱
-                    bm25Service.indexSegment(segment, regulationType, id);
+                    SegmentEntry entry = readEntry(reader);
+                    position++;
 
-                    indexedCount++;
-                    if (indexedCount % 10 == 0) {
-                        logger.info("Indexed {} segments...", indexedCount);
+                    if (entry == null) {
+                        stats.errors++;
+                        continue;
                     }
 
-                } catch (Exception e) {
-                    errorCount++;
-                    logger.error("Failed to index segment", e);
+                    batch.add(entry);
+                    if (batch.size() >= batchSize) {
+                        indexBatch(batch, bm25Service, pool, threads, stats);
+                        bm25Service.commit();
+                        writeCheckpoint(checkpointPath, position);
+                        logger.info("Indexed {} segments... (checkpoint: {})", stats.indexed, position);
+                        batch = new ArrayList<>(batchSize);
+                    }
+                }
+
+                if (!batch.isEmpty()) {
+                    indexBatch(batch, bm25Service, pool, threads, stats);
                 }
+                bm25Service.commit();
+                writeCheckpoint(checkpointPath, position);
+
+                reader.endArray();
             }
 
-            // 커밋 (변경사항 디스크에 저장)
-            logger.info("-".repeat(80));
-            logger.info("Committing BM25 index...");
-            bm25Service.commit();
+            reader.endObject();
+        }
 
-            logger.info("=".repeat(80));
-            logger.info("✓ Reindexing completed!");
-            logger.info("  - Successfully indexed: {} segments", indexedCount);
-            logger.info("  - Errors: {}", errorCount);
-            logger.info("=".repeat(80));
+        return stats;
+    }
 
-            // 종료
-            bm25Service.close();
+    /**
+     * 배치를 스레드 수만큼 분할하여 공유 IndexWriter에 병렬 색인
+     */
+    private static void indexBatch(List<SegmentEntry> batch,
+                                   BM25SearchService bm25Service,
+                                   ExecutorService pool,
+                                   int threads,
+                                   RebuildStats stats) throws Exception {
+        AtomicInteger indexed = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>(threads);
 
-        } catch (Exception e) {
-            logger.error("Reindexing failed", e);
-            System.exit(1);
+        int chunkSize = (batch.size() + threads - 1) / threads;
+        for (int start = 0; start < batch.size(); start += chunkSize) {
+            List<SegmentEntry> chunk = batch.subList(start, Math.min(start + chunkSize, batch.size()));
+            futures.add(pool.submit(() -> {
+                for (SegmentEntry entry : chunk) {
+                    try {
+                        bm25Service.indexSegment(entry.segment, entry.regulationType, entry.id);
+                        indexed.incrementAndGet();
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                        logger.error("Failed to index segment: {}", entry.id, e);
+                    }
+                }
+            }));
+        }
+
+        for (Future<?> future : futures) {
+            future.get();
         }
+
+        stats.indexed += indexed.get();
+        stats.errors += errors.get();
+    }
+
+    /**
+     * entries 배열의 항목 하나를 읽어 SegmentEntry로 변환 (embedding 벡터는 건너뜀)
+     *
+     * @return 변환된 항목, 필수 필드가 없으면 null
+     */
+    private static SegmentEntry readEntry(JsonReader reader) throws IOException {
+        String id = null;
+        String text = null;
+        Map<String, String> metadata = new LinkedHashMap<>();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if (name.equals("id") && reader.peek() == JsonToken.STRING) {
+                id = reader.nextString();
+            } else if (name.equals("embedded") && reader.peek() == JsonToken.BEGIN_OBJECT) {
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    String field = reader.nextName();
+                    if (field.equals("text") && reader.peek() == JsonToken.STRING) {
+                        text = reader.nextString();
+                    } else if (field.equals("metadata") && reader.peek() == JsonToken.BEGIN_OBJECT) {
+                        readMetadata(reader, metadata);
+                    } else {
+                        reader.skipValue();
+                    }
+                }
+                reader.endObject();
+            } else {
+                // embedding 벡터 등 BM25에 불필요한 값은 메모리에 올리지 않음
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        if (id == null || text == null) {
+            logger.warn("Skipping malformed entry (id={}, hasText={})", id, text != null);
+            return null;
+        }
+
+        // TextSegment 복원
+        TextSegment segment = TextSegment.from(text);
+        metadata.forEach((key, value) -> segment.metadata().put(key, value));
+
+        String regulationType = metadata.getOrDefault("regulation_type", "unknown");
+        return new SegmentEntry(id, segment, regulationType);
+    }
+
+    /**
+     * Metadata 객체 읽기
+     * 직렬화 형식에 따라 {"metadata": {...}}로 한 번 더 감싸져 있을 수 있으므로 중첩을 풀어서 읽음
+     */
+    private static void readMetadata(JsonReader reader, Map<String, String> target) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String key = reader.nextName();
+            JsonToken token = reader.peek();
+            if (token == JsonToken.BEGIN_OBJECT && key.equals("metadata")) {
+                readMetadata(reader, target);
+            } else if (token == JsonToken.STRING || token == JsonToken.NUMBER || token == JsonToken.BOOLEAN) {
+                target.put(key, reader.nextString());
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+    }
+
+    /**
+     * 체크포인트 읽기 (색인 완료된 entries 수)
+     */
+    private static long readCheckpoint(Path checkpointPath) throws IOException {
+        if (!Files.exists(checkpointPath)) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(Files.readString(checkpointPath).trim());
+        } catch (NumberFormatException e) {
+            logger.warn("Invalid checkpoint file, starting from the beginning: {}", checkpointPath);
+            return 0;
+        }
+    }
+
+    /**
+     * 체크포인트 기록 (임시 파일에 쓴 뒤 원자적으로 교체)
+     */
+    private static void writeCheckpoint(Path checkpointPath, long position) throws IOException {
+        Path tmp = Paths.get(checkpointPath + ".tmp");
+        Files.writeString(tmp, Long.toString(position));
+        Files.move(tmp, checkpointPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * 빌드된 인덱스를 기존 인덱스 위치로 교체
+     * 기존 인덱스를 .old로 옮긴 뒤 새 인덱스를 원자적 rename으로 배치하고, 성공 후 .old를 삭제
+     * (두 이동 사이에 중단되면 {@link BM25SearchService#restoreInterruptedSwap(Path)}가 .old를 되돌림)
+     */
+    private static void swapIndex(Path buildPath, Path livePath) throws IOException {
+        Path oldPath = Paths.get(livePath + BM25SearchService.PREVIOUS_INDEX_SUFFIX);
+        deleteRecursively(oldPath);
+
+        if (Files.exists(livePath)) {
+            Files.move(livePath, oldPath, StandardCopyOption.ATOMIC_MOVE);
+        }
+        Files.move(buildPath, livePath, StandardCopyOption.ATOMIC_MOVE);
+
+        deleteRecursively(oldPath);
+    }
+
+    /**
+     * 디렉토리 재귀 삭제
+     */
+    private static void deleteRecursively(Path path) throws IOException {
+        if (!Files.exists(path)) {
+            return;
+        }
+        try (Stream<Path> walk = Files.walk(path)) {
+            for (Path p : walk.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(p);
+            }
+        }
+    }
+
+    /**
+     * 색인 대상 세그먼트
+     */
+    private static class SegmentEntry {
+        final String id;
+        final TextSegment segment;
+        final String regulationType;
+
+        SegmentEntry(String id, TextSegment segment, String regulationType) {
+            this.id = id;
+            this.segment = segment;
+            this.regulationType = regulationType;
+        }
+    }
+
+    /**
+     * 재구축 통계
+     */
+    static class RebuildStats {
+        long indexed;
+        long skipped;
+        long errors;
     }
 }
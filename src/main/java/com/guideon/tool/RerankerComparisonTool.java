@@ -0,0 +1,250 @@
+package com.guideon.tool;
+
+import com.guideon.config.ConfigLoader;
+import com.guideon.model.ScoredSegment;
+import com.guideon.rerank.OnnxCrossEncoderScoringModel;
+import com.guideon.rerank.ScoringModelFactory;
+import com.guideon.service.BM25SearchService;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.scoring.ScoringModel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * ReRanking 모델 비교 도구 (Cohere vs 로컬 ONNX Cross-Encoder)
+ *
+ * 질문마다 BM25 인덱스에서 후보를 가져와 두 모델로 재정렬하고 다음을 비교합니다.
+ * - 지연 시간: 평균 / p50 / p95 / 최대, 실패 수
+ * - 품질: 정답 텍스트가 주어진 질문은 Hit@k, MRR
+ * - 일치도: Cohere 대비 Top-1 일치율, Top-k 중복률
+ *
+ * 질문 파일 형식 (UTF-8, 한 줄에 하나): 질문[TAB정답 세그먼트에 포함된 텍스트]
+ *   예) 경조휴가는 며칠인가요?	제21조
+ *
+ * 사용법: RerankerComparisonTool [--questions=FILE] [--candidates=20] [--top=5] [--warmup=2]
+ * 로컬 모델 경로는 reranking.onnx.* 설정을 사용하며, Cohere API 키가 없으면 로컬 모델만 측정합니다.
+ */
+public class RerankerComparisonTool {
+    private static final Logger logger = LoggerFactory.getLogger(RerankerComparisonTool.class);
+
+    private static final List<String> DEFAULT_QUESTIONS = List.of(
+            "경조휴가는 며칠인가요?\t경조",
+            "연차휴가는 몇 일 부여되나요?\t연차",
+            "출장 일비는 얼마인가요?\t출장",
+            "법인카드 사용 한도는?\t법인카드",
+            "육아휴직 기간은 얼마나 되나요?\t육아휴직",
+            "징계의 종류에는 무엇이 있나요?\t징계"
+    );
+
+    public static void main(String[] args) {
+        String questionsFile = null;
+        int candidates = 20;
+        int top = 5;
+        int warmup = 2;
+
+        for (String arg : args) {
+            if (arg.startsWith("--questions=")) {
+                questionsFile = arg.substring("--questions=".length());
+            } else if (arg.startsWith("--candidates=")) {
+                candidates = Integer.parseInt(arg.substring("--candidates=".length()));
+            } else if (arg.startsWith("--top=")) {
+                top = Integer.parseInt(arg.substring("--top=".length()));
+            } else if (arg.startsWith("--warmup=")) {
+                warmup = Integer.parseInt(arg.substring("--warmup=".length()));
+            } else {
+                logger.warn("Unknown argument ignored: {}", arg);
+            }
+        }
+
+        logger.info("=".repeat(80));
+        logger.info("ReRanker Comparison Tool (Cohere vs local ONNX cross-encoder)");
+        logger.info("=".repeat(80));
+
+        try {
+            ConfigLoader config = new ConfigLoader();
+            List<String> lines = questionsFile != null
+                    ? Files.readAllLines(Paths.get(questionsFile), StandardCharsets.UTF_8)
+                    : DEFAULT_QUESTIONS;
+
+            String cohereModelName = ScoringModelFactory.isLocalModel(config.getReRankingModelName())
+                    ? "rerank-multilingual-v3.0" : config.getReRankingModelName();
+            ScoringModel cohere = ScoringModelFactory.createCohere(config, cohereModelName);
+
+            OnnxCrossEncoderScoringModel local = ScoringModelFactory.createOnnx(config);
+            if (local == null) {
+                logger.error("✗ Local ONNX model could not be loaded (check reranking.onnx.model.path / tokenizer.path)");
+                return;
+            }
+
+            BM25SearchService bm25 = new BM25SearchService(config);
+            try {
+                ModelStats cohereStats = new ModelStats("cohere:" + cohereModelName, top);
+                ModelStats localStats = new ModelStats(config.getReRankingModelName(), top);
+                int top1Agreements = 0;
+                double overlapSum = 0;
+                int compared = 0;
+
+                for (String line : lines) {
+                    if (line.isBlank() || line.startsWith("#")) {
+                        continue;
+                    }
+                    String[] parts = line.split("\t", 2);
+                    String question = parts[0].trim();
+                    String expected = parts.length > 1 ? parts[1].trim() : null;
+
+                    List<TextSegment> segments = bm25.search(question, candidates).stream()
+                            .map(ScoredSegment::getSegment)
+                            .collect(Collectors.toList());
+                    if (segments.isEmpty()) {
+                        logger.warn("No BM25 candidates for: {}", question);
+                        continue;
+                    }
+
+                    // 워밍업 (JIT, 세션 초기화, 커넥션 수립 영향 제거) - 로컬 모델만
+                    for (int i = 0; i < warmup; i++) {
+                        local.scoreAll(segments, question);
+                    }
+
+                    List<Integer> localRanking = localStats.measure(local, segments, question, expected);
+                    List<Integer> cohereRanking = cohere != null
+                            ? cohereStats.measure(cohere, segments, question, expected)
+                            : null;
+
+                    if (localRanking != null && cohereRanking != null) {
+                        compared++;
+                        if (localRanking.get(0).equals(cohereRanking.get(0))) {
+                            top1Agreements++;
+                        }
+                        overlapSum += topKOverlap(localRanking, cohereRanking, top);
+                    }
+
+                    logger.info("[{}] candidates={}, local top={}, cohere top={}", question, segments.size(),
+                            localRanking != null ? localRanking.subList(0, Math.min(top, localRanking.size())) : "error",
+                            cohereRanking != null ? cohereRanking.subList(0, Math.min(top, cohereRanking.size())) : "-");
+                }
+
+                logger.info("=".repeat(80));
+                localStats.report();
+                if (cohere != null) {
+                    cohereStats.report();
+                    if (compared > 0) {
+                        logger.info("Agreement (local vs cohere, {} questions): top-1 = {}%, top-{} overlap = {}%",
+                                compared,
+                                String.format("%.1f", 100.0 * top1Agreements / compared),
+                                top,
+                                String.format("%.1f", 100.0 * overlapSum / compared));
+                    }
+                } else {
+                    logger.info("Cohere API key not configured - local model measured only");
+                }
+                logger.info("=".repeat(80));
+
+            } finally {
+                bm25.close();
+                local.close();
+            }
+
+        } catch (Exception e) {
+            logger.error("✗ Comparison failed", e);
+            System.exit(1);
+        }
+    }
+
+    private static double topKOverlap(List<Integer> a, List<Integer> b, int k) {
+        Set<Integer> topA = new HashSet<>(a.subList(0, Math.min(k, a.size())));
+        List<Integer> topB = b.subList(0, Math.min(k, b.size()));
+        long shared = topB.stream().filter(topA::contains).count();
+        return (double) shared / Math.max(1, Math.min(k, Math.min(a.size(), b.size())));
+    }
+
+    /**
+     * 모델별 지연 시간 / 품질 집계
+     */
+    private static class ModelStats {
+        private final String name;
+        private final int top;
+        private final List<Long> latenciesMs = new ArrayList<>();
+        private int failures;
+        private int labeled;
+        private int hits;
+        private double reciprocalRankSum;
+
+        ModelStats(String name, int top) {
+            this.name = name;
+            this.top = top;
+        }
+
+        /**
+         * 한 질문 재정렬 및 측정
+         *
+         * @return 후보 인덱스의 재정렬 순서 (실패 시 null)
+         */
+        List<Integer> measure(ScoringModel model, List<TextSegment> segments, String question, String expected) {
+            long start = System.nanoTime();
+            List<Double> scores;
+            try {
+                scores = model.scoreAll(segments, question).content();
+            } catch (Exception e) {
+                failures++;
+                logger.warn("{} failed for [{}]: {}", name, question, e.getMessage());
+                return null;
+            }
+            latenciesMs.add((System.nanoTime() - start) / 1_000_000);
+
+            List<Integer> ranking = new ArrayList<>();
+            for (int i = 0; i < Math.min(scores.size(), segments.size()); i++) {
+                ranking.add(i);
+            }
+            ranking.sort((a, b) -> Double.compare(scores.get(b), scores.get(a)));
+
+            if (expected != null && !expected.isEmpty()) {
+                labeled++;
+                for (int rank = 0; rank < ranking.size(); rank++) {
+                    if (segments.get(ranking.get(rank)).text().contains(expected)) {
+                        if (rank < top) {
+                            hits++;
+                        }
+                        reciprocalRankSum += 1.0 / (rank + 1);
+                        break;
+                    }
+                }
+            }
+            return ranking;
+        }
+
+        void report() {
+            long[] sorted = latenciesMs.stream().mapToLong(Long::longValue).sorted().toArray();
+            logger.info("{}:", name);
+            if (sorted.length > 0) {
+                logger.info("  latency ms: mean={}, p50={}, p95={}, max={} ({} calls, {} failures)",
+                        String.format("%.1f", Arrays.stream(sorted).average().orElse(0)),
+                        percentile(sorted, 0.50), percentile(sorted, 0.95), sorted[sorted.length - 1],
+                        sorted.length, failures);
+            } else {
+                logger.info("  no successful calls ({} failures)", failures);
+            }
+            if (labeled > 0) {
+                logger.info("  quality: Hit@{} = {}%, MRR = {} ({} labeled questions)",
+                        top,
+                        String.format("%.1f", 100.0 * hits / labeled),
+                        String.format("%.3f", reciprocalRankSum / labeled),
+                        labeled);
+            }
+        }
+
+        private static long percentile(long[] sorted, double p) {
+            int index = (int) Math.ceil(p * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package com.guideon.util;
+
+import com.guideon.dto.QuestionAnswerDTO;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 최종 답변 캐시
+ * (정규화된 질문, 인덱스 세대) -> QuestionAnswerDTO (크기 제한 LRU + TTL)
+ *
+ * 같은 질문은 분석/검색/ReRanking/답변 생성을 모두 생략하고 이전 답변을 그대로 반환합니다.
+ * 문서가 색인/삭제되면 {@link #invalidate(String)}로 세대를 올리면서
+ * 해당 규정 유형을 참조한 답변만 제거하고, 나머지 답변은 새 세대로 옮겨 계속 사용합니다.
+ * 답변 생성 도중 세대가 바뀌었으면 그 답변은 저장하지 않습니다 (변경 전 인덱스로 만든 답변일 수 있음).
+ */
+public class AnswerCache {
+
+    private final int maxSize;
+    private final long ttlMs;
+    private final Map<String, Entry> cache;
+    private long generation;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder invalidated = new LongAdder();
+
+    /**
+     * 캐시 항목
+     *
+     * @param regulationTypes 답변이 참조한 규정 유형 (비어 있으면 모든 문서 변경에 무효화)
+     */
+    private record Entry(QuestionAnswerDTO answer, Set<String> regulationTypes, long createdAt, long generation) {
+    }
+
+    /**
+     * @param maxSize 최대 항목 수 (0 이하이면 캐시 비활성화)
+     * @param ttlMs 항목 유효 시간 (밀리초, 0 이하이면 만료 없음)
+     */
+    public AnswerCache(int maxSize, long ttlMs) {
+        this.maxSize = maxSize;
+        this.ttlMs = ttlMs;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > AnswerCache.this.maxSize;
+            }
+        };
+    }
+
+    public boolean isEnabled() {
+        return maxSize > 0;
+    }
+
+    /**
+     * 현재 인덱스 세대 (답변 생성 시작 시 한 번 읽어 저장 시 전달)
+     */
+    public long currentGeneration() {
+        synchronized (cache) {
+            return generation;
+        }
+    }
+
+    /**
+     * 캐시된 답변 조회
+     *
+     * @return 답변 (없거나 만료되었거나 이전 세대이면 null)
+     */
+    public QuestionAnswerDTO get(String question) {
+        if (!isEnabled()) {
+            return null;
+        }
+
+        String key = QueryAnalysisCache.normalize(question);
+        Entry entry;
+        synchronized (cache) {
+            entry = cache.get(key);
+            if (entry != null && (entry.generation() != generation || isExpired(entry, System.currentTimeMillis()))) {
+                cache.remove(key);
+                entry = null;
+            }
+        }
+
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.answer();
+    }
+
+    /**
+     * 적중/미스 통계 없이 캐시된 답변 조회 (유사 질문 색인에서 찾은 질문의 답변 확인용)
+     *
+     * @return 답변 (없거나 만료되었거나 이전 세대이면 null)
+     */
+    public QuestionAnswerDTO peek(String question) {
+        if (!isEnabled()) {
+            return null;
+        }
+
+        synchronized (cache) {
+            Entry entry = cache.get(QueryAnalysisCache.normalize(question));
+            if (entry == null || entry.generation() != generation || isExpired(entry, System.currentTimeMillis())) {
+                return null;
+            }
+            return entry.answer();
+        }
+    }
+
+    /**
+     * 답변 저장
+     *
+     * @param question 사용자 질문 (원문)
+     * @param answer 최종 답변
+     * @param regulationTypes 답변이 참조한 규정 유형 (비어 있으면 모든 문서 변경에 무효화)
+     * @param generation 답변 생성 시작 시점의 세대 ({@link #currentGeneration()})
+     */
+    public void put(String question, QuestionAnswerDTO answer, Set<String> regulationTypes, long generation) {
+        if (!isEnabled() || answer == null) {
+            return;
+        }
+
+        String key = QueryAnalysisCache.normalize(question);
+        synchronized (cache) {
+            if (generation != this.generation) {
+                return;
+            }
+            cache.put(key, new Entry(answer, Set.copyOf(regulationTypes), System.currentTimeMillis(), generation));
+        }
+    }
+
+    /**
+     * 문서 변경 반영: 세대를 올리고 해당 규정 유형을 참조한 답변 제거
+     *
+     * @param regulationType 색인/삭제된 문서의 규정 유형 (null이면 전체 제거)
+     * @return 제거된 항목 수
+     */
+    public int invalidate(String regulationType) {
+        int removed = 0;
+        synchronized (cache) {
+            generation++;
+            List<Map.Entry<String, Entry>> survivors = new ArrayList<>();
+            Iterator<Map.Entry<String, Entry>> iterator = cache.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<String, Entry> item = iterator.next();
+                Set<String> types = item.getValue().regulationTypes();
+                if (regulationType == null || types.isEmpty() || types.contains(regulationType)) {
+                    removed++;
+                } else {
+                    survivors.add(item);
+                }
+                iterator.remove();
+            }
+
+            // 영향 없는 답변은 새 세대로 옮김 (LRU 순서 유지)
+            for (Map.Entry<String, Entry> item : survivors) {
+                Entry entry = item.getValue();
+                cache.put(item.getKey(), new Entry(entry.answer(), entry.regulationTypes(), entry.createdAt(), generation));
+            }
+        }
+        invalidated.add(removed);
+        return removed;
+    }
+
+    /**
+     * 전체 제거
+     *
+     * @return 제거된 항목 수
+     */
+    public int clear() {
+        return invalidate(null);
+    }
+
+    /**
+     * 캐시 통계 (적중률, 규정 유형별 항목 수 포함)
+     */
+    public Map<String, Object> getStats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+
+        Map<String, Integer> byRegulationType = new LinkedHashMap<>();
+        int size;
+        long currentGeneration;
+        synchronized (cache) {
+            size = cache.size();
+            currentGeneration = generation;
+            for (Entry entry : cache.values()) {
+                if (entry.regulationTypes().isEmpty()) {
+                    byRegulationType.merge("*", 1, Integer::sum);
+                }
+                for (String type : entry.regulationTypes()) {
+                    byRegulationType.merge(type, 1, Integer::sum);
+                }
+            }
+        }
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", isEnabled());
+        stats.put("size", size);
+        stats.put("maxSize", maxSize);
+        stats.put("ttlMs", ttlMs);
+        stats.put("generation", currentGeneration);
+        stats.put("hits", hitCount);
+        stats.put("misses", missCount);
+        stats.put("invalidated", invalidated.sum());
+        stats.put("hitRate", hitCount + missCount > 0 ? (double) hitCount / (hitCount + missCount) : 0.0);
+        stats.put("byRegulationType", byRegulationType);
+        return stats;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    private boolean isExpired(Entry entry, long now) {
+        return ttlMs > 0 && now - entry.createdAt() > ttlMs;
+    }
+}
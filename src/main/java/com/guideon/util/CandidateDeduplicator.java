@@ -0,0 +1,258 @@
+package com.guideon.util;
+
+import com.guideon.model.DocumentMetadata;
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * ReRanking 전 후보 중복 제거
+ *
+ * 청크 분할 시 overlap(rag.chunk.overlap)으로 인해 같은 조항의 인접 세그먼트가 함께 검색되는 경우가 많습니다.
+ * 순위 순서대로 후보를 보면서
+ * 1. 상위 후보와 문자 shingle 포함도(containment)가 임계값 이상이면 하위 후보를 제거하고
+ * 2. 상위 후보와 겹치는 구간(한쪽 끝 = 다른 쪽 시작)이 있으면 하나의 후보로 이어 붙입니다.
+ * 결과적으로 ReRanking과 프롬프트에 더 적고 다양한 후보가 전달됩니다.
+ */
+public class CandidateDeduplicator {
+
+    private static final int SHINGLE_SIZE = 4;
+    private static final int MIN_STITCH_OVERLAP = 20; // 이어 붙이기로 판단할 최소 겹침 길이 (문자)
+
+    private final double similarityThreshold;
+    private final int maxMergedChars;
+
+    /**
+     * @param similarityThreshold 중복으로 볼 shingle 포함도 (0.0 ~ 1.0, 짧은 쪽 기준)
+     * @param maxMergedChars 이어 붙인 후보의 최대 길이 (0이면 이어 붙이지 않음)
+     */
+    public CandidateDeduplicator(double similarityThreshold, int maxMergedChars) {
+        this.similarityThreshold = similarityThreshold;
+        this.maxMergedChars = maxMergedChars;
+    }
+
+    /**
+     * 후보 중복 제거 / 병합
+     *
+     * @param candidates 순위 순서의 후보 목록
+     * @return 중복이 제거된 후보 목록 (원래 순위 순서 유지, 병합된 후보는 상위 후보 자리에 위치)
+     */
+    public List<EmbeddingMatch<TextSegment>> deduplicate(List<EmbeddingMatch<TextSegment>> candidates) {
+        List<Candidate> kept = new ArrayList<>(candidates.size());
+
+        for (EmbeddingMatch<TextSegment> match : candidates) {
+            Candidate candidate = new Candidate(match);
+            boolean consumed = false;
+
+            for (int i = 0; i < kept.size() && !consumed; i++) {
+                Candidate higher = kept.get(i);
+                if (!sameSource(higher, candidate)) {
+                    continue;
+                }
+
+                if (containment(higher.shingles, candidate.shingles) >= similarityThreshold) {
+                    consumed = true;
+                } else if (maxMergedChars > 0) {
+                    Candidate merged = stitch(higher, candidate);
+                    if (merged != null) {
+                        kept.set(i, merged);
+                        consumed = true;
+                    }
+                }
+            }
+
+            if (!consumed) {
+                kept.add(candidate);
+            }
+        }
+
+        List<EmbeddingMatch<TextSegment>> results = new ArrayList<>(kept.size());
+        for (Candidate candidate : kept) {
+            results.add(candidate.match);
+        }
+        return results;
+    }
+
+    /**
+     * 같은 규정의 후보끼리만 비교 (규정 유형이 없으면 비교 허용)
+     */
+    private static boolean sameSource(Candidate a, Candidate b) {
+        String typeA = a.match.embedded().metadata().getString(DocumentMetadata.REGULATION_TYPE);
+        String typeB = b.match.embedded().metadata().getString(DocumentMetadata.REGULATION_TYPE);
+        return typeA == null || typeB == null || typeA.equals(typeB);
+    }
+
+    /**
+     * 겹치는 구간이 있으면 두 후보를 이어 붙임
+     *
+     * @return 병합된 후보 (겹침이 없거나 최대 길이를 넘으면 null)
+     */
+    private Candidate stitch(Candidate higher, Candidate lower) {
+        Candidate first = higher;
+        Candidate second = lower;
+
+        // 분할기가 겹침 구간을 다른 공백(줄바꿈/공백)으로 이어 붙이므로 정규화된 텍스트로 비교
+        int overlap = suffixPrefixOverlap(first.normalized, second.normalized);
+        if (overlap < 0) {
+            overlap = suffixPrefixOverlap(second.normalized, first.normalized);
+            if (overlap < 0) {
+                return null;
+            }
+            first = lower;
+            second = higher;
+        }
+
+        String mergedText = first.text + second.text.substring(originalOffset(second.text, overlap));
+        if (mergedText.length() > maxMergedChars) {
+            return null;
+        }
+
+        Metadata metadata = higher.match.embedded().metadata().copy();
+        String articles = mergeArticleNumbers(
+                higher.match.embedded().metadata().getString(DocumentMetadata.ARTICLE_NUMBERS),
+                lower.match.embedded().metadata().getString(DocumentMetadata.ARTICLE_NUMBERS));
+        if (articles != null) {
+            metadata.put(DocumentMetadata.ARTICLE_NUMBERS, articles);
+        }
+
+        // 병합 후보는 원본과 내용이 다르므로 별도 ID 사용 (ReRanking 점수 캐시와 충돌 방지)
+        EmbeddingMatch<TextSegment> mergedMatch = new EmbeddingMatch<>(
+                Math.max(higher.match.score(), lower.match.score()),
+                higher.match.embeddingId() + "+" + lower.match.embeddingId(),
+                null,
+                TextSegment.from(mergedText, metadata));
+        return new Candidate(mergedMatch);
+    }
+
+    /**
+     * first의 끝부분과 second의 시작 부분이 겹치는 최대 길이
+     *
+     * @return 겹침 길이 (MIN_STITCH_OVERLAP 미만이면 -1)
+     */
+    static int suffixPrefixOverlap(String first, String second) {
+        if (second.length() < MIN_STITCH_OVERLAP) {
+            return -1;
+        }
+
+        String probe = second.substring(0, MIN_STITCH_OVERLAP);
+        int from = Math.max(0, first.length() - second.length());
+        for (int position = first.indexOf(probe, from); position >= 0; position = first.indexOf(probe, position + 1)) {
+            int length = first.length() - position;
+            if (first.regionMatches(position, second, 0, length)) {
+                return length;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 정규화된 텍스트의 위치를 원본 텍스트의 위치로 변환
+     * (앞뒤 공백 제거, 연속 공백은 한 글자로 계산)
+     */
+    static int originalOffset(String original, int normalizedOffset) {
+        int index = 0;
+        while (index < original.length() && Character.isWhitespace(original.charAt(index))) {
+            index++;
+        }
+
+        int count = 0;
+        while (index < original.length() && count < normalizedOffset) {
+            if (Character.isWhitespace(original.charAt(index))) {
+                while (index < original.length() && Character.isWhitespace(original.charAt(index))) {
+                    index++;
+                }
+            } else {
+                index++;
+            }
+            count++;
+        }
+        return index;
+    }
+
+    private static String normalize(String text) {
+        return text.replaceAll("\\s+", " ").trim();
+    }
+
+    private static String mergeArticleNumbers(String a, String b) {
+        if (a == null || b == null) {
+            return a != null ? a : b;
+        }
+        Set<String> articles = new LinkedHashSet<>(Arrays.asList(a.split(",")));
+        articles.addAll(Arrays.asList(b.split(",")));
+        return String.join(",", articles);
+    }
+
+    /**
+     * shingle 포함도: |A ∩ B| / min(|A|, |B|)
+     * 짧은 후보가 긴 후보 안에 거의 그대로 들어 있으면 1.0에 가까워집니다.
+     */
+    static double containment(int[] a, int[] b) {
+        if (a.length == 0 || b.length == 0) {
+            return 0.0;
+        }
+
+        int shared = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] == b[j]) {
+                shared++;
+                i++;
+                j++;
+            } else if (a[i] < b[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return (double) shared / Math.min(a.length, b.length);
+    }
+
+    /**
+     * 공백을 정규화한 텍스트의 문자 n-gram 해시 (정렬, 중복 제거)
+     */
+    static int[] shingles(String normalized) {
+        if (normalized.length() < SHINGLE_SIZE) {
+            return normalized.isEmpty() ? new int[0] : new int[]{normalized.hashCode()};
+        }
+
+        int[] hashes = new int[normalized.length() - SHINGLE_SIZE + 1];
+        for (int start = 0; start < hashes.length; start++) {
+            int hash = 0;
+            for (int k = 0; k < SHINGLE_SIZE; k++) {
+                hash = 31 * hash + normalized.charAt(start + k);
+            }
+            hashes[start] = hash;
+        }
+
+        Arrays.sort(hashes);
+        int unique = 0;
+        for (int k = 0; k < hashes.length; k++) {
+            if (k == 0 || hashes[k] != hashes[k - 1]) {
+                hashes[unique++] = hashes[k];
+            }
+        }
+        return Arrays.copyOf(hashes, unique);
+    }
+
+    private static final class Candidate {
+        private final EmbeddingMatch<TextSegment> match;
+        private final String text;
+        private final String normalized;
+        private final int[] shingles;
+
+        private Candidate(EmbeddingMatch<TextSegment> match) {
+            this.match = match;
+            this.text = Objects.requireNonNullElse(match.embedded().text(), "");
+            this.normalized = normalize(text);
+            this.shingles = shingles(normalized);
+        }
+    }
+}
@@ -7,6 +7,7 @@ import dev.langchain4j.store.embedding.EmbeddingMatch;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -17,6 +18,27 @@ import java.util.stream.Collectors;
 public class EnhancedContextBuilder {
     private static final Logger logger = LoggerFactory.getLogger(EnhancedContextBuilder.class);
 
+    private static final String CONTEXT_HEADER = "=== 검색된 규정 내용 ===\n\n";
+    private static final String SEGMENT_SEPARATOR = "---\n\n";
+    private static final String OMITTED_MARKER = "…(중략)";
+
+    // 토큰 예산 기반 조립 설정
+    private static final double MMR_LAMBDA = 0.7;          // 관련도 vs 중복 회피 가중치
+    private static final double LOW_VALUE_RATIO = 0.5;     // 최고 관련도 대비 이 비율 미만이면 핵심 문장만 남김
+    private static final int MIN_TRIM_TOKENS = 80;         // 남은 예산이 이보다 작으면 잘라 넣지 않음
+
+    /**
+     * 토큰 예산 기반 컨텍스트 조립 결과
+     *
+     * @param context 컨텍스트 문자열
+     * @param tokens 추정 토큰 수
+     * @param included 포함된 세그먼트 수 (잘라 넣은 세그먼트 포함)
+     * @param trimmed 핵심 문장만 남기거나 잘라 넣은 세그먼트 수
+     * @param dropped 예산 부족으로 제외된 세그먼트 수
+     */
+    public record BudgetedContext(String context, int tokens, int included, int trimmed, int dropped) {
+    }
+
     /**
      * 구조화된 컨텍스트 생성
      *
@@ -130,6 +152,242 @@ public class EnhancedContextBuilder {
         return result;
     }
 
+    /**
+     * 토큰 예산 기반 구조화된 컨텍스트 생성
+     *
+     * 관련도와 이미 고른 세그먼트와의 중복도를 함께 보는 MMR(Maximal Marginal Relevance) 순서로 세그먼트를 고르고,
+     * 예산 안에서 구조화된 컨텍스트와 같은 형식으로 채웁니다.
+     * - 관련도가 낮은 세그먼트는 질문 키워드가 들어 있는 문장만 남깁니다.
+     * - 다음 세그먼트가 남은 예산을 넘으면 핵심 문장 위주로 잘라 넣고, 남은 예산이 너무 적으면 제외합니다.
+     *
+     * @param segments 검색된 세그먼트 목록 (관련도 순)
+     * @param analysis 질문 분석 결과 (키워드 사용, 선택사항)
+     * @param tokenBudget 컨텍스트 토큰 예산 (0 이하이면 제한 없음)
+     * @return 조립 결과
+     */
+    public static BudgetedContext buildBudgetedContext(
+            List<EmbeddingMatch<TextSegment>> segments,
+            QueryAnalysisResult analysis,
+            int tokenBudget) {
+
+        if (segments == null || segments.isEmpty()) {
+            return new BudgetedContext("", 0, 0, 0, 0);
+        }
+        if (tokenBudget <= 0) {
+            String context = buildStructuredContext(segments, analysis);
+            return new BudgetedContext(context, KoreanTokenEstimator.estimate(context), segments.size(), 0, 0);
+        }
+
+        List<String> keywords = analysis != null && analysis.getKeywords() != null ? analysis.getKeywords() : List.of();
+        List<Block> remaining = toBlocks(segments);
+
+        StringBuilder context = new StringBuilder(CONTEXT_HEADER);
+        int budgetLeft = tokenBudget - KoreanTokenEstimator.estimate(CONTEXT_HEADER);
+        int separatorTokens = KoreanTokenEstimator.estimate(SEGMENT_SEPARATOR);
+        List<Block> selected = new ArrayList<>();
+        int trimmed = 0;
+        int dropped = 0;
+
+        while (!remaining.isEmpty()) {
+            Block block = removeMostMarginal(remaining, selected);
+            int overhead = selected.isEmpty() ? 0 : separatorTokens;
+
+            String body = block.body;
+            boolean condensed = false;
+            if (block.relevance < LOW_VALUE_RATIO) {
+                String summary = condense(body, keywords, Integer.MAX_VALUE);
+                condensed = !summary.equals(body);
+                body = summary;
+            }
+
+            String rendered = renderSegment(selected.size() + 1, block, body);
+            int cost = KoreanTokenEstimator.estimate(rendered) + overhead;
+
+            if (cost > budgetLeft) {
+                int bodyBudget = budgetLeft - overhead
+                        - KoreanTokenEstimator.estimate(renderSegment(selected.size() + 1, block, ""));
+                if (bodyBudget < MIN_TRIM_TOKENS) {
+                    dropped++;
+                    continue;
+                }
+                body = condense(body, keywords, bodyBudget);
+                condensed = true;
+                rendered = renderSegment(selected.size() + 1, block, body);
+                cost = KoreanTokenEstimator.estimate(rendered) + overhead;
+                if (body.isEmpty() || cost > budgetLeft) {
+                    dropped++;
+                    continue;
+                }
+            }
+
+            if (!selected.isEmpty()) {
+                context.append(SEGMENT_SEPARATOR);
+            }
+            context.append(rendered);
+            budgetLeft -= cost;
+            selected.add(block);
+            if (condensed) {
+                trimmed++;
+            }
+        }
+
+        String result = context.toString();
+        int tokens = KoreanTokenEstimator.estimate(result);
+        logger.info("Budgeted context: {} of {} segments ({} trimmed, {} dropped), ~{} tokens (budget {})",
+                selected.size(), segments.size(), trimmed, dropped, tokens, tokenBudget);
+
+        return new BudgetedContext(result, tokens, selected.size(), trimmed, dropped);
+    }
+
+    /**
+     * 남은 후보 중 MMR 점수가 가장 높은 세그먼트를 꺼냄
+     * MMR = λ · 관련도 - (1 - λ) · 이미 고른 세그먼트와의 최대 중복도
+     */
+    private static Block removeMostMarginal(List<Block> remaining, List<Block> selected) {
+        int bestIndex = 0;
+        double bestScore = Double.NEGATIVE_INFINITY;
+
+        for (int i = 0; i < remaining.size(); i++) {
+            Block candidate = remaining.get(i);
+            double redundancy = 0.0;
+            for (Block chosen : selected) {
+                redundancy = Math.max(redundancy, CandidateDeduplicator.containment(candidate.shingles, chosen.shingles));
+            }
+
+            double score = MMR_LAMBDA * candidate.relevance - (1 - MMR_LAMBDA) * redundancy;
+            if (score > bestScore) {
+                bestScore = score;
+                bestIndex = i;
+            }
+        }
+        return remaining.remove(bestIndex);
+    }
+
+    /**
+     * 핵심 문장만 남기기 (추출 요약)
+     * 첫 줄(조항 제목)과 질문 키워드가 많이 들어 있는 문장을 우선으로 원래 순서대로 남깁니다.
+     *
+     * @param maxTokens 최대 토큰 수 (Integer.MAX_VALUE이면 키워드가 있는 문장만 남김)
+     * @return 요약된 본문 (생략된 문장이 있으면 생략 표시 포함)
+     */
+    static String condense(String body, List<String> keywords, int maxTokens) {
+        String[] sentences = body.split("\\n+|(?<=[다요]\\.)\\s+");
+        if (sentences.length == 0) {
+            return body;
+        }
+
+        boolean keywordOnly = maxTokens == Integer.MAX_VALUE;
+        int[] matches = new int[sentences.length];
+        boolean anyKeyword = false;
+        for (int i = 0; i < sentences.length; i++) {
+            for (String keyword : keywords) {
+                if (!keyword.isBlank() && sentences[i].contains(keyword)) {
+                    matches[i]++;
+                }
+            }
+            anyKeyword |= matches[i] > 0;
+        }
+
+        // 우선순위: 첫 문장 > 키워드 수 > 원래 순서
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < sentences.length; i++) {
+            order.add(i);
+        }
+        order.sort((a, b) -> {
+            if (a == 0 || b == 0) {
+                return a == 0 ? -1 : 1;
+            }
+            return matches[a] != matches[b] ? Integer.compare(matches[b], matches[a]) : Integer.compare(a, b);
+        });
+
+        boolean[] keep = new boolean[sentences.length];
+        int budget = maxTokens - KoreanTokenEstimator.estimate(OMITTED_MARKER);
+        int kept = 0;
+        for (int index : order) {
+            if (keywordOnly && index != 0 && matches[index] == 0 && (anyKeyword || kept >= 2)) {
+                continue;
+            }
+            int cost = KoreanTokenEstimator.estimate(sentences[index]);
+            if (cost <= budget) {
+                keep[index] = true;
+                budget -= cost;
+                kept++;
+            }
+        }
+
+        if (kept == sentences.length) {
+            return body;
+        }
+        if (kept == 0) {
+            return "";
+        }
+
+        StringBuilder condensed = new StringBuilder();
+        for (int i = 0; i < sentences.length; i++) {
+            if (keep[i]) {
+                condensed.append(sentences[i].trim()).append("\n");
+            }
+        }
+        return condensed.append(OMITTED_MARKER).toString();
+    }
+
+    private static List<Block> toBlocks(List<EmbeddingMatch<TextSegment>> segments) {
+        double maxScore = segments.stream().mapToDouble(EmbeddingMatch::score).max().orElse(0.0);
+
+        List<Block> blocks = new ArrayList<>(segments.size());
+        for (int i = 0; i < segments.size(); i++) {
+            EmbeddingMatch<TextSegment> match = segments.get(i);
+            // 점수가 없으면 순위로 관련도 대체
+            double relevance = maxScore > 0 ? match.score() / maxScore : 1.0 / (i + 1);
+            blocks.add(new Block(match, relevance));
+        }
+        return blocks;
+    }
+
+    /**
+     * 세그먼트 하나를 구조화된 컨텍스트 형식으로 출력 (구분선 제외)
+     */
+    private static String renderSegment(int number, Block block, String body) {
+        StringBuilder segment = new StringBuilder();
+        segment.append(String.format("[검색 결과 %d] (관련도: %.2f, 출처: %s", number, block.score, block.regulationType));
+        if (block.firstArticle != null) {
+            segment.append(String.format(", %s", block.firstArticle));
+        }
+        segment.append(")\n");
+        if (!body.isEmpty()) {
+            segment.append(body).append("\n");
+        }
+        return segment.append("\n").toString();
+    }
+
+    /**
+     * 예산 조립용 세그먼트 정보
+     */
+    private static final class Block {
+        private final double score;
+        private final double relevance;
+        private final String regulationType;
+        private final String firstArticle;
+        private final String body;
+        private final int[] shingles;
+
+        private Block(EmbeddingMatch<TextSegment> match, double relevance) {
+            TextSegment segment = match.embedded();
+            String type = segment.metadata().getString("regulation_type");
+            String text = segment.text();
+            List<RegulationArticle> articles = RegulationArticleExtractor.extractArticles(text, type);
+
+            this.score = match.score();
+            this.relevance = relevance;
+            this.regulationType = type == null || type.isEmpty() ? "알 수 없음" : type;
+            this.firstArticle = RegulationArticleExtractor.extractFirstArticleNumber(text);
+            this.body = articles.isEmpty()
+                    ? text
+                    : articles.stream().map(RegulationArticle::toFormattedString).collect(Collectors.joining("\n"));
+            this.shingles = CandidateDeduplicator.shingles(text.replaceAll("\\s+", " ").trim());
+        }
+    }
+
     /**
      * 간단한 컨텍스트 생성 (기존 방식)
      *
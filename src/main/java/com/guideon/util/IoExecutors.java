@@ -0,0 +1,89 @@
+package com.guideon.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 블로킹 I/O(외부 API 호출, Lucene 검색) 전용 Executor 생성 유틸리티
+ *
+ * 공용 ForkJoinPool(CompletableFuture 기본 풀)에서 블로킹 호출을 하면 풀이 고갈되어
+ * JVM의 다른 병렬 작업까지 멈출 수 있으므로, 용도별 전용 Executor를 사용합니다.
+ * - Java 21 이상: 가상 스레드 Executor (작업당 가상 스레드)
+ * - Java 17~20: 크기와 대기열이 제한된 플랫폼 스레드 풀 (초과 시 RejectedExecutionException)
+ */
+public class IoExecutors {
+    private static final Logger logger = LoggerFactory.getLogger(IoExecutors.class);
+
+    /**
+     * I/O 전용 Executor 생성
+     *
+     * @param name 스레드 이름 접두사
+     * @param maxThreads 플랫폼 스레드 풀 최대 크기 (가상 스레드 사용 시 무시)
+     * @param queueCapacity 플랫폼 스레드 풀 대기열 크기 (가상 스레드 사용 시 무시)
+     * @return ExecutorService
+     */
+    public static ExecutorService newExecutor(String name, int maxThreads, int queueCapacity) {
+        ExecutorService virtualExecutor = newVirtualThreadExecutor(name);
+        if (virtualExecutor != null) {
+            logger.info("Executor '{}' created with virtual threads", name);
+            return virtualExecutor;
+        }
+
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                maxThreads,
+                maxThreads,
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                daemonThreadFactory(name),
+                new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+
+        logger.info("Executor '{}' created with bounded pool (threads={}, queue={})", name, maxThreads, queueCapacity);
+        return executor;
+    }
+
+    /**
+     * 가상 스레드 Executor 생성 (Java 21+)
+     * 컴파일 대상이 Java 17이므로 리플렉션으로 호출합니다.
+     *
+     * @return ExecutorService, Java 21 미만이면 null
+     */
+    private static ExecutorService newVirtualThreadExecutor(String name) {
+        if (Runtime.version().feature() < 21) {
+            return null;
+        }
+
+        try {
+            // Thread.ofVirtual().name(name + "-", 0).factory()
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, name + "-", 0L);
+            ThreadFactory factory = (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+
+            Method method = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            return (ExecutorService) method.invoke(null, factory);
+
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            logger.warn("Virtual threads unavailable, using bounded pool for '{}'", name, e);
+            return null;
+        }
+    }
+
+    private static ThreadFactory daemonThreadFactory(String name) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + counter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
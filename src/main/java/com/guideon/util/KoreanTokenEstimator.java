@@ -0,0 +1,65 @@
+package com.guideon.util;
+
+/**
+ * 한국어 텍스트 토큰 수 추정 (토크나이저 호출 없음)
+ *
+ * Gemini 토크나이저 기준 근사치입니다.
+ * - 한글 음절: 약 1.5음절당 1토큰
+ * - 영문/숫자: 약 4글자당 1토큰 (단어가 바뀌면 새 토큰)
+ * - 문장부호/기호: 1글자당 1토큰
+ * - 공백/줄바꿈: 앞 토큰에 붙는 것으로 보고 계산하지 않음
+ * 예산을 넘지 않도록 약간 크게 추정합니다.
+ */
+public final class KoreanTokenEstimator {
+
+    private static final double HANGUL_TOKENS_PER_CHAR = 1.0 / 1.5;
+    private static final int ALNUM_CHARS_PER_TOKEN = 4;
+
+    private KoreanTokenEstimator() {
+    }
+
+    /**
+     * 추정 토큰 수
+     */
+    public static int estimate(String text) {
+        if (text == null || text.isEmpty()) {
+            return 0;
+        }
+
+        int hangul = 0;
+        int tokens = 0;
+        int alnumRun = 0;
+
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+
+            if (isAsciiAlphanumeric(c)) {
+                alnumRun++;
+                continue;
+            }
+            tokens += alnumTokens(alnumRun);
+            alnumRun = 0;
+
+            if (isHangul(c)) {
+                hangul++;
+            } else if (!Character.isWhitespace(c)) {
+                tokens++;
+            }
+        }
+        tokens += alnumTokens(alnumRun);
+
+        return tokens + (int) Math.ceil(hangul * HANGUL_TOKENS_PER_CHAR);
+    }
+
+    private static int alnumTokens(int run) {
+        return (run + ALNUM_CHARS_PER_TOKEN - 1) / ALNUM_CHARS_PER_TOKEN;
+    }
+
+    private static boolean isAsciiAlphanumeric(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+
+    private static boolean isHangul(char c) {
+        return (c >= '가' && c <= '힣') || (c >= 'ㄱ' && c <= 'ㆎ');
+    }
+}
@@ -1,14 +1,18 @@
 package com.guideon.util;
 
 import com.guideon.model.QueryAnalysisResult;
-import com.guideon.model.prompt.FewShotExample;
 import com.guideon.model.prompt.IntentMetadata;
 import com.guideon.util.prompt.FewShotExampleManager;
+import com.guideon.util.prompt.FewShotExampleSelector;
 import com.guideon.util.prompt.PromptMetadataManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.List;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * LLM 프롬프트 템플릿 관리 클래스
@@ -19,10 +23,10 @@ public class PromptTemplate {
     private static final Logger logger = LoggerFactory.getLogger(PromptTemplate.class);
     
     // Few-shot 예제 사용 여부 (테스트용)
-    private static boolean useFewShotExamples = true;
+    private static volatile boolean useFewShotExamples = true;
     
     // 메타데이터 사용 여부 (테스트용)
-    private static boolean useMetadata = true;
+    private static volatile boolean useMetadata = true;
 
     // 기본 시스템 프롬프트
     private static final String SYSTEM_PROMPT = """
@@ -40,23 +44,168 @@ public class PromptTemplate {
         5. 답변은 한국어로 자연스럽고 이해하기 쉽게 작성하세요
         """;
 
+    // 단일 호출 모드 출력 형식 (분석 필드 -> ANSWER: -> 답변)
+    private static final String SINGLE_CALL_OUTPUT_FORMAT = """
+
+
+        [출력 형식]
+        먼저 질문을 분석하여 아래 4줄을 작성한 뒤, "ANSWER:" 다음 줄부터 답변을 작성하세요.
+        KEYWORDS: [쉼표로 구분된 핵심 키워드 목록]
+        REGULATION_TYPES: [답변 근거가 된 규정 유형, 쉼표로 구분, 없으면 "일반"]
+        INTENT: [질문 의도: 정보조회/절차설명/기준확인/가능여부/예외상황/계산방법/권리의무 중 하나]
+        SEARCH_QUERY: [검색에 최적화된 쿼리문 - 조사/어미 제거, 핵심 명사만 추출]
+        ANSWER:
+        """;
+
+    // 의도 목록에 없는 의도에 사용할 키 (기본 가이드라인, 예제 없음)
+    private static final String DEFAULT_INTENT = "일반질문";
+
+    // 의도별로 미리 만든 프롬프트 앞부분 (시스템 프롬프트 + 지침 + 의도별 가이드 + 예제)
+    private static volatile CompiledPrefixes compiledPrefixes;
+
+    // 질문별 Few-shot 예제 선택기 (설정되면 예제는 앞부분에서 빠지고 질문마다 골라서 붙임)
+    private static volatile FewShotExampleSelector exampleSelector;
+
+    /**
+     * 미리 만든 프롬프트 앞부분 (만들 당시의 설정과 함께 보관하여 설정이 바뀌면 다시 생성)
+     */
+    private record CompiledPrefixes(boolean useFewShotExamples, boolean useMetadata, long examplesVersion,
+                                    boolean dynamicExamples, Map<String, String> byIntent) {
+
+        boolean isCurrent() {
+            return useFewShotExamples == PromptTemplate.useFewShotExamples
+                    && useMetadata == PromptTemplate.useMetadata
+                    && examplesVersion == FewShotExampleManager.getVersion()
+                    && dynamicExamples == PromptTemplate.isDynamicExamples();
+        }
+    }
+
     /**
      * 의도별 최적화된 프롬프트 생성
+     *
+     * 의도마다 변하지 않는 앞부분(시스템 프롬프트, 답변 지침, 의도별 가이드, Few-shot 예제)은 미리 만들어 두고,
+     * 요청마다 검색된 규정 내용과 질문만 이어 붙입니다.
+     * 예제 선택기가 설정되어 있으면 예제는 앞부분에서 빠지고 질문과 비슷한 예제만 골라 앞부분 뒤에 붙입니다.
+     * 앞부분이 요청 간에 동일하므로 모델 제공자의 프롬프트 접두사 캐시도 적중할 수 있습니다.
      */
     public static String buildPrompt(String question, String structuredContext, QueryAnalysisResult analysis) {
-        logger.debug("Building prompt for intent: {}", analysis != null ? analysis.getIntent() : "일반질문");
+        return buildPrompt(question, structuredContext, analysis, null);
+    }
 
-        String intent = (analysis != null && analysis.getIntent() != null) ? analysis.getIntent() : "일반질문";
-        String intentGuidelines = getIntentSpecificGuidelines(intent);
-        String examples = getIntentExamples(intent);
+    /**
+     * 의도별 최적화된 프롬프트 생성 (요청에서 이미 계산한 질문 임베딩으로 Few-shot 예제 선택)
+     *
+     * @param questionEmbedding 질문 임베딩 (null이면 예제 선택기가 새로 생성)
+     */
+    public static String buildPrompt(String question, String structuredContext, QueryAnalysisResult analysis,
+                                     float[] questionEmbedding) {
+        return assemblePrompt(question, structuredContext, analysis, questionEmbedding, "\n\n답변:\n");
+    }
 
-        String prompt = String.format("""
-            %s
+    /**
+     * 질문 분석과 답변을 한 번에 요청하는 프롬프트 생성 (단일 호출 모드)
+     *
+     * 앞부분은 {@link #buildPrompt}와 같고, 답변 앞에 분석 필드를 먼저 쓰도록 출력 형식만 덧붙입니다.
+     * 응답은 {@link SingleCallResponse#split}으로 분석 부분과 답변 부분으로 나눕니다.
+     *
+     * @param analysis 검색에 사용한 규칙 기반 분석 결과 (의도별 앞부분 선택용)
+     */
+    public static String buildSingleCallPrompt(String question, String structuredContext, QueryAnalysisResult analysis) {
+        return assemblePrompt(question, structuredContext, analysis, null, SINGLE_CALL_OUTPUT_FORMAT);
+    }
 
-            [검색된 규정 내용]
-            %s
+    private static String assemblePrompt(String question, String structuredContext, QueryAnalysisResult analysis,
+                                         float[] questionEmbedding, String suffix) {
+        String intent = (analysis != null && analysis.getIntent() != null) ? analysis.getIntent() : DEFAULT_INTENT;
+        String prefix = getPromptPrefix(intent);
+        String examples = isDynamicExamples() ? selectExamples(intent, question, questionEmbedding) : "";
+
+        String prompt = new StringBuilder(prefix.length() + examples.length() + structuredContext.length()
+                + question.length() + suffix.length() + 64)
+                .append(prefix)
+                .append(examples)
+                .append("[검색된 규정 내용]\n")
+                .append(structuredContext)
+                .append("\n\n[질문]\n")
+                .append(question)
+                .append(suffix)
+                .toString();
 
-            [질문]
+        logger.info("Prompt built: length={} chars, intent={}", prompt.length(), intent);
+        return prompt;
+    }
+
+    /**
+     * 질문과 비슷한 Few-shot 예제 블록 (선택할 수 없으면 의도별 고정 예제)
+     */
+    private static String selectExamples(String intent, String question, float[] questionEmbedding) {
+        String examples = exampleSelector.selectAnswerGenerationExamples(intent, question, questionEmbedding);
+        if (examples == null) {
+            examples = getIntentExamples(intent);
+        }
+        return examples.isEmpty() ? "" : examples.strip() + "\n\n";
+    }
+
+    /**
+     * 질문별 Few-shot 예제 선택기 설정 (null이면 의도별 고정 예제 사용)
+     */
+    public static void setExampleSelector(FewShotExampleSelector selector) {
+        PromptTemplate.exampleSelector = selector;
+    }
+
+    private static boolean isDynamicExamples() {
+        FewShotExampleSelector selector = exampleSelector;
+        return useFewShotExamples && selector != null && selector.isReady();
+    }
+
+    /**
+     * 의도별 프롬프트 앞부분 (설정이 바뀌었으면 다시 생성)
+     */
+    static String getPromptPrefix(String intent) {
+        CompiledPrefixes prefixes = compiledPrefixes;
+        if (prefixes == null || !prefixes.isCurrent()) {
+            prefixes = precompile();
+        }
+        String prefix = prefixes.byIntent().get(intent);
+        return prefix != null ? prefix : prefixes.byIntent().get(DEFAULT_INTENT);
+    }
+
+    /**
+     * 모든 의도의 프롬프트 앞부분을 미리 생성 (서비스 시작 시 호출, 이후에는 설정이 바뀔 때만 다시 생성)
+     */
+    public static void precompilePrefixes() {
+        precompile();
+    }
+
+    private static synchronized CompiledPrefixes precompile() {
+        CompiledPrefixes current = compiledPrefixes;
+        if (current != null && current.isCurrent()) {
+            return current;
+        }
+
+        long examplesVersion = FewShotExampleManager.getVersion();
+        boolean dynamicExamples = isDynamicExamples();
+        Set<String> intents = new LinkedHashSet<>(PromptMetadataManager.getAllIntents());
+        intents.add(DEFAULT_INTENT);
+
+        Map<String, String> byIntent = new HashMap<>();
+        for (String intent : intents) {
+            byIntent.put(intent, buildPromptPrefix(intent, dynamicExamples));
+        }
+
+        CompiledPrefixes compiled = new CompiledPrefixes(
+                useFewShotExamples, useMetadata, examplesVersion, dynamicExamples, Collections.unmodifiableMap(byIntent));
+        compiledPrefixes = compiled;
+        logger.info("Prompt prefixes compiled for {} intents (fewShot={}, dynamicExamples={}, metadata={})",
+                byIntent.size(), useFewShotExamples, dynamicExamples, useMetadata);
+        return compiled;
+    }
+
+    /**
+     * @param dynamicExamples true이면 예제는 질문마다 골라서 붙이므로 앞부분에서 제외
+     */
+    private static String buildPromptPrefix(String intent, boolean dynamicExamples) {
+        return String.format("""
             %s
 
             [답변 작성 지침]
@@ -64,18 +213,11 @@ public class PromptTemplate {
             %s
 
             %s
-
-            답변:
             """,
             SYSTEM_PROMPT.trim(),
-            structuredContext,
-            question,
             COMMON_GUIDELINES.trim(),
-            intentGuidelines,
-            examples);
-
-        logger.info("Prompt built: length={} chars, intent={}", prompt.length(), intent);
-        return prompt;
+            getIntentSpecificGuidelines(intent),
+            dynamicExamples ? "" : getIntentExamples(intent)).stripTrailing() + "\n\n";
     }
 
     /**
@@ -187,19 +329,14 @@ public class PromptTemplate {
         if (!useFewShotExamples) {
             return "";
         }
-        
-        // Few-shot 예제 가져오기 (5-7개)
-        List<FewShotExample> examples = FewShotExampleManager.getAnswerGenerationExamples(intent, 7);
 
-        if (examples == null || examples.isEmpty()) {
-            // 예제가 없는 경우 기본 예제 반환
-            return getDefaultExamples(intent);
-        }
+        // Few-shot 예제 블록 (상위 7개, 예제가 바뀔 때만 다시 포맷)
+        String examples = FewShotExampleManager.getAnswerGenerationExamplesBlock(intent);
 
-        // Few-shot 예제를 프롬프트 형식으로 변환
-        return FewShotExampleManager.formatAnswerGenerationExamples(examples);
+        // 예제가 없는 경우 기본 예제 반환
+        return examples != null ? examples : getDefaultExamples(intent);
     }
-    
+
     /**
      * 테스트용: Few-shot 예제 사용 여부 설정
      */
@@ -0,0 +1,60 @@
+package com.guideon.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 답변 생성 프롬프트 토큰 사용량 집계 (요청별 추정 토큰 수)
+ *
+ * 답변 생성 지연 시간과 비용은 프롬프트 토큰 수에 비례하므로,
+ * 컨텍스트 토큰 예산(rag.context.max.tokens)의 효과를 요청 단위로 확인할 수 있게 합니다.
+ */
+public class PromptTokenStats {
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder promptTokens = new LongAdder();
+    private final LongAdder contextTokens = new LongAdder();
+    private final LongAdder segmentsIncluded = new LongAdder();
+    private final LongAdder segmentsTrimmed = new LongAdder();
+    private final LongAdder segmentsDropped = new LongAdder();
+    private final LongAccumulator maxPromptTokens = new LongAccumulator(Math::max, 0);
+    private volatile int lastPromptTokens;
+
+    /**
+     * 요청 한 건의 토큰 사용량 기록
+     *
+     * @param promptTokens 프롬프트 전체 추정 토큰 수
+     * @param context 컨텍스트 조립 결과
+     */
+    public void record(int promptTokens, EnhancedContextBuilder.BudgetedContext context) {
+        requests.increment();
+        this.promptTokens.add(promptTokens);
+        contextTokens.add(context.tokens());
+        segmentsIncluded.add(context.included());
+        segmentsTrimmed.add(context.trimmed());
+        segmentsDropped.add(context.dropped());
+        maxPromptTokens.accumulate(promptTokens);
+        lastPromptTokens = promptTokens;
+    }
+
+    /**
+     * 집계 통계 (평균/최대/최근 프롬프트 토큰, 세그먼트 포함/요약/제외 수)
+     */
+    public Map<String, Object> getStats(int contextTokenBudget) {
+        long count = requests.sum();
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("contextTokenBudget", contextTokenBudget);
+        stats.put("requests", count);
+        stats.put("avgPromptTokens", count > 0 ? (double) promptTokens.sum() / count : 0.0);
+        stats.put("avgContextTokens", count > 0 ? (double) contextTokens.sum() / count : 0.0);
+        stats.put("maxPromptTokens", maxPromptTokens.get());
+        stats.put("lastPromptTokens", lastPromptTokens);
+        stats.put("segmentsIncluded", segmentsIncluded.sum());
+        stats.put("segmentsTrimmed", segmentsTrimmed.sum());
+        stats.put("segmentsDropped", segmentsDropped.sum());
+        return stats;
+    }
+}
@@ -0,0 +1,243 @@
+package com.guideon.util;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.guideon.model.QueryAnalysisResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 질의 분석 결과 캐시
+ * 정규화된 질문 -> QueryAnalysisResult (크기 제한 LRU + TTL)
+ *
+ * 같은 질문(공백/대소문자/끝 문장부호 차이 무시)은 질의 분석 LLM 호출 없이 이전 분석 결과를 재사용합니다.
+ * 파일 경로를 지정하면 종료 시 저장하고 시작 시 다시 읽어, 재시작 후에도 자주 묻는 질문이 바로 적중합니다.
+ */
+public class QueryAnalysisCache {
+    private static final Logger logger = LoggerFactory.getLogger(QueryAnalysisCache.class);
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final int maxSize;
+    private final long ttlMs;
+    private final Path persistFile;
+    private final Map<String, Entry> cache;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    /**
+     * 캐시 항목 (파일 저장 형식 겸용)
+     */
+    public static class Entry {
+        public String query;
+        public long createdAt;
+        public QueryAnalysisResult result;
+
+        public Entry() {
+        }
+
+        Entry(String query, long createdAt, QueryAnalysisResult result) {
+            this.query = query;
+            this.createdAt = createdAt;
+            this.result = result;
+        }
+    }
+
+    /**
+     * @param maxSize 최대 항목 수 (0 이하이면 캐시 비활성화)
+     * @param ttlMs 항목 유효 시간 (밀리초, 0 이하이면 만료 없음)
+     * @param persistFile 저장 파일 (null이면 메모리에만 보관)
+     */
+    public QueryAnalysisCache(int maxSize, long ttlMs, Path persistFile) {
+        this.maxSize = maxSize;
+        this.ttlMs = ttlMs;
+        this.persistFile = persistFile;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > QueryAnalysisCache.this.maxSize;
+            }
+        };
+    }
+
+    public boolean isEnabled() {
+        return maxSize > 0;
+    }
+
+    /**
+     * 캐시된 분석 결과 조회
+     *
+     * @param query 사용자 질문 (원문)
+     * @return 분석 결과 사본 (originalQuery는 이번 질문으로 설정, 없거나 만료되면 null)
+     */
+    public QueryAnalysisResult get(String query) {
+        if (!isEnabled()) {
+            return null;
+        }
+
+        String key = normalize(query);
+        Entry entry;
+        synchronized (cache) {
+            entry = cache.get(key);
+            if (entry != null && isExpired(entry, System.currentTimeMillis())) {
+                cache.remove(key);
+                expirations.increment();
+                entry = null;
+            }
+        }
+
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return copyOf(entry.result, query);
+    }
+
+    /**
+     * 분석 결과 저장 (LLM 분석에 성공한 결과만 저장할 것)
+     */
+    public void put(String query, QueryAnalysisResult result) {
+        if (!isEnabled() || result == null) {
+            return;
+        }
+
+        String key = normalize(query);
+        synchronized (cache) {
+            cache.put(key, new Entry(key, System.currentTimeMillis(), copyOf(result, result.getOriginalQuery())));
+        }
+    }
+
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * 저장 파일에서 캐시 적재 (만료된 항목 제외)
+     *
+     * @return 적재된 항목 수
+     */
+    public int load() {
+        if (!isEnabled() || persistFile == null || !Files.exists(persistFile)) {
+            return 0;
+        }
+
+        try {
+            List<Entry> entries = MAPPER.readValue(persistFile.toFile(), new TypeReference<List<Entry>>() {
+            });
+            long now = System.currentTimeMillis();
+            int loaded = 0;
+            synchronized (cache) {
+                // 파일은 오래된 항목부터 저장되어 있으므로 순서대로 넣으면 LRU 순서가 유지됨
+                for (Entry entry : entries) {
+                    if (entry.query != null && entry.result != null && !isExpired(entry, now)) {
+                        cache.put(entry.query, entry);
+                        loaded++;
+                    }
+                }
+            }
+            logger.info("Query analysis cache loaded: {} entries from {}", loaded, persistFile);
+            return loaded;
+        } catch (IOException e) {
+            logger.warn("Failed to load query analysis cache from {}: {}", persistFile, e.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * 캐시를 저장 파일에 기록 (임시 파일에 쓴 뒤 교체)
+     */
+    public void save() {
+        if (!isEnabled() || persistFile == null) {
+            return;
+        }
+
+        List<Entry> entries;
+        synchronized (cache) {
+            entries = new ArrayList<>(cache.values());
+        }
+
+        try {
+            if (persistFile.getParent() != null) {
+                Files.createDirectories(persistFile.getParent());
+            }
+            Path tempFile = persistFile.resolveSibling(persistFile.getFileName() + ".tmp");
+            MAPPER.writeValue(tempFile.toFile(), entries);
+            Files.move(tempFile, persistFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            logger.info("Query analysis cache saved: {} entries to {}", entries.size(), persistFile);
+        } catch (IOException e) {
+            logger.warn("Failed to save query analysis cache to {}: {}", persistFile, e.getMessage());
+        }
+    }
+
+    /**
+     * 캐시 통계 (적중률 포함)
+     */
+    public Map<String, Object> getStats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", isEnabled());
+        stats.put("size", size());
+        stats.put("maxSize", maxSize);
+        stats.put("ttlMs", ttlMs);
+        stats.put("hits", hitCount);
+        stats.put("misses", missCount);
+        stats.put("expirations", expirations.sum());
+        stats.put("hitRate", hitCount + missCount > 0 ? (double) hitCount / (hitCount + missCount) : 0.0);
+        stats.put("persistFile", persistFile != null ? persistFile.toString() : null);
+        return stats;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    /**
+     * 캐시 키 정규화 (공백 정리, 소문자, 끝 문장부호 제거)
+     */
+    static String normalize(String query) {
+        return query.trim()
+                .replaceAll("\\s+", " ")
+                .replaceAll("[\\s?？!.。]+$", "")
+                .toLowerCase();
+    }
+
+    private boolean isExpired(Entry entry, long now) {
+        return ttlMs > 0 && now - entry.createdAt > ttlMs;
+    }
+
+    private static QueryAnalysisResult copyOf(QueryAnalysisResult result, String originalQuery) {
+        return new QueryAnalysisResult(
+                originalQuery,
+                result.getKeywords() != null ? new ArrayList<>(result.getKeywords()) : null,
+                result.getRegulationTypes() != null ? new ArrayList<>(result.getRegulationTypes()) : null,
+                result.getIntent(),
+                result.getSearchQuery());
+    }
+}
@@ -8,6 +8,9 @@ import java.util.stream.Collectors;
 /**
  * Reciprocal Rank Fusion (RRF) 계산기
  * 여러 검색 결과를 순위 기반으로 통합
+ *
+ * 검색 경로의 융합은 {@link com.guideon.util.fusion.RankFusion}을 사용합니다.
+ * 이 클래스의 Map 기반 메서드는 기존 호출부 호환을 위해 남겨둡니다.
  */
 public class RRFCalculator {
     private static final int DEFAULT_K = 60;
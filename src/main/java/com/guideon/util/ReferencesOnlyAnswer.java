@@ -0,0 +1,63 @@
+package com.guideon.util;
+
+import com.guideon.model.RegulationReference;
+
+import java.util.List;
+
+/**
+ * 근거 조항만으로 구성한 대체 답변 (답변 생성 모델 장애 시)
+ *
+ * 답변 생성 모델의 차단기가 열렸거나 답변 생성이 실패해도 이미 끝난 검색/ReRanking 결과는 버리지 않고,
+ * 찾은 규정 조항의 제목과 원문 일부를 순위대로 안내합니다.
+ * 조항 번호는 세그먼트 본문의 조항 제목에서 추출합니다 (본문 중의 "제10조에 따라" 같은 인용은 제외).
+ */
+public final class ReferencesOnlyAnswer {
+
+    public static final String NOTICE =
+            "현재 AI 답변을 생성할 수 없어 질문과 관련된 규정 조항을 안내해 드립니다.\n" +
+            "아래 원문을 확인해주시고, 정확한 해석이 필요하면 인사팀 또는 관련 부서에 문의해주시기 바랍니다.";
+
+    // 근거 조항별 원문 최대 길이
+    private static final int MAX_EXCERPT_CHARS = 300;
+
+    private ReferencesOnlyAnswer() {
+    }
+
+    /**
+     * 근거 조항 목록으로 대체 답변 생성
+     *
+     * @param references 근거 조항 (순위 순)
+     * @return 안내 문구 + 조항별 제목/원문 일부
+     */
+    public static String build(List<RegulationReference> references) {
+        StringBuilder answer = new StringBuilder(NOTICE);
+
+        for (int i = 0; i < references.size(); i++) {
+            RegulationReference reference = references.get(i);
+            answer.append("\n\n[근거 ").append(i + 1).append("] ").append(heading(reference)).append('\n');
+            answer.append(excerpt(reference.getContent()));
+        }
+        return answer.toString();
+    }
+
+    private static String heading(RegulationReference reference) {
+        String documentName = reference.getDocumentName() != null ? reference.getDocumentName() : "알 수 없음";
+
+        List<String> articles = RegulationArticleExtractor.extractArticleHeadings(reference.getContent());
+        if (articles.isEmpty() && reference.getArticleNumber() != null && !"N/A".equals(reference.getArticleNumber())) {
+            articles = List.of(reference.getArticleNumber());
+        }
+        return articles.isEmpty() ? documentName : documentName + " " + String.join(", ", articles);
+    }
+
+    private static String excerpt(String content) {
+        if (content == null) {
+            return "";
+        }
+        String text = content.strip();
+        if (text.length() <= MAX_EXCERPT_CHARS) {
+            return text;
+        }
+        return text.substring(0, MAX_EXCERPT_CHARS).stripTrailing() + "…";
+    }
+}
@@ -16,8 +16,8 @@ import java.util.regex.Pattern;
 public class RegulationArticleExtractor {
     private static final Logger logger = LoggerFactory.getLogger(RegulationArticleExtractor.class);
 
-    // 조항 번호 패턴
-    private static final Pattern ARTICLE_PATTERN = Pattern.compile(
+    // 조항 번호 패턴 (조항 번호 색인 및 조항 지정 질문 판별에도 사용)
+    public static final Pattern ARTICLE_PATTERN = Pattern.compile(
             "제\\s*(\\d+)\\s*조(?:\\s*\\(([^)]+)\\))?"  // 제XX조 (제목)
     );
 
@@ -188,6 +188,54 @@ public class RegulationArticleExtractor {
         return numbers;
     }
 
+    /**
+     * 조항 제목으로 등장하는 조항 번호만 추출 (중복 제거, 등장 순서 유지)
+     * "제23조(연차휴가)"처럼 제목이 붙었거나 줄 맨 앞에 오는 경우만 조항 시작으로 보고,
+     * 본문 중의 "제10조에 따라" 같은 인용은 제외합니다.
+     *
+     * @param text 텍스트
+     * @return 조항 번호 목록
+     */
+    public static List<String> extractArticleHeadings(String text) {
+        List<String> numbers = new ArrayList<>();
+
+        if (text == null || text.isEmpty()) {
+            return numbers;
+        }
+
+        Matcher matcher = ARTICLE_PATTERN.matcher(text);
+
+        while (matcher.find()) {
+            boolean hasTitle = matcher.group(2) != null;
+            if (!hasTitle && !isLineStart(text, matcher.start())) {
+                continue;
+            }
+
+            String articleNumber = "제" + matcher.group(1) + "조";
+            if (!numbers.contains(articleNumber)) {
+                numbers.add(articleNumber);
+            }
+        }
+
+        return numbers;
+    }
+
+    /**
+     * 해당 위치 앞에 같은 줄의 다른 글자가 없는지 확인
+     */
+    private static boolean isLineStart(String text, int pos) {
+        for (int i = pos - 1; i >= 0; i--) {
+            char c = text.charAt(i);
+            if (c == '\n' || c == '\r') {
+                return true;
+            }
+            if (!Character.isWhitespace(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * 조항 정보를 포함한 텍스트인지 확인 (품질 체크)
      *
@@ -0,0 +1,142 @@
+package com.guideon.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ReRanking 점수 캐시
+ * (정규화된 쿼리 해시, segment ID, 인덱스 세대) -> ReRanking 점수
+ *
+ * 자주 들어오는 질문은 같은 후보를 반복해서 검색하므로, 이미 채점한 후보는
+ * Scoring Model에 다시 보내지 않습니다.
+ * 문서가 색인/삭제되면 {@link #nextGeneration()}으로 세대를 올려 이전 점수가 더 이상 조회되지 않게 하고,
+ * 이전 세대 항목은 LRU로 자연스럽게 밀려납니다.
+ */
+public class RerankScoreCache {
+
+    private final int maxSize;
+    private final Map<Key, Double> cache;
+    private final AtomicLong generation = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private record Key(long queryHash, String segmentId, long generation) {
+    }
+
+    /**
+     * @param maxSize 최대 항목 수 (0 이하이면 캐시 비활성화)
+     */
+    public RerankScoreCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Double> eldest) {
+                return size() > RerankScoreCache.this.maxSize;
+            }
+        };
+    }
+
+    public boolean isEnabled() {
+        return maxSize > 0;
+    }
+
+    /**
+     * 현재 인덱스 세대 (ReRanking 시작 시 한 번 읽어 조회/저장에 같은 값을 사용)
+     */
+    public long currentGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * 인덱스 세대 증가 (문서 색인/삭제/임베딩 스토어 교체 시 호출)
+     */
+    public long nextGeneration() {
+        return generation.incrementAndGet();
+    }
+
+    /**
+     * 캐시된 점수 조회
+     *
+     * @return 점수 (없으면 null)
+     */
+    public Double get(long queryHash, String segmentId, long generation) {
+        if (!isEnabled() || segmentId == null) {
+            return null;
+        }
+
+        Double score;
+        synchronized (cache) {
+            score = cache.get(new Key(queryHash, segmentId, generation));
+        }
+
+        if (score != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return score;
+    }
+
+    /**
+     * 점수 저장 (채점 도중 세대가 바뀌었으면 저장하지 않음)
+     */
+    public void put(long queryHash, String segmentId, long generation, double score) {
+        if (!isEnabled() || segmentId == null || generation != this.generation.get()) {
+            return;
+        }
+
+        synchronized (cache) {
+            cache.put(new Key(queryHash, segmentId, generation), score);
+        }
+    }
+
+    /**
+     * 정규화된 쿼리의 64비트 해시 (공백 정리 + 소문자, FNV-1a)
+     * 쿼리 원문 대신 해시만 보관하여 항목당 메모리를 줄입니다.
+     */
+    public static long queryHash(String query) {
+        String normalized = query.trim().replaceAll("\\s+", " ").toLowerCase();
+
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < normalized.length(); i++) {
+            hash ^= normalized.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    /**
+     * 캐시 통계 (크기, 인덱스 세대, 적중/미스 수, 적중률)
+     */
+    public Map<String, Object> getStats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", isEnabled());
+        stats.put("size", size());
+        stats.put("maxSize", maxSize);
+        stats.put("generation", generation.get());
+        stats.put("hits", hitCount);
+        stats.put("misses", missCount);
+        stats.put("hitRate", hitCount + missCount > 0 ? (double) hitCount / (hitCount + missCount) : 0.0);
+        return stats;
+    }
+}
@@ -0,0 +1,191 @@
+package com.guideon.util;
+
+import com.guideon.analyzer.EnhancedKoreanAnalyzer;
+import com.guideon.config.RegulationInferenceConfigLoader;
+import com.guideon.model.QueryAnalysisResult;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.ko.KoreanTokenizer;
+import org.apache.lucene.analysis.tokenattributes.OffsetAttribute;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 규칙 기반 질의 분석 (LLM 호출 없음)
+ *
+ * 1. 규정 유형: 질문에 규정 이름이 있으면 그대로, 없으면 regulation-inference-rules.yaml 규칙으로 추론
+ * 2. 키워드: Nori 형태소 분석 (조사/어미/불용어 제거, 동의어가 아닌 질문 원문 표기 사용)
+ * 3. 의도: 표현 패턴 기반 분류 (정보조회, 절차설명, 기준확인, 가능여부, 예외상황, 계산방법, 권리의무)
+ *
+ * 각 단계의 확실성을 합쳐 0.0 ~ 1.0의 신뢰도를 계산하며,
+ * QueryAnalysisService는 신뢰도가 임계값 이상이면 LLM 분석을 생략합니다.
+ */
+public class RuleBasedQueryAnalyzer {
+    private static final Logger logger = LoggerFactory.getLogger(RuleBasedQueryAnalyzer.class);
+
+    private static final String DEFAULT_INTENT = "정보조회";
+    private static final String DEFAULT_REGULATION_TYPE = "일반";
+
+    // 신뢰도 가중치 (규정 유형이 검색 범위를 좌우하므로 가장 큼)
+    private static final double TYPE_WEIGHT = 0.5;
+    private static final double INTENT_WEIGHT = 0.3;
+    private static final double KEYWORD_WEIGHT = 0.2;
+
+    // 의도별 표현 패턴 (순서 = 동점일 때 우선순위)
+    private static final Map<String, Pattern> INTENT_PATTERNS = new LinkedHashMap<>();
+
+    static {
+        INTENT_PATTERNS.put("계산방법", Pattern.compile("계산|산정|산출|어떻게\\s*구하|공식"));
+        INTENT_PATTERNS.put("절차설명", Pattern.compile("절차|순서|과정|(신청|처리|사용|제출)\\s*방법|어떻게\\s*(신청|처리|진행|해야|하나요|하면)"));
+        INTENT_PATTERNS.put("예외상황", Pattern.compile("예외|특별한\\s*경우|만약|못\\s*하는\\s*경우|제외"));
+        INTENT_PATTERNS.put("가능여부", Pattern.compile("가능|할\\s*수\\s*있|해도\\s*되|(?<!어떻게\\s?)되나요|돼요|받을\\s*수\\s*있|허용"));
+        INTENT_PATTERNS.put("권리의무", Pattern.compile("권리|의무|책임|해야\\s*하|금지"));
+        INTENT_PATTERNS.put("기준확인", Pattern.compile("기준|며칠|몇\\s*일|몇\\s*개월|몇\\s*년|얼마|한도|금액|요건|조건|자격|기간|상한"));
+    }
+
+    // 키워드에서 제외할 의문 표현 (형태소 분석 후에도 남는 토큰)
+    private static final Set<String> QUESTION_WORDS = Set.of(
+            "인가요", "가요", "알려", "어떻게", "얼마", "며칠", "무엇", "어디", "언제", "누구", "어떤", "있나요", "되나요");
+
+    private final List<String> regulationTypes;
+    private final Analyzer analyzer;
+
+    /**
+     * 규칙 기반 분석 결과
+     *
+     * @param analysis 분석 결과
+     * @param confidence 신뢰도 (0.0 ~ 1.0)
+     */
+    public record Result(QueryAnalysisResult analysis, double confidence) {
+    }
+
+    /**
+     * @param regulationTypes 질문에서 직접 찾을 규정 유형 이름 목록
+     */
+    public RuleBasedQueryAnalyzer(List<String> regulationTypes) {
+        this.regulationTypes = regulationTypes;
+        // 복합어 분해 없이 사용자 사전 단위로 키워드 추출
+        this.analyzer = new EnhancedKoreanAnalyzer(KoreanTokenizer.DecompoundMode.NONE);
+    }
+
+    /**
+     * 질문 분석
+     */
+    public Result analyze(String userQuery) {
+        // 1. 규정 유형 (명시된 이름 > 추론 규칙 > 일반)
+        List<String> types = findExplicitTypes(userQuery);
+        double typeCertainty = 1.0;
+        if (types.isEmpty()) {
+            types = new ArrayList<>(RegulationInferenceConfigLoader.inferRegulationTypes(userQuery));
+            types.remove(DEFAULT_REGULATION_TYPE);
+            typeCertainty = types.isEmpty() ? 0.0 : 0.7;
+        }
+        if (types.isEmpty()) {
+            types.add(DEFAULT_REGULATION_TYPE);
+        }
+
+        // 2. 키워드
+        List<String> keywords = extractKeywords(userQuery);
+        double keywordCertainty = keywords.isEmpty() ? 0.0 : 1.0;
+        if (keywords.isEmpty()) {
+            keywords = List.of(userQuery.trim().split("\\s+"));
+        }
+
+        // 3. 의도 (패턴이 하나만 맞으면 확실, 여러 개면 첫 번째, 없으면 정보조회)
+        List<String> intents = classifyIntents(userQuery);
+        String intent = intents.isEmpty() ? DEFAULT_INTENT : intents.get(0);
+        double intentCertainty = switch (intents.size()) {
+            case 0 -> 0.3;
+            case 1 -> 1.0;
+            default -> 0.5;
+        };
+
+        double confidence = TYPE_WEIGHT * typeCertainty
+                + INTENT_WEIGHT * intentCertainty
+                + KEYWORD_WEIGHT * keywordCertainty;
+
+        QueryAnalysisResult analysis = new QueryAnalysisResult(
+                userQuery, keywords, types, intent, optimizeSearchQuery(userQuery));
+
+        logger.debug("Rule-based analysis (confidence={}): {}", String.format("%.2f", confidence), analysis);
+        return new Result(analysis, confidence);
+    }
+
+    /**
+     * 질문에 이름이 그대로 등장하는 규정 유형 (띄어쓰기 무시, "규정"을 뺀 이름도 허용)
+     */
+    private List<String> findExplicitTypes(String userQuery) {
+        String compactQuery = userQuery.replaceAll("\\s+", "");
+        List<String> matched = new ArrayList<>();
+        for (String regType : regulationTypes) {
+            String compactType = regType.replaceAll("\\s+", "");
+            String shortName = compactType.replace("규정", "");
+            if (compactQuery.contains(compactType) || (shortName.length() >= 2 && compactQuery.contains(shortName))) {
+                matched.add(regType);
+            }
+        }
+        return matched;
+    }
+
+    /**
+     * Nori 형태소 분석으로 키워드 추출 (순서 유지, 중복 제거)
+     * 동의어 확장 토큰이 원래 단어 자리에 올 수 있으므로 토큰 위치(offset)의 원문을 키워드로 사용합니다.
+     */
+    List<String> extractKeywords(String userQuery) {
+        Set<String> keywords = new LinkedHashSet<>();
+        try (TokenStream stream = analyzer.tokenStream("query", userQuery)) {
+            OffsetAttribute offset = stream.addAttribute(OffsetAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                String surface = userQuery.substring(offset.startOffset(), offset.endOffset()).trim();
+                if (surface.length() >= 2 && !QUESTION_WORDS.contains(surface)) {
+                    keywords.add(surface);
+                }
+            }
+            stream.end();
+        } catch (IOException e) {
+            logger.warn("Keyword extraction failed for '{}': {}", userQuery, e.getMessage());
+        }
+        return new ArrayList<>(keywords);
+    }
+
+    /**
+     * 표현 패턴이 맞는 의도 목록 (우선순위 순)
+     */
+    static List<String> classifyIntents(String userQuery) {
+        List<String> intents = new ArrayList<>();
+        for (Map.Entry<String, Pattern> entry : INTENT_PATTERNS.entrySet()) {
+            if (entry.getValue().matcher(userQuery).find()) {
+                intents.add(entry.getKey());
+            }
+        }
+        return intents;
+    }
+
+    /**
+     * 검색 쿼리 최적화 (불필요한 조사/어미 제거)
+     */
+    static String optimizeSearchQuery(String query) {
+        // "~에 대한", "~를 알려줘" 등 패턴 제거
+        return query
+                .replaceAll("에\\s+대한\\s+", " ")
+                .replaceAll("를\\s+알려줘", "")
+                .replaceAll("을\\s+알려줘", "")
+                .replaceAll("를\\s+알려주세요", "")
+                .replaceAll("을\\s+알려주세요", "")
+                .replaceAll("가\\s+어떻게\\s+되나요", "")
+                .replaceAll("는\\s+얼마인가요", "")
+                .replaceAll("\\?", "")
+                .trim()
+                .replaceAll("\\s+", " ");
+    }
+}
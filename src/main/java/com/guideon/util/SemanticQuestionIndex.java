@@ -0,0 +1,331 @@
+package com.guideon.util;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 의미 기반 유사 질문 색인 (답변 캐시의 보조 색인)
+ * 정규화된 질문 -> 질문 임베딩 (크기 제한 LRU)
+ *
+ * 같은 질문을 다르게 표현한 경우("경조휴가 며칠?", "경조사 휴가 일수 알려줘") 정확히 일치하는 답변 캐시는 적중하지 않으므로,
+ * 이전 질문 임베딩 중 가장 가까운 질문을 찾아 그 질문의 캐시 답변을 대신 사용합니다.
+ * 답변 자체와 세대/무효화는 {@link AnswerCache}가 관리하며, 이 색인은 "어떤 이전 질문과 같은가"만 판단합니다.
+ *
+ * 오적중 방지 장치:
+ * 1. 코사인 유사도 임계값
+ * 2. 숫자(조항 번호, 일수, 금액 등)가 다르면 제외 - "제5조"와 "제6조"는 임베딩이 매우 가까움
+ * 3. 부정 표현 여부가 다르면 제외 - "받을 수 있나요"와 "받을 수 없나요"
+ * 적중 내역은 감사 로그에 남기고, 관리자가 오적중으로 신고하면 해당 질문을 색인에서 제거합니다.
+ */
+public class SemanticQuestionIndex {
+
+    private static final Pattern NUMBER_PATTERN = Pattern.compile("\\d+");
+    private static final Pattern NEGATION_PATTERN = Pattern.compile("없|않|못|안\\s|불가|아닌|아니");
+
+    private final int maxSize;
+    private final double similarityThreshold;
+    private final int auditLogSize;
+    private final Map<String, Entry> index;
+
+    private final Deque<AuditRecord> auditLog = new ArrayDeque<>();
+    private final AtomicLong auditSequence = new AtomicLong();
+
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder belowThreshold = new LongAdder();
+    private final LongAdder numberMismatches = new LongAdder();
+    private final LongAdder negationMismatches = new LongAdder();
+    private final LongAdder staleMatches = new LongAdder();
+    private final LongAdder falseHits = new LongAdder();
+
+    private record Entry(String question, float[] vector, Set<String> numbers, boolean negated) {
+    }
+
+    /**
+     * 유사 질문 조회 결과
+     *
+     * @param question 색인에 저장된 이전 질문 (답변 캐시 조회 키)
+     * @param similarity 코사인 유사도
+     */
+    public record Match(String question, double similarity) {
+    }
+
+    /**
+     * 적중 감사 기록
+     */
+    public static final class AuditRecord {
+        private final long id;
+        private final Instant time;
+        private final String question;
+        private final String matchedQuestion;
+        private final double similarity;
+        private volatile boolean falseHit;
+
+        private AuditRecord(long id, String question, String matchedQuestion, double similarity) {
+            this.id = id;
+            this.time = Instant.now();
+            this.question = question;
+            this.matchedQuestion = matchedQuestion;
+            this.similarity = similarity;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public Instant getTime() {
+            return time;
+        }
+
+        public String getQuestion() {
+            return question;
+        }
+
+        public String getMatchedQuestion() {
+            return matchedQuestion;
+        }
+
+        public double getSimilarity() {
+            return similarity;
+        }
+
+        public boolean isFalseHit() {
+            return falseHit;
+        }
+    }
+
+    /**
+     * @param maxSize 최대 질문 수 (0 이하이면 비활성화)
+     * @param similarityThreshold 같은 질문으로 볼 최소 코사인 유사도
+     * @param auditLogSize 보관할 최근 적중 기록 수
+     */
+    public SemanticQuestionIndex(int maxSize, double similarityThreshold, int auditLogSize) {
+        this.maxSize = maxSize;
+        this.similarityThreshold = similarityThreshold;
+        this.auditLogSize = auditLogSize;
+        this.index = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > SemanticQuestionIndex.this.maxSize;
+            }
+        };
+    }
+
+    public boolean isEnabled() {
+        return maxSize > 0;
+    }
+
+    /**
+     * 질문 임베딩 저장 (답변 캐시에 답변을 저장할 때 함께 호출)
+     */
+    public void add(String question, float[] embedding) {
+        if (!isEnabled() || embedding == null) {
+            return;
+        }
+
+        Entry entry = new Entry(question, normalize(embedding), numbers(question), isNegated(question));
+        synchronized (index) {
+            index.put(QueryAnalysisCache.normalize(question), entry);
+        }
+    }
+
+    /**
+     * 가장 가까운 이전 질문 조회 (오적중 방지 장치 적용)
+     *
+     * @return 같은 질문으로 볼 수 있는 이전 질문 (없으면 null)
+     */
+    public Match find(String question, float[] embedding) {
+        if (!isEnabled() || embedding == null) {
+            return null;
+        }
+        lookups.increment();
+
+        float[] query = normalize(embedding);
+        String key = QueryAnalysisCache.normalize(question);
+        Entry best = null;
+        double bestSimilarity = -1.0;
+
+        // 질문 수가 수천 개 이하이므로 전수 내적 비교 (근사 색인 없이도 1ms 미만)
+        synchronized (index) {
+            for (Map.Entry<String, Entry> item : index.entrySet()) {
+                if (item.getKey().equals(key)) {
+                    continue;
+                }
+                double similarity = dot(query, item.getValue().vector());
+                if (similarity > bestSimilarity) {
+                    bestSimilarity = similarity;
+                    best = item.getValue();
+                }
+            }
+        }
+
+        if (best == null || bestSimilarity < similarityThreshold) {
+            belowThreshold.increment();
+            return null;
+        }
+        if (!best.numbers().equals(numbers(question))) {
+            numberMismatches.increment();
+            return null;
+        }
+        if (best.negated() != isNegated(question)) {
+            negationMismatches.increment();
+            return null;
+        }
+        return new Match(best.question(), bestSimilarity);
+    }
+
+    /**
+     * 유사 질문의 답변을 실제로 사용했음을 기록 (감사 로그)
+     *
+     * @return 감사 기록 ID
+     */
+    public long recordHit(String question, Match match) {
+        hits.increment();
+        AuditRecord record = new AuditRecord(auditSequence.incrementAndGet(), question, match.question(), match.similarity());
+        synchronized (auditLog) {
+            auditLog.addFirst(record);
+            while (auditLog.size() > auditLogSize) {
+                auditLog.removeLast();
+            }
+        }
+        return record.getId();
+    }
+
+    /**
+     * 유사 질문의 답변이 캐시에 더 이상 없음 (무효화/만료) - 색인에서도 제거
+     */
+    public void recordStale(Match match) {
+        staleMatches.increment();
+        remove(match.question());
+    }
+
+    /**
+     * 오적중 신고: 해당 적중에 사용된 이전 질문을 색인에서 제거
+     *
+     * @return 신고된 감사 기록 (없거나 이미 신고되었으면 null)
+     */
+    public AuditRecord reportFalseHit(long auditId) {
+        AuditRecord record = null;
+        synchronized (auditLog) {
+            for (AuditRecord candidate : auditLog) {
+                if (candidate.getId() == auditId) {
+                    record = candidate;
+                    break;
+                }
+            }
+        }
+        if (record == null || record.falseHit) {
+            return null;
+        }
+
+        record.falseHit = true;
+        falseHits.increment();
+        remove(record.getMatchedQuestion());
+        return record;
+    }
+
+    public void remove(String question) {
+        synchronized (index) {
+            index.remove(QueryAnalysisCache.normalize(question));
+        }
+    }
+
+    /**
+     * 최근 적중 기록 (최신순)
+     */
+    public List<AuditRecord> getAuditLog() {
+        synchronized (auditLog) {
+            return new ArrayList<>(auditLog);
+        }
+    }
+
+    /**
+     * 색인 통계 (적중률, 방지 장치별 제외 수, 신고된 오적중 수 포함)
+     */
+    public Map<String, Object> getStats() {
+        long lookupCount = lookups.sum();
+        long hitCount = hits.sum();
+        long falseHitCount = falseHits.sum();
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", isEnabled());
+        stats.put("size", size());
+        stats.put("maxSize", maxSize);
+        stats.put("similarityThreshold", similarityThreshold);
+        stats.put("lookups", lookupCount);
+        stats.put("hits", hitCount);
+        stats.put("hitRate", lookupCount > 0 ? (double) hitCount / lookupCount : 0.0);
+        stats.put("belowThreshold", belowThreshold.sum());
+        stats.put("numberMismatches", numberMismatches.sum());
+        stats.put("negationMismatches", negationMismatches.sum());
+        stats.put("staleMatches", staleMatches.sum());
+        stats.put("reportedFalseHits", falseHitCount);
+        stats.put("precision", hitCount > 0 ? 1.0 - (double) falseHitCount / hitCount : 1.0);
+        return stats;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public int size() {
+        synchronized (index) {
+            return index.size();
+        }
+    }
+
+    /**
+     * 질문에 포함된 숫자 (조항 번호, 일수, 금액 등)
+     */
+    static Set<String> numbers(String question) {
+        Set<String> numbers = new TreeSet<>();
+        Matcher matcher = NUMBER_PATTERN.matcher(question);
+        while (matcher.find()) {
+            numbers.add(matcher.group());
+        }
+        return numbers;
+    }
+
+    static boolean isNegated(String question) {
+        return NEGATION_PATTERN.matcher(question).find();
+    }
+
+    private static float[] normalize(float[] vector) {
+        double norm = 0.0;
+        for (float value : vector) {
+            norm += value * value;
+        }
+        norm = Math.sqrt(norm);
+
+        float[] normalized = new float[vector.length];
+        if (norm == 0.0) {
+            return normalized;
+        }
+        for (int i = 0; i < vector.length; i++) {
+            normalized[i] = (float) (vector[i] / norm);
+        }
+        return normalized;
+    }
+
+    private static double dot(float[] a, float[] b) {
+        if (a.length != b.length) {
+            return -1.0;
+        }
+        double sum = 0.0;
+        for (int i = 0; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,43 @@
+package com.guideon.util;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 단일 호출(질문 분석 + 답변) 응답 분리
+ *
+ * 단일 호출 프롬프트({@link PromptTemplate#buildSingleCallPrompt})는 분석 필드(KEYWORDS/REGULATION_TYPES/INTENT/SEARCH_QUERY)를
+ * 먼저 쓰고 "ANSWER:" 다음 줄부터 답변을 쓰도록 요청합니다.
+ * 표지가 없으면(형식을 따르지 않은 응답) 전체를 답변으로 보고 분석 부분은 비워 둡니다.
+ *
+ * @param analysisSection 분석 필드 부분 (없으면 빈 문자열)
+ * @param answer 답변 부분
+ */
+public record SingleCallResponse(String analysisSection, String answer) {
+
+    public static final String ANSWER_MARKER = "ANSWER:";
+
+    // 줄 시작의 "ANSWER:" (굵게 표시한 "**ANSWER:**"도 허용)
+    private static final Pattern ANSWER_LINE = Pattern.compile("(?m)^\\s*\\**" + ANSWER_MARKER + "\\**[ \\t]*");
+
+    /**
+     * LLM 응답을 분석 부분과 답변 부분으로 분리
+     */
+    public static SingleCallResponse split(String response) {
+        if (response == null) {
+            return new SingleCallResponse("", "");
+        }
+
+        Matcher matcher = ANSWER_LINE.matcher(response);
+        if (!matcher.find()) {
+            return new SingleCallResponse("", response.strip());
+        }
+        return new SingleCallResponse(
+                response.substring(0, matcher.start()).strip(),
+                response.substring(matcher.end()).strip());
+    }
+
+    public boolean hasAnalysis() {
+        return !analysisSection.isEmpty();
+    }
+}
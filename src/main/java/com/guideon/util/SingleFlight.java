@@ -0,0 +1,206 @@
+package com.guideon.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 같은 질문의 동시 요청 병합 (single-flight)
+ *
+ * 정규화된 질문(공백/대소문자/끝 문장부호 무시)이 같은 요청이 처리 중이면 새 파이프라인을 시작하지 않고
+ * 진행 중인 작업의 결과를 함께 받습니다. 공지 직후처럼 같은 질문이 몰릴 때 분석/임베딩/ReRanking/답변 생성
+ * 호출이 요청 수만큼 반복되지 않게 합니다.
+ *
+ * 작업은 요청 스레드가 아닌 Executor에서 실행되므로, 처음 요청한 클라이언트가 연결을 끊어도
+ * 같은 결과를 기다리는 다른 요청이 있으면 작업은 계속됩니다.
+ * 기다리는 요청이 모두 취소되었을 때만 작업을 중단(interrupt)합니다.
+ *
+ * @param <V> 결과 타입
+ */
+public class SingleFlight<V> {
+    private static final Logger logger = LoggerFactory.getLogger(SingleFlight.class);
+
+    private final ExecutorService executor;
+    private final boolean enabled;
+    private final Map<String, Flight<V>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder started = new LongAdder();
+    private final LongAdder joined = new LongAdder();
+    private final LongAdder abandoned = new LongAdder();
+
+    /**
+     * 진행 중인 작업 하나 (같은 키의 요청이 공유)
+     */
+    private static final class Flight<V> {
+        private final String key;
+        private final CompletableFuture<V> result = new CompletableFuture<>();
+        private int waiters;         // guarded by this
+        private boolean closed;      // 모든 요청이 취소됨 (guarded by this)
+        private Future<?> task;      // guarded by this
+
+        private Flight(String key) {
+            this.key = key;
+        }
+    }
+
+    /**
+     * 요청 하나의 결과 핸들 (클라이언트 연결 종료 시 {@link #cancel()} 호출)
+     */
+    public static final class Call<V> {
+        private final SingleFlight<V> owner;
+        private final Flight<V> flight;
+        private final CompletableFuture<V> result;
+        private final boolean shared;
+        private final AtomicBoolean left = new AtomicBoolean(false);
+
+        private Call(SingleFlight<V> owner, Flight<V> flight, boolean shared) {
+            this.owner = owner;
+            this.flight = flight;
+            this.result = flight.result.copy();
+            this.shared = shared;
+        }
+
+        /**
+         * 이 요청의 결과 (취소해도 다른 요청의 결과에는 영향 없음)
+         */
+        public CompletableFuture<V> result() {
+            return result;
+        }
+
+        /**
+         * 이미 진행 중인 작업에 합류했는지 여부
+         */
+        public boolean isShared() {
+            return shared;
+        }
+
+        /**
+         * 이 요청의 대기 취소 (마지막으로 기다리던 요청이면 작업도 중단, 여러 번 호출해도 안전)
+         */
+        public void cancel() {
+            if (left.compareAndSet(false, true)) {
+                result.cancel(false);
+                owner.leave(flight);
+            }
+        }
+    }
+
+    /**
+     * @param executor 작업 실행 Executor
+     * @param enabled false이면 병합하지 않고 요청마다 작업 실행 (취소 처리는 동일)
+     */
+    public SingleFlight(ExecutorService executor, boolean enabled) {
+        this.executor = executor;
+        this.enabled = enabled;
+    }
+
+    /**
+     * 작업 실행 또는 같은 질문의 진행 중인 작업에 합류
+     *
+     * @param question 질문 (정규화하여 키로 사용)
+     * @param task 처음 요청일 때 실행할 작업
+     * @return 결과 핸들 (Executor가 포화 상태면 RejectedExecutionException으로 실패한 결과)
+     */
+    public Call<V> submit(String question, Callable<V> task) {
+        String key = QueryAnalysisCache.normalize(question);
+
+        while (true) {
+            Flight<V> flight = enabled ? inFlight.computeIfAbsent(key, Flight::new) : new Flight<>(key);
+            synchronized (flight) {
+                if (flight.closed) {
+                    // 모든 요청이 취소되어 중단 중인 작업 -> 새로 시작
+                    inFlight.remove(key, flight);
+                    continue;
+                }
+
+                flight.waiters++;
+                if (flight.task != null || flight.result.isDone()) {
+                    joined.increment();
+                    logger.info("Joined in-flight request ({} waiting): {}", flight.waiters, key);
+                    return new Call<>(this, flight, true);
+                }
+
+                Call<V> call = new Call<>(this, flight, false);
+                start(flight, task);
+                return call;
+            }
+        }
+    }
+
+    private void start(Flight<V> flight, Callable<V> task) {
+        try {
+            flight.task = executor.submit(() -> run(flight, task));
+            started.increment();
+        } catch (RejectedExecutionException e) {
+            logger.warn("Request rejected: executor saturated");
+            flight.closed = true;
+            inFlight.remove(flight.key, flight);
+            flight.result.completeExceptionally(e);
+        }
+    }
+
+    private void run(Flight<V> flight, Callable<V> task) {
+        V value = null;
+        Throwable error = null;
+        try {
+            value = task.call();
+        } catch (Throwable e) {
+            error = e;
+        }
+
+        // 완료된 결과는 다음 요청이 재사용하지 않음 (최종 답변 재사용은 답변 캐시가 담당)
+        // 결과를 알리기 전에 제거해야 완료 직후 들어온 같은 질문이 끝난 작업에 합류하지 않음
+        inFlight.remove(flight.key, flight);
+        if (error == null) {
+            flight.result.complete(value);
+        } else {
+            flight.result.completeExceptionally(error);
+        }
+    }
+
+    private void leave(Flight<V> flight) {
+        synchronized (flight) {
+            flight.waiters--;
+            if (flight.waiters > 0 || flight.closed || flight.result.isDone()) {
+                return;
+            }
+
+            flight.closed = true;
+            inFlight.remove(flight.key, flight);
+            if (flight.task != null) {
+                flight.task.cancel(true);
+            }
+            flight.result.cancel(false);
+            abandoned.increment();
+            logger.info("All waiters left, in-flight request cancelled: {}", flight.key);
+        }
+    }
+
+    /**
+     * 병합 통계 (시작한 작업 수, 합류한 요청 수, 모든 요청이 취소되어 중단된 작업 수)
+     */
+    public Map<String, Object> getStats() {
+        long startedCount = started.sum();
+        long joinedCount = joined.sum();
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("inFlight", inFlight.size());
+        stats.put("started", startedCount);
+        stats.put("joined", joinedCount);
+        stats.put("coalescedRatio", startedCount + joinedCount > 0
+                ? (double) joinedCount / (startedCount + joinedCount) : 0.0);
+        stats.put("abandoned", abandoned.sum());
+        return stats;
+    }
+}
@@ -0,0 +1,69 @@
+package com.guideon.util.fusion;
+
+/**
+ * 순위 융합 함수
+ * 각 검색 결과 리스트의 한 항목이 최종 점수에 기여하는 값을 계산합니다.
+ * (가중치는 RankFusion에서 곱하므로 여기서는 적용하지 않음)
+ */
+@FunctionalInterface
+public interface FusionFunction {
+
+    /**
+     * 한 항목의 기여 점수 계산
+     *
+     * @param rank 리스트 내 순위 (0부터 시작)
+     * @param score 검색기가 준 원본 점수
+     * @param minScore 해당 리스트의 최소 점수
+     * @param maxScore 해당 리스트의 최대 점수
+     * @return 기여 점수
+     */
+    double contribution(int rank, double score, double minScore, double maxScore);
+
+    /**
+     * Reciprocal Rank Fusion: 1 / (k + rank + 1)
+     * 점수 척도가 다른 검색기를 순위만으로 통합 (기본값)
+     *
+     * @param k RRF 상수 (일반적으로 60)
+     */
+    static FusionFunction rrf(int k) {
+        return (rank, score, minScore, maxScore) -> 1.0 / (k + rank + 1);
+    }
+
+    /**
+     * CombSUM: 원본 점수 합
+     * 검색기들의 점수 척도가 같을 때 사용
+     */
+    static FusionFunction combSum() {
+        return (rank, score, minScore, maxScore) -> score;
+    }
+
+    /**
+     * 점수 정규화 선형 결합: (score - min) / (max - min)
+     * 리스트별 min-max 정규화 후 가중합 (모든 점수가 같으면 1.0)
+     */
+    static FusionFunction linear() {
+        return (rank, score, minScore, maxScore) -> {
+            double range = maxScore - minScore;
+            return range > 0 ? (score - minScore) / range : 1.0;
+        };
+    }
+
+    /**
+     * 설정 문자열로 융합 함수 선택
+     *
+     * @param name "rrf", "combsum", "linear"
+     * @param rrfK RRF 상수
+     * @return 융합 함수 (알 수 없는 이름이면 RRF)
+     */
+    static FusionFunction fromName(String name, int rrfK) {
+        switch (name == null ? "" : name.trim().toLowerCase()) {
+            case "combsum":
+                return combSum();
+            case "linear":
+                return linear();
+            case "rrf":
+            default:
+                return rrf(rrfK);
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package com.guideon.util.fusion;
+
+import com.guideon.model.ScoredSegment;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * N개 순위 리스트 융합 엔진 (할당 최소화)
+ *
+ * - segment ID를 쿼리 내 int ordinal로 변환 (open addressing 해시, 박싱 없음)
+ * - ordinal별 점수는 double[]에 누적
+ * - 상위 k개는 크기 k의 최소 힙으로 선택 (전체 정렬 없음)
+ * - 작업 공간은 스레드별로 재사용하므로, 검색기가 늘어나도 쿼리당 생성 객체는 결과 리스트뿐
+ *
+ * 동점은 먼저 등장한 항목(앞 리스트의 상위 순위)을 우선합니다.
+ */
+public final class RankFusion {
+
+    private static final ThreadLocal<Workspace> WORKSPACE = ThreadLocal.withInitial(Workspace::new);
+
+    private RankFusion() {
+    }
+
+    /**
+     * 여러 순위 리스트를 융합하여 상위 k개 반환
+     *
+     * @param rankedLists 검색 결과 리스트들 (각 리스트는 이미 순위대로 정렬됨)
+     * @param weights 리스트별 가중치
+     * @param function 융합 함수
+     * @param topK 최대 결과 수
+     * @return 융합 점수 내림차순 결과 (source = "HYBRID")
+     */
+    public static List<ScoredSegment> fuse(
+            List<List<ScoredSegment>> rankedLists,
+            double[] weights,
+            FusionFunction function,
+            int topK) {
+
+        if (rankedLists.size() != weights.length) {
+            throw new IllegalArgumentException("결과 리스트 수와 가중치 수가 일치하지 않습니다");
+        }
+
+        Workspace ws = WORKSPACE.get();
+        try {
+            for (int listIdx = 0; listIdx < rankedLists.size(); listIdx++) {
+                accumulate(ws, rankedLists.get(listIdx), weights[listIdx], function);
+            }
+            return ws.selectTopK(topK);
+        } finally {
+            ws.reset();
+        }
+    }
+
+    private static void accumulate(Workspace ws, List<ScoredSegment> results, double weight,
+                                   FusionFunction function) {
+        int size = results.size();
+        if (size == 0 || weight == 0.0) {
+            return;
+        }
+
+        double minScore = Double.POSITIVE_INFINITY;
+        double maxScore = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < size; i++) {
+            double score = results.get(i).getScore();
+            if (score < minScore) minScore = score;
+            if (score > maxScore) maxScore = score;
+        }
+
+        for (int rank = 0; rank < size; rank++) {
+            ScoredSegment segment = results.get(rank);
+            int ordinal = ws.ordinal(segment);
+            ws.scores[ordinal] += weight * function.contribution(rank, segment.getScore(), minScore, maxScore);
+        }
+    }
+
+    /**
+     * 스레드별 재사용 작업 공간
+     */
+    private static final class Workspace {
+        // ID -> ordinal (open addressing, 선형 탐사)
+        private String[] keys = new String[256];
+        private int[] slots = new int[256];
+        private int[] usedSlots = new int[128];
+
+        // ordinal -> 점수 / 최초 등장 세그먼트
+        private double[] scores = new double[128];
+        private ScoredSegment[] segments = new ScoredSegment[128];
+        private int count;
+
+        private int[] heap = new int[16];
+
+        int ordinal(ScoredSegment segment) {
+            if ((count + 1) * 2 > keys.length) {
+                growTable();
+            }
+
+            String id = segment.getId();
+            int mask = keys.length - 1;
+            int slot = mix(id.hashCode()) & mask;
+            while (keys[slot] != null) {
+                if (keys[slot].equals(id)) {
+                    return slots[slot];
+                }
+                slot = (slot + 1) & mask;
+            }
+
+            int ordinal = count++;
+            if (ordinal == scores.length) {
+                scores = Arrays.copyOf(scores, ordinal * 2);
+                segments = Arrays.copyOf(segments, ordinal * 2);
+                usedSlots = Arrays.copyOf(usedSlots, ordinal * 2);
+            }
+
+            keys[slot] = id;
+            slots[slot] = ordinal;
+            usedSlots[ordinal] = slot;
+            segments[ordinal] = segment;
+            scores[ordinal] = 0.0;
+            return ordinal;
+        }
+
+        List<ScoredSegment> selectTopK(int topK) {
+            int k = Math.min(topK, count);
+            if (k <= 0) {
+                return new ArrayList<>(0);
+            }
+            if (heap.length < k) {
+                heap = new int[Math.max(k, heap.length * 2)];
+            }
+
+            // 크기 k의 최소 힙 (루트 = 현재 k개 중 가장 약한 항목)
+            int heapSize = 0;
+            for (int ordinal = 0; ordinal < count; ordinal++) {
+                if (heapSize < k) {
+                    heap[heapSize] = ordinal;
+                    siftUp(heapSize++);
+                } else if (stronger(ordinal, heap[0])) {
+                    heap[0] = ordinal;
+                    siftDown(0, heapSize);
+                }
+            }
+
+            // 힙에서 약한 순으로 꺼내 뒤에서부터 채우면 내림차순
+            ScoredSegment[] ordered = new ScoredSegment[heapSize];
+            for (int i = heapSize - 1; i >= 0; i--) {
+                int ordinal = heap[0];
+                heap[0] = heap[i];
+                siftDown(0, i);
+
+                ScoredSegment original = segments[ordinal];
+                ordered[i] = new ScoredSegment(original.getId(), original.getSegment(), scores[ordinal], "HYBRID");
+            }
+
+            return new ArrayList<>(Arrays.asList(ordered));
+        }
+
+        void reset() {
+            for (int i = 0; i < count; i++) {
+                keys[usedSlots[i]] = null;
+                segments[i] = null;
+            }
+            count = 0;
+        }
+
+        /**
+         * a가 b보다 상위인지 (점수 높은 순, 동점이면 먼저 등장한 순)
+         */
+        private boolean stronger(int a, int b) {
+            double scoreA = scores[a];
+            double scoreB = scores[b];
+            return scoreA > scoreB || (scoreA == scoreB && a < b);
+        }
+
+        private void siftUp(int index) {
+            int ordinal = heap[index];
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (!stronger(heap[parent], ordinal)) {
+                    break;
+                }
+                heap[index] = heap[parent];
+                index = parent;
+            }
+            heap[index] = ordinal;
+        }
+
+        private void siftDown(int index, int size) {
+            int ordinal = heap[index];
+            while (true) {
+                int child = 2 * index + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && stronger(heap[child], heap[child + 1])) {
+                    child++;
+                }
+                if (!stronger(ordinal, heap[child])) {
+                    break;
+                }
+                heap[index] = heap[child];
+                index = child;
+            }
+            heap[index] = ordinal;
+        }
+
+        private void growTable() {
+            String[] oldKeys = keys;
+            int[] oldSlots = slots;
+
+            keys = new String[oldKeys.length * 2];
+            slots = new int[oldKeys.length * 2];
+            int mask = keys.length - 1;
+
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != null) {
+                    int slot = mix(oldKeys[i].hashCode()) & mask;
+                    while (keys[slot] != null) {
+                        slot = (slot + 1) & mask;
+                    }
+                    keys[slot] = oldKeys[i];
+                    slots[slot] = oldSlots[i];
+                    usedSlots[oldSlots[i]] = slot;
+                }
+            }
+        }
+
+        private static int mix(int hash) {
+            return hash ^ (hash >>> 16);
+        }
+    }
+}
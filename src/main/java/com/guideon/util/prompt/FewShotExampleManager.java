@@ -17,6 +17,12 @@ public class FewShotExampleManager {
     private static final List<FewShotExample> QUERY_ANALYSIS_EXAMPLES = new ArrayList<>();
     private static final Map<String, List<FewShotExample>> ANSWER_GENERATION_EXAMPLES = new HashMap<>();
 
+    // 프롬프트에 넣을 예제 블록 캐시 (정렬/포맷은 예제가 바뀔 때만 다시 수행)
+    private static final int DEFAULT_LIMIT = 7;
+    private static volatile String queryAnalysisExamplesBlock;
+    private static volatile Map<String, String> answerGenerationExamplesBlocks;
+    private static volatile long version;
+
     static {
         initializeQueryAnalysisExamples();
         initializeAnswerGenerationExamples();
@@ -846,6 +852,13 @@ public class FewShotExampleManager {
         return getAnswerGenerationExamples(intent, 7);
     }
 
+    /**
+     * 답변 생성용 예제가 있는 의도 목록
+     */
+    public static Set<String> getAnswerGenerationIntents() {
+        return Collections.unmodifiableSet(ANSWER_GENERATION_EXAMPLES.keySet());
+    }
+
     /**
      * Few-shot 예제를 프롬프트 형식으로 변환 (질문 분석용)
      */
@@ -888,10 +901,48 @@ public class FewShotExampleManager {
         return sb.toString();
     }
 
+    /**
+     * 질문 분석용 예제 블록 (상위 7개, 프롬프트 형식, 캐시)
+     */
+    public static String getQueryAnalysisExamplesBlock() {
+        String block = queryAnalysisExamplesBlock;
+        if (block == null) {
+            block = formatQueryAnalysisExamples(getQueryAnalysisExamples(DEFAULT_LIMIT));
+            queryAnalysisExamplesBlock = block;
+        }
+        return block;
+    }
+
+    /**
+     * 답변 생성용 예제 블록 (의도별 상위 7개, 프롬프트 형식, 캐시)
+     *
+     * @return 예제 블록 (해당 의도의 예제가 없으면 null)
+     */
+    public static String getAnswerGenerationExamplesBlock(String intent) {
+        Map<String, String> blocks = answerGenerationExamplesBlocks;
+        if (blocks == null) {
+            blocks = new HashMap<>();
+            for (String key : ANSWER_GENERATION_EXAMPLES.keySet()) {
+                blocks.put(key, formatAnswerGenerationExamples(getAnswerGenerationExamples(key, DEFAULT_LIMIT)));
+            }
+            blocks = Collections.unmodifiableMap(blocks);
+            answerGenerationExamplesBlocks = blocks;
+        }
+        String block = blocks.get(intent);
+        return block == null || block.isEmpty() ? null : block;
+    }
+
+    /**
+     * 예제 버전 (사용 빈도가 바뀌어 예제 순서가 달라질 수 있으면 증가, 프롬프트 캐시 갱신 판단용)
+     */
+    public static long getVersion() {
+        return version;
+    }
+
     /**
      * 예제 사용 빈도 업데이트
      */
-    public static void updateUsageFrequency(String exampleId) {
+    public static synchronized void updateUsageFrequency(String exampleId) {
         // 질문 분석 예제 업데이트
         QUERY_ANALYSIS_EXAMPLES.stream()
                 .filter(e -> e.getId().equals(exampleId))
@@ -902,6 +953,11 @@ public class FewShotExampleManager {
                 .flatMap(List::stream)
                 .filter(e -> e.getId().equals(exampleId))
                 .forEach(e -> e.setUsageFrequency(e.getUsageFrequency() + 1));
+
+        // 예제 순서가 바뀔 수 있으므로 캐시된 블록 폐기
+        queryAnalysisExamplesBlock = null;
+        answerGenerationExamplesBlocks = null;
+        version++;
     }
 
     /**
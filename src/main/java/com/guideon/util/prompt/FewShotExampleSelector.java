@@ -0,0 +1,274 @@
+package com.guideon.util.prompt;
+
+import com.guideon.model.prompt.FewShotExample;
+import com.guideon.util.KoreanTokenEstimator;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 질문 임베딩 기반 Few-shot 예제 선택
+ *
+ * 모든 예제 질문의 임베딩을 시작 시 한 번 계산해 두고, 요청마다 질문과 가장 비슷한 예제부터
+ * 토큰 예산 안에서 최대 maxExamples개까지 고릅니다 (최소 minExamples개는 예산과 관계없이 포함).
+ * 고정된 7개 대신 질문에 맞는 적은 수의 예제만 넣어 질의 분석/답변 생성 프롬프트를 줄입니다.
+ *
+ * 예제 임베딩이 없거나 질문 임베딩에 실패하면 null을 반환하며,
+ * 호출하는 쪽은 기존 고정 예제 블록(사용 빈도순 상위 7개)을 사용합니다.
+ */
+public class FewShotExampleSelector {
+    private static final Logger logger = LoggerFactory.getLogger(FewShotExampleSelector.class);
+
+    private static final String QUERY_ANALYSIS_KEY = "query_analysis";
+    private static final int QUESTION_EMBEDDING_CACHE_SIZE = 256;
+
+    private final EmbeddingModel embeddingModel;
+    private final int minExamples;
+    private final int maxExamples;
+    private final int tokenBudget;
+
+    // 예제 그룹 (질문 분석 / 답변 생성 의도별) -> 임베딩이 계산된 예제
+    private volatile Map<String, List<EmbeddedExample>> groups = Map.of();
+
+    // 같은 질문이 질의 분석과 답변 생성에서 한 번씩 조회되므로 질문 임베딩을 잠시 보관
+    private final Map<String, float[]> questionEmbeddings = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, float[]> eldest) {
+            return size() > QUESTION_EMBEDDING_CACHE_SIZE;
+        }
+    };
+
+    private final LongAdder selections = new LongAdder();
+    private final LongAdder selectedExamples = new LongAdder();
+    private final LongAdder fallbacks = new LongAdder();
+
+    private record EmbeddedExample(FewShotExample example, float[] vector, int tokens) {
+    }
+
+    /**
+     * @param embeddingModel 예제/질문 임베딩 모델
+     * @param minExamples 최소 예제 수
+     * @param maxExamples 최대 예제 수
+     * @param tokenBudget 예제 블록 토큰 예산 (한국어 추정 토큰 기준)
+     */
+    public FewShotExampleSelector(EmbeddingModel embeddingModel, int minExamples, int maxExamples, int tokenBudget) {
+        this.embeddingModel = embeddingModel;
+        this.minExamples = minExamples;
+        this.maxExamples = maxExamples;
+        this.tokenBudget = tokenBudget;
+    }
+
+    /**
+     * 모든 예제의 질문 임베딩 계산 (시작 시, 예제가 바뀌었을 때 호출)
+     *
+     * @return 임베딩된 예제 수 (실패하면 0 = 고정 예제 사용)
+     */
+    public int initialize() {
+        Map<String, List<FewShotExample>> examples = new LinkedHashMap<>();
+        examples.put(QUERY_ANALYSIS_KEY, FewShotExampleManager.getQueryAnalysisExamples(Integer.MAX_VALUE));
+        for (String intent : FewShotExampleManager.getAnswerGenerationIntents()) {
+            examples.put(intent, FewShotExampleManager.getAnswerGenerationExamples(intent, Integer.MAX_VALUE));
+        }
+
+        List<TextSegment> questions = new ArrayList<>();
+        examples.values().forEach(list -> list.forEach(example -> questions.add(TextSegment.from(example.getQuestion()))));
+
+        try {
+            List<Embedding> embeddings = embeddingModel.embedAll(questions).content();
+
+            Map<String, List<EmbeddedExample>> embedded = new HashMap<>();
+            int index = 0;
+            for (Map.Entry<String, List<FewShotExample>> group : examples.entrySet()) {
+                boolean analysis = QUERY_ANALYSIS_KEY.equals(group.getKey());
+                List<EmbeddedExample> list = new ArrayList<>();
+                for (FewShotExample example : group.getValue()) {
+                    String formatted = analysis
+                            ? FewShotExampleManager.formatQueryAnalysisExamples(List.of(example))
+                            : FewShotExampleManager.formatAnswerGenerationExamples(List.of(example));
+                    list.add(new EmbeddedExample(example, normalize(embeddings.get(index++).vector()),
+                            KoreanTokenEstimator.estimate(formatted)));
+                }
+                embedded.put(group.getKey(), List.copyOf(list));
+            }
+
+            groups = embedded;
+            logger.info("Few-shot example embeddings computed: {} examples in {} groups (k={}..{}, budget={} tokens)",
+                    questions.size(), embedded.size(), minExamples, maxExamples, tokenBudget);
+            return questions.size();
+
+        } catch (Exception e) {
+            logger.warn("Few-shot example embedding failed, using static example selection: {}", e.getMessage());
+            groups = Map.of();
+            return 0;
+        }
+    }
+
+    public boolean isReady() {
+        return !groups.isEmpty();
+    }
+
+    /**
+     * 질문 분석용 예제 블록 (질문과 비슷한 순, 프롬프트 형식)
+     *
+     * @return 예제 블록 (선택할 수 없으면 null)
+     */
+    public String selectQueryAnalysisExamples(String question) {
+        return selectQueryAnalysisExamples(question, null);
+    }
+
+    /**
+     * 질문 분석용 예제 블록 (요청에서 이미 계산한 질문 임베딩 사용)
+     * 전달한 임베딩은 같은 질문의 답변 생성용 예제 선택에도 재사용됩니다.
+     *
+     * @param questionEmbedding 질문 임베딩 (같은 임베딩 모델, null이면 새로 생성)
+     * @return 예제 블록 (선택할 수 없으면 null)
+     */
+    public String selectQueryAnalysisExamples(String question, float[] questionEmbedding) {
+        List<FewShotExample> examples = select(QUERY_ANALYSIS_KEY, question, questionEmbedding);
+        return examples != null ? FewShotExampleManager.formatQueryAnalysisExamples(examples) : null;
+    }
+
+    /**
+     * 답변 생성용 예제 블록 (해당 의도 예제 중 질문과 비슷한 순, 프롬프트 형식)
+     *
+     * @return 예제 블록 (해당 의도의 예제가 없거나 선택할 수 없으면 null)
+     */
+    public String selectAnswerGenerationExamples(String intent, String question) {
+        return selectAnswerGenerationExamples(intent, question, null);
+    }
+
+    /**
+     * 답변 생성용 예제 블록 (요청에서 이미 계산한 질문 임베딩 사용)
+     *
+     * @param questionEmbedding 질문 임베딩 (같은 임베딩 모델, null이면 새로 생성)
+     * @return 예제 블록 (해당 의도의 예제가 없거나 선택할 수 없으면 null)
+     */
+    public String selectAnswerGenerationExamples(String intent, String question, float[] questionEmbedding) {
+        List<FewShotExample> examples = select(intent, question, questionEmbedding);
+        return examples != null ? FewShotExampleManager.formatAnswerGenerationExamples(examples) : null;
+    }
+
+    /**
+     * 질문과 비슷한 예제 선택 (토큰 예산 안에서 최대 maxExamples개, 최소 minExamples개)
+     *
+     * @return 선택된 예제 (선택할 수 없으면 null)
+     */
+    List<FewShotExample> select(String group, String question) {
+        return select(group, question, null);
+    }
+
+    List<FewShotExample> select(String group, String question, float[] questionEmbedding) {
+        List<EmbeddedExample> candidates = groups.get(group);
+        if (candidates == null || candidates.isEmpty() || question == null || question.isBlank()) {
+            return null;
+        }
+
+        float[] query = questionEmbedding != null
+                ? cacheQuestionEmbedding(question, questionEmbedding)
+                : embedQuestion(question);
+        if (query == null) {
+            fallbacks.increment();
+            return null;
+        }
+
+        List<EmbeddedExample> ranked = new ArrayList<>(candidates);
+        ranked.sort(Comparator.comparingDouble((EmbeddedExample candidate) -> dot(query, candidate.vector())).reversed());
+
+        List<FewShotExample> selected = new ArrayList<>();
+        int tokens = 0;
+        for (EmbeddedExample candidate : ranked) {
+            if (selected.size() >= maxExamples) {
+                break;
+            }
+            if (selected.size() >= minExamples && tokens + candidate.tokens() > tokenBudget) {
+                break;
+            }
+            selected.add(candidate.example());
+            tokens += candidate.tokens();
+        }
+
+        selections.increment();
+        selectedExamples.add(selected.size());
+        logger.debug("Selected {} few-shot examples for '{}' (~{} tokens)", selected.size(), group, tokens);
+        return selected;
+    }
+
+    private float[] embedQuestion(String question) {
+        synchronized (questionEmbeddings) {
+            float[] cached = questionEmbeddings.get(question);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        try {
+            return cacheQuestionEmbedding(question, embeddingModel.embed(question).content().vector());
+        } catch (Exception e) {
+            logger.warn("Question embedding for few-shot selection failed: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private float[] cacheQuestionEmbedding(String question, float[] embedding) {
+        float[] vector = normalize(embedding);
+        synchronized (questionEmbeddings) {
+            questionEmbeddings.put(question, vector);
+        }
+        return vector;
+    }
+
+    /**
+     * 선택 통계 (요청당 평균 예제 수, 고정 예제로 대체된 횟수)
+     */
+    public Map<String, Object> getStats() {
+        long count = selections.sum();
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("ready", isReady());
+        stats.put("minExamples", minExamples);
+        stats.put("maxExamples", maxExamples);
+        stats.put("tokenBudget", tokenBudget);
+        stats.put("selections", count);
+        stats.put("avgExamples", count > 0 ? (double) selectedExamples.sum() / count : 0.0);
+        stats.put("fallbacks", fallbacks.sum());
+        return stats;
+    }
+
+    private static float[] normalize(float[] vector) {
+        double norm = 0.0;
+        for (float value : vector) {
+            norm += value * value;
+        }
+        norm = Math.sqrt(norm);
+
+        float[] normalized = new float[vector.length];
+        if (norm == 0.0) {
+            return normalized;
+        }
+        for (int i = 0; i < vector.length; i++) {
+            normalized[i] = (float) (vector[i] / norm);
+        }
+        return normalized;
+    }
+
+    private static double dot(float[] a, float[] b) {
+        if (a.length != b.length) {
+            return -1.0;
+        }
+        double sum = 0.0;
+        for (int i = 0; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+}
@@ -50,6 +50,7 @@ class FewShotComparisonTest {
         config = new ConfigLoader();
         try {
             queryAnalysisService = new QueryAnalysisService(config);
+            queryAnalysisService.setLlmAnalysisOnly(true); // Few-shot 효과 비교를 위해 캐시/규칙 단계 생략
             regulationSearchService = new RegulationSearchService(config, null);
             System.out.println("✓ QueryAnalysisService 초기화 성공");
             System.out.println("✓ RegulationSearchService 초기화 성공");
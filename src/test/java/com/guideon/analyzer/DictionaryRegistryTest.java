@@ -0,0 +1,84 @@
+package com.guideon.analyzer;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * DictionaryRegistry 테스트 클래스
+ * 공용 사전 재적재 및 분석기 반영 동작 테스트 (API 키 불필요)
+ */
+@DisplayName("DictionaryRegistry 테스트")
+class DictionaryRegistryTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final DictionaryRegistry registry = DictionaryRegistry.getInstance();
+
+    @BeforeEach
+    void setUp() {
+        registry.setDictionaryDirectory(tempDir);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        // 다른 테스트에 영향이 없도록 클래스패스 사전으로 복구
+        registry.setDictionaryDirectory(null);
+        registry.reload();
+    }
+
+    @Test
+    @DisplayName("1. 재적재 후 기존 분석기 인스턴스에도 새 사전이 반영됨")
+    void testReloadAppliesToExistingAnalyzers() throws Exception {
+        SearchQueryAnalyzer analyzer = new SearchQueryAnalyzer();
+        long before = registry.getVersion();
+
+        assertFalse(tokenize(analyzer, "뷁뛟휴가 신청").contains("특별휴가"));
+
+        Files.writeString(tempDir.resolve("user-dict.txt"), "뷁뛟휴가\n");
+        Files.writeString(tempDir.resolve("synonyms.txt"), "뷁뛟휴가, 특별휴가\n");
+        registry.reload();
+
+        assertEquals(before + 1, registry.getVersion());
+        List<String> tokens = tokenize(analyzer, "뷁뛟휴가 신청");
+        assertTrue(tokens.contains("뷁뛟휴가"), "사용자 사전 단어가 분리되지 않아야 합니다: " + tokens);
+        assertTrue(tokens.contains("특별휴가"), "동의어가 확장되어야 합니다: " + tokens);
+    }
+
+    @Test
+    @DisplayName("2. 사전 파싱 실패 시 기존 스냅샷과 버전 유지")
+    void testFailedReloadKeepsCurrentSnapshot() throws Exception {
+        DictionarySnapshot current = registry.current();
+
+        Files.writeString(tempDir.resolve("synonyms.txt"), "a => => b\n");
+
+        assertThrows(Exception.class, registry::reload);
+        assertSame(current, registry.current());
+    }
+
+    private List<String> tokenize(Analyzer analyzer, String text) throws Exception {
+        List<String> tokens = new ArrayList<>();
+        try (TokenStream stream = analyzer.tokenStream("content", text)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                tokens.add(term.toString());
+            }
+            stream.end();
+        }
+        return tokens;
+    }
+}
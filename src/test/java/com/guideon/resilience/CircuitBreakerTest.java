@@ -0,0 +1,198 @@
+package com.guideon.resilience;
+
+import com.guideon.exception.BulkheadFullException;
+import com.guideon.exception.CircuitOpenException;
+import com.guideon.exception.ModelCallTimeoutException;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CircuitBreaker 테스트 클래스
+ * 실패 비율에 따른 차단, 시험 호출 후 회복, 지연 호출/동시 호출 제한 거절/대기, 기한 초과/취소 처리 테스트 (API 키 불필요)
+ */
+@DisplayName("CircuitBreaker 테스트")
+class CircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+
+    private CircuitBreaker breaker(long slowCallMs) {
+        return new CircuitBreaker("test", true, 4, 4, 0.5, slowCallMs, 30_000, now::get);
+    }
+
+    private static void fail(CircuitBreaker breaker) {
+        breaker.enter().failure(new IllegalStateException("provider error"));
+    }
+
+    @Test
+    @DisplayName("1. 최근 호출의 실패 비율이 임계값을 넘으면 열리고 호출을 즉시 거절")
+    void testOpensOnFailureRate() {
+        CircuitBreaker breaker = breaker(0);
+
+        breaker.enter().success();
+        fail(breaker);
+        breaker.enter().success();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState(), "최소 호출 수 전에는 열리지 않아야 합니다");
+
+        fail(breaker);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertTrue(breaker.isOpen());
+
+        CircuitOpenException e = assertThrows(CircuitOpenException.class, breaker::enter);
+        assertEquals("test", e.getModel());
+        assertEquals(30, e.getRetryAfterSeconds());
+        assertEquals(1L, breaker.getStats().get("rejected"));
+    }
+
+    @Test
+    @DisplayName("2. 대기 시간이 지나면 시험 호출 하나만 허용, 성공하면 닫히고 실패하면 다시 열림")
+    void testHalfOpenProbe() {
+        CircuitBreaker breaker = breaker(0);
+        for (int i = 0; i < 4; i++) {
+            fail(breaker);
+        }
+        assertTrue(breaker.isOpen());
+
+        now.addAndGet(30_000);
+        assertFalse(breaker.isOpen(), "대기 시간이 지나면 시험 호출을 보낼 수 있어야 합니다");
+
+        ModelCallGuard.Ticket probe = breaker.enter();
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertThrows(CircuitOpenException.class, breaker::enter, "시험 호출 중에는 다른 호출을 거절해야 합니다");
+        probe.failure(new IllegalStateException("still down"));
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+
+        now.addAndGet(30_000);
+        breaker.enter().success();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertFalse(breaker.isOpen());
+        assertEquals(2L, breaker.getStats().get("opened"));
+    }
+
+    @Test
+    @DisplayName("3. 지연 기준을 넘긴 호출은 실패로, 동시 호출 제한 거절은 세지 않음")
+    void testSlowCallsAndBulkheadRejections() throws Exception {
+        CircuitBreaker breaker = breaker(20);
+
+        for (int i = 0; i < 4; i++) {
+            breaker.enter().failure(new BulkheadFullException("test", 1));
+        }
+        assertEquals(0, breaker.getStats().get("recentCalls"));
+
+        breaker.enter().success();
+        breaker.enter().success();
+        for (int i = 0; i < 2; i++) {
+            ModelCallGuard.Ticket slow = breaker.enter();
+            Thread.sleep(30);
+            slow.success();
+        }
+        assertEquals(2L, breaker.getStats().get("slowCalls"));
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    @DisplayName("4. 감싼 모델은 차단기가 열리면 공급자를 호출하지 않고 호출 자리도 차지하지 않음")
+    void testGuardedModel() {
+        CircuitBreaker breaker = breaker(0);
+        ModelBulkhead bulkhead = new ModelBulkhead("test", 2, 0, 100, 0.5, 1);
+        AtomicInteger providerCalls = new AtomicInteger();
+
+        ChatLanguageModel failing = messages -> {
+            providerCalls.incrementAndGet();
+            throw new IllegalStateException("503 from provider");
+        };
+        ChatLanguageModel guarded = GuardedModels.wrapChat(failing, ModelCallGuard.chain(breaker, bulkhead));
+
+        for (int i = 0; i < 4; i++) {
+            assertThrows(IllegalStateException.class, () -> guarded.generate("질문"));
+        }
+        assertThrows(CircuitOpenException.class, () -> guarded.generate("질문"));
+
+        assertEquals(4, providerCalls.get());
+        assertEquals(0, bulkhead.getStats().get("inUse"));
+    }
+
+    @Test
+    @DisplayName("5. 동시 호출 제한 대기열에서 기다린 시간은 느린 호출로 세지 않음")
+    void testBulkheadQueueWaitNotSlow() throws Exception {
+        CircuitBreaker breaker = breaker(30);
+        ModelBulkhead bulkhead = new ModelBulkhead("test", 1, 1, 5_000, 0.5, 1);
+        ModelCallGuard guard = ModelCallGuard.chain(breaker, bulkhead);
+
+        // 다른 호출이 자리를 차지한 상태
+        ModelCallGuard.Ticket holder = bulkhead.enter();
+        CompletableFuture<ModelCallGuard.Ticket> waiting = CompletableFuture.supplyAsync(guard::enter);
+
+        // 대기열에서 느린 호출 기준보다 오래 기다린 뒤 자리를 얻음
+        Thread.sleep(100);
+        assertFalse(waiting.isDone(), "호출 자리가 날 때까지 대기열에서 기다려야 합니다");
+        holder.success();
+        waiting.get(5, TimeUnit.SECONDS).success();
+
+        assertEquals(0L, breaker.getStats().get("slowCalls"));
+        assertEquals(1, breaker.getStats().get("recentCalls"));
+        assertEquals(0, bulkhead.getStats().get("inUse"));
+    }
+
+    @Test
+    @DisplayName("6. 단계 기한 초과로 취소된 호출은 실패로, 호출한 쪽의 취소는 세지 않음")
+    void testDeadlineExpiryCountsAsFailure() throws Exception {
+        CircuitBreaker breaker = breaker(20_000);
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            // 차단기 기록이 끝난 뒤 알려주는 바깥 보호 장치
+            AtomicReference<CountDownLatch> recorded = new AtomicReference<>();
+            ModelCallGuard notifying = () -> new ModelCallGuard.Ticket() {
+                @Override
+                public void success() {
+                    recorded.get().countDown();
+                }
+
+                @Override
+                public void failure(Throwable error) {
+                    recorded.get().countDown();
+                }
+            };
+            ChatLanguageModel hanging = messages -> {
+                try {
+                    Thread.sleep(10_000);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("request aborted", e);
+                }
+                return null;
+            };
+            ChatLanguageModel guarded = GuardedModels.wrapChat(hanging, ModelCallGuard.chain(notifying, breaker));
+
+            // 기한 초과: 응답 없는 공급자 -> 실패
+            recorded.set(new CountDownLatch(1));
+            ModelCallPolicy policy = new ModelCallPolicy("test-deadline", 50, false, 0, executor);
+            assertThrows(ModelCallTimeoutException.class, () -> policy.call(() -> guarded.generate("질문")));
+            assertTrue(recorded.get().await(5, TimeUnit.SECONDS));
+            assertEquals(1L, breaker.getStats().get("failures"));
+
+            // 호출한 쪽의 취소 (헤지에 진 요청 등) -> 기록하지 않음
+            recorded.set(new CountDownLatch(1));
+            Future<?> cancelled = executor.submit(() -> guarded.generate("질문"));
+            Thread.sleep(50);
+            cancelled.cancel(true);
+            assertTrue(recorded.get().await(5, TimeUnit.SECONDS));
+            assertEquals(1L, breaker.getStats().get("failures"));
+            assertEquals(1, breaker.getStats().get("recentCalls"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
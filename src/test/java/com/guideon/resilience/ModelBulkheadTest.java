@@ -0,0 +1,146 @@
+package com.guideon.resilience;
+
+import com.guideon.exception.BulkheadFullException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ModelBulkhead 테스트 클래스
+ * 모델별 동시 호출 제한, 대기열 초과 시 즉시 거절, 대화형 우선 처리 테스트 (API 키 불필요)
+ */
+@DisplayName("ModelBulkhead 테스트")
+class ModelBulkheadTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static long laneStat(ModelBulkhead bulkhead, String lane, String key) {
+        Map<String, Object> laneStats = (Map<String, Object>) bulkhead.getStats().get(lane);
+        return ((Number) laneStats.get(key)).longValue();
+    }
+
+    /**
+     * 호출 자리를 얻어 작업 실행 후 반납 (감싼 모델의 호출 방식)
+     */
+    private static <T> T execute(ModelBulkhead bulkhead, Supplier<T> call) {
+        ModelBulkhead.Permit permit = bulkhead.acquire();
+        try {
+            return call.get();
+        } finally {
+            permit.release();
+        }
+    }
+
+    private static void awaitWaiting(ModelBulkhead bulkhead, String lane, long count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (laneStat(bulkhead, lane, "waiting") < count) {
+            assertTrue(System.currentTimeMillis() < deadline, lane + " 대기열에 요청이 들어가지 않았습니다");
+            Thread.sleep(5);
+        }
+    }
+
+    @Test
+    @DisplayName("1. 동시 호출 한도와 대기열이 가득 차면 Retry-After 값과 함께 즉시 거절")
+    void testRejectWhenFull() {
+        ModelBulkhead bulkhead = new ModelBulkhead("test-full", 2, 0, 1000, 0.5, 3);
+
+        ModelBulkhead.Permit first = bulkhead.acquire();
+        ModelBulkhead.Permit second = bulkhead.acquire();
+
+        long start = System.nanoTime();
+        BulkheadFullException e = assertThrows(BulkheadFullException.class, bulkhead::acquire);
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 500, "대기열이 없으면 기다리지 않아야 합니다");
+        assertEquals("test-full", e.getModel());
+        assertEquals(3, e.getRetryAfterSeconds());
+        assertEquals(1L, laneStat(bulkhead, "interactive", "rejected"));
+
+        // 자리가 반납되면 다시 호출 가능 (중복 반납은 무시)
+        first.release();
+        first.release();
+        assertEquals("ok", execute(bulkhead, () -> "ok"));
+        assertEquals(1, bulkhead.getStats().get("inUse"));
+        second.release();
+        assertEquals(0, bulkhead.getStats().get("inUse"));
+    }
+
+    @Test
+    @DisplayName("2. 한도를 넘는 호출은 대기 후 실행, 최대 대기 시간을 넘기면 거절")
+    void testQueueAndWaitTimeout() throws Exception {
+        ModelBulkhead bulkhead = new ModelBulkhead("test-queue", 1, 1, 2000, 0.5, 1);
+        ModelBulkhead.Permit held = bulkhead.acquire();
+
+        Future<String> waiting = executor.submit(() -> execute(bulkhead, () -> "queued"));
+        awaitWaiting(bulkhead, "interactive", 1);
+
+        // 대기열(1)이 찼으므로 다음 호출은 즉시 거절
+        assertThrows(BulkheadFullException.class, bulkhead::acquire);
+
+        held.release();
+        assertEquals("queued", waiting.get(5, TimeUnit.SECONDS));
+
+        ModelBulkhead shortWait = new ModelBulkhead("test-wait", 1, 1, 100, 0.5, 1);
+        ModelBulkhead.Permit busy = shortWait.acquire();
+        assertThrows(BulkheadFullException.class, shortWait::acquire);
+        assertEquals(1L, laneStat(shortWait, "interactive", "timedOut"));
+        assertEquals(0L, laneStat(shortWait, "interactive", "waiting"));
+        busy.release();
+    }
+
+    @Test
+    @DisplayName("3. 자리가 나면 먼저 기다린 일괄 작업보다 대화형 요청을 먼저 처리")
+    void testInteractiveServedFirst() throws Exception {
+        ModelBulkhead bulkhead = new ModelBulkhead("test-priority", 1, 4, 5000, 1.0, 1);
+        List<String> order = new CopyOnWriteArrayList<>();
+        ModelBulkhead.Permit held = bulkhead.acquire();
+
+        Future<?> batch = executor.submit(() -> ModelBulkhead.runAsBatch(
+                () -> execute(bulkhead, () -> order.add("batch"))));
+        awaitWaiting(bulkhead, "batch", 1);
+
+        Future<?> interactive = executor.submit(() -> execute(bulkhead, () -> order.add("interactive")));
+        awaitWaiting(bulkhead, "interactive", 1);
+
+        held.release();
+        batch.get(5, TimeUnit.SECONDS);
+        interactive.get(5, TimeUnit.SECONDS);
+        assertEquals(List.of("interactive", "batch"), order);
+    }
+
+    @Test
+    @DisplayName("4. 일괄 작업은 전체 자리의 일부만 사용하여 대화형 요청의 자리를 남김")
+    void testBatchShare() throws Exception {
+        ModelBulkhead bulkhead = new ModelBulkhead("test-share", 2, 4, 5000, 0.5, 1);
+
+        ModelBulkhead.Permit batchPermit = ModelBulkhead.callAsBatch(bulkhead::acquire);
+        assertEquals(ModelBulkhead.Lane.INTERACTIVE, ModelBulkhead.currentLane());
+
+        // 두 번째 일괄 작업은 자리가 남아 있어도 대기
+        Future<String> secondBatch = executor.submit(ModelBulkhead.callAsBatch(
+                () -> ModelBulkhead.inCurrentLane(() -> execute(bulkhead, () -> "batch"))));
+        awaitWaiting(bulkhead, "batch", 1);
+
+        // 대화형 요청은 남은 자리로 바로 실행
+        assertEquals("interactive", execute(bulkhead, () -> "interactive"));
+
+        batchPermit.release();
+        assertEquals("batch", secondBatch.get(5, TimeUnit.SECONDS));
+        assertEquals(2L, laneStat(bulkhead, "batch", "acquired"));
+    }
+}
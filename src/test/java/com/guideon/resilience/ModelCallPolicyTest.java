@@ -0,0 +1,94 @@
+package com.guideon.resilience;
+
+import com.guideon.exception.ModelCallTimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ModelCallPolicy 테스트 클래스
+ * 단계별 기한 초과, 헤지 요청, 진 요청 취소 동작 테스트 (API 키 불필요)
+ */
+@DisplayName("ModelCallPolicy 테스트")
+class ModelCallPolicyTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("1. 기한 초과 시 예외 발생 및 진행 중인 요청 취소")
+    void testTimeoutCancelsCall() throws Exception {
+        ModelCallPolicy policy = new ModelCallPolicy("test-timeout", 100, false, 0, executor);
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        ModelCallTimeoutException e = assertThrows(ModelCallTimeoutException.class, () -> policy.call(() -> {
+            try {
+                Thread.sleep(5000);
+            } catch (InterruptedException ie) {
+                interrupted.countDown();
+                throw ie;
+            }
+            return "late";
+        }));
+
+        assertEquals("test-timeout", e.getStage());
+        assertTrue(interrupted.await(1, TimeUnit.SECONDS), "기한 초과 요청은 인터럽트로 취소되어야 합니다");
+        assertEquals(1L, policy.getStats().get("timeouts"));
+    }
+
+    @Test
+    @DisplayName("2. 느린 요청은 p95 이후 헤지 요청이 대신 응답")
+    void testHedgeWinsOverSlowCall() {
+        ModelCallPolicy policy = new ModelCallPolicy("test-hedge", 2000, true, 50, executor);
+
+        // 지연 시간 표본 확보 (빠른 응답)
+        for (int i = 0; i < 20; i++) {
+            policy.call(() -> "fast");
+        }
+
+        // 첫 요청만 느리고, 헤지 요청은 바로 응답
+        AtomicInteger attempts = new AtomicInteger();
+        long start = System.nanoTime();
+        String result = policy.call(() -> {
+            if (attempts.getAndIncrement() == 0) {
+                Thread.sleep(1500);
+                return "slow";
+            }
+            return "hedged";
+        });
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertEquals("hedged", result);
+        assertTrue(elapsedMs < 1000, "헤지 요청 응답을 기다리지 않고 반환해야 합니다: " + elapsedMs + "ms");
+
+        Map<String, Object> stats = policy.getStats();
+        assertEquals(1L, stats.get("hedges"));
+        assertEquals(1L, stats.get("hedgeWins"));
+    }
+
+    @Test
+    @DisplayName("3. 기한 없는 정책은 호출 스레드에서 바로 실행")
+    void testDirectPolicyRunsInline() {
+        ModelCallPolicy policy = ModelCallPolicy.direct("test-direct");
+        Thread caller = Thread.currentThread();
+
+        assertSame(caller, policy.call(Thread::currentThread));
+        assertThrows(IllegalArgumentException.class, () -> policy.call(() -> {
+            throw new IllegalArgumentException("bad request");
+        }));
+        assertEquals(1L, policy.getStats().get("failures"));
+    }
+}
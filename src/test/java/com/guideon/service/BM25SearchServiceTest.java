@@ -0,0 +1,165 @@
+package com.guideon.service;
+
+import com.guideon.config.ConfigLoader;
+import com.guideon.model.DocumentMetadata;
+import com.guideon.model.ScoredSegment;
+import dev.langchain4j.data.segment.TextSegment;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * BM25SearchService 테스트 클래스
+ * segment ID 기준 upsert, 문서 단위 교체 및 그룹 커밋 동작 테스트 (API 키 불필요)
+ */
+@DisplayName("BM25SearchService 테스트")
+class BM25SearchServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    private BM25SearchService service;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Path configFile = tempDir.resolve("test.properties");
+        Files.writeString(configFile, String.join("\n",
+                "bm25.index.directory=" + tempDir.resolve("bm25-index").toString().replace("\\", "/"),
+                "bm25.commit.batch.size=3",
+                "bm25.commit.interval.ms=600000"));
+
+        service = new BM25SearchService(new ConfigLoader(configFile.toString()));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (service != null) {
+            service.close();
+        }
+    }
+
+    @Test
+    @DisplayName("1. 동일 ID 재색인 시 중복 문서가 생기지 않음")
+    void testUpsertIsIdempotent() throws Exception {
+        TextSegment segment = TextSegment.from("제21조(경조휴가) 본인 결혼: 5일");
+
+        service.indexSegment(segment, "취업규칙", "seg-1");
+        service.indexSegment(segment, "취업규칙", "seg-1");
+        service.upsertSegments(List.of(segment), "취업규칙", List.of("seg-1"));
+
+        assertEquals(1, service.getDocumentCount(), "같은 ID는 하나의 문서로 유지되어야 합니다");
+
+        List<ScoredSegment> results = service.search("경조휴가", 5);
+        assertEquals(1, results.size());
+        assertEquals("seg-1", results.get(0).getId());
+    }
+
+    @Test
+    @DisplayName("2. 배치 크기 도달 전에는 커밋되지 않고, 도달하면 커밋됨")
+    void testGroupCommitByBatchSize() throws Exception {
+        long seqNo = service.upsertSegments(
+                List.of(TextSegment.from("연차휴가 15일"), TextSegment.from("출장 일비 5만원")),
+                "취업규칙",
+                List.of("seg-1", "seg-2"));
+
+        assertFalse(service.isDurable(seqNo), "배치 크기 미만이면 아직 커밋되지 않아야 합니다");
+        assertEquals(2, service.getPendingChanges());
+
+        long lastSeqNo = service.upsertSegments(
+                List.of(TextSegment.from("법인카드 한도")), "경비지급규정", List.of("seg-3"));
+
+        assertTrue(service.isDurable(lastSeqNo), "배치 크기에 도달하면 커밋되어야 합니다");
+        assertEquals(0, service.getPendingChanges());
+    }
+
+    @Test
+    @DisplayName("3. 세그먼트 수와 ID 수가 다르면 예외 발생")
+    void testUpsertRejectsMismatchedIds() {
+        assertThrows(IllegalArgumentException.class, () -> service.upsertSegments(
+                List.of(TextSegment.from("a"), TextSegment.from("b")), "취업규칙", List.of("seg-1")));
+    }
+
+    @Test
+    @DisplayName("4. 조항 번호로 세그먼트 직접 조회 (규정 유형 필터 포함)")
+    void testFindByArticle() throws Exception {
+        TextSegment continued = TextSegment.from("2. 연차휴가는 1년간 사용하지 않으면 소멸한다.");
+        continued.metadata().put(DocumentMetadata.ARTICLE_NUMBERS, "제23조");
+
+        service.upsertSegments(
+                List.of(TextSegment.from("제23조(연차휴가) 1. 1년간 80% 이상 출근한 직원에게 15일을 부여한다."),
+                        continued,
+                        TextSegment.from("제24조(경조휴가) 제23조에 따른 연차휴가와 별도로 부여한다.")),
+                "취업규칙",
+                List.of("seg-1", "seg-2", "seg-3"));
+        service.upsertSegments(
+                List.of(TextSegment.from("제23조(법인카드) 법인카드는 업무 용도로만 사용한다.")),
+                "경비지급규정",
+                List.of("seg-4"));
+
+        List<ScoredSegment> results = service.findByArticle("취업규칙", "제23조", 10);
+        assertEquals(List.of("seg-1", "seg-2"), results.stream().map(ScoredSegment::getId).toList(),
+                "본문 인용(제24조의 '제23조에 따른')은 조항 색인에 포함되지 않아야 합니다");
+
+        assertEquals(3, service.findByArticle(null, "제23조", 10).size());
+        assertTrue(service.findByArticle("취업규칙", "제99조", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("5. 인덱스 교체 중 중단되어 .old만 남으면 시작 시 기존 인덱스 복구")
+    void testRestoreInterruptedSwap() throws Exception {
+        service.upsertSegments(
+                List.of(TextSegment.from("연차휴가 15일"), TextSegment.from("출장 일비 5만원")),
+                "취업규칙",
+                List.of("seg-1", "seg-2"));
+        service.commit();
+        service.close();
+        service = null;
+
+        // 기존 인덱스 -> .old 이동 후, 빌드 인덱스를 옮기기 전에 중단된 상태
+        Path livePath = tempDir.resolve("bm25-index");
+        Files.move(livePath, Paths.get(livePath + BM25SearchService.PREVIOUS_INDEX_SUFFIX));
+
+        service = new BM25SearchService(new ConfigLoader(tempDir.resolve("test.properties").toString()));
+
+        assertEquals(2, service.getDocumentCount(), "빈 인덱스를 새로 만들지 않고 기존 인덱스를 되돌려야 합니다");
+        assertFalse(Files.exists(Paths.get(livePath + BM25SearchService.PREVIOUS_INDEX_SUFFIX)));
+        assertFalse(BM25SearchService.restoreInterruptedSwap(livePath), "인덱스가 있으면 복구하지 않아야 합니다");
+    }
+
+    private static TextSegment documentSegment(String text, String documentId) {
+        TextSegment segment = TextSegment.from(text);
+        segment.metadata().put(DocumentMetadata.DOCUMENT_ID, documentId);
+        return segment;
+    }
+
+    @Test
+    @DisplayName("6. 문서 세그먼트 교체: 이전 세그먼트 삭제와 새 세그먼트 추가가 한 번에 반영되고 다른 문서는 유지")
+    void testReplaceDocumentSegments() throws Exception {
+        service.replaceDocumentSegments("doc-1",
+                List.of(documentSegment("연차휴가 15일", "doc-1"), documentSegment("경조휴가 5일", "doc-1")),
+                "취업규칙", List.of("doc-1-0", "doc-1-1"));
+        service.replaceDocumentSegments("doc-2",
+                List.of(documentSegment("출장 일비 5만원", "doc-2")), "출장여비지급규정", List.of("doc-2-0"));
+        assertEquals(3, service.getDocumentCount());
+
+        service.replaceDocumentSegments("doc-1",
+                List.of(documentSegment("연차휴가 20일", "doc-1")), "취업규칙", List.of("doc-1-0"));
+
+        assertEquals(1, service.getPendingChanges(), "삭제와 추가는 하나의 변경으로 반영되어야 합니다");
+        assertEquals(2, service.getDocumentCount());
+        assertTrue(service.search("경조휴가", 5).isEmpty(), "이전 세그먼트가 남으면 안 됩니다");
+        assertEquals("doc-1-0", service.search("연차휴가", 5).get(0).getId());
+
+        assertThrows(IllegalArgumentException.class, () -> service.replaceDocumentSegments("doc-1",
+                List.of(documentSegment("법인카드 한도", "doc-3")), "경비지급규정", List.of("doc-1-0")));
+    }
+}
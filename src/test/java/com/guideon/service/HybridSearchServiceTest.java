@@ -0,0 +1,283 @@
+package com.guideon.service;
+
+import com.guideon.config.ConfigLoader;
+import com.guideon.model.HybridSearchResult;
+import com.guideon.model.ScoredSegment;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingSearchResult;
+import dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore;
+import org.apache.lucene.queryparser.classic.ParseException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * HybridSearchService 테스트 클래스
+ * 경로별 기한 초과 시 나머지 경로만으로 부분 결과 반환, 적응형 경로 정책(CANCEL/SKIP)과 경로별 통계 테스트 (API 키 불필요)
+ */
+@DisplayName("HybridSearchService 테스트")
+class HybridSearchServiceTest {
+
+    private static final float[] QUERY_EMBEDDING = {1f, 0f};
+
+    @TempDir
+    Path tempDir;
+
+    private StubBM25SearchService bm25;
+    private StubVectorStore vectorStore;
+    private HybridSearchService service;
+
+    /**
+     * 지정한 시간만큼 지연한 뒤 고정 결과를 돌려주는 BM25 검색
+     */
+    private static class StubBM25SearchService extends BM25SearchService {
+        volatile long delayMs;
+        volatile List<ScoredSegment> results = List.of();
+
+        StubBM25SearchService(ConfigLoader config, String indexPath) throws IOException {
+            super(config, indexPath);
+        }
+
+        @Override
+        public List<ScoredSegment> search(String query, int maxResults) throws IOException {
+            sleep(delayMs);
+            return results;
+        }
+
+        @Override
+        public double queryTermCoverage(String query, TextSegment segment) throws IOException, ParseException {
+            return 1.0;
+        }
+    }
+
+    /**
+     * 지정한 시간만큼 지연한 뒤 고정 결과를 돌려주는 Vector Store (호출/중단 횟수 기록)
+     */
+    private static class StubVectorStore extends InMemoryEmbeddingStore<TextSegment> {
+        volatile long delayMs;
+        volatile List<EmbeddingMatch<TextSegment>> matches = List.of();
+        final AtomicInteger calls = new AtomicInteger();
+        final AtomicInteger interrupted = new AtomicInteger();
+
+        @Override
+        public EmbeddingSearchResult<TextSegment> search(EmbeddingSearchRequest request) {
+            calls.incrementAndGet();
+            try {
+                sleep(delayMs);
+            } catch (IOException e) {
+                interrupted.incrementAndGet();
+                throw new IllegalStateException(e);
+            }
+            return new EmbeddingSearchResult<>(matches);
+        }
+    }
+
+    private static void sleep(long delayMs) throws IOException {
+        try {
+            Thread.sleep(delayMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("search interrupted", e);
+        }
+    }
+
+    private void createService(String... properties) throws Exception {
+        List<String> lines = new ArrayList<>(List.of(
+                "hybrid.search.enabled=true",
+                "hybrid.search.vector.timeout.ms=300",
+                "hybrid.search.bm25.timeout.ms=300",
+                "bm25.commit.interval.ms=600000"));
+        lines.addAll(List.of(properties));
+        Path configFile = tempDir.resolve("test.properties");
+        Files.writeString(configFile, String.join("\n", lines));
+        ConfigLoader config = new ConfigLoader(configFile.toString());
+
+        bm25 = new StubBM25SearchService(config, tempDir.resolve("bm25-index").toString());
+        vectorStore = new StubVectorStore();
+        service = new HybridSearchService(bm25, vectorStore, null, config);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (service != null) {
+            service.close();
+        }
+    }
+
+    private static ScoredSegment bm25Hit(String id, double score) {
+        return new ScoredSegment(id, TextSegment.from("BM25 " + id), score, "BM25");
+    }
+
+    private static EmbeddingMatch<TextSegment> vectorHit(String id, double score) {
+        return new EmbeddingMatch<>(score, id, null, TextSegment.from("Vector " + id));
+    }
+
+    private static List<String> ids(HybridSearchResult result) {
+        return result.getSegments().stream().map(ScoredSegment::getId).toList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private long pathCount(String path) {
+        return (long) ((Map<String, Object>) service.getPathStats().get(path)).get("count");
+    }
+
+    private HybridSearchResult timedSearch(long maxMs) {
+        long start = System.nanoTime();
+        HybridSearchResult result = service.search("경조휴가 일수", QUERY_EMBEDDING, 10);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        assertTrue(elapsedMs < maxMs, "느린 경로를 기한 이상 기다리면 안 됩니다: " + elapsedMs + "ms");
+        return result;
+    }
+
+    @Test
+    @DisplayName("1. 두 경로가 기한 안에 끝나면 두 결과를 모두 통합")
+    void testBothLegsWithinDeadline() throws Exception {
+        createService();
+        bm25.results = List.of(bm25Hit("seg-1", 8.0));
+        vectorStore.matches = List.of(vectorHit("seg-2", 0.9));
+
+        HybridSearchResult result = timedSearch(2_000);
+
+        assertFalse(result.isPartial());
+        assertEquals(1, result.getVectorResultCount());
+        assertEquals(1, result.getBm25ResultCount());
+        assertTrue(ids(result).containsAll(List.of("seg-1", "seg-2")), ids(result).toString());
+    }
+
+    @Test
+    @DisplayName("2. Vector 경로가 기한을 넘기면 취소하고 BM25 결과만으로 부분 결과 반환")
+    void testSlowVectorLeg() throws Exception {
+        createService();
+        bm25.results = List.of(bm25Hit("seg-1", 8.0), bm25Hit("seg-3", 4.0));
+        vectorStore.matches = List.of(vectorHit("seg-2", 0.9));
+        vectorStore.delayMs = 5_000;
+
+        HybridSearchResult result = timedSearch(2_000);
+
+        assertEquals(List.of("VECTOR"), result.getMissingLegs());
+        assertEquals(0, result.getVectorResultCount());
+        assertEquals(List.of("seg-1", "seg-3"), ids(result));
+    }
+
+    @Test
+    @DisplayName("3. BM25 경로가 기한을 넘기면 Vector 결과만으로 부분 결과 반환")
+    void testSlowBM25Leg() throws Exception {
+        createService();
+        bm25.results = List.of(bm25Hit("seg-1", 8.0));
+        bm25.delayMs = 5_000;
+        vectorStore.matches = List.of(vectorHit("seg-2", 0.9), vectorHit("seg-4", 0.7));
+
+        HybridSearchResult result = timedSearch(2_000);
+
+        assertEquals(List.of("BM25"), result.getMissingLegs());
+        assertEquals(0, result.getBm25ResultCount());
+        assertEquals(List.of("seg-2", "seg-4"), ids(result));
+    }
+
+    @Test
+    @DisplayName("4. 경로 기한은 검색 시작 시점 기준 (먼저 기다린 경로의 시간만큼 다음 경로 대기 시간이 줄어듦)")
+    void testDeadlinesFromSearchStart() throws Exception {
+        createService("hybrid.search.vector.timeout.ms=400", "hybrid.search.bm25.timeout.ms=400");
+        bm25.results = List.of(bm25Hit("seg-1", 8.0));
+        bm25.delayMs = 5_000;
+        vectorStore.matches = List.of(vectorHit("seg-2", 0.9));
+        vectorStore.delayMs = 5_000;
+
+        // 두 경로 모두 기한 초과: 기한을 더해서(800ms) 기다리지 않고 약 400ms 후 빈 결과
+        HybridSearchResult result = timedSearch(750);
+
+        assertEquals(List.of("VECTOR", "BM25"), result.getMissingLegs());
+        assertTrue(result.getSegments().isEmpty());
+    }
+
+    @Test
+    @DisplayName("5. CANCEL: BM25 1위가 기준 이상이면 진행 중인 Vector 경로를 취소하고 BM25 결과만 사용")
+    void testCancelWhenBM25Confident() throws Exception {
+        createService("hybrid.search.adaptive.mode=cancel", "hybrid.search.adaptive.min.score=5.0",
+                "hybrid.search.vector.timeout.ms=5000");
+        bm25.results = List.of(bm25Hit("seg-1", 10.0), bm25Hit("seg-3", 2.0));
+        vectorStore.matches = List.of(vectorHit("seg-2", 0.9));
+        vectorStore.delayMs = 5_000;
+
+        HybridSearchResult result = timedSearch(2_000);
+
+        assertEquals(List.of("seg-1", "seg-3"), ids(result));
+        assertFalse(result.isPartial(), "확실한 BM25 결과로 생략한 Vector 경로는 누락이 아닙니다");
+        assertEquals(0, result.getVectorResultCount());
+        assertEquals(1, vectorStore.calls.get(), "CANCEL은 Vector 경로를 미리 시작합니다");
+        for (int i = 0; i < 100 && vectorStore.interrupted.get() == 0; i++) {
+            Thread.sleep(20);
+        }
+        assertEquals(1, vectorStore.interrupted.get(), "진행 중인 Vector 경로는 취소되어야 합니다");
+        assertEquals(1L, pathCount("BM25_CONFIDENT"));
+        assertEquals(0L, pathCount("BM25_THEN_VECTOR"));
+        assertEquals(0L, pathCount("PARALLEL"));
+    }
+
+    @Test
+    @DisplayName("6. CANCEL: BM25 1위가 기준 미만이면 미리 시작한 Vector 결과까지 통합")
+    void testCancelWhenBM25NotConfident() throws Exception {
+        createService("hybrid.search.adaptive.mode=cancel", "hybrid.search.adaptive.min.score=5.0");
+        bm25.results = List.of(bm25Hit("seg-1", 3.0), bm25Hit("seg-3", 1.0));
+        vectorStore.matches = List.of(vectorHit("seg-2", 0.9));
+        vectorStore.delayMs = 50;
+
+        HybridSearchResult result = service.search("경조휴가 일수", QUERY_EMBEDDING, 10);
+
+        assertTrue(ids(result).containsAll(List.of("seg-1", "seg-2", "seg-3")), ids(result).toString());
+        assertFalse(result.isPartial());
+        assertEquals(1, vectorStore.calls.get());
+        assertEquals(0L, pathCount("BM25_CONFIDENT"));
+        assertEquals(1L, pathCount("BM25_THEN_VECTOR"));
+    }
+
+    @Test
+    @DisplayName("7. SKIP: BM25 1위가 기준 이상이면 Vector 경로를 시작하지 않음")
+    void testSkipWhenBM25Confident() throws Exception {
+        createService("hybrid.search.adaptive.mode=skip", "hybrid.search.adaptive.min.score=5.0");
+        bm25.results = List.of(bm25Hit("seg-1", 10.0), bm25Hit("seg-3", 2.0));
+        vectorStore.matches = List.of(vectorHit("seg-2", 0.9));
+
+        HybridSearchResult result = service.search("경조휴가 일수", QUERY_EMBEDDING, 10);
+
+        assertEquals(List.of("seg-1", "seg-3"), ids(result));
+        assertFalse(result.isPartial());
+        assertEquals(0, vectorStore.calls.get(), "SKIP은 BM25가 확실하면 Vector 경로를 호출하지 않아야 합니다");
+        assertEquals(1L, pathCount("BM25_CONFIDENT"));
+        assertEquals(0L, pathCount("BM25_THEN_VECTOR"));
+    }
+
+    @Test
+    @DisplayName("8. SKIP: BM25 1위가 기준 미만이거나 2위와 차이가 작으면 Vector 경로를 실행하여 통합")
+    void testSkipWhenBM25NotConfident() throws Exception {
+        createService("hybrid.search.adaptive.mode=skip", "hybrid.search.adaptive.min.score=5.0");
+        vectorStore.matches = List.of(vectorHit("seg-2", 0.9));
+
+        // 1위 점수가 기준 미만
+        bm25.results = List.of(bm25Hit("seg-1", 3.0));
+        HybridSearchResult belowScore = service.search("경조휴가 일수", QUERY_EMBEDDING, 10);
+        assertTrue(ids(belowScore).containsAll(List.of("seg-1", "seg-2")), ids(belowScore).toString());
+
+        // 1위 점수는 기준 이상이지만 2위와 차이가 작음 (gap 0.05 < 0.3)
+        bm25.results = List.of(bm25Hit("seg-1", 10.0), bm25Hit("seg-3", 9.5));
+        HybridSearchResult smallGap = service.search("경조휴가 일수", QUERY_EMBEDDING, 10);
+        assertTrue(ids(smallGap).containsAll(List.of("seg-1", "seg-2", "seg-3")), ids(smallGap).toString());
+
+        assertEquals(2, vectorStore.calls.get());
+        assertEquals(0L, pathCount("BM25_CONFIDENT"));
+        assertEquals(2L, pathCount("BM25_THEN_VECTOR"));
+    }
+}
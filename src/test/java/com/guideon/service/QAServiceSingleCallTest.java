@@ -0,0 +1,176 @@
+package com.guideon.service;
+
+import com.guideon.config.ConfigLoader;
+import com.guideon.dto.QuestionAnswerDTO;
+import com.guideon.model.DocumentMetadata;
+import com.guideon.model.QueryAnalysisResult;
+import com.guideon.model.RegulationSearchResult;
+import com.guideon.util.AnswerCache;
+import com.guideon.util.PromptTemplate;
+import com.guideon.util.SemanticQuestionIndex;
+import com.guideon.util.prompt.FewShotExampleSelector;
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * QAService 단일 호출 모드 판단 테스트 클래스
+ * 단일 호출을 적용하지 않는 질문에서 LLM 없는 분석 결과 재사용, 규칙 분석 경로의 질문 임베딩 재사용 테스트 (API 키 불필요)
+ */
+@DisplayName("QAService 단일 호출 모드 판단 테스트")
+class QAServiceSingleCallTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final AtomicInteger quickAnalyses = new AtomicInteger();
+    private final List<QueryAnalysisService.QuickAnalysis> llmAnalysisInputs = new ArrayList<>();
+    private final List<QueryAnalysisResult> searchedAnalyses = new ArrayList<>();
+
+    // analyzeWithoutLlm이 돌려줄 결과 (테스트마다 지정)
+    private QueryAnalysisService.QuickAnalysis quick;
+    private ConfigLoader config;
+    private QueryAnalysisService analysisService;
+    private QAService qaService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Path configFile = tempDir.resolve("test.properties");
+        Files.writeString(configFile, "qa.speculative.retrieval.enabled=false");
+        config = new ConfigLoader(configFile.toString());
+
+        analysisService = new QueryAnalysisService("test-key") {
+            @Override
+            public QuickAnalysis analyzeWithoutLlm(String userQuery) {
+                quickAnalyses.incrementAndGet();
+                return quick;
+            }
+
+            @Override
+            public QueryAnalysisResult analyzeQuery(String userQuery, float[] questionEmbedding) {
+                fail("단일 호출 판단에 쓴 분석 결과를 재사용해야 합니다");
+                return null;
+            }
+
+            @Override
+            public QueryAnalysisResult analyzeQuery(String userQuery, QuickAnalysis quick, float[] questionEmbedding) {
+                llmAnalysisInputs.add(quick);
+                return quick.complete()
+                        ? quick.analysis()
+                        : new QueryAnalysisResult(userQuery, List.of("경조휴가"), List.of("취업규칙"), "절차설명", "경조휴가 신청");
+            }
+        };
+        RegulationSearchService searchService = new RegulationSearchService(config, null, null, null, null, null, null, null) {
+            @Override
+            public RegulationSearchResult search(QueryAnalysisResult analysis, float[] questionEmbedding) {
+                searchedAnalyses.add(analysis);
+                return new RegulationSearchResult("답변", List.of(), 0.8, true);
+            }
+        };
+        qaService = new QAService(analysisService, searchService, new AnswerCache(0, 0),
+                new SemanticQuestionIndex(0, 0.9, 0), config);
+        qaService.setSingleCallIntents(Set.of("기준확인"));
+    }
+
+    private static QueryAnalysisResult ruleAnalysis(String intent) {
+        return new QueryAnalysisResult("경조휴가 신청은 어떻게 하나요?", List.of("경조휴가"), List.of("취업규칙"), intent, "경조휴가");
+    }
+
+    @Test
+    @DisplayName("1. 단일 호출 대상이 아닌 의도: 캐시 조회/규칙 기반 분석을 다시 하지 않고 LLM 분석으로 넘김")
+    void testRuleAnalysisReusedForLlmAnalysis() {
+        quick = new QueryAnalysisService.QuickAnalysis(ruleAnalysis("절차설명"), false);
+
+        QuestionAnswerDTO answer = qaService.askQuestion("경조휴가 신청은 어떻게 하나요?");
+
+        assertEquals("답변", answer.getAnswer());
+        assertEquals(1, quickAnalyses.get());
+        assertEquals(List.of(quick), llmAnalysisInputs);
+        assertEquals("경조휴가 신청", searchedAnalyses.get(0).getSearchQuery());
+    }
+
+    @Test
+    @DisplayName("2. 캐시/규칙 분석으로 끝난 질문은 그 결과로 바로 검색")
+    void testCompleteQuickAnalysis() {
+        quick = new QueryAnalysisService.QuickAnalysis(ruleAnalysis("절차설명"), true);
+
+        qaService.askQuestion("경조휴가 신청은 어떻게 하나요?");
+
+        assertEquals(1, quickAnalyses.get());
+        assertTrue(llmAnalysisInputs.isEmpty());
+        assertSame(quick.analysis(), searchedAnalyses.get(0));
+    }
+
+    @Test
+    @DisplayName("3. 규칙 분석으로 끝난 질문: 답변 생성 Few-shot 예제 선택이 질문을 다시 임베딩하지 않음")
+    void testRuleTierEmbedsQuestionOnce() throws Exception {
+        String question = "연차휴가 일수가 궁금해요";
+        quick = new QueryAnalysisService.QuickAnalysis(
+                new QueryAnalysisResult(question, List.of("연차휴가"), List.of("취업규칙"), "기준확인", "연차휴가 일수"), true);
+
+        // 글자 기반 가짜 임베딩 (임베딩한 문장 기록)
+        List<String> embedded = new CopyOnWriteArrayList<>();
+        EmbeddingModel embeddingModel = segments -> {
+            List<Embedding> embeddings = new ArrayList<>();
+            for (TextSegment segment : segments) {
+                embedded.add(segment.text());
+                float[] vector = new float[64];
+                segment.text().chars().forEach(c -> vector[c % vector.length] += 1f);
+                embeddings.add(Embedding.from(vector));
+            }
+            return Response.from(embeddings);
+        };
+        FewShotExampleSelector selector = new FewShotExampleSelector(embeddingModel, 1, 2, 10_000);
+        assertTrue(selector.initialize() > 0);
+        embedded.clear();
+
+        List<String> prompts = new CopyOnWriteArrayList<>();
+        ChatLanguageModel chatModel = messages -> {
+            prompts.add(messages.get(messages.size() - 1).toString());
+            return Response.from(AiMessage.from("취업규칙 제20조에 따르면 연차휴가는 15일입니다."));
+        };
+        RegulationSearchService searchService = new RegulationSearchService(
+                config, null, chatModel, null, embeddingModel, null, null, null) {
+            @Override
+            public List<EmbeddingMatch<TextSegment>> retrieveCandidates(String query) {
+                return List.of(new EmbeddingMatch<>(0.9, "seg-1", null,
+                        TextSegment.from("제20조(연차휴가) 1년간 80% 이상 출근한 근로자에게 15일의 유급휴가를 준다.",
+                                Metadata.from(DocumentMetadata.REGULATION_TYPE, "취업규칙"))));
+            }
+        };
+        QAService service = new QAService(analysisService, searchService, new AnswerCache(10, 60_000),
+                new SemanticQuestionIndex(10, 0.9, 0), config);
+        service.setSingleCallIntents(Set.of("기준확인"));
+
+        PromptTemplate.setExampleSelector(selector);
+        try {
+            service.askQuestion(question);
+        } finally {
+            PromptTemplate.setExampleSelector(null);
+        }
+
+        assertEquals(1, prompts.size());
+        assertTrue(prompts.get(0).contains("예제 1:"), "질문과 비슷한 예제가 프롬프트에 포함되어야 합니다");
+        assertEquals(1L, selector.getStats().get("selections"));
+        assertEquals(List.of(question), embedded, "원문 질문은 요청당 한 번만 임베딩해야 합니다");
+    }
+}
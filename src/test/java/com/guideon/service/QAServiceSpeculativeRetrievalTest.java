@@ -0,0 +1,185 @@
+package com.guideon.service;
+
+import com.guideon.config.ConfigLoader;
+import com.guideon.model.DocumentMetadata;
+import com.guideon.model.QueryAnalysisResult;
+import com.guideon.util.AnswerCache;
+import com.guideon.util.SemanticQuestionIndex;
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * QAService 선행 검색 테스트 클래스
+ * 원문 질문으로 미리 조회한 후보의 재사용/재조회 판단, 실패/취소 처리, 병합 순서 테스트 (API 키 불필요)
+ */
+@DisplayName("QAService 선행 검색 테스트")
+class QAServiceSpeculativeRetrievalTest {
+
+    private static final String QUESTION = "경조휴가는 며칠인가요?";
+
+    @TempDir
+    Path tempDir;
+
+    // 검색 쿼리 -> 1단계 검색 결과 (retrieveCandidates 호출 기록)
+    private final Map<String, List<EmbeddingMatch<TextSegment>>> results = new HashMap<>();
+    private final List<String> retrievedQueries = new ArrayList<>();
+
+    private RegulationSearchService searchService;
+    private QAService qaService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Path configFile = tempDir.resolve("test.properties");
+        Files.writeString(configFile, String.join("\n",
+                "qa.speculative.retrieval.enabled=true",
+                "qa.speculative.reuse.similarity=0.8"));
+        ConfigLoader config = new ConfigLoader(configFile.toString());
+
+        searchService = new RegulationSearchService(config, null, null, null, null, null, null, null) {
+            @Override
+            public List<EmbeddingMatch<TextSegment>> retrieveCandidates(String query) {
+                retrievedQueries.add(query);
+                List<EmbeddingMatch<TextSegment>> result = results.get(query);
+                if (result == null) {
+                    throw new IllegalStateException("retrieval failed: " + query);
+                }
+                return result;
+            }
+        };
+        qaService = new QAService(null, searchService, new AnswerCache(0, 0),
+                new SemanticQuestionIndex(0, 0.9, 0), config);
+    }
+
+    private static EmbeddingMatch<TextSegment> match(String id, String text, String regulationType) {
+        return new EmbeddingMatch<>(0.5, id, null,
+                TextSegment.from(text, Metadata.from(DocumentMetadata.REGULATION_TYPE, regulationType)));
+    }
+
+    private static QueryAnalysisResult analysis(String searchQuery) {
+        QueryAnalysisResult analysis = new QueryAnalysisResult();
+        analysis.setOriginalQuery(QUESTION);
+        analysis.setSearchQuery(searchQuery);
+        return analysis;
+    }
+
+    private static List<String> ids(List<EmbeddingMatch<TextSegment>> matches) {
+        return matches.stream().map(EmbeddingMatch::embeddingId).toList();
+    }
+
+    @Test
+    @DisplayName("1. 검색 쿼리의 bigram 포함도: 조사만 정리하면 높고 새 용어를 더하면 낮음")
+    void testBigramContainment() {
+        assertEquals(1.0, QAService.bigramContainment("경조휴가는 며칠", QUESTION));
+        assertEquals(1.0, QAService.bigramContainment("경조 휴가", QUESTION), "공백은 무시해야 합니다");
+        assertEquals(0.8, QAService.bigramContainment("경조휴가 며칠", QUESTION), 1e-9, "조사를 뺀 자리의 bigram만 빠짐");
+        assertTrue(QAService.bigramContainment("경조휴가 일수 결혼 출산 사망", QUESTION) < 0.8);
+        assertEquals(0.0, QAService.bigramContainment("법인카드 한도", QUESTION));
+        assertEquals(1.0, QAService.bigramContainment("휴", QUESTION), "한 글자 쿼리는 포함 여부로 판단");
+    }
+
+    @Test
+    @DisplayName("2. 포함도가 임계값 이상이면 미리 조회한 후보를 그대로 사용 (다시 조회하지 않음)")
+    void testReuseAboveThreshold() {
+        List<EmbeddingMatch<TextSegment>> speculative = List.of(match("s1", "제21조(경조휴가) 본인 결혼 5일", "취업규칙"));
+
+        List<EmbeddingMatch<TextSegment>> candidates = qaService.resolveCandidates(
+                analysis("경조휴가 며칠"), CompletableFuture.completedFuture(speculative));
+
+        assertSame(speculative, candidates);
+        assertTrue(retrievedQueries.isEmpty());
+
+        // 검색 쿼리가 비어 있으면 원문 질문과 같은 것으로 봄
+        assertSame(speculative, qaService.resolveCandidates(
+                analysis(" "), CompletableFuture.completedFuture(speculative)));
+        assertTrue(retrievedQueries.isEmpty());
+    }
+
+    @Test
+    @DisplayName("3. 포함도가 임계값 미만이면 검색 쿼리로 다시 조회하고 두 결과를 병합")
+    void testRefetchBelowThreshold() {
+        String searchQuery = "경조휴가 일수 결혼 출산 사망";
+        results.put(searchQuery, List.of(
+                match("r1", "제21조(경조휴가) 배우자 출산 10일", "취업규칙"),
+                match("shared", "제21조(경조휴가) 본인 결혼 5일", "취업규칙")));
+        List<EmbeddingMatch<TextSegment>> speculative = List.of(
+                match("shared", "제21조(경조휴가) 본인 결혼 5일", "취업규칙"),
+                match("s2", "경조금은 본인 결혼 시 50만원을 지급한다", "복리후생비규정"));
+
+        List<EmbeddingMatch<TextSegment>> candidates = qaService.resolveCandidates(
+                analysis(searchQuery), CompletableFuture.completedFuture(speculative));
+
+        assertEquals(List.of(searchQuery), retrievedQueries);
+        assertEquals("shared", candidates.get(0).embeddingId(), "두 결과에 모두 있는 후보가 가장 앞이어야 합니다");
+        assertEquals(2, candidates.size(), "병합 결과는 긴 쪽 목록 길이까지");
+        assertEquals("r1", candidates.get(1).embeddingId(), "동점이면 다시 조회한 결과가 우선");
+    }
+
+    @Test
+    @DisplayName("4. 미리 조회한 검색이 실패/취소되면 검색 쿼리 결과만 사용, 둘 다 실패하면 예외")
+    void testFailedOrCancelledSpeculative() {
+        List<EmbeddingMatch<TextSegment>> refined = List.of(match("r1", "제21조(경조휴가) 본인 결혼 5일", "취업규칙"));
+        results.put("경조휴가 며칠", refined);
+        results.put("경조휴가 일수 결혼 출산 사망", refined);
+
+        // 재사용 대상이 실패 -> 검색 쿼리로 조회
+        assertSame(refined, qaService.resolveCandidates(analysis("경조휴가 며칠"),
+                CompletableFuture.failedFuture(new IllegalStateException("vector search timeout"))));
+
+        // 취소된 선행 검색 -> 예외 없이 검색 쿼리 결과만 사용
+        CompletableFuture<List<EmbeddingMatch<TextSegment>>> cancelled = new CompletableFuture<>();
+        cancelled.cancel(true);
+        assertSame(refined, qaService.resolveCandidates(analysis("경조휴가 며칠"), cancelled));
+        assertSame(refined, qaService.resolveCandidates(analysis("경조휴가 일수 결혼 출산 사망"), cancelled));
+
+        // 다시 조회도 실패하면 그 예외 전달
+        assertThrows(IllegalStateException.class, () -> qaService.resolveCandidates(
+                analysis("법인카드 한도"), CompletableFuture.failedFuture(new IllegalStateException("down"))));
+    }
+
+    @Test
+    @DisplayName("5. 다시 조회가 실패하면 미리 조회한 후보만 사용")
+    void testRefinedFailureFallsBackToSpeculative() {
+        List<EmbeddingMatch<TextSegment>> speculative = List.of(match("s1", "제21조(경조휴가) 본인 결혼 5일", "취업규칙"));
+
+        List<EmbeddingMatch<TextSegment>> candidates = qaService.resolveCandidates(
+                analysis("법인카드 한도"), CompletableFuture.completedFuture(speculative));
+
+        assertEquals(List.of("s1"), ids(candidates));
+        assertEquals(List.of("법인카드 한도"), retrievedQueries);
+    }
+
+    @Test
+    @DisplayName("6. 후보 병합: RRF 순서, 동점은 우선 목록 먼저, 같은 내용은 하나로")
+    void testMergeCandidates() {
+        List<EmbeddingMatch<TextSegment>> primary = List.of(
+                match("a", "제20조(연차휴가) 1년간 80% 이상 출근한 근로자에게 15일을 준다", "취업규칙"),
+                match("b", "제21조(경조휴가) 본인 결혼 시 5일의 휴가를 준다", "취업규칙"),
+                match("x", "제5조(일비) 출장 일비는 1일 5만원으로 한다", "출장여비지급규정"));
+        List<EmbeddingMatch<TextSegment>> secondary = List.of(
+                match("c", "경조금은 본인 결혼 시 50만원을 지급한다", "복리후생비규정"),
+                match("b", "제21조(경조휴가) 본인 결혼 시 5일의 휴가를 준다", "취업규칙"));
+
+        assertEquals(List.of("b", "a", "c"), ids(searchService.mergeCandidates(primary, secondary)));
+
+        // ID가 달라도 같은 규정의 같은 내용이면 상위 후보만 남김
+        List<EmbeddingMatch<TextSegment>> duplicate = List.of(
+                match("b-copy", "제21조(경조휴가) 본인 결혼 시 5일의 휴가를 준다", "취업규칙"),
+                match("c", "경조금은 본인 결혼 시 50만원을 지급한다", "복리후생비규정"));
+        assertEquals(List.of("b"), ids(searchService.mergeCandidates(primary.subList(1, 2), duplicate)));
+    }
+}
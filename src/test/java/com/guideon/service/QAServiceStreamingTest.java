@@ -0,0 +1,286 @@
+package com.guideon.service;
+
+import com.guideon.config.ConfigLoader;
+import com.guideon.model.ArticleReference;
+import com.guideon.model.DocumentMetadata;
+import com.guideon.model.QueryAnalysisResult;
+import com.guideon.model.RegulationReference;
+import com.guideon.model.RegulationSearchResult;
+import com.guideon.resilience.CircuitBreaker;
+import com.guideon.resilience.GuardedModels;
+import com.guideon.resilience.ModelBulkhead;
+import com.guideon.resilience.ModelCallGuard;
+import com.guideon.util.AnswerCache;
+import com.guideon.util.SemanticQuestionIndex;
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.StreamingResponseHandler;
+import dev.langchain4j.model.chat.StreamingChatLanguageModel;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * QAService 스트리밍 답변 테스트 클래스
+ * 이벤트 순서(분석 -> 근거 조항 -> 답변 조각 -> 완료/오류), 조항 직접 조회 경로, 취소 처리, 질문 임베딩 재사용 테스트 (API 키 불필요)
+ */
+@DisplayName("QAService 스트리밍 답변 테스트")
+class QAServiceStreamingTest {
+
+    private static final List<EmbeddingMatch<TextSegment>> CANDIDATES = List.of(new EmbeddingMatch<>(
+            0.9, "seg-1", null,
+            TextSegment.from("제21조(경조휴가) 본인 결혼 시 5일의 경조휴가를 준다.",
+                    Metadata.from(DocumentMetadata.REGULATION_TYPE, "취업규칙"))));
+
+    @TempDir
+    Path tempDir;
+
+    private ConfigLoader config;
+
+    // 원문 질문 임베딩 호출 수와 각 단계가 받은 질문 임베딩
+    private final AtomicInteger questionEmbeddings = new AtomicInteger();
+    private final List<float[]> retrievalEmbeddings = new CopyOnWriteArrayList<>();
+    private final List<float[]> analysisEmbeddings = new CopyOnWriteArrayList<>();
+
+    // 가짜 스트리밍 모델의 동작 (테스트마다 지정)
+    private final AtomicReference<StreamingChatLanguageModel> streamingModel = new AtomicReference<>();
+    private final AtomicInteger llmAnalyses = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        config = config(false);
+    }
+
+    private ConfigLoader config(boolean speculativeRetrieval) throws Exception {
+        Path configFile = tempDir.resolve("test.properties");
+        Files.writeString(configFile, String.join("\n",
+                "qa.speculative.retrieval.enabled=" + speculativeRetrieval,
+                "reranking.enabled=false"));
+        return new ConfigLoader(configFile.toString());
+    }
+
+    /**
+     * 수신한 이벤트를 기록하는 수신자 (QAController의 취소 처리와 같은 방식)
+     */
+    private static class RecordingHandler implements AnswerStreamHandler {
+        final List<String> events = new CopyOnWriteArrayList<>();
+        final CountDownLatch finished = new CountDownLatch(1);
+        final AtomicReference<QueryAnalysisResult> analysis = new AtomicReference<>();
+        final AtomicReference<RegulationSearchResult> result = new AtomicReference<>();
+        private final AtomicBoolean cancelled = new AtomicBoolean(false);
+        private final List<Runnable> cancelActions = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void onAnalysis(QueryAnalysisResult analysis) {
+            this.analysis.set(analysis);
+            events.add("analysis");
+        }
+
+        @Override
+        public void onReferences(List<RegulationReference> references) {
+            events.add("references");
+        }
+
+        @Override
+        public void onToken(String token) {
+            events.add("token:" + token);
+        }
+
+        @Override
+        public void onComplete(RegulationSearchResult result, double qualityScore, List<String> referencedArticles) {
+            this.result.set(result);
+            events.add("done");
+            finished.countDown();
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            events.add("error");
+            finished.countDown();
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled.get();
+        }
+
+        @Override
+        public void onCancel(Runnable action) {
+            cancelActions.add(action);
+            if (cancelled.get()) {
+                action.run();
+            }
+        }
+
+        void cancel() {
+            if (cancelled.compareAndSet(false, true)) {
+                cancelActions.forEach(Runnable::run);
+            }
+        }
+
+        void await() throws InterruptedException {
+            assertTrue(finished.await(5, TimeUnit.SECONDS), "완료/오류 이벤트가 와야 합니다: " + events);
+        }
+    }
+
+    private RegulationSearchService searchService(StreamingChatLanguageModel model) {
+        return new RegulationSearchService(config, null, null, model, null, null, null, null) {
+            @Override
+            public float[] embedQuery(String query) {
+                questionEmbeddings.incrementAndGet();
+                return new float[]{1f, 0f};
+            }
+
+            @Override
+            public List<EmbeddingMatch<TextSegment>> retrieveCandidates(String query, float[] queryEmbedding) {
+                retrievalEmbeddings.add(queryEmbedding);
+                return CANDIDATES;
+            }
+
+            @Override
+            public boolean searchByArticleStreaming(ArticleReference reference, QueryAnalysisResult analysis,
+                                                    AnswerStreamHandler handler) {
+                // 조항 색인 대신 고정 후보로 스트리밍 답변 생성
+                searchStreaming(analysis, CANDIDATES, handler);
+                return true;
+            }
+        };
+    }
+
+    private QAService qaService() {
+        QueryAnalysisService analysisService = new QueryAnalysisService("test-key") {
+            @Override
+            public QueryAnalysisResult analyzeQuery(String userQuery, float[] questionEmbedding) {
+                llmAnalyses.incrementAndGet();
+                if (questionEmbedding != null) {
+                    analysisEmbeddings.add(questionEmbedding);
+                }
+                return new QueryAnalysisResult(userQuery, List.of("경조휴가"), List.of("취업규칙"), "기준확인", "경조휴가");
+            }
+        };
+        StreamingChatLanguageModel model = (messages, handler) -> streamingModel.get().generate(messages, handler);
+        return new QAService(analysisService, searchService(model), new AnswerCache(0, 0),
+                new SemanticQuestionIndex(0, 0.9, 0), config);
+    }
+
+    private static StreamingChatLanguageModel answering(String... tokens) {
+        return (messages, handler) -> {
+            for (String token : tokens) {
+                handler.onNext(token);
+            }
+            handler.onComplete(Response.from(AiMessage.from(String.join("", tokens))));
+        };
+    }
+
+    @Test
+    @DisplayName("1. 일반 질문: 분석 -> 근거 조항 -> 답변 조각 -> 완료 순서로 전달")
+    void testEventOrder() throws Exception {
+        streamingModel.set(answering("본인 결혼 시 ", "5일입니다."));
+        RecordingHandler handler = new RecordingHandler();
+
+        qaService().askQuestionStreaming("경조휴가는 며칠인가요?", handler);
+        handler.await();
+
+        assertEquals(List.of("analysis", "references", "token:본인 결혼 시 ", "token:5일입니다.", "done"), handler.events);
+        assertEquals(1, llmAnalyses.get());
+        assertFalse(handler.result.get().isDegraded());
+    }
+
+    @Test
+    @DisplayName("2. 조항 번호 질문: 조회 성공 시 조항 분석 결과를 근거 조항 직전에 전달 (LLM 분석 생략)")
+    void testArticleLookupWithAnalysis() throws Exception {
+        streamingModel.set(answering("제21조에 따라 5일입니다."));
+        RecordingHandler handler = new RecordingHandler();
+
+        qaService().askQuestionStreaming("취업규칙 제21조 내용 알려줘", handler);
+        handler.await();
+
+        assertEquals(List.of("analysis", "references", "token:제21조에 따라 5일입니다.", "done"), handler.events);
+        assertEquals(0, llmAnalyses.get(), "조항 직접 조회는 LLM 분석을 호출하지 않아야 합니다");
+        assertTrue(handler.analysis.get().getKeywords().contains("제21조"));
+    }
+
+    @Test
+    @DisplayName("3. 답변 조각 전달 후 실패하면 오류 이벤트로 끝남, 조각 전 실패는 근거 조항만 안내")
+    void testErrorAfterTokens() throws Exception {
+        streamingModel.set((messages, handler) -> {
+            handler.onNext("본인 결혼 시 ");
+            handler.onError(new IllegalStateException("stream reset"));
+        });
+        RecordingHandler handler = new RecordingHandler();
+        qaService().askQuestionStreaming("경조휴가는 며칠인가요?", handler);
+        handler.await();
+        assertEquals(List.of("analysis", "references", "token:본인 결혼 시 ", "error"), handler.events);
+
+        streamingModel.set((messages, h) -> h.onError(new IllegalStateException("503 from provider")));
+        RecordingHandler degraded = new RecordingHandler();
+        qaService().askQuestionStreaming("경조휴가는 며칠인가요?", degraded);
+        degraded.await();
+        assertEquals(List.of("analysis", "references", "done"), degraded.events);
+        assertTrue(degraded.result.get().isDegraded());
+    }
+
+    @Test
+    @DisplayName("4. 취소되면 남은 조각을 전달하지 않고, 호출 자리는 공급자 응답이 끝날 때 반납 (실패로 세지 않음)")
+    void testCancelHoldsPermitUntilProviderCompletes() {
+        CircuitBreaker breaker = new CircuitBreaker("stream-test", true, 4, 1, 0.5, 0, 30_000);
+        ModelBulkhead bulkhead = new ModelBulkhead("stream-test", 1, 0, 100, 0.5, 1);
+        AtomicReference<StreamingResponseHandler<AiMessage>> provider = new AtomicReference<>();
+        StreamingChatLanguageModel guarded = GuardedModels.wrapStreamingChat(
+                (messages, handler) -> provider.set(handler),
+                ModelCallGuard.chain(breaker, bulkhead));
+
+        RecordingHandler handler = new RecordingHandler();
+        QueryAnalysisResult analysis =
+                new QueryAnalysisResult("경조휴가는 며칠인가요?", List.of("경조휴가"), List.of("취업규칙"), "기준확인", "경조휴가");
+        searchService(guarded).searchStreaming(analysis, CANDIDATES, handler);
+
+        provider.get().onNext("본인 결혼 시 ");
+        assertEquals(1, bulkhead.getStats().get("inUse"));
+
+        handler.cancel();
+        assertEquals(1, bulkhead.getStats().get("inUse"), "공급자가 아직 생성 중이므로 호출 자리를 유지해야 합니다");
+
+        // 공급자는 취소를 모르고 계속 응답
+        provider.get().onNext("5일입니다.");
+        assertEquals(1, bulkhead.getStats().get("inUse"));
+        provider.get().onComplete(Response.from(AiMessage.from("본인 결혼 시 5일입니다.")));
+        assertEquals(0, bulkhead.getStats().get("inUse"), "공급자 응답이 끝나면 호출 자리를 반납해야 합니다");
+
+        assertEquals(List.of("references", "token:본인 결혼 시 "), handler.events);
+        assertEquals(0L, breaker.getStats().get("failures"), "취소는 공급자 실패가 아닙니다");
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    @DisplayName("5. 원문 질문은 요청당 한 번만 임베딩하고 미리 시작하는 검색과 질문 분석이 함께 사용")
+    void testQuestionEmbeddedOnce() throws Exception {
+        config = config(true);
+        streamingModel.set(answering("5일입니다."));
+        RecordingHandler handler = new RecordingHandler();
+
+        qaService().askQuestionStreaming("경조휴가는 며칠인가요?", handler);
+        handler.await();
+
+        assertEquals("done", handler.events.get(handler.events.size() - 1));
+        assertEquals(1, questionEmbeddings.get());
+        assertEquals(1, retrievalEmbeddings.size(), "검색 쿼리가 원문과 비슷하면 미리 조회한 후보를 재사용");
+        assertSame(retrievalEmbeddings.get(0), analysisEmbeddings.get(0));
+    }
+}
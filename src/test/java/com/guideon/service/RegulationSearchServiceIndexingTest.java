@@ -0,0 +1,152 @@
+package com.guideon.service;
+
+import com.guideon.config.ConfigLoader;
+import com.guideon.model.DocumentMetadata;
+import dev.langchain4j.data.document.Document;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RegulationSearchService 인덱싱 테스트 클래스
+ * 같은 문서 재인덱싱 시 Vector Store / BM25 인덱스 교체, BM25 실패 전달 테스트 (API 키 불필요)
+ */
+@DisplayName("RegulationSearchService 인덱싱 테스트")
+class RegulationSearchServiceIndexingTest {
+
+    private static final String CONTENT = """
+            제20조(연차휴가) 1년간 80% 이상 출근한 근로자에게 15일의 유급휴가를 준다.
+
+            제21조(경조휴가) 본인 결혼 시 5일, 자녀 결혼 시 1일의 경조휴가를 준다.
+
+            제22조(병가) 업무 외 질병으로 인한 병가는 연 60일 이내로 한다.
+            """;
+
+    @TempDir
+    Path tempDir;
+
+    private ConfigLoader config;
+    private EmbeddingModel embeddingModel;
+    private BM25SearchService bm25SearchService;
+    private HybridSearchService hybridSearchService;
+    private RegulationSearchService service;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Path configFile = tempDir.resolve("test.properties");
+        Files.writeString(configFile, String.join("\n",
+                "hybrid.search.enabled=true",
+                "bm25.index.directory=" + tempDir.resolve("bm25-index").toString().replace("\\", "/"),
+                "bm25.commit.interval.ms=600000",
+                "rag.chunk.size=80",
+                "rag.chunk.overlap=0"));
+        config = new ConfigLoader(configFile.toString());
+
+        // 본문 길이 기반 가짜 임베딩 (외부 호출 없음)
+        embeddingModel = segments -> Response.from(segments.stream()
+                .map(segment -> Embedding.from(new float[]{segment.text().length(), 1f}))
+                .toList());
+
+        bm25SearchService = new BM25SearchService(config);
+        hybridSearchService = new HybridSearchService(bm25SearchService, null, null, config);
+        service = new RegulationSearchService(config, hybridSearchService,
+                null, null, embeddingModel, null, null, null);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        hybridSearchService.close();
+        bm25SearchService.close();
+    }
+
+    private int vectorCount() {
+        return service.getEmbeddingStore().search(EmbeddingSearchRequest.builder()
+                .queryEmbedding(Embedding.from(new float[]{1f, 1f}))
+                .maxResults(1000)
+                .minScore(0.0)
+                .build()).matches().size();
+    }
+
+    private static Document document(String content, String documentId) {
+        Document document = Document.from(content);
+        if (documentId != null) {
+            document.metadata().put(DocumentMetadata.DOCUMENT_ID, documentId);
+        }
+        return document;
+    }
+
+    @Test
+    @DisplayName("1. 같은 문서를 두 번 인덱싱해도 벡터/BM25 문서 수가 그대로 유지")
+    void testReindexReplacesSegments() throws Exception {
+        service.indexDocument(document(CONTENT, "doc-1"), "취업규칙");
+        int vectors = vectorCount();
+        int bm25Documents = bm25SearchService.getDocumentCount();
+        assertTrue(vectors > 1, "테스트 문서는 여러 세그먼트로 나뉘어야 합니다");
+        assertEquals(vectors, bm25Documents);
+
+        service.indexDocument(document(CONTENT, "doc-1"), "취업규칙");
+
+        assertEquals(vectors, vectorCount(), "재인덱싱 시 벡터가 중복 추가되면 안 됩니다");
+        assertEquals(bm25Documents, bm25SearchService.getDocumentCount(), "재인덱싱 시 BM25 문서가 중복 추가되면 안 됩니다");
+    }
+
+    @Test
+    @DisplayName("2. 재인덱싱한 문서가 짧아지면 남는 세그먼트도 제거, 다른 문서는 유지")
+    void testReindexShorterDocument() throws Exception {
+        service.indexDocument(document(CONTENT, "doc-1"), "취업규칙");
+        service.indexDocument(document("제5조(출장비) 일비는 1일 5만원으로 한다.", "doc-2"), "출장여비지급규정");
+
+        service.indexDocument(document("제20조(연차휴가) 15일의 유급휴가를 준다.", "doc-1"), "취업규칙");
+
+        assertEquals(2, vectorCount());
+        assertEquals(2, bm25SearchService.getDocumentCount());
+    }
+
+    @Test
+    @DisplayName("3. 문서 ID가 없으면 규정 유형과 본문으로 같은 ID를 만들어 교체")
+    void testReindexWithoutDocumentId() throws Exception {
+        service.indexDocument(document(CONTENT, null), "취업규칙");
+        int vectors = vectorCount();
+
+        service.indexDocument(document(CONTENT, null), "취업규칙");
+
+        assertEquals(vectors, vectorCount());
+        assertEquals(vectors, bm25SearchService.getDocumentCount());
+    }
+
+    @Test
+    @DisplayName("4. BM25 인덱싱에 실패하면 호출한 쪽으로 예외 전달")
+    void testBm25FailurePropagates() throws Exception {
+        BM25SearchService failing = new BM25SearchService(config, tempDir.resolve("failing-index").toString()) {
+            @Override
+            public long replaceDocumentSegments(String documentId, List<TextSegment> segments, String regulationType,
+                                                List<String> segmentIds) throws IOException {
+                throw new IOException("disk full");
+            }
+        };
+        HybridSearchService failingHybrid = new HybridSearchService(failing, null, null, config);
+        RegulationSearchService failingService = new RegulationSearchService(config, failingHybrid,
+                null, null, embeddingModel, null, null, null);
+        try {
+            RuntimeException e = assertThrows(RuntimeException.class,
+                    () -> failingService.indexDocument(document(CONTENT, "doc-1"), "취업규칙"));
+            assertTrue(e.getCause() instanceof IOException, String.valueOf(e.getCause()));
+        } finally {
+            failingHybrid.close();
+        }
+    }
+}
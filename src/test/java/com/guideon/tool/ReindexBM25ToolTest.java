@@ -0,0 +1,125 @@
+package com.guideon.tool;
+
+import com.guideon.config.ConfigLoader;
+import com.guideon.service.BM25SearchService;
+import dev.langchain4j.data.segment.TextSegment;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ReindexBM25Tool 테스트 클래스
+ * 체크포인트 이어서 빌드, 남은 체크포인트 무시, 인덱스 교체 테스트 (API 키 불필요)
+ */
+@DisplayName("ReindexBM25Tool 테스트")
+class ReindexBM25ToolTest {
+
+    private static final String[] TEXTS = {
+            "제20조(연차휴가) 1년간 80% 이상 출근한 근로자에게 15일의 유급휴가를 준다.",
+            "제21조(경조휴가) 본인 결혼 시 5일의 경조휴가를 준다.",
+            "제22조(병가) 업무 외 질병으로 인한 병가는 연 60일 이내로 한다.",
+            "제5조(일비) 출장 일비는 1일 5만원으로 한다."
+    };
+
+    @TempDir
+    Path tempDir;
+
+    private ConfigLoader config;
+    private Path storePath;
+    private Path livePath;
+    private Path buildPath;
+    private Path checkpointPath;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Path configFile = tempDir.resolve("test.properties");
+        Files.writeString(configFile, "bm25.commit.interval.ms=600000");
+        config = new ConfigLoader(configFile.toString());
+
+        livePath = tempDir.resolve("bm25-index");
+        buildPath = Paths.get(livePath + ".rebuild");
+        checkpointPath = Paths.get(livePath + ".rebuild.checkpoint");
+
+        // embedding_store.json 형식 (임베딩 벡터는 도구가 건너뜀)
+        List<String> entries = new ArrayList<>();
+        for (int i = 0; i < TEXTS.length; i++) {
+            entries.add(String.format(
+                    "{\"id\":\"seg-%d\",\"embedding\":{\"vector\":[0.1,0.2]},"
+                            + "\"embedded\":{\"text\":\"%s\",\"metadata\":{\"metadata\":{\"regulation_type\":\"취업규칙\"}}}}",
+                    i, TEXTS[i]));
+        }
+        storePath = tempDir.resolve("embedding_store.json");
+        Files.writeString(storePath, "{\"entries\":[" + String.join(",", entries) + "]}");
+    }
+
+    private int documentCount(Path indexPath) throws Exception {
+        BM25SearchService service = new BM25SearchService(config, indexPath.toString());
+        try {
+            return service.getDocumentCount();
+        } finally {
+            service.close();
+        }
+    }
+
+    private void assertSwapped() {
+        assertFalse(Files.exists(buildPath), "빌드 디렉토리는 교체 후 남지 않아야 합니다");
+        assertFalse(Files.exists(checkpointPath), "체크포인트는 교체 후 남지 않아야 합니다");
+        assertFalse(Files.exists(Paths.get(livePath + BM25SearchService.PREVIOUS_INDEX_SUFFIX)));
+    }
+
+    @Test
+    @DisplayName("1. 빌드한 인덱스로 기존 인덱스를 교체 (기존 문서는 남지 않음)")
+    void testRebuildAndSwap() throws Exception {
+        BM25SearchService live = new BM25SearchService(config, livePath.toString());
+        live.indexSegment(TextSegment.from("삭제된 규정의 조항"), "폐지규정", "stale-1");
+        live.commit();
+        live.close();
+
+        ReindexBM25Tool.RebuildStats stats = ReindexBM25Tool.reindex(storePath, livePath, config, 2, 2, false);
+
+        assertEquals(TEXTS.length, stats.indexed);
+        assertEquals(0, stats.errors);
+        assertEquals(TEXTS.length, documentCount(livePath));
+        assertSwapped();
+    }
+
+    @Test
+    @DisplayName("2. 체크포인트가 있으면 빌드된 항목은 건너뛰고 이어서 빌드")
+    void testResumeFromCheckpoint() throws Exception {
+        BM25SearchService partial = new BM25SearchService(config, buildPath.toString());
+        partial.indexSegment(TextSegment.from(TEXTS[0]), "취업규칙", "seg-0");
+        partial.indexSegment(TextSegment.from(TEXTS[1]), "취업규칙", "seg-1");
+        partial.commit();
+        partial.close();
+        Files.writeString(checkpointPath, "2");
+
+        ReindexBM25Tool.RebuildStats stats = ReindexBM25Tool.reindex(storePath, livePath, config, 2, 2, false);
+
+        assertEquals(2, stats.skipped);
+        assertEquals(TEXTS.length - 2, stats.indexed);
+        assertEquals(TEXTS.length, documentCount(livePath));
+        assertSwapped();
+    }
+
+    @Test
+    @DisplayName("3. 빌드 결과 없이 체크포인트만 남아 있으면 무시하고 처음부터 빌드 (빈 인덱스로 교체하지 않음)")
+    void testStaleCheckpointIgnored() throws Exception {
+        Files.writeString(checkpointPath, Integer.toString(TEXTS.length));
+
+        ReindexBM25Tool.RebuildStats stats = ReindexBM25Tool.reindex(storePath, livePath, config, 2, 2, false);
+
+        assertEquals(0, stats.skipped);
+        assertEquals(TEXTS.length, stats.indexed);
+        assertEquals(TEXTS.length, documentCount(livePath));
+        assertSwapped();
+    }
+}
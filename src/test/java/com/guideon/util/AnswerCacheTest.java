@@ -0,0 +1,65 @@
+package com.guideon.util;
+
+import com.guideon.dto.QuestionAnswerDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AnswerCache 테스트 클래스
+ * 규정 유형별 선택적 무효화와 세대 검사 동작 테스트 (API 키 불필요)
+ */
+@DisplayName("AnswerCache 테스트")
+class AnswerCacheTest {
+
+    private static QuestionAnswerDTO answer(String text) {
+        return new QuestionAnswerDTO(text, null, List.of(), 0.8);
+    }
+
+    @Test
+    @DisplayName("1. 문서 변경 시 해당 규정 유형을 참조한 답변만 제거")
+    void testSelectiveInvalidation() {
+        AnswerCache cache = new AnswerCache(10, 0);
+        long generation = cache.currentGeneration();
+        cache.put("경조휴가는 며칠인가요?", answer("5일"), Set.of("취업규칙"), generation);
+        cache.put("출장비 한도는?", answer("10만원"), Set.of("출장여비규정"), generation);
+        cache.put("규정이 없는 질문", answer("모름"), Set.of(), generation);
+
+        assertEquals(2, cache.invalidate("취업규칙"), "취업규칙 답변과 규정 유형을 모르는 답변이 제거되어야 합니다");
+
+        assertNull(cache.get("경조휴가는 며칠인가요?"));
+        assertNull(cache.get("규정이 없는 질문"));
+        assertEquals("10만원", cache.get("출장비 한도는").getAnswer(), "다른 규정 답변은 새 세대에서도 적중해야 합니다");
+    }
+
+    @Test
+    @DisplayName("2. 답변 생성 도중 세대가 바뀌면 저장하지 않음")
+    void testStaleGenerationNotStored() {
+        AnswerCache cache = new AnswerCache(10, 0);
+        long generation = cache.currentGeneration();
+
+        cache.invalidate("출장여비규정");
+        cache.put("경조휴가는 며칠인가요?", answer("5일"), Set.of("취업규칙"), generation);
+
+        assertNull(cache.get("경조휴가는 며칠인가요?"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("3. 전체 비우기와 TTL 만료")
+    void testClearAndExpiry() throws InterruptedException {
+        AnswerCache cache = new AnswerCache(10, 0);
+        cache.put("출장비 한도는?", answer("10만원"), Set.of("출장여비규정"), cache.currentGeneration());
+        assertEquals(1, cache.clear());
+        assertNull(cache.get("출장비 한도는?"));
+
+        AnswerCache expiring = new AnswerCache(10, 1);
+        expiring.put("출장비 한도는?", answer("10만원"), Set.of("출장여비규정"), expiring.currentGeneration());
+        Thread.sleep(5);
+        assertNull(expiring.get("출장비 한도는?"));
+    }
+}
@@ -0,0 +1,77 @@
+package com.guideon.util;
+
+import com.guideon.model.DocumentMetadata;
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CandidateDeduplicator 테스트 클래스
+ * 겹치는 인접 세그먼트 병합 및 중복 후보 제거 테스트 (API 키 불필요)
+ */
+@DisplayName("CandidateDeduplicator 테스트")
+class CandidateDeduplicatorTest {
+
+    private final CandidateDeduplicator deduplicator = new CandidateDeduplicator(0.8, 1200);
+
+    @Test
+    @DisplayName("1. 청크 overlap으로 겹치는 인접 세그먼트는 하나로 이어 붙임")
+    void testStitchOverlappingSegments() {
+        String first = "제23조(연차휴가) 1. 1년간 80% 이상 출근한 직원에게 15일의 유급휴가를 부여한다.";
+        String second = "1년간 80% 이상 출근한 직원에게 15일의 유급휴가를 부여한다. 2. 연차휴가는 1년간 사용하지 않으면 소멸한다.";
+
+        List<EmbeddingMatch<TextSegment>> results = deduplicator.deduplicate(List.of(
+                match("seg-2", second, 0.9, "취업규칙", "제23조"),
+                match("seg-1", first, 0.7, "취업규칙", "제23조")));
+
+        assertEquals(1, results.size());
+        EmbeddingMatch<TextSegment> merged = results.get(0);
+        assertEquals(first + " 2. 연차휴가는 1년간 사용하지 않으면 소멸한다.", merged.embedded().text());
+        assertEquals("제23조", merged.embedded().metadata().getString(DocumentMetadata.ARTICLE_NUMBERS));
+        assertEquals("seg-2+seg-1", merged.embeddingId());
+        assertEquals(0.9, merged.score(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("2. 거의 같은 세그먼트는 하위 순위를 제거하고, 다른 규정은 유지")
+    void testDropNearDuplicates() {
+        String text = "제10조(출장비) 국내 출장 시 일비는 1일 5만원, 숙박비는 실비로 지급한다.";
+
+        List<EmbeddingMatch<TextSegment>> results = deduplicator.deduplicate(List.of(
+                match("seg-1", text, 0.9, "출장여비규정", null),
+                match("seg-2", text.replace("5만원", "5만 원"), 0.8, "출장여비규정", null),
+                match("seg-3", text, 0.7, "경비지급규정", null),
+                match("seg-4", "제11조(법인카드) 법인카드는 업무 용도로만 사용한다.", 0.6, "출장여비규정", null)));
+
+        assertEquals(List.of("seg-1", "seg-3", "seg-4"),
+                results.stream().map(EmbeddingMatch::embeddingId).toList());
+    }
+
+    @Test
+    @DisplayName("3. 병합 결과가 최대 길이를 넘으면 병합하지 않음")
+    void testMergeLengthLimit() {
+        CandidateDeduplicator noMerge = new CandidateDeduplicator(0.8, 60);
+        String first = "제23조(연차휴가) 1. 1년간 80% 이상 출근한 직원에게 15일의 유급휴가를 부여한다.";
+        String second = "1년간 80% 이상 출근한 직원에게 15일의 유급휴가를 부여한다. 2. 연차휴가는 1년간 사용하지 않으면 소멸한다.";
+
+        assertEquals(2, noMerge.deduplicate(List.of(
+                match("seg-1", first, 0.9, "취업규칙", null),
+                match("seg-2", second, 0.8, "취업규칙", null))).size());
+    }
+
+    private EmbeddingMatch<TextSegment> match(String id, String text, double score,
+                                              String regulationType, String articleNumbers) {
+        Metadata metadata = new Metadata();
+        metadata.put(DocumentMetadata.REGULATION_TYPE, regulationType);
+        if (articleNumbers != null) {
+            metadata.put(DocumentMetadata.ARTICLE_NUMBERS, articleNumbers);
+        }
+        return new EmbeddingMatch<>(score, id, null, TextSegment.from(text, metadata));
+    }
+}
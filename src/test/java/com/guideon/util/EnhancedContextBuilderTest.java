@@ -0,0 +1,89 @@
+package com.guideon.util;
+
+import com.guideon.model.QueryAnalysisResult;
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * EnhancedContextBuilder 토큰 예산 조립 테스트 클래스
+ * 한국어 토큰 추정, 예산 준수, 저관련 세그먼트 요약 동작 테스트 (API 키 불필요)
+ */
+@DisplayName("EnhancedContextBuilder 토큰 예산 테스트")
+class EnhancedContextBuilderTest {
+
+    private static EmbeddingMatch<TextSegment> match(String id, double score, String text) {
+        Metadata metadata = new Metadata();
+        metadata.put("regulation_type", "취업규칙");
+        return new EmbeddingMatch<>(score, id, null, TextSegment.from(text, metadata));
+    }
+
+    private static String repeat(String sentence, int times) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < times; i++) {
+            text.append(sentence).append(' ');
+        }
+        return text.toString().trim();
+    }
+
+    @Test
+    @DisplayName("1. 한국어 토큰 추정 (한글 1.5음절당 1토큰, 영문/숫자 4글자당 1토큰)")
+    void testTokenEstimate() {
+        assertEquals(0, KoreanTokenEstimator.estimate(""));
+        assertEquals(2, KoreanTokenEstimator.estimate("경조사"));
+        assertEquals(6, KoreanTokenEstimator.estimate("경조휴가 5일."), "한글 5음절 4토큰 + 숫자 1토큰 + 마침표 1토큰");
+        assertEquals(2, KoreanTokenEstimator.estimate("Guideon"));
+    }
+
+    @Test
+    @DisplayName("2. 예산을 넘지 않고 관련도가 높은 세그먼트부터 채움")
+    void testBudgetRespected() {
+        List<EmbeddingMatch<TextSegment>> segments = List.of(
+                match("a", 0.9, repeat("직원은 본인 결혼 시 경조휴가 5일을 받는다.", 20)),
+                match("b", 0.8, repeat("출장 여비는 실비로 정산한다.", 20)),
+                match("c", 0.7, repeat("연차휴가는 다음 해로 이월할 수 없다.", 20)));
+
+        int budget = 400;
+        EnhancedContextBuilder.BudgetedContext context =
+                EnhancedContextBuilder.buildBudgetedContext(segments, null, budget);
+
+        assertTrue(context.tokens() <= budget, "추정 토큰 수가 예산 이하여야 합니다: " + context.tokens());
+        assertTrue(context.context().startsWith("=== 검색된 규정 내용 ===\n\n[검색 결과 1] (관련도: 0.90"));
+        assertEquals(segments.size(), context.included() + context.dropped());
+
+        EnhancedContextBuilder.BudgetedContext unlimited =
+                EnhancedContextBuilder.buildBudgetedContext(segments, null, 0);
+        assertEquals(3, unlimited.included());
+        assertTrue(unlimited.tokens() > budget);
+    }
+
+    @Test
+    @DisplayName("3. 관련도가 낮은 세그먼트는 질문 키워드가 있는 문장만 남김")
+    void testLowValueCondensed() {
+        QueryAnalysisResult analysis = new QueryAnalysisResult(
+                "경조휴가 며칠?", List.of("경조휴가"), List.of("취업규칙"), "기준확인", "경조휴가 일수");
+        String lowValueText = "휴가의 종류는 다음과 같다.\n"
+                + "연차휴가는 근속 연수에 따라 부여한다.\n"
+                + "경조휴가는 본인 결혼 시 5일로 한다.\n"
+                + "병가는 연 60일 이내로 한다.";
+
+        List<EmbeddingMatch<TextSegment>> segments = List.of(
+                match("a", 0.9, "직원은 본인 결혼 시 경조휴가 5일을 받는다."),
+                match("b", 0.3, lowValueText));
+
+        EnhancedContextBuilder.BudgetedContext context =
+                EnhancedContextBuilder.buildBudgetedContext(segments, analysis, 2000);
+
+        assertEquals(2, context.included());
+        assertEquals(1, context.trimmed());
+        assertTrue(context.context().contains("경조휴가는 본인 결혼 시 5일로 한다."));
+        assertFalse(context.context().contains("병가는 연 60일"), "키워드가 없는 문장은 제외되어야 합니다");
+        assertTrue(context.context().contains("…(중략)"));
+    }
+}
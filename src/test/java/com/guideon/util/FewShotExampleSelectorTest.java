@@ -0,0 +1,121 @@
+package com.guideon.util;
+
+import com.guideon.util.prompt.FewShotExampleSelector;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.output.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * FewShotExampleSelector 테스트 클래스
+ * 질문과 비슷한 예제 선택, 토큰 예산에 따른 예제 수 조절, 임베딩 실패 시 고정 예제 대체 테스트 (API 키 불필요)
+ */
+@DisplayName("FewShotExampleSelector 테스트")
+class FewShotExampleSelectorTest {
+
+    private static final Pattern EXAMPLE_HEADER = Pattern.compile("예제 \\d+:");
+
+    /**
+     * 문자 bigram을 해시해 만든 임베딩 (겹치는 글자가 많을수록 유사도가 높음)
+     */
+    private static class BigramEmbeddingModel implements EmbeddingModel {
+        @Override
+        public Response<List<Embedding>> embedAll(List<TextSegment> segments) {
+            List<Embedding> embeddings = new ArrayList<>();
+            for (TextSegment segment : segments) {
+                String text = segment.text().replaceAll("\\s+", "");
+                float[] vector = new float[256];
+                for (int i = 0; i + 1 < text.length(); i++) {
+                    vector[Math.floorMod(text.substring(i, i + 2).hashCode(), vector.length)] += 1.0f;
+                }
+                embeddings.add(Embedding.from(vector));
+            }
+            return Response.from(embeddings);
+        }
+    }
+
+    private static int countExamples(String block) {
+        Matcher matcher = EXAMPLE_HEADER.matcher(block);
+        int count = 0;
+        while (matcher.find()) {
+            count++;
+        }
+        return count;
+    }
+
+    @Test
+    @DisplayName("1. 질문과 가장 비슷한 예제가 첫 번째로 선택됨")
+    void testMostSimilarFirst() {
+        FewShotExampleSelector selector = new FewShotExampleSelector(new BigramEmbeddingModel(), 2, 3, 10_000);
+        assertTrue(selector.initialize() > 0);
+        assertTrue(selector.isReady());
+
+        String block = selector.selectQueryAnalysisExamples("출장비 신청 방법 알려줘");
+        assertNotNull(block);
+        assertEquals(3, countExamples(block), "예산이 충분하면 최대 예제 수까지 선택해야 합니다");
+        assertTrue(block.contains("예제 1:\n질문: \"출장비 신청은 어떻게 하나요?\""), block);
+
+        String answerBlock = selector.selectAnswerGenerationExamples("기준확인", "연차휴가 일수가 궁금해요");
+        assertNotNull(answerBlock);
+        assertTrue(answerBlock.contains("예제 1:\n질문: 연차휴가 일수는 얼마인가요?"), answerBlock);
+    }
+
+    @Test
+    @DisplayName("2. 토큰 예산이 작으면 최소 예제 수만 선택")
+    void testTokenBudget() {
+        FewShotExampleSelector tight = new FewShotExampleSelector(new BigramEmbeddingModel(), 2, 7, 1);
+        tight.initialize();
+        assertEquals(2, countExamples(tight.selectQueryAnalysisExamples("출장비 신청 방법")));
+
+        FewShotExampleSelector generous = new FewShotExampleSelector(new BigramEmbeddingModel(), 2, 7, 10_000);
+        generous.initialize();
+        assertEquals(7, countExamples(generous.selectQueryAnalysisExamples("출장비 신청 방법")));
+    }
+
+    @Test
+    @DisplayName("3. 임베딩에 실패하거나 예제가 없는 의도는 null 반환 (고정 예제 사용)")
+    void testFallback() {
+        EmbeddingModel failing = segments -> {
+            throw new IllegalStateException("embedding unavailable");
+        };
+        FewShotExampleSelector selector = new FewShotExampleSelector(failing, 2, 7, 600);
+        assertEquals(0, selector.initialize());
+        assertFalse(selector.isReady());
+        assertNull(selector.selectQueryAnalysisExamples("출장비 신청 방법"));
+
+        FewShotExampleSelector ready = new FewShotExampleSelector(new BigramEmbeddingModel(), 2, 7, 600);
+        ready.initialize();
+        assertNull(ready.selectAnswerGenerationExamples("알 수 없는 의도", "출장비 신청 방법"));
+    }
+
+    @Test
+    @DisplayName("4. 이미 계산한 질문 임베딩을 받으면 질문을 다시 임베딩하지 않고 답변 생성 선택에도 재사용")
+    void testPrecomputedEmbedding() {
+        BigramEmbeddingModel bigram = new BigramEmbeddingModel();
+        List<String> embedded = new ArrayList<>();
+        EmbeddingModel recording = segments -> {
+            segments.forEach(segment -> embedded.add(segment.text()));
+            return bigram.embedAll(segments);
+        };
+        FewShotExampleSelector selector = new FewShotExampleSelector(recording, 2, 3, 10_000);
+        selector.initialize();
+        embedded.clear();
+
+        String question = "연차휴가 일수가 궁금해요";
+        float[] questionEmbedding = bigram.embed(question).content().vector();
+
+        assertNotNull(selector.selectQueryAnalysisExamples(question, questionEmbedding));
+        String answerBlock = selector.selectAnswerGenerationExamples("기준확인", question);
+        assertTrue(answerBlock.contains("예제 1:\n질문: 연차휴가 일수는 얼마인가요?"), answerBlock);
+        assertTrue(embedded.isEmpty(), "질문 임베딩을 다시 요청하면 안 됩니다: " + embedded);
+    }
+}
@@ -0,0 +1,57 @@
+package com.guideon.util;
+
+import com.guideon.model.QueryAnalysisResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PromptTemplate 테스트 클래스
+ * 미리 만든 프롬프트 앞부분 재사용, 설정 변경 시 재생성 동작 테스트 (API 키 불필요)
+ */
+@DisplayName("PromptTemplate 테스트")
+class PromptTemplateTest {
+
+    private static QueryAnalysisResult analysis(String intent) {
+        return new QueryAnalysisResult("경조휴가 며칠?", List.of("경조휴가"), List.of("취업규칙"), intent, "경조휴가 일수");
+    }
+
+    @Test
+    @DisplayName("1. 같은 의도의 프롬프트는 같은 앞부분을 공유하고 규정 내용/질문만 뒤에 붙음")
+    void testSharedPrefix() {
+        String first = PromptTemplate.buildPrompt("경조휴가 며칠?", "[검색 결과 1] 경조휴가 5일", analysis("기준확인"));
+        String second = PromptTemplate.buildPrompt("연차는 며칠?", "[검색 결과 1] 연차 15일", analysis("기준확인"));
+
+        String prefix = PromptTemplate.getPromptPrefix("기준확인");
+        assertSame(prefix, PromptTemplate.getPromptPrefix("기준확인"), "앞부분은 요청마다 다시 만들지 않아야 합니다");
+        assertTrue(first.startsWith(prefix));
+        assertTrue(second.startsWith(prefix));
+        assertTrue(prefix.contains("[기준확인 답변 가이드]"));
+        assertTrue(first.endsWith("[검색된 규정 내용]\n[검색 결과 1] 경조휴가 5일\n\n[질문]\n경조휴가 며칠?\n\n답변:\n"));
+    }
+
+    @Test
+    @DisplayName("2. 목록에 없는 의도는 기본 앞부분 사용")
+    void testUnknownIntent() {
+        assertSame(PromptTemplate.getPromptPrefix("일반질문"), PromptTemplate.getPromptPrefix("알 수 없는 의도"));
+        assertTrue(PromptTemplate.buildPrompt("질문", "내용", null).startsWith(PromptTemplate.getPromptPrefix("일반질문")));
+    }
+
+    @Test
+    @DisplayName("3. Few-shot 설정을 바꾸면 앞부분을 다시 생성")
+    void testRecompileOnConfigChange() {
+        String withExamples = PromptTemplate.getPromptPrefix("절차설명");
+        try {
+            PromptTemplate.setUseFewShotExamples(false);
+            String withoutExamples = PromptTemplate.getPromptPrefix("절차설명");
+            assertNotEquals(withExamples, withoutExamples);
+            assertFalse(withoutExamples.contains("[Few-shot 예제]"));
+        } finally {
+            PromptTemplate.setUseFewShotExamples(true);
+        }
+        assertEquals(withExamples, PromptTemplate.getPromptPrefix("절차설명"));
+    }
+}
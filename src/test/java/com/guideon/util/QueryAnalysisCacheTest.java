@@ -0,0 +1,76 @@
+package com.guideon.util;
+
+import com.guideon.model.QueryAnalysisResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * QueryAnalysisCache 테스트 클래스
+ * 질문 정규화, TTL 만료, 파일 저장/적재 동작 테스트 (API 키 불필요)
+ */
+@DisplayName("QueryAnalysisCache 테스트")
+class QueryAnalysisCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static QueryAnalysisResult analysis(String query) {
+        return new QueryAnalysisResult(query, List.of("경조휴가", "일수"), List.of("취업규칙"), "기준확인", "경조휴가 일수");
+    }
+
+    @Test
+    @DisplayName("1. 공백/대소문자/물음표만 다른 질문은 같은 항목으로 적중")
+    void testNormalizedHit() {
+        QueryAnalysisCache cache = new QueryAnalysisCache(10, 0, null);
+        cache.put("경조휴가는 며칠인가요?", analysis("경조휴가는 며칠인가요?"));
+
+        QueryAnalysisResult hit = cache.get("  경조휴가는   며칠인가요 ");
+        assertNotNull(hit);
+        assertEquals("  경조휴가는   며칠인가요 ", hit.getOriginalQuery(), "원본 질문은 이번 질문으로 설정되어야 합니다");
+        assertEquals("경조휴가 일수", hit.getSearchQuery());
+
+        // 반환된 사본을 수정해도 캐시 항목은 그대로
+        hit.getKeywords().clear();
+        assertEquals(2, cache.get("경조휴가는 며칠인가요?").getKeywords().size());
+
+        assertNull(cache.get("연차휴가는 며칠인가요?"));
+        assertEquals(2, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    @DisplayName("2. 유효 시간이 지난 항목은 조회되지 않음")
+    void testTtlExpiry() throws Exception {
+        QueryAnalysisCache cache = new QueryAnalysisCache(10, 50, null);
+        cache.put("출장 일비는 얼마인가요?", analysis("출장 일비는 얼마인가요?"));
+        assertNotNull(cache.get("출장 일비는 얼마인가요?"));
+
+        Thread.sleep(100);
+        assertNull(cache.get("출장 일비는 얼마인가요?"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("3. 저장 파일로 재시작 후에도 항목 유지")
+    void testPersistence() {
+        Path file = tempDir.resolve("cache/query-analysis-cache.json");
+
+        QueryAnalysisCache cache = new QueryAnalysisCache(10, 0, file);
+        cache.put("경조휴가는 며칠인가요?", analysis("경조휴가는 며칠인가요?"));
+        cache.save();
+
+        QueryAnalysisCache restarted = new QueryAnalysisCache(10, 0, file);
+        assertEquals(1, restarted.load());
+
+        QueryAnalysisResult hit = restarted.get("경조휴가는 며칠인가요?");
+        assertNotNull(hit);
+        assertEquals(List.of("취업규칙"), hit.getRegulationTypes());
+        assertEquals("기준확인", hit.getIntent());
+    }
+}
@@ -0,0 +1,58 @@
+package com.guideon.util;
+
+import com.guideon.model.RegulationReference;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ReferencesOnlyAnswer 테스트 클래스
+ * 답변 생성 모델 장애 시 근거 조항만으로 만드는 대체 답변 형식 테스트 (API 키 불필요)
+ */
+@DisplayName("ReferencesOnlyAnswer 테스트")
+class ReferencesOnlyAnswerTest {
+
+    @Test
+    @DisplayName("1. 근거 조항을 순위대로 규정명/조항 제목과 원문으로 안내")
+    void testBuild() {
+        List<RegulationReference> references = List.of(
+                new RegulationReference("취업규칙",
+                        "N/A",
+                        "제32조(연차휴가) 연차휴가는 근속년수에 따라 부여하며, 제10조에 따라 산정합니다.",
+                        0, 0.92),
+                new RegulationReference("복리후생비규정",
+                        "N/A",
+                        "경조휴가는 본인 결혼 시 5일을 부여합니다.",
+                        0, 0.81));
+
+        String answer = ReferencesOnlyAnswer.build(references);
+
+        assertTrue(answer.startsWith(ReferencesOnlyAnswer.NOTICE));
+        assertTrue(answer.contains("[근거 1] 취업규칙 제32조\n제32조(연차휴가) 연차휴가는"), answer);
+        assertFalse(answer.contains("제32조, 제10조"), "본문 중의 조항 인용은 제목으로 보지 않아야 합니다");
+        assertTrue(answer.contains("[근거 2] 복리후생비규정\n경조휴가는 본인 결혼 시 5일을 부여합니다."), answer);
+        assertTrue(answer.indexOf("[근거 1]") < answer.indexOf("[근거 2]"));
+    }
+
+    @Test
+    @DisplayName("2. 긴 원문은 잘라서 표시, 조항 번호가 지정된 참조는 그 번호 사용")
+    void testExcerptAndArticleNumber() {
+        String longContent = "가".repeat(500);
+        RegulationReference reference = new RegulationReference("출장여비지급규정", "제5조", longContent, 0, 0.9);
+
+        String answer = ReferencesOnlyAnswer.build(List.of(reference));
+
+        assertTrue(answer.contains("[근거 1] 출장여비지급규정 제5조\n"), answer);
+        assertTrue(answer.endsWith("…"));
+        assertTrue(answer.length() < ReferencesOnlyAnswer.NOTICE.length() + 400);
+    }
+
+    @Test
+    @DisplayName("3. 근거 조항이 없으면 안내 문구만 반환")
+    void testEmpty() {
+        assertEquals(ReferencesOnlyAnswer.NOTICE, ReferencesOnlyAnswer.build(List.of()));
+    }
+}
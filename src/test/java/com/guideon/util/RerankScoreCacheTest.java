@@ -0,0 +1,66 @@
+package com.guideon.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RerankScoreCache 테스트 클래스
+ * 쿼리 정규화, 적중/미스 통계, 인덱스 세대 무효화, LRU 크기 제한 테스트 (API 키 불필요)
+ */
+@DisplayName("RerankScoreCache 테스트")
+class RerankScoreCacheTest {
+
+    @Test
+    @DisplayName("1. 공백/대소문자만 다른 쿼리는 같은 캐시 항목을 사용하고 적중/미스를 통계에 반영")
+    void testNormalizedQueryHit() {
+        RerankScoreCache cache = new RerankScoreCache(100);
+        long generation = cache.currentGeneration();
+
+        cache.put(RerankScoreCache.queryHash("연차휴가  며칠 AI"), "seg-1", generation, 0.9);
+
+        assertEquals(Double.valueOf(0.9), cache.get(RerankScoreCache.queryHash(" 연차휴가 며칠 ai "), "seg-1", generation));
+        assertNull(cache.get(RerankScoreCache.queryHash("경조휴가 며칠"), "seg-1", generation));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1L, cache.getStats().get("hits"));
+        assertEquals(1L, cache.getStats().get("misses"));
+        assertEquals(0.5, (double) cache.getStats().get("hitRate"), 1e-9);
+    }
+
+    @Test
+    @DisplayName("2. 인덱스 세대가 바뀌면 이전 점수를 사용하지 않고, 채점 중 바뀐 점수는 저장하지 않음")
+    void testGenerationInvalidation() {
+        RerankScoreCache cache = new RerankScoreCache(100);
+        long queryHash = RerankScoreCache.queryHash("출장비");
+        long oldGeneration = cache.currentGeneration();
+
+        cache.put(queryHash, "seg-1", oldGeneration, 0.7);
+        long newGeneration = cache.nextGeneration();
+
+        assertNull(cache.get(queryHash, "seg-1", newGeneration));
+
+        cache.put(queryHash, "seg-2", oldGeneration, 0.5);
+        assertNull(cache.get(queryHash, "seg-2", oldGeneration), "이전 세대로 채점한 점수는 저장되지 않아야 합니다");
+    }
+
+    @Test
+    @DisplayName("3. 최대 크기를 넘으면 오래된 항목부터 제거, 크기 0이면 비활성화")
+    void testBoundedSize() {
+        RerankScoreCache cache = new RerankScoreCache(2);
+        long queryHash = RerankScoreCache.queryHash("법인카드");
+
+        cache.put(queryHash, "seg-1", 0, 0.1);
+        cache.put(queryHash, "seg-2", 0, 0.2);
+        cache.put(queryHash, "seg-3", 0, 0.3);
+
+        assertEquals(2, cache.size());
+        assertNull(cache.get(queryHash, "seg-1", 0));
+
+        RerankScoreCache disabled = new RerankScoreCache(0);
+        disabled.put(queryHash, "seg-1", 0, 0.1);
+        assertFalse(disabled.isEnabled());
+        assertNull(disabled.get(queryHash, "seg-1", 0));
+    }
+}
@@ -0,0 +1,61 @@
+package com.guideon.util;
+
+import com.guideon.model.QueryAnalysisResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RuleBasedQueryAnalyzer 테스트 클래스
+ * 규칙 기반 규정 유형/키워드/의도 분석 및 신뢰도 계산 테스트 (API 키 불필요)
+ */
+@DisplayName("RuleBasedQueryAnalyzer 테스트")
+class RuleBasedQueryAnalyzerTest {
+
+    private final RuleBasedQueryAnalyzer analyzer =
+            new RuleBasedQueryAnalyzer(List.of("취업규칙", "출장여비지급규정", "경비지급규정", "인장관리규정"));
+
+    @Test
+    @DisplayName("1. 추론 규칙과 의도 패턴이 맞는 일상 질문은 높은 신뢰도")
+    void testRoutineQuestion() {
+        RuleBasedQueryAnalyzer.Result result = analyzer.analyze("출장 일비는 얼마인가요?");
+        QueryAnalysisResult analysis = result.analysis();
+
+        assertEquals(List.of("출장여비지급규정"), analysis.getRegulationTypes());
+        assertEquals("기준확인", analysis.getIntent());
+        assertEquals(List.of("출장", "일비"), analysis.getKeywords(), "동의어가 아닌 질문 원문 표기를 키워드로 사용해야 합니다");
+        assertTrue(result.confidence() >= 0.75, "confidence=" + result.confidence());
+    }
+
+    @Test
+    @DisplayName("2. 질문에 규정 이름이 있으면 그 규정으로 한정")
+    void testExplicitRegulationType() {
+        RuleBasedQueryAnalyzer.Result result = analyzer.analyze("인장관리규정 내용을 알려주세요");
+
+        assertEquals(List.of("인장관리규정"), result.analysis().getRegulationTypes());
+        assertEquals("인장관리규정 내용", result.analysis().getSearchQuery());
+    }
+
+    @Test
+    @DisplayName("3. 규정 유형을 알 수 없는 질문은 낮은 신뢰도 (LLM 분석 대상)")
+    void testUnknownQuestionHasLowConfidence() {
+        RuleBasedQueryAnalyzer.Result result = analyzer.analyze("회사 분위기는 어떤가요?");
+
+        assertEquals(List.of("일반"), result.analysis().getRegulationTypes());
+        assertEquals("정보조회", result.analysis().getIntent());
+        assertTrue(result.confidence() < 0.75, "confidence=" + result.confidence());
+    }
+
+    @Test
+    @DisplayName("4. 의도 패턴 분류")
+    void testIntentClassification() {
+        assertEquals(List.of("절차설명"), RuleBasedQueryAnalyzer.classifyIntents("육아휴직 신청 절차"));
+        assertEquals(List.of("계산방법"), RuleBasedQueryAnalyzer.classifyIntents("퇴직금 계산 방법"));
+        assertEquals(List.of("가능여부"), RuleBasedQueryAnalyzer.classifyIntents("법인카드로 개인 물품을 사도 되나요?"));
+        assertEquals(List.of("기준확인"), RuleBasedQueryAnalyzer.classifyIntents("야근 식대 지원 기준이 어떻게 되나요?"));
+        assertTrue(RuleBasedQueryAnalyzer.classifyIntents("회사 소개").isEmpty());
+    }
+}
@@ -0,0 +1,64 @@
+package com.guideon.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SemanticQuestionIndex 테스트 클래스
+ * 유사도 임계값, 숫자/부정 표현 방지 장치, 오적중 신고 동작 테스트 (API 키 불필요)
+ */
+@DisplayName("SemanticQuestionIndex 테스트")
+class SemanticQuestionIndexTest {
+
+    @Test
+    @DisplayName("1. 임계값 이상으로 가까운 이전 질문 적중, 먼 질문은 미적중")
+    void testThreshold() {
+        SemanticQuestionIndex index = new SemanticQuestionIndex(10, 0.9, 10);
+        index.add("경조휴가 며칠?", new float[]{1.0f, 0.1f, 0.0f});
+        index.add("출장비 한도는?", new float[]{0.0f, 0.0f, 1.0f});
+
+        SemanticQuestionIndex.Match match = index.find("경조사 휴가 일수 알려줘", new float[]{0.9f, 0.15f, 0.05f});
+        assertNotNull(match);
+        assertEquals("경조휴가 며칠?", match.question());
+        assertTrue(match.similarity() >= 0.9);
+
+        assertNull(index.find("연차 이월 되나요", new float[]{0.5f, 0.5f, 0.5f}));
+    }
+
+    @Test
+    @DisplayName("2. 숫자나 부정 표현이 다르면 유사도가 높아도 제외")
+    void testGuardRails() {
+        SemanticQuestionIndex index = new SemanticQuestionIndex(10, 0.9, 10);
+        index.add("제5조 내용 알려줘", new float[]{1.0f, 0.0f});
+        index.add("육아휴직 중 급여를 받을 수 있나요", new float[]{0.0f, 1.0f});
+
+        assertNull(index.find("제6조 내용 알려줘", new float[]{1.0f, 0.01f}), "조항 번호가 다르면 제외되어야 합니다");
+        assertNull(index.find("육아휴직 중 급여를 받을 수 없나요", new float[]{0.01f, 1.0f}), "부정 표현이 다르면 제외되어야 합니다");
+        assertNotNull(index.find("5조 내용이 뭐야", new float[]{1.0f, 0.01f}));
+
+        assertEquals(1L, index.getStats().get("numberMismatches"));
+        assertEquals(1L, index.getStats().get("negationMismatches"));
+    }
+
+    @Test
+    @DisplayName("3. 오적중 신고 시 이전 질문을 색인에서 제거")
+    void testFalseHitReport() {
+        SemanticQuestionIndex index = new SemanticQuestionIndex(10, 0.9, 10);
+        index.add("경조휴가 며칠?", new float[]{1.0f, 0.0f});
+
+        String question = "경조사 휴가 일수";
+        SemanticQuestionIndex.Match match = index.find(question, new float[]{1.0f, 0.05f});
+        long auditId = index.recordHit(question, match);
+
+        SemanticQuestionIndex.AuditRecord record = index.reportFalseHit(auditId);
+        assertNotNull(record);
+        assertTrue(record.isFalseHit());
+        assertNull(index.reportFalseHit(auditId), "같은 기록은 한 번만 신고할 수 있습니다");
+
+        assertEquals(0, index.size());
+        assertNull(index.find(question, new float[]{1.0f, 0.05f}));
+        assertEquals(Double.valueOf(0.0), (Double) index.getStats().get("precision"));
+    }
+}
@@ -0,0 +1,67 @@
+package com.guideon.util;
+
+import com.guideon.model.QueryAnalysisResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SingleCallResponse 테스트 클래스
+ * 단일 호출(질문 분석 + 답변) 응답 분리와 프롬프트 출력 형식 테스트 (API 키 불필요)
+ */
+@DisplayName("SingleCallResponse 테스트")
+class SingleCallResponseTest {
+
+    @Test
+    @DisplayName("1. 분석 필드와 답변을 ANSWER: 표지로 분리")
+    void testSplit() {
+        String response = """
+                KEYWORDS: 경조휴가, 결혼
+                REGULATION_TYPES: 복리후생비규정
+                INTENT: 기준확인
+                SEARCH_QUERY: 경조휴가 결혼
+                ANSWER:
+                복리후생비규정 제12조에 따르면 본인 결혼 시 경조휴가는 5일입니다.
+                SEARCH_QUERY: 같은 표지가 답변에 나와도 답변으로 유지됩니다.
+                """;
+
+        SingleCallResponse parts = SingleCallResponse.split(response);
+        assertTrue(parts.hasAnalysis());
+        assertTrue(parts.analysisSection().startsWith("KEYWORDS: 경조휴가, 결혼"));
+        assertTrue(parts.analysisSection().endsWith("SEARCH_QUERY: 경조휴가 결혼"));
+        assertTrue(parts.answer().startsWith("복리후생비규정 제12조에 따르면"));
+        assertTrue(parts.answer().contains("답변으로 유지됩니다."));
+    }
+
+    @Test
+    @DisplayName("2. 표지가 없거나 굵게 표시된 경우")
+    void testMissingOrBoldMarker() {
+        SingleCallResponse plain = SingleCallResponse.split("경조휴가는 5일입니다.");
+        assertFalse(plain.hasAnalysis());
+        assertEquals("경조휴가는 5일입니다.", plain.answer());
+
+        SingleCallResponse bold = SingleCallResponse.split("INTENT: 기준확인\n**ANSWER:** 경조휴가는 5일입니다.");
+        assertEquals("INTENT: 기준확인", bold.analysisSection());
+        assertEquals("경조휴가는 5일입니다.", bold.answer());
+
+        assertEquals("", SingleCallResponse.split(null).answer());
+    }
+
+    @Test
+    @DisplayName("3. 단일 호출 프롬프트는 일반 답변 프롬프트와 같은 앞부분을 쓰고 출력 형식만 다름")
+    void testSingleCallPrompt() {
+        QueryAnalysisResult analysis = new QueryAnalysisResult(
+                "경조휴가 며칠?", List.of("경조휴가"), List.of("일반"), "기준확인", "경조휴가");
+
+        String twoCall = PromptTemplate.buildPrompt("경조휴가 며칠?", "[검색 결과 1] 경조휴가 5일", analysis);
+        String singleCall = PromptTemplate.buildSingleCallPrompt("경조휴가 며칠?", "[검색 결과 1] 경조휴가 5일", analysis);
+
+        String shared = twoCall.substring(0, twoCall.length() - "\n\n답변:\n".length());
+        assertTrue(singleCall.startsWith(shared));
+        assertTrue(singleCall.contains("[출력 형식]"));
+        assertTrue(singleCall.endsWith(SingleCallResponse.ANSWER_MARKER + "\n"));
+    }
+}
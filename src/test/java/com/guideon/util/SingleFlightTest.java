@@ -0,0 +1,111 @@
+package com.guideon.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SingleFlight 테스트 클래스
+ * 같은 질문의 동시 요청 병합, 요청 취소 시 작업 중단 조건 테스트 (API 키 불필요)
+ */
+@DisplayName("SingleFlight 테스트")
+class SingleFlightTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("1. 처리 중인 같은 질문(정규화 기준)은 한 번만 실행하고 결과 공유")
+    void testCoalescing() throws Exception {
+        SingleFlight<String> flights = new SingleFlight<>(executor, true);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger executions = new AtomicInteger();
+
+        SingleFlight.Call<String> first = flights.submit("경조휴가 며칠?", () -> {
+            executions.incrementAndGet();
+            release.await();
+            return "5일";
+        });
+        SingleFlight.Call<String> second = flights.submit("  경조휴가   며칠 ", () -> {
+            executions.incrementAndGet();
+            return "다른 결과";
+        });
+
+        assertFalse(first.isShared());
+        assertTrue(second.isShared());
+        release.countDown();
+
+        assertEquals("5일", first.result().get(5, TimeUnit.SECONDS));
+        assertEquals("5일", second.result().get(5, TimeUnit.SECONDS));
+        assertEquals(1, executions.get());
+
+        // 완료 후 같은 질문은 새로 실행
+        SingleFlight.Call<String> third = flights.submit("경조휴가 며칠?", () -> "새 결과");
+        assertFalse(third.isShared());
+        assertEquals("새 결과", third.result().get(5, TimeUnit.SECONDS));
+        assertEquals(1L, flights.getStats().get("joined"));
+    }
+
+    @Test
+    @DisplayName("2. 처음 요청이 취소되어도 기다리는 요청이 있으면 작업 계속")
+    void testOriginatorCancel() throws Exception {
+        SingleFlight<String> flights = new SingleFlight<>(executor, true);
+        CountDownLatch release = new CountDownLatch(1);
+
+        SingleFlight.Call<String> originator = flights.submit("연차 이월", () -> {
+            release.await();
+            return "이월 불가";
+        });
+        SingleFlight.Call<String> follower = flights.submit("연차 이월", () -> "다른 결과");
+
+        originator.cancel();
+        originator.cancel(); // 여러 번 호출해도 대기 수는 한 번만 감소
+        assertTrue(originator.result().isCancelled());
+
+        release.countDown();
+        assertEquals("이월 불가", follower.result().get(5, TimeUnit.SECONDS));
+        assertEquals(0L, flights.getStats().get("abandoned"));
+    }
+
+    @Test
+    @DisplayName("3. 모든 요청이 취소되면 작업 중단, 다음 요청은 새로 실행")
+    void testAllCancelled() throws Exception {
+        SingleFlight<String> flights = new SingleFlight<>(executor, true);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        SingleFlight.Call<String> first = flights.submit("출장비 정산", () -> {
+            started.countDown();
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw e;
+            }
+            return "늦은 결과";
+        });
+        SingleFlight.Call<String> second = flights.submit("출장비 정산", () -> "다른 결과");
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        first.cancel();
+        second.cancel();
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS), "마지막 요청이 취소되면 작업이 중단되어야 합니다");
+        assertEquals(1L, flights.getStats().get("abandoned"));
+
+        SingleFlight.Call<String> retry = flights.submit("출장비 정산", () -> "새 결과");
+        assertFalse(retry.isShared());
+        assertEquals("새 결과", retry.result().get(5, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,98 @@
+package com.guideon.util.fusion;
+
+import com.guideon.model.ScoredSegment;
+import com.guideon.util.RRFCalculator;
+import dev.langchain4j.data.segment.TextSegment;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RankFusion 테스트 클래스
+ * 기존 RRFCalculator와의 점수 일치 및 융합 함수별 동작 테스트 (API 키 불필요)
+ */
+@DisplayName("RankFusion 테스트")
+class RankFusionTest {
+
+    @Test
+    @DisplayName("1. RRF 융합 점수가 RRFCalculator와 일치하고 내림차순으로 정렬됨")
+    void testRrfMatchesRRFCalculator() {
+        List<ScoredSegment> vector = ranked("VECTOR", 200, "seg-", 0, 2);
+        List<ScoredSegment> bm25 = ranked("BM25", 200, "seg-", 0, 3);
+
+        Map<String, Double> expected = RRFCalculator.fuseTwoResults(vector, bm25, 0.4, 0.6);
+        List<ScoredSegment> fused = RankFusion.fuse(
+                List.of(vector, bm25), new double[]{0.4, 0.6}, FusionFunction.rrf(60), 20);
+
+        assertEquals(20, fused.size());
+        for (int i = 0; i < fused.size(); i++) {
+            ScoredSegment result = fused.get(i);
+            assertEquals(expected.get(result.getId()), result.getScore(), 1e-12);
+            assertEquals("HYBRID", result.getSource());
+            if (i > 0) {
+                assertTrue(fused.get(i - 1).getScore() >= result.getScore());
+            }
+        }
+        assertEquals("seg-0", fused.get(0).getId(), "양쪽 1위 문서가 최상위여야 합니다");
+    }
+
+    @Test
+    @DisplayName("2. 세 개 이상의 리스트 융합 및 동일 ID는 앞 리스트의 세그먼트 유지")
+    void testNWayFusionKeepsFirstSegment() {
+        List<ScoredSegment> first = List.of(new ScoredSegment("a", TextSegment.from("first"), 0.9, "VECTOR"));
+        List<ScoredSegment> second = List.of(new ScoredSegment("a", TextSegment.from("second"), 12.0, "BM25"));
+        List<ScoredSegment> third = List.of(
+                new ScoredSegment("b", TextSegment.from("b"), 1.0, "ARTICLE"),
+                new ScoredSegment("a", TextSegment.from("third"), 0.5, "ARTICLE"));
+
+        List<ScoredSegment> fused = RankFusion.fuse(
+                List.of(first, second, third), new double[]{1.0, 1.0, 1.0}, FusionFunction.rrf(60), 10);
+
+        assertEquals(List.of("a", "b"), fused.stream().map(ScoredSegment::getId).toList());
+        assertEquals("first", fused.get(0).getSegment().text());
+        assertEquals(2.0 / 61 + 1.0 / 62, fused.get(0).getScore(), 1e-12);
+    }
+
+    @Test
+    @DisplayName("3. 정규화 선형 결합은 리스트별 점수 척도 차이를 제거함")
+    void testLinearNormalizesScores() {
+        List<ScoredSegment> vector = List.of(
+                new ScoredSegment("a", TextSegment.from("a"), 0.9, "VECTOR"),
+                new ScoredSegment("b", TextSegment.from("b"), 0.5, "VECTOR"));
+        List<ScoredSegment> bm25 = List.of(
+                new ScoredSegment("b", TextSegment.from("b"), 30.0, "BM25"),
+                new ScoredSegment("a", TextSegment.from("a"), 10.0, "BM25"));
+
+        List<ScoredSegment> linear = RankFusion.fuse(
+                List.of(vector, bm25), new double[]{0.6, 0.4}, FusionFunction.linear(), 2);
+        assertEquals("a", linear.get(0).getId());
+        assertEquals(0.6, linear.get(0).getScore(), 1e-12);
+
+        List<ScoredSegment> combSum = RankFusion.fuse(
+                List.of(vector, bm25), new double[]{0.6, 0.4}, FusionFunction.combSum(), 2);
+        assertEquals("b", combSum.get(0).getId(), "CombSUM은 원본 점수가 큰 BM25 쪽이 우세해야 합니다");
+    }
+
+    @Test
+    @DisplayName("4. 빈 입력과 가중치 수 불일치 처리")
+    void testEdgeCases() {
+        assertTrue(RankFusion.fuse(List.of(List.of(), List.of()), new double[]{1.0, 1.0},
+                FusionFunction.rrf(60), 5).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> RankFusion.fuse(
+                List.of(List.of()), new double[]{1.0, 1.0}, FusionFunction.rrf(60), 5));
+    }
+
+    private List<ScoredSegment> ranked(String source, int size, String prefix, int offset, int step) {
+        List<ScoredSegment> results = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            String id = prefix + (offset + i * step);
+            results.add(new ScoredSegment(id, TextSegment.from(id), size - i, source));
+        }
+        return results;
+    }
+}